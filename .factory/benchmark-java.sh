@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Licensed to the Apache Software Foundation (ASF) under one
+# or more contributor license agreements.  See the NOTICE file
+# distributed with this work for additional information
+# regarding copyright ownership.  The ASF licenses this file
+# to you under the Apache License, Version 2.0 (the
+# "License"); you may not use this file except in compliance
+# with the License.  You may obtain a copy of the License at
+#
+#   http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing,
+# software distributed under the License is distributed on an
+# "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+# KIND, either express or implied.  See the License for the
+# specific language governing permissions and limitations
+# under the License.
+
+# Benchmarks this commit and the commit it is based on, one after the other on the same machine, and fails if any
+# benchmark regressed by more than $1 (a fraction, 0.1 by default). Timings from different CI machines are not
+# comparable, so the baseline is measured here rather than read from an earlier job. Both runs are kept as
+# java-benchmark-<commit>.json. Expects a TypeDB Core server on localhost:1729.
+
+set -ex
+
+MAX_REGRESSION=${1:-0.1}
+COMMIT=$(git rev-parse HEAD)
+git fetch origin master
+# the previous commit on master, or the commit on master that this branch is based on
+BASELINE=$(git merge-base HEAD^ FETCH_HEAD)
+
+git checkout --detach $BASELINE
+if bazel query //java/test/benchmark:benchmark > /dev/null 2>&1; then
+  bazel run //java/test/benchmark -- -rf json -rff $PWD/java-benchmark-$BASELINE.json
+fi
+git checkout --detach $COMMIT
+
+bazel run //java/test/benchmark -- -rf json -rff $PWD/java-benchmark-$COMMIT.json
+cat java-benchmark-$COMMIT.json
+
+if [[ -f java-benchmark-$BASELINE.json ]]; then
+  bazel run //java/test/benchmark:compare -- $PWD/java-benchmark-$BASELINE.json $PWD/java-benchmark-$COMMIT.json $MAX_REGRESSION
+else
+  echo "No benchmarks at the baseline commit $BASELINE, nothing to compare against"
+fi
@@ -23,6 +23,7 @@
 dir_mapping = {
 
     "connection": "connection",
+    "channel": "connection",
     "credential" : "connection",
     "replica": "connection",
     "user": "connection",
@@ -17,7 +17,7 @@
  * under the License.
  */
 
-use std::ffi::c_char;
+use std::{ffi::c_char, ptr::{null_mut, slice_from_raw_parts_mut}};
 
 use typedb_driver::{
     answer::{ConceptMap, ConceptMapGroup, Explainable, Explainables, ValueGroup},
@@ -27,10 +27,11 @@ use typedb_driver::{
 };
 
 use super::{
+    arena::AnswerArena,
     common::{StringIterator, StringPairIterator},
     concept::ConceptIterator,
     iterator::CIterator,
-    memory::{borrow, free, release, release_optional, release_string, string_view},
+    memory::{borrow, free, release, release_optional, release_string, string_free, string_view},
     query::ConceptMapIterator,
 };
 
@@ -43,13 +44,78 @@ pub extern "C" fn concept_map_drop(concept_map: *mut ConceptMap) {
 /// Produces an <code>Iterator</code> over all variables in this <code>ConceptMap</code>.
 #[no_mangle]
 pub extern "C" fn concept_map_get_variables(concept_map: *const ConceptMap) -> *mut StringIterator {
-    release(StringIterator(CIterator(box_stream(borrow(concept_map).map.clone().into_keys().map(Ok)))))
+    release(StringIterator(CIterator::new(box_stream(borrow(concept_map).map.clone().into_keys().map(Ok)))))
 }
 
 /// Produces an <code>Iterator</code> over all <code>Concepts</code> in this <code>ConceptMap</code>.
 #[no_mangle]
 pub extern "C" fn concept_map_get_values(concept_map: *const ConceptMap) -> *mut ConceptIterator {
-    release(ConceptIterator(CIterator(box_stream(borrow(concept_map).map.clone().into_values().map(Ok)))))
+    release(ConceptIterator(CIterator::new(box_stream(borrow(concept_map).map.clone().into_values().map(Ok)))))
+}
+
+/// The variables of a <code>ConceptMap</code> and the concepts bound to them, as two parallel arrays.
+/// Must be freed with \ref concept_map_entries_drop(ConceptMapEntries*).
+#[repr(C)]
+pub struct ConceptMapEntries {
+    /// Variable names, owned by this object.
+    pub variables: *mut *mut c_char,
+    /// The concept bound to the variable at the same index. The concepts are owned by the caller
+    /// and must be freed with \ref concept_drop(Concept*), unless they were retrieved in an <code>AnswerArena</code>.
+    pub concepts: *mut *mut Concept,
+    /// Number of entries in both arrays.
+    pub len: usize,
+}
+
+impl ConceptMapEntries {
+    fn new(entries: impl Iterator<Item = (*mut c_char, *mut Concept)>) -> Self {
+        let (variables, concepts): (Vec<_>, Vec<_>) = entries.unzip();
+        let len = variables.len();
+        Self {
+            variables: Box::into_raw(variables.into_boxed_slice()) as *mut *mut c_char,
+            concepts: Box::into_raw(concepts.into_boxed_slice()) as *mut *mut Concept,
+            len,
+        }
+    }
+}
+
+impl Drop for ConceptMapEntries {
+    fn drop(&mut self) {
+        unsafe {
+            let variables = Box::from_raw(slice_from_raw_parts_mut(self.variables, self.len));
+            variables.iter().for_each(|&variable| string_free(variable));
+            drop(Box::from_raw(slice_from_raw_parts_mut(self.concepts, self.len)));
+        }
+    }
+}
+
+/// Frees the native rust <code>ConceptMapEntries</code> object and its variable names, but not its concepts.
+#[no_mangle]
+pub extern "C" fn concept_map_entries_drop(entries: *mut ConceptMapEntries) {
+    free(entries);
+}
+
+/// Retrieves all variables of this <code>ConceptMap</code> together with the concepts bound to them in a single call.
+#[no_mangle]
+pub extern "C" fn concept_map_get_entries(concept_map: *const ConceptMap) -> *mut ConceptMapEntries {
+    release(ConceptMapEntries::new(
+        borrow(concept_map).map.iter().map(|(var, concept)| (release_string(var.clone()), release(concept.clone()))),
+    ))
+}
+
+/// Retrieves all variables of this <code>ConceptMap</code> together with the concepts bound to them in a single call.
+/// The <code>Concept</code>s are owned by the <code>AnswerArena</code> and must not be freed individually.
+#[no_mangle]
+pub extern "C" fn concept_map_get_entries_in_arena(
+    concept_map: *const ConceptMap,
+    arena: *const AnswerArena,
+) -> *mut ConceptMapEntries {
+    let arena = borrow(arena);
+    release(ConceptMapEntries::new(
+        borrow(concept_map)
+            .map
+            .iter()
+            .map(|(var, concept)| (release_string(var.clone()), arena.adopt(concept.clone()))),
+    ))
 }
 
 /// Retrieves a concept for a given variable name.
@@ -59,6 +125,20 @@ pub extern "C" fn concept_map_get(concept_map: *const ConceptMap, var: *const c_
     release_optional(borrow(concept_map).get(string_view(var)).cloned())
 }
 
+/// Retrieves a concept for a given variable name. The <code>Concept</code> is owned by the
+/// <code>AnswerArena</code> and must not be freed individually.
+#[no_mangle]
+pub extern "C" fn concept_map_get_in_arena(
+    concept_map: *const ConceptMap,
+    var: *const c_char,
+    arena: *const AnswerArena,
+) -> *mut Concept {
+    borrow(concept_map)
+        .get(string_view(var))
+        .map(|concept| borrow(arena).adopt(concept.clone()))
+        .unwrap_or_else(null_mut)
+}
+
 /// Gets the <code>Explainables</code> object for this <code>ConceptMap</code>, exposing
 /// which of the concepts in this <code>ConceptMap</code> are explainable.
 #[no_mangle]
@@ -129,19 +209,19 @@ pub extern "C" fn explainables_get_ownership(
 /// Retrieves all variables corresponding to this <code>ConceptMap</code>’s explainable relations.
 #[no_mangle]
 pub extern "C" fn explainables_get_relations_keys(explainables: *const Explainables) -> *mut StringIterator {
-    release(StringIterator(CIterator(box_stream(borrow(explainables).relations.clone().into_keys().map(Ok)))))
+    release(StringIterator(CIterator::new(box_stream(borrow(explainables).relations.clone().into_keys().map(Ok)))))
 }
 
 /// Retrieves all variables corresponding to this <code>ConceptMap</code>’s explainable attributes.
 #[no_mangle]
 pub extern "C" fn explainables_get_attributes_keys(explainables: *const Explainables) -> *mut StringIterator {
-    release(StringIterator(CIterator(box_stream(borrow(explainables).attributes.clone().into_keys().map(Ok)))))
+    release(StringIterator(CIterator::new(box_stream(borrow(explainables).attributes.clone().into_keys().map(Ok)))))
 }
 
 /// Retrieves all variables corresponding to this <code>ConceptMap</code>’s explainable ownerships.
 #[no_mangle]
 pub extern "C" fn explainables_get_ownerships_keys(explainables: *const Explainables) -> *mut StringPairIterator {
-    release(StringPairIterator(CIterator(box_stream(borrow(explainables).ownerships.clone().into_keys()))))
+    release(StringPairIterator(CIterator::new(box_stream(borrow(explainables).ownerships.clone().into_keys()))))
 }
 
 /// Frees the native rust <code>Explainable</code> object
@@ -201,13 +281,13 @@ pub extern "C" fn explanation_get_condition(explanation: *const Explanation) ->
 /// Retrieves the query variables for this <code>Explanation</code>.
 #[no_mangle]
 pub extern "C" fn explanation_get_mapped_variables(explanation: *const Explanation) -> *mut StringIterator {
-    release(StringIterator(CIterator(box_stream(borrow(explanation).variable_mapping.keys().cloned().map(Ok)))))
+    release(StringIterator(CIterator::new(box_stream(borrow(explanation).variable_mapping.keys().cloned().map(Ok)))))
 }
 
 /// Retrieves the rule variables corresponding to the query variable var for this <code>Explanation</code>.
 #[no_mangle]
 pub extern "C" fn explanation_get_mapping(explanation: *const Explanation, var: *const c_char) -> *mut StringIterator {
-    release(StringIterator(CIterator(box_stream(
+    release(StringIterator(CIterator::new(box_stream(
         borrow(explanation).variable_mapping.get(string_view(var)).into_iter().flatten().cloned().map(Ok),
     ))))
 }
@@ -229,7 +309,7 @@ pub extern "C" fn concept_map_group_get_owner(concept_map_group: *const ConceptM
 pub extern "C" fn concept_map_group_get_concept_maps(
     concept_map_group: *const ConceptMapGroup,
 ) -> *mut ConceptMapIterator {
-    release(ConceptMapIterator(CIterator(box_stream(
+    release(ConceptMapIterator(CIterator::new(box_stream(
         borrow(concept_map_group).concept_maps.clone().into_iter().map(Ok),
     ))))
 }
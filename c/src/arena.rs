@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::{ptr::null_mut, sync::Mutex};
+
+use typedb_driver::Result;
+
+use super::{
+    error::ok_record_flatten,
+    iterator::{try_next_batch, CIterator},
+    memory::{borrow, borrow_mut, free, release},
+};
+
+/// Owns the answers retrieved through it until it is released or dropped, at which point they are all freed at once.
+/// Answers owned by an arena must not be freed individually, and must not be used after the arena is released.
+pub struct AnswerArena {
+    handles: Mutex<Vec<ArenaHandle>>,
+}
+
+/// A type-erased pointer to an object owned by an arena, together with the function that frees it.
+struct ArenaHandle {
+    raw: *mut (),
+    drop: fn(*mut ()),
+}
+
+impl ArenaHandle {
+    fn new<T: 'static>(raw: *mut T) -> Self {
+        Self { raw: raw as *mut (), drop: |raw| free(raw as *mut T) }
+    }
+}
+
+impl AnswerArena {
+    fn new() -> Self {
+        Self { handles: Mutex::new(Vec::new()) }
+    }
+
+    pub(super) fn adopt<T: 'static>(&self, value: T) -> *mut T {
+        let raw = release(value);
+        self.handles.lock().unwrap().push(ArenaHandle::new(raw));
+        raw
+    }
+
+    fn adopt_all<T: 'static>(&self, values: Vec<T>) -> Vec<*mut T> {
+        let mut handles = self.handles.lock().unwrap();
+        handles.reserve(values.len());
+        values
+            .into_iter()
+            .map(|value| {
+                let raw = release(value);
+                handles.push(ArenaHandle::new(raw));
+                raw
+            })
+            .collect()
+    }
+
+    fn release_all(&self) {
+        let handles = std::mem::take(&mut *self.handles.lock().unwrap());
+        for ArenaHandle { raw, drop } in handles {
+            drop(raw);
+        }
+    }
+}
+
+impl Drop for AnswerArena {
+    fn drop(&mut self) {
+        self.release_all()
+    }
+}
+
+/// Forwards the iterator and returns the next element owned by the arena, or null if there are no more elements.
+pub(super) fn iterator_try_next_in_arena<T: 'static>(
+    it: *mut CIterator<Result<T>>,
+    arena: *const AnswerArena,
+) -> *mut T {
+    ok_record_flatten(borrow_mut(it).next()).map(|next| borrow(arena).adopt(next)).unwrap_or_else(null_mut)
+}
+
+/// Pulls up to `max_size` elements from the iterator, returning them as a null-terminated array of elements owned by
+/// the arena, or null if there are no more elements. Only the array itself is owned by the caller.
+pub(super) fn iterator_try_next_batch_in_arena<T: Send + 'static>(
+    it: *mut CIterator<Result<T>>,
+    max_size: usize,
+    arena: *const AnswerArena,
+) -> *mut *mut T {
+    match try_next_batch(borrow_mut(it), max_size) {
+        Some(batch) => {
+            let raw = borrow(arena).adopt_all(batch).into_iter().chain([null_mut()]).collect::<Box<[_]>>();
+            Box::into_raw(raw) as *mut *mut T
+        }
+        None => null_mut(),
+    }
+}
+
+/// Creates a new <code>AnswerArena</code>. Answers retrieved through the arena are owned by it, and are freed in bulk
+/// by \ref answer_arena_release(const AnswerArena*) or \ref answer_arena_drop(AnswerArena*).
+#[no_mangle]
+pub extern "C" fn answer_arena_new() -> *mut AnswerArena {
+    release(AnswerArena::new())
+}
+
+/// Frees all answers owned by the <code>AnswerArena</code>, which remains usable for further answers.
+/// Any answer previously retrieved through the arena must not be used afterwards.
+#[no_mangle]
+pub extern "C" fn answer_arena_release(arena: *const AnswerArena) {
+    borrow(arena).release_all()
+}
+
+/// Frees the native rust <code>AnswerArena</code> object, together with all answers it owns.
+#[no_mangle]
+pub extern "C" fn answer_arena_drop(arena: *mut AnswerArena) {
+    free(arena);
+}
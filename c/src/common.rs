@@ -17,24 +17,42 @@
  * under the License.
  */
 
-use std::{ffi::c_char, ptr::null_mut};
+use std::{
+    ffi::c_char,
+    ptr::{addr_of_mut, null_mut},
+};
 
-use typedb_driver::Result;
+use typedb_driver::{ResponseSignal, Result};
 
 use super::{
-    iterator::CIterator,
+    iterator::{iterator_on_next, CIterator},
     memory::{borrow_mut, free, release_optional, release_string, string_free},
+    signal::Signalled,
 };
 use crate::error::try_release_string;
 
 /// Iterator over the strings in the result of a request or a TypeQL Fetch query.
 pub struct StringIterator(pub CIterator<Result<String>>);
 
+impl Signalled for StringIterator {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.0.attach(signal);
+    }
+}
+
 /// Forwards the <code>StringIterator</code> and returns the next string if it exists,
 /// or null if there are no more elements.
 #[no_mangle]
 pub extern "C" fn string_iterator_next(it: *mut StringIterator) -> *mut c_char {
-    borrow_mut(it).0 .0.next().map(try_release_string).unwrap_or_else(null_mut)
+    borrow_mut(it).0.next().map(try_release_string).unwrap_or_else(null_mut)
+}
+
+/// Waits for the next element of the <code>StringIterator</code> without holding a thread, and calls
+/// <code>callback(callback_id)</code> once it is available, after which
+/// \ref string_iterator_next(StringIterator*) returns without blocking.
+#[no_mangle]
+pub extern "C" fn string_iterator_on_next(it: *mut StringIterator, callback_id: usize, callback: extern "C" fn(usize)) {
+    unsafe { iterator_on_next(addr_of_mut!((*it).0), callback_id, callback) }
 }
 
 /// Frees the native rust <code>StringIterator</code> object
@@ -74,7 +92,7 @@ pub struct StringPairIterator(pub CIterator<(String, String)>);
 /// or null if there are no more elements.
 #[no_mangle]
 pub extern "C" fn string_pair_iterator_next(it: *mut StringPairIterator) -> *mut StringPair {
-    release_optional(borrow_mut(it).0 .0.next().map(Into::into))
+    release_optional(borrow_mut(it).0.next().map(Into::into))
 }
 
 /// Frees the native rust <code>StringPairIterator</code> object
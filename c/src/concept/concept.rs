@@ -23,6 +23,7 @@ use chrono::DateTime;
 use typedb_driver::{
     concept::{
         Annotation, Attribute, AttributeType, Concept, Entity, EntityType, Relation, RelationType, RoleType, Value,
+        ValueType,
     },
     transaction::concept::api::{ThingAPI, ThingTypeAPI},
 };
@@ -59,6 +60,19 @@ pub extern "C" fn value_new_date_time_from_millis(millis: i64) -> *mut Concept {
     release(Concept::Value(Value::DateTime(DateTime::from_timestamp_millis(millis).unwrap().naive_utc())))
 }
 
+/// Creates a new ``Value`` object of the specified datetime value, given as whole seconds since the start of the UNIX
+/// epoch and the nanoseconds within that second.
+#[no_mangle]
+pub extern "C" fn value_new_date_time(seconds: i64, nanos: u32) -> *mut Concept {
+    release(Concept::Value(Value::DateTime(DateTime::from_timestamp(seconds, nanos).unwrap().naive_utc())))
+}
+
+/// Returns the ``ValueType`` of the value which this ``Value`` concept holds.
+#[no_mangle]
+pub extern "C" fn value_get_value_type(value: *const Concept) -> ValueType {
+    borrow_as_value(value).get_type()
+}
+
 /// Returns <code>true</code> if the value which this ``Value`` concept holds is of type <code>boolean</code>.
 /// Otherwise, returns <code>false</code>.
 #[no_mangle]
@@ -149,6 +163,28 @@ pub extern "C" fn value_get_date_time_as_millis(value: *const Concept) -> i64 {
     }
 }
 
+/// Returns the value of this datetime value concept as whole seconds since the start of the UNIX epoch.
+/// If the value has another type, the error is set.
+#[no_mangle]
+pub extern "C" fn value_get_date_time_as_seconds(value: *const Concept) -> i64 {
+    if let Value::DateTime(date_time) = borrow_as_value(value) {
+        date_time.and_utc().timestamp()
+    } else {
+        unreachable!("Attempting to unwrap a non-datetime {:?} as datetime", borrow_as_value(value))
+    }
+}
+
+/// Returns the nanoseconds within the second of this datetime value concept, to be combined with
+/// \ref value_get_date_time_as_seconds(const Concept*). If the value has another type, the error is set.
+#[no_mangle]
+pub extern "C" fn value_get_date_time_subsec_nanos(value: *const Concept) -> u32 {
+    if let Value::DateTime(date_time) = borrow_as_value(value) {
+        date_time.and_utc().timestamp_subsec_nanos()
+    } else {
+        unreachable!("Attempting to unwrap a non-datetime {:?} as datetime", borrow_as_value(value))
+    }
+}
+
 /// Produces a ``@key`` annotation.
 #[no_mangle]
 pub extern "C" fn annotation_new_key() -> *mut Annotation {
@@ -203,6 +239,43 @@ pub extern "C" fn concept_drop(concept: *mut Concept) {
     free(concept);
 }
 
+/// The kind of a ``Concept``, used to select the matching concept class in a single call.
+#[repr(C)]
+#[derive(Clone, Copy, Debug, PartialEq, Eq)]
+pub enum ConceptKind {
+    Entity,
+    Relation,
+    Attribute,
+    Value,
+    RootThingType,
+    EntityType,
+    RelationType,
+    AttributeType,
+    RoleType,
+}
+
+impl From<&Concept> for ConceptKind {
+    fn from(concept: &Concept) -> Self {
+        match concept {
+            Concept::Entity(_) => Self::Entity,
+            Concept::Relation(_) => Self::Relation,
+            Concept::Attribute(_) => Self::Attribute,
+            Concept::Value(_) => Self::Value,
+            Concept::RootThingType(_) => Self::RootThingType,
+            Concept::EntityType(_) => Self::EntityType,
+            Concept::RelationType(_) => Self::RelationType,
+            Concept::AttributeType(_) => Self::AttributeType,
+            Concept::RoleType(_) => Self::RoleType,
+        }
+    }
+}
+
+/// Returns the kind of the concept. Equivalent to probing it with each of the ``concept_is_*`` checks.
+#[no_mangle]
+pub extern "C" fn concept_get_kind(concept: *const Concept) -> ConceptKind {
+    ConceptKind::from(borrow(concept))
+}
+
 /// Checks if the concept is an ``Entity``.
 #[no_mangle]
 pub extern "C" fn concept_is_entity(concept: *const Concept) -> bool {
@@ -22,14 +22,15 @@ use std::{ffi::c_char, ptr::addr_of_mut};
 use typedb_driver::{
     box_stream,
     concept::{AttributeType, Concept, EntityType, RelationType, SchemaException, ValueType},
-    Promise, Result, Transaction, IID,
+    Promise, ResponseSignal, Result, Transaction, IID,
 };
 
 use super::ConceptPromise;
 use crate::{
     error::try_release,
-    iterator::{iterator_try_next, CIterator},
+    iterator::{iterator_on_next, iterator_try_next, CIterator},
     memory::{borrow, free, release, release_string, string_view},
+    signal::{capture, Signalled},
 };
 
 /// Retrieves the root ``EntityType``, “entity”.
@@ -56,7 +57,9 @@ pub extern "C" fn concepts_get_entity_type(
     transaction: *const Transaction<'static>,
     label: *const c_char,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::entity_type(borrow(transaction).concept().get_entity_type(string_view(label).to_owned())))
+    release(capture(|| {
+        ConceptPromise::entity_type(borrow(transaction).concept().get_entity_type(string_view(label).to_owned()))
+    }))
 }
 
 /// Retrieves a <code>RelationType</code> by its label.
@@ -65,9 +68,9 @@ pub extern "C" fn concepts_get_relation_type(
     transaction: *const Transaction<'static>,
     label: *const c_char,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::relation_type(
-        borrow(transaction).concept().get_relation_type(string_view(label).to_owned()),
-    ))
+    release(capture(|| {
+        ConceptPromise::relation_type(borrow(transaction).concept().get_relation_type(string_view(label).to_owned()))
+    }))
 }
 
 /// Retrieves an <code>AttributeType</code> by its label.
@@ -76,9 +79,9 @@ pub extern "C" fn concepts_get_attribute_type(
     transaction: *const Transaction<'static>,
     label: *const c_char,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::attribute_type(
-        borrow(transaction).concept().get_attribute_type(string_view(label).to_owned()),
-    ))
+    release(capture(|| {
+        ConceptPromise::attribute_type(borrow(transaction).concept().get_attribute_type(string_view(label).to_owned()))
+    }))
 }
 
 /// Creates a new <code>EntityType</code> if none exists with the given label,
@@ -88,8 +91,10 @@ pub extern "C" fn concepts_put_entity_type(
     transaction: *const Transaction<'static>,
     label: *const c_char,
 ) -> *mut ConceptPromise {
-    let promise = borrow(transaction).concept().put_entity_type(string_view(label).to_owned());
-    release(ConceptPromise::entity_type(|| promise.resolve().map(Some)))
+    release(capture(|| {
+        let promise = borrow(transaction).concept().put_entity_type(string_view(label).to_owned());
+        ConceptPromise::entity_type(|| promise.resolve().map(Some))
+    }))
 }
 
 /// Creates a new <code>RelationType</code> if none exists with the given label,
@@ -99,8 +104,10 @@ pub extern "C" fn concepts_put_relation_type(
     transaction: *const Transaction<'static>,
     label: *const c_char,
 ) -> *mut ConceptPromise {
-    let promise = borrow(transaction).concept().put_relation_type(string_view(label).to_owned());
-    release(ConceptPromise::relation_type(|| promise.resolve().map(Some)))
+    release(capture(|| {
+        let promise = borrow(transaction).concept().put_relation_type(string_view(label).to_owned());
+        ConceptPromise::relation_type(|| promise.resolve().map(Some))
+    }))
 }
 
 /// Creates a new <code>AttributeType</code> if none exists with the given label,
@@ -111,8 +118,10 @@ pub extern "C" fn concepts_put_attribute_type(
     label: *const c_char,
     value_type: ValueType,
 ) -> *mut ConceptPromise {
-    let promise = borrow(transaction).concept().put_attribute_type(string_view(label).to_owned(), value_type);
-    release(ConceptPromise::attribute_type(|| promise.resolve().map(Some)))
+    release(capture(|| {
+        let promise = borrow(transaction).concept().put_attribute_type(string_view(label).to_owned(), value_type);
+        ConceptPromise::attribute_type(|| promise.resolve().map(Some))
+    }))
 }
 
 fn iid_from_str(str: &str) -> IID {
@@ -125,7 +134,9 @@ pub extern "C" fn concepts_get_entity(
     transaction: *const Transaction<'static>,
     iid: *const c_char,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::entity(borrow(transaction).concept().get_entity(iid_from_str(string_view(iid)))))
+    release(capture(|| {
+        ConceptPromise::entity(borrow(transaction).concept().get_entity(iid_from_str(string_view(iid))))
+    }))
 }
 
 /// Retrieves a ``relation`` instance by its iid.
@@ -134,7 +145,9 @@ pub extern "C" fn concepts_get_relation(
     transaction: *const Transaction<'static>,
     iid: *const c_char,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::relation(borrow(transaction).concept().get_relation(iid_from_str(string_view(iid)))))
+    release(capture(|| {
+        ConceptPromise::relation(borrow(transaction).concept().get_relation(iid_from_str(string_view(iid))))
+    }))
 }
 
 /// Retrieves an ``Attribute`` instance by its iid.
@@ -143,12 +156,20 @@ pub extern "C" fn concepts_get_attribute(
     transaction: *const Transaction<'static>,
     iid: *const c_char,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::attribute(borrow(transaction).concept().get_attribute(iid_from_str(string_view(iid)))))
+    release(capture(|| {
+        ConceptPromise::attribute(borrow(transaction).concept().get_attribute(iid_from_str(string_view(iid))))
+    }))
 }
 
 /// Iterator over the <code>SchemaException</code>s in the result of \ref concepts_get_schema_exceptions(Transaction*).
 pub struct SchemaExceptionIterator(CIterator<Result<SchemaException>>);
 
+impl Signalled for SchemaExceptionIterator {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.0.attach(signal);
+    }
+}
+
 /// Forwards the <code>SchemaExceptionIterator</code> and returns the next <code>SchemaException</code> if it exists,
 /// or null if there are no more elements.
 #[no_mangle]
@@ -156,6 +177,18 @@ pub extern "C" fn schema_exception_iterator_next(it: *mut SchemaExceptionIterato
     unsafe { iterator_try_next(addr_of_mut!((*it).0)) }
 }
 
+/// Waits for the next element of the <code>SchemaExceptionIterator</code> without holding a thread, and calls
+/// <code>callback(callback_id)</code> once it is available, after which
+/// \ref schema_exception_iterator_next(SchemaExceptionIterator*) returns without blocking.
+#[no_mangle]
+pub extern "C" fn schema_exception_iterator_on_next(
+    it: *mut SchemaExceptionIterator,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) {
+    unsafe { iterator_on_next(addr_of_mut!((*it).0), callback_id, callback) }
+}
+
 /// Frees the native rust <code>SchemaExceptionIterator</code> object
 #[no_mangle]
 pub extern "C" fn schema_exception_iterator_drop(it: *mut SchemaExceptionIterator) {
@@ -185,10 +218,10 @@ pub extern "C" fn schema_exception_message(schema_exception: *const SchemaExcept
 pub extern "C" fn concepts_get_schema_exceptions(
     transaction: *const Transaction<'static>,
 ) -> *mut SchemaExceptionIterator {
-    try_release(
+    try_release(capture(|| {
         borrow(transaction)
             .concept()
             .get_schema_exceptions()
-            .map(|e| SchemaExceptionIterator(CIterator(box_stream(e)))),
-    )
+            .map(|e| SchemaExceptionIterator(CIterator::new(box_stream(e))))
+    }))
 }
@@ -22,6 +22,8 @@ mod manager;
 mod thing;
 mod type_;
 
+pub(super) use self::concept::ConceptKind;
+
 use std::ptr::addr_of_mut;
 
 use itertools::Itertools;
@@ -31,50 +33,63 @@ use typedb_driver::{
         Attribute, AttributeType, Concept, Entity, EntityType, Relation, RelationType, RoleType, Thing, ThingType,
         Value,
     },
-    BoxPromise, BoxStream, Promise, Result,
+    BoxPromise, BoxStream, Promise, ResponseSignal, Result,
 };
 
 use super::{
-    iterator::iterator_try_next,
+    iterator::{iterator_on_next, iterator_try_next},
     memory::{borrow, free, release},
 };
-use crate::{error::try_release_optional, iterator::CIterator, memory::take_ownership};
+use crate::{
+    error::try_release_optional, iterator::CIterator, memory::take_ownership, promise::promise_on_complete,
+    signal::Signalled,
+};
 
 /// Promise object representing the result of an asynchronous operation.
 /// Use \ref concept_promise_resolve(ConceptPromise*) to wait for and retrieve the resulting boolean value.
-pub struct ConceptPromise(BoxPromise<'static, Result<Option<Concept>>>);
+pub struct ConceptPromise(BoxPromise<'static, Result<Option<Concept>>>, ResponseSignal);
 
 impl ConceptPromise {
+    fn new(promise: BoxPromise<'static, Result<Option<Concept>>>) -> Self {
+        Self(promise, ResponseSignal::default())
+    }
+
     fn entity(promise: impl Promise<'static, Result<Option<Entity>>>) -> Self {
-        Self(Box::new(|| Ok(promise.resolve()?.map(Concept::Entity))))
+        Self::new(Box::new(|| Ok(promise.resolve()?.map(Concept::Entity))))
     }
 
     fn relation(promise: impl Promise<'static, Result<Option<Relation>>>) -> Self {
-        Self(Box::new(|| Ok(promise.resolve()?.map(Concept::Relation))))
+        Self::new(Box::new(|| Ok(promise.resolve()?.map(Concept::Relation))))
     }
 
     fn attribute(promise: impl Promise<'static, Result<Option<Attribute>>>) -> Self {
-        Self(Box::new(|| Ok(promise.resolve()?.map(Concept::Attribute))))
+        Self::new(Box::new(|| Ok(promise.resolve()?.map(Concept::Attribute))))
     }
 
     pub(super) fn value(promise: impl Promise<'static, Result<Option<Value>>>) -> Self {
-        Self(Box::new(|| Ok(promise.resolve()?.map(Concept::Value))))
+        Self::new(Box::new(|| Ok(promise.resolve()?.map(Concept::Value))))
     }
 
     fn entity_type(promise: impl Promise<'static, Result<Option<EntityType>>>) -> Self {
-        Self(Box::new(|| Ok(promise.resolve()?.map(Concept::EntityType))))
+        Self::new(Box::new(|| Ok(promise.resolve()?.map(Concept::EntityType))))
     }
 
     fn relation_type(promise: impl Promise<'static, Result<Option<RelationType>>>) -> Self {
-        Self(Box::new(|| Ok(promise.resolve()?.map(Concept::RelationType))))
+        Self::new(Box::new(|| Ok(promise.resolve()?.map(Concept::RelationType))))
     }
 
     fn attribute_type(promise: impl Promise<'static, Result<Option<AttributeType>>>) -> Self {
-        Self(Box::new(|| Ok(promise.resolve()?.map(Concept::AttributeType))))
+        Self::new(Box::new(|| Ok(promise.resolve()?.map(Concept::AttributeType))))
     }
 
     fn role_type(promise: impl Promise<'static, Result<Option<RoleType>>>) -> Self {
-        Self(Box::new(|| Ok(promise.resolve()?.map(Concept::RoleType))))
+        Self::new(Box::new(|| Ok(promise.resolve()?.map(Concept::RoleType))))
+    }
+}
+
+impl Signalled for ConceptPromise {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.1 = signal;
     }
 }
 
@@ -86,12 +101,24 @@ pub extern "C" fn concept_promise_resolve(promise: *mut ConceptPromise) -> *mut
     try_release_optional(take_ownership(promise).0.resolve().transpose())
 }
 
+/// Waits for the operation represented by the <code>ConceptPromise</code> without holding a thread, and calls
+/// <code>callback(callback_id)</code> once it has completed. The promise must still be resolved with
+/// \ref concept_promise_resolve(ConceptPromise*), which then returns without blocking.
+#[no_mangle]
+pub extern "C" fn concept_promise_on_complete(
+    promise: *mut ConceptPromise,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) {
+    promise_on_complete(&borrow(promise).1, callback_id, callback);
+}
+
 /// Iterator over the <code>Concepts</code>s returned by an API method or query.
 pub struct ConceptIterator(pub CIterator<Result<Concept>>);
 
 impl ConceptIterator {
     fn things(it: BoxStream<'static, Result<Thing>>) -> Self {
-        Self(CIterator(box_stream(it.map_ok(|thing| match thing {
+        Self(CIterator::new(box_stream(it.map_ok(|thing| match thing {
             Thing::Entity(entity) => Concept::Entity(entity),
             Thing::Relation(relation) => Concept::Relation(relation),
             Thing::Attribute(attribute) => Concept::Attribute(attribute),
@@ -99,19 +126,19 @@ impl ConceptIterator {
     }
 
     fn entities(it: BoxStream<'static, Result<Entity>>) -> Self {
-        Self(CIterator(box_stream(it.map_ok(Concept::Entity))))
+        Self(CIterator::new(box_stream(it.map_ok(Concept::Entity))))
     }
 
     fn relations(it: BoxStream<'static, Result<Relation>>) -> Self {
-        Self(CIterator(box_stream(it.map_ok(Concept::Relation))))
+        Self(CIterator::new(box_stream(it.map_ok(Concept::Relation))))
     }
 
     fn attributes(it: BoxStream<'static, Result<Attribute>>) -> Self {
-        Self(CIterator(box_stream(it.map_ok(Concept::Attribute))))
+        Self(CIterator::new(box_stream(it.map_ok(Concept::Attribute))))
     }
 
     fn thing_types(it: BoxStream<'static, Result<ThingType>>) -> Self {
-        Self(CIterator(box_stream(it.map_ok(|thing_type| match thing_type {
+        Self(CIterator::new(box_stream(it.map_ok(|thing_type| match thing_type {
             ThingType::EntityType(entity_type) => Concept::EntityType(entity_type),
             ThingType::RelationType(relation_type) => Concept::RelationType(relation_type),
             ThingType::AttributeType(attribute_type) => Concept::AttributeType(attribute_type),
@@ -120,19 +147,25 @@ impl ConceptIterator {
     }
 
     fn entity_types(it: BoxStream<'static, Result<EntityType>>) -> Self {
-        Self(CIterator(box_stream(it.map_ok(Concept::EntityType))))
+        Self(CIterator::new(box_stream(it.map_ok(Concept::EntityType))))
     }
 
     fn relation_types(it: BoxStream<'static, Result<RelationType>>) -> Self {
-        Self(CIterator(box_stream(it.map_ok(Concept::RelationType))))
+        Self(CIterator::new(box_stream(it.map_ok(Concept::RelationType))))
     }
 
     fn attribute_types(it: BoxStream<'static, Result<AttributeType>>) -> Self {
-        Self(CIterator(box_stream(it.map_ok(Concept::AttributeType))))
+        Self(CIterator::new(box_stream(it.map_ok(Concept::AttributeType))))
     }
 
     fn role_types(it: BoxStream<'static, Result<RoleType>>) -> Self {
-        Self(CIterator(box_stream(it.map_ok(Concept::RoleType))))
+        Self(CIterator::new(box_stream(it.map_ok(Concept::RoleType))))
+    }
+}
+
+impl Signalled for ConceptIterator {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.0.attach(signal);
     }
 }
 
@@ -143,6 +176,18 @@ pub extern "C" fn concept_iterator_next(it: *mut ConceptIterator) -> *mut Concep
     unsafe { iterator_try_next(addr_of_mut!((*it).0)) }
 }
 
+/// Waits for the next element of the <code>ConceptIterator</code> without holding a thread, and calls
+/// <code>callback(callback_id)</code> once it is available, after which
+/// \ref concept_iterator_next(ConceptIterator*) returns without blocking.
+#[no_mangle]
+pub extern "C" fn concept_iterator_on_next(
+    it: *mut ConceptIterator,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) {
+    unsafe { iterator_on_next(addr_of_mut!((*it).0), callback_id, callback) }
+}
+
 /// Frees the native rust <code>ConceptIterator</code> object
 #[no_mangle]
 pub extern "C" fn concept_iterator_drop(it: *mut ConceptIterator) {
@@ -156,7 +201,7 @@ pub struct RolePlayerIterator(RolePlayerIteratorInner);
 
 impl RolePlayerIterator {
     fn new(it: BoxStream<'static, Result<(RoleType, Thing)>>) -> Self {
-        Self(CIterator(box_stream(it.map_ok(|(role_type, thing)| RolePlayer {
+        Self(CIterator::new(box_stream(it.map_ok(|(role_type, thing)| RolePlayer {
             role_type: Concept::RoleType(role_type),
             player: match thing {
                 Thing::Entity(entity) => Concept::Entity(entity),
@@ -167,6 +212,12 @@ impl RolePlayerIterator {
     }
 }
 
+impl Signalled for RolePlayerIterator {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.0.attach(signal);
+    }
+}
+
 /// Forwards the <code>RolePlayerIterator</code> and returns the next <code>RolePlayer</code> if it exists,
 /// or null if there are no more elements.
 #[no_mangle]
@@ -174,6 +225,18 @@ pub extern "C" fn role_player_iterator_next(it: *mut RolePlayerIterator) -> *mut
     unsafe { iterator_try_next(addr_of_mut!((*it).0)) }
 }
 
+/// Waits for the next element of the <code>RolePlayerIterator</code> without holding a thread, and calls
+/// <code>callback(callback_id)</code> once it is available, after which
+/// \ref role_player_iterator_next(RolePlayerIterator*) returns without blocking.
+#[no_mangle]
+pub extern "C" fn role_player_iterator_on_next(
+    it: *mut RolePlayerIterator,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) {
+    unsafe { iterator_on_next(addr_of_mut!((*it).0), callback_id, callback) }
+}
+
 /// Frees the native rust <code>RolePlayerIterator</code> object
 #[no_mangle]
 pub extern "C" fn role_player_iterator_drop(it: *mut RolePlayerIterator) {
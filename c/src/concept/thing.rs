@@ -33,9 +33,11 @@ use super::{
     ConceptIterator, RolePlayerIterator,
 };
 use crate::{
+    encoding::ByteArray,
     error::try_release,
     memory::{array_view, borrow, release, release_string},
     promise::{BoolPromise, VoidPromise},
+    signal::capture,
 };
 
 /// Retrieves the unique id of the ``Thing``.
@@ -44,6 +46,13 @@ pub extern "C" fn thing_get_iid(thing: *mut Concept) -> *mut c_char {
     release_string(borrow_as_thing(thing).iid().to_string())
 }
 
+/// Retrieves the unique id of the ``Thing`` as raw bytes, without hex encoding.
+/// The result must be freed with \ref byte_array_drop(ByteArray*).
+#[no_mangle]
+pub extern "C" fn thing_get_iid_bytes(thing: *const Concept) -> *mut ByteArray {
+    release(ByteArray::from(borrow_as_thing(thing).iid().as_bytes().to_vec()))
+}
+
 /// Checks if this ``Thing`` is inferred by a [Reasoning Rule].
 #[no_mangle]
 pub extern "C" fn thing_get_is_inferred(thing: *mut Concept) -> bool {
@@ -77,13 +86,13 @@ pub extern "C" fn attribute_get_value(attribute: *const Concept) -> *mut Concept
 /// Deletes this ``Thing``.
 #[no_mangle]
 pub extern "C" fn thing_delete(transaction: *mut Transaction<'static>, thing: *mut Concept) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(borrow_as_thing(thing).delete(borrow(transaction)))))
+    release(capture(|| VoidPromise::new(Box::new(borrow_as_thing(thing).delete(borrow(transaction))))))
 }
 
 /// Checks if this ``Thing`` is deleted.
 #[no_mangle]
 pub extern "C" fn thing_is_deleted(transaction: *mut Transaction<'static>, thing: *const Concept) -> *mut BoolPromise {
-    release(BoolPromise(Box::new(borrow_as_thing(thing).is_deleted(borrow(transaction)))))
+    release(capture(|| BoolPromise::new(Box::new(borrow_as_thing(thing).is_deleted(borrow(transaction))))))
 }
 
 /// Retrieves the ``Attribute``s that this ``Thing`` owns, optionally filtered by ``AttributeType``s.
@@ -103,7 +112,7 @@ pub extern "C" fn thing_get_has(
     let thing = borrow_as_thing(thing);
     let attribute_types = array_view(attribute_types).map(|at| borrow_as_attribute_type(at)).cloned().collect();
     let annotations = array_view(annotations).copied().collect();
-    try_release(thing.get_has(transaction, attribute_types, annotations).map(ConceptIterator::attributes))
+    try_release(capture(|| thing.get_has(transaction, attribute_types, annotations).map(ConceptIterator::attributes)))
 }
 
 /// Assigns an ``Attribute`` to be owned by this ``Thing``.
@@ -115,7 +124,7 @@ pub extern "C" fn thing_set_has(
 ) -> *mut VoidPromise {
     let transaction = borrow(transaction);
     let attribute = borrow_as_attribute(attribute).clone();
-    release(VoidPromise(Box::new(borrow_as_thing(thing).set_has(transaction, attribute))))
+    release(capture(|| VoidPromise::new(Box::new(borrow_as_thing(thing).set_has(transaction, attribute)))))
 }
 
 /// Unassigns an ``Attribute`` from this ``Thing``.
@@ -127,7 +136,7 @@ pub extern "C" fn thing_unset_has(
 ) -> *mut VoidPromise {
     let transaction = borrow(transaction);
     let attribute = borrow_as_attribute(attribute).clone();
-    release(VoidPromise(Box::new(borrow_as_thing(thing).unset_has(transaction, attribute))))
+    release(capture(|| VoidPromise::new(Box::new(borrow_as_thing(thing).unset_has(transaction, attribute)))))
 }
 
 /// Retrieves all the ``Relations`` which this ``Thing`` plays a role in,
@@ -142,7 +151,9 @@ pub extern "C" fn thing_get_relations(
 ) -> *mut ConceptIterator {
     let transaction = borrow(transaction);
     let role_types = array_view(role_types).map(|rt| borrow_as_role_type(rt)).cloned().collect();
-    try_release(borrow_as_thing(thing).get_relations(transaction, role_types).map(ConceptIterator::relations))
+    try_release(capture(|| {
+        borrow_as_thing(thing).get_relations(transaction, role_types).map(ConceptIterator::relations)
+    }))
 }
 
 /// Retrieves the roles that this ``Thing`` is currently playing.
@@ -152,7 +163,7 @@ pub extern "C" fn thing_get_playing(
     thing: *const Concept,
 ) -> *mut ConceptIterator {
     let transaction = borrow(transaction);
-    try_release(borrow_as_thing(thing).get_playing(transaction).map(ConceptIterator::role_types))
+    try_release(capture(|| borrow_as_thing(thing).get_playing(transaction).map(ConceptIterator::role_types)))
 }
 
 /// Adds a new role player to play the given role in this ``Relation``.
@@ -166,7 +177,9 @@ pub extern "C" fn relation_add_role_player(
     let transaction = borrow(transaction);
     let role_type = borrow_as_role_type(role_type).clone();
     let player = borrow_as_thing(player).to_thing_cloned();
-    release(VoidPromise(Box::new(borrow_as_relation(relation).add_role_player(transaction, role_type, player))))
+    release(capture(|| {
+        VoidPromise::new(Box::new(borrow_as_relation(relation).add_role_player(transaction, role_type, player)))
+    }))
 }
 
 /// Removes the association of the given instance that plays the given role in this ``Relation``.
@@ -180,7 +193,9 @@ pub extern "C" fn relation_remove_role_player(
     let transaction = borrow(transaction);
     let role_type = borrow_as_role_type(role_type).clone();
     let player = borrow_as_thing(player).to_thing_cloned();
-    release(VoidPromise(Box::new(borrow_as_relation(relation).remove_role_player(transaction, role_type, player))))
+    release(capture(|| {
+        VoidPromise::new(Box::new(borrow_as_relation(relation).remove_role_player(transaction, role_type, player)))
+    }))
 }
 
 /// Retrieves all role players of this ``Relation``, optionally filtered by given role types.
@@ -194,9 +209,9 @@ pub extern "C" fn relation_get_players_by_role_type(
 ) -> *mut ConceptIterator {
     let transaction = borrow(transaction);
     let role_types = array_view(role_types).map(|rt| borrow_as_role_type(rt)).cloned().collect();
-    try_release(
-        borrow_as_relation(relation).get_players_by_role_type(transaction, role_types).map(ConceptIterator::things),
-    )
+    try_release(capture(|| {
+        borrow_as_relation(relation).get_players_by_role_type(transaction, role_types).map(ConceptIterator::things)
+    }))
 }
 
 /// Retrieves all instance involved in the ``Relation``, each paired with the role it plays.
@@ -206,7 +221,7 @@ pub extern "C" fn relation_get_role_players(
     relation: *const Concept,
 ) -> *mut RolePlayerIterator {
     let transaction = borrow(transaction);
-    try_release(borrow_as_relation(relation).get_role_players(transaction).map(RolePlayerIterator::new))
+    try_release(capture(|| borrow_as_relation(relation).get_role_players(transaction).map(RolePlayerIterator::new)))
 }
 
 /// Retrieves all role types currently played in this ``Relation``.
@@ -216,7 +231,7 @@ pub extern "C" fn relation_get_relating(
     relation: *const Concept,
 ) -> *mut ConceptIterator {
     let transaction = borrow(transaction);
-    try_release(borrow_as_relation(relation).get_relating(transaction).map(ConceptIterator::role_types))
+    try_release(capture(|| borrow_as_relation(relation).get_relating(transaction).map(ConceptIterator::role_types)))
 }
 
 /// Retrieves the instances that own this ``Attribute``.
@@ -228,5 +243,7 @@ pub extern "C" fn attribute_get_owners(
 ) -> *mut ConceptIterator {
     let transaction = borrow(transaction);
     let thing_type = unsafe { thing_type.as_ref().map(|t| borrow_as_thing_type(t).to_thing_type_cloned()) };
-    try_release(borrow_as_attribute(attribute).get_owners(transaction, thing_type).map(ConceptIterator::things))
+    try_release(capture(|| {
+        borrow_as_attribute(attribute).get_owners(transaction, thing_type).map(ConceptIterator::things)
+    }))
 }
@@ -38,6 +38,7 @@ use crate::{
     error::try_release,
     memory::{array_view, borrow, borrow_optional, release, release_string, string_view},
     promise::{BoolPromise, StringPromise, VoidPromise},
+    signal::capture,
 };
 
 /// Checks if this type is a root type (""entity"", ""relation"", ""attribute"")
@@ -64,7 +65,7 @@ pub extern "C" fn thing_type_is_deleted(
     transaction: *const Transaction<'static>,
     thing_type: *const Concept,
 ) -> *mut BoolPromise {
-    release(BoolPromise(Box::new(borrow_as_thing_type(thing_type).is_deleted(borrow(transaction)))))
+    release(capture(|| BoolPromise::new(Box::new(borrow_as_thing_type(thing_type).is_deleted(borrow(transaction))))))
 }
 
 /// Deletes this thing type from the database.
@@ -73,7 +74,7 @@ pub extern "C" fn thing_type_delete(
     transaction: *const Transaction<'static>,
     thing_type: *mut Concept,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(borrow_as_thing_type_mut(thing_type).delete(borrow(transaction)))))
+    release(capture(|| VoidPromise::new(Box::new(borrow_as_thing_type_mut(thing_type).delete(borrow(transaction))))))
 }
 
 /// Renames the label of the type. The new label must remain unique.
@@ -83,9 +84,11 @@ pub extern "C" fn thing_type_set_label(
     thing_type: *mut Concept,
     new_label: *const c_char,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(
-        borrow_as_thing_type_mut(thing_type).set_label(borrow(transaction), string_view(new_label).to_owned()),
-    )))
+    release(capture(|| {
+        VoidPromise::new(Box::new(
+            borrow_as_thing_type_mut(thing_type).set_label(borrow(transaction), string_view(new_label).to_owned()),
+        ))
+    }))
 }
 
 /// Set a <code>ThingType</code> to be abstract, meaning it cannot have instances.
@@ -94,7 +97,9 @@ pub extern "C" fn thing_type_set_abstract(
     transaction: *const Transaction<'static>,
     thing_type: *mut Concept,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(borrow_as_thing_type_mut(thing_type).set_abstract(borrow(transaction)))))
+    release(capture(|| {
+        VoidPromise::new(Box::new(borrow_as_thing_type_mut(thing_type).set_abstract(borrow(transaction))))
+    }))
 }
 
 /// Set a <code>ThingType</code> to be non-abstract, meaning it can have instances.
@@ -103,7 +108,9 @@ pub extern "C" fn thing_type_unset_abstract(
     transaction: *const Transaction<'static>,
     thing_type: *mut Concept,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(borrow_as_thing_type_mut(thing_type).unset_abstract(borrow(transaction)))))
+    release(capture(|| {
+        VoidPromise::new(Box::new(borrow_as_thing_type_mut(thing_type).unset_abstract(borrow(transaction))))
+    }))
 }
 
 /// Retrieves <code>AttributeType</code> that the instances of this
@@ -122,11 +129,11 @@ pub extern "C" fn thing_type_get_owns(
     annotations: *const *const Annotation,
 ) -> *mut ConceptIterator {
     let annotations = array_view(annotations).copied().collect();
-    try_release(
+    try_release(capture(|| {
         borrow_as_thing_type(thing_type)
             .get_owns(borrow(transaction), borrow_optional(value_type).copied(), transitivity, annotations)
-            .map(ConceptIterator::attribute_types),
-    )
+            .map(ConceptIterator::attribute_types)
+    }))
 }
 
 /// Retrieves the <code>AttributeType</code>, ownership of which is overridden
@@ -137,10 +144,12 @@ pub extern "C" fn thing_type_get_owns_overridden(
     thing_type: *const Concept,
     overridden_attribute_type: *const Concept,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::attribute_type(
-        borrow_as_thing_type(thing_type)
-            .get_owns_overridden(borrow(transaction), borrow_as_attribute_type(overridden_attribute_type).clone()),
-    ))
+    release(capture(|| {
+        ConceptPromise::attribute_type(
+            borrow_as_thing_type(thing_type)
+                .get_owns_overridden(borrow(transaction), borrow_as_attribute_type(overridden_attribute_type).clone()),
+        )
+    }))
 }
 
 /// Allows the instances of this <code>ThingType</code> to own the given <code>AttributeType</code>.
@@ -161,12 +170,14 @@ pub extern "C" fn thing_type_set_owns(
     annotations: *const *const Annotation,
 ) -> *mut VoidPromise {
     let annotations = array_view(annotations).copied().collect();
-    release(VoidPromise(Box::new(borrow_as_thing_type_mut(thing_type).set_owns(
-        borrow(transaction),
-        borrow_as_attribute_type(attribute_type).clone(),
-        borrow_optional(overridden_attribute_type).map(|at| borrow_as_attribute_type(at).clone()),
-        annotations,
-    ))))
+    release(capture(|| {
+        VoidPromise::new(Box::new(borrow_as_thing_type_mut(thing_type).set_owns(
+            borrow(transaction),
+            borrow_as_attribute_type(attribute_type).clone(),
+            borrow_optional(overridden_attribute_type).map(|at| borrow_as_attribute_type(at).clone()),
+            annotations,
+        )))
+    }))
 }
 
 /// Disallows the instances of this <code>ThingType</code> from owning the given <code>AttributeType</code>.
@@ -176,10 +187,12 @@ pub extern "C" fn thing_type_unset_owns(
     thing_type: *mut Concept,
     attribute_type: *const Concept,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(
-        borrow_as_thing_type_mut(thing_type)
-            .unset_owns(borrow(transaction), borrow_as_attribute_type(attribute_type).clone()),
-    )))
+    release(capture(|| {
+        VoidPromise::new(Box::new(
+            borrow_as_thing_type_mut(thing_type)
+                .unset_owns(borrow(transaction), borrow_as_attribute_type(attribute_type).clone()),
+        ))
+    }))
 }
 
 /// Retrieves all direct and inherited (or direct only) roles that are allowed
@@ -192,9 +205,9 @@ pub extern "C" fn thing_type_get_plays(
     thing_type: *const Concept,
     transitivity: Transitivity,
 ) -> *mut ConceptIterator {
-    try_release(
-        borrow_as_thing_type(thing_type).get_plays(borrow(transaction), transitivity).map(ConceptIterator::role_types),
-    )
+    try_release(capture(|| {
+        borrow_as_thing_type(thing_type).get_plays(borrow(transaction), transitivity).map(ConceptIterator::role_types)
+    }))
 }
 
 /// Retrieves the <code>RoleType</code> that is overridden by the given ``RoleType`` for this <code>ThingType</code>.
@@ -204,10 +217,12 @@ pub extern "C" fn thing_type_get_plays_overridden(
     thing_type: *const Concept,
     overridden_role_type: *const Concept,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::role_type(
-        borrow_as_thing_type(thing_type)
-            .get_plays_overridden(borrow(transaction), borrow_as_role_type(overridden_role_type).clone()),
-    ))
+    release(capture(|| {
+        ConceptPromise::role_type(
+            borrow_as_thing_type(thing_type)
+                .get_plays_overridden(borrow(transaction), borrow_as_role_type(overridden_role_type).clone()),
+        )
+    }))
 }
 
 /// Allows the instances of this <code>ThingType</code> to play the given role.
@@ -219,11 +234,13 @@ pub extern "C" fn thing_type_set_plays(
     role_type: *const Concept,
     overridden_role_type: *const Concept,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(borrow_as_thing_type_mut(thing_type).set_plays(
-        borrow(transaction),
-        borrow_as_role_type(role_type).clone(),
-        borrow_optional(overridden_role_type).map(|c| borrow_as_role_type(c).clone()),
-    ))))
+    release(capture(|| {
+        VoidPromise::new(Box::new(borrow_as_thing_type_mut(thing_type).set_plays(
+            borrow(transaction),
+            borrow_as_role_type(role_type).clone(),
+            borrow_optional(overridden_role_type).map(|c| borrow_as_role_type(c).clone()),
+        )))
+    }))
 }
 
 /// Disallows the instances of this <code>ThingType</code> from playing the given role.
@@ -233,9 +250,12 @@ pub extern "C" fn thing_type_unset_plays(
     thing_type: *mut Concept,
     role_type: *const Concept,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(
-        borrow_as_thing_type_mut(thing_type).unset_plays(borrow(transaction), borrow_as_role_type(role_type).clone()),
-    )))
+    release(capture(|| {
+        VoidPromise::new(Box::new(
+            borrow_as_thing_type_mut(thing_type)
+                .unset_plays(borrow(transaction), borrow_as_role_type(role_type).clone()),
+        ))
+    }))
 }
 
 /// Produces a TypeQL pattern for creating this <code>ThingType</code> in a <code>define</code> query.
@@ -244,8 +264,10 @@ pub extern "C" fn thing_type_get_syntax(
     transaction: *const Transaction<'static>,
     thing_type: *const Concept,
 ) -> *mut StringPromise {
-    let promise = borrow_as_thing_type(thing_type).get_syntax(borrow(transaction));
-    release(StringPromise(Box::new(|| promise.resolve().map(Some))))
+    release(capture(|| {
+        let promise = borrow_as_thing_type(thing_type).get_syntax(borrow(transaction));
+        StringPromise::new(Box::new(|| promise.resolve().map(Some)))
+    }))
 }
 
 /// Creates and returns a new instance of this <code>EntityType</code>.
@@ -254,8 +276,10 @@ pub extern "C" fn entity_type_create(
     transaction: *mut Transaction<'static>,
     entity_type: *const Concept,
 ) -> *mut ConceptPromise {
-    let promise = borrow_as_entity_type(entity_type).create(borrow(transaction));
-    release(ConceptPromise::entity(|| promise.resolve().map(Some)))
+    release(capture(|| {
+        let promise = borrow_as_entity_type(entity_type).create(borrow(transaction));
+        ConceptPromise::entity(|| promise.resolve().map(Some))
+    }))
 }
 
 /// Retrieves the most immediate supertype of the given ``EntityType``.
@@ -264,7 +288,9 @@ pub extern "C" fn entity_type_get_supertype(
     transaction: *mut Transaction<'static>,
     entity_type: *const Concept,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::entity_type(borrow_as_entity_type(entity_type).get_supertype(borrow(transaction))))
+    release(capture(|| {
+        ConceptPromise::entity_type(borrow_as_entity_type(entity_type).get_supertype(borrow(transaction)))
+    }))
 }
 
 /// Sets the supplied <code>EntityType</code> as the supertype of the current <code>EntityType</code>.
@@ -274,10 +300,12 @@ pub extern "C" fn entity_type_set_supertype(
     entity_type: *mut Concept,
     supertype: *const Concept,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(
-        borrow_as_entity_type_mut(entity_type)
-            .set_supertype(borrow(transaction), borrow_as_entity_type(supertype).clone()),
-    )))
+    release(capture(|| {
+        VoidPromise::new(Box::new(
+            borrow_as_entity_type_mut(entity_type)
+                .set_supertype(borrow(transaction), borrow_as_entity_type(supertype).clone()),
+        ))
+    }))
 }
 
 /// Retrieves all supertypes of the given EntityType.
@@ -286,9 +314,9 @@ pub extern "C" fn entity_type_get_supertypes(
     transaction: *mut Transaction<'static>,
     entity_type: *const Concept,
 ) -> *mut ConceptIterator {
-    try_release(
-        borrow_as_entity_type(entity_type).get_supertypes(borrow(transaction)).map(ConceptIterator::entity_types),
-    )
+    try_release(capture(|| {
+        borrow_as_entity_type(entity_type).get_supertypes(borrow(transaction)).map(ConceptIterator::entity_types)
+    }))
 }
 
 /// Retrieves all direct and indirect (or direct only) subtypes of the given EntityType.
@@ -300,11 +328,11 @@ pub extern "C" fn entity_type_get_subtypes(
     entity_type: *const Concept,
     transitivity: Transitivity,
 ) -> *mut ConceptIterator {
-    try_release(
+    try_release(capture(|| {
         borrow_as_entity_type(entity_type)
             .get_subtypes(borrow(transaction), transitivity)
-            .map(ConceptIterator::entity_types),
-    )
+            .map(ConceptIterator::entity_types)
+    }))
 }
 
 /// Retrieves all <code>Entity</code> objects that are instances of this <code>EntityType</code> or its subtypes.
@@ -316,11 +344,11 @@ pub extern "C" fn entity_type_get_instances(
     entity_type: *const Concept,
     transitivity: Transitivity,
 ) -> *mut ConceptIterator {
-    try_release(
+    try_release(capture(|| {
         borrow_as_entity_type(entity_type)
             .get_instances(borrow(transaction), transitivity)
-            .map(ConceptIterator::entities),
-    )
+            .map(ConceptIterator::entities)
+    }))
 }
 
 /// Creates and returns a new instance of this <code>RelationType</code>.
@@ -329,8 +357,10 @@ pub extern "C" fn relation_type_create(
     transaction: *mut Transaction<'static>,
     relation_type: *const Concept,
 ) -> *mut ConceptPromise {
-    let promise = borrow_as_relation_type(relation_type).create(borrow(transaction));
-    release(ConceptPromise::relation(|| promise.resolve().map(Some)))
+    release(capture(|| {
+        let promise = borrow_as_relation_type(relation_type).create(borrow(transaction));
+        ConceptPromise::relation(|| promise.resolve().map(Some))
+    }))
 }
 
 /// Retrieves the most immediate supertype of the given ``RelationType``.
@@ -339,7 +369,9 @@ pub extern "C" fn relation_type_get_supertype(
     transaction: *mut Transaction<'static>,
     relation_type: *const Concept,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::relation_type(borrow_as_relation_type(relation_type).get_supertype(borrow(transaction))))
+    release(capture(|| {
+        ConceptPromise::relation_type(borrow_as_relation_type(relation_type).get_supertype(borrow(transaction)))
+    }))
 }
 
 /// Sets the supplied <code>RelationType</code> as the supertype of the current <code>RelationType</code>.
@@ -349,10 +381,12 @@ pub extern "C" fn relation_type_set_supertype(
     relation_type: *mut Concept,
     supertype: *const Concept,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(
-        borrow_as_relation_type_mut(relation_type)
-            .set_supertype(borrow(transaction), borrow_as_relation_type(supertype).clone()),
-    )))
+    release(capture(|| {
+        VoidPromise::new(Box::new(
+            borrow_as_relation_type_mut(relation_type)
+                .set_supertype(borrow(transaction), borrow_as_relation_type(supertype).clone()),
+        ))
+    }))
 }
 
 /// Retrieves all supertypes of the given RelationType.
@@ -361,9 +395,9 @@ pub extern "C" fn relation_type_get_supertypes(
     transaction: *mut Transaction<'static>,
     relation_type: *const Concept,
 ) -> *mut ConceptIterator {
-    try_release(
-        borrow_as_relation_type(relation_type).get_supertypes(borrow(transaction)).map(ConceptIterator::relation_types),
-    )
+    try_release(capture(|| {
+        borrow_as_relation_type(relation_type).get_supertypes(borrow(transaction)).map(ConceptIterator::relation_types)
+    }))
 }
 
 /// Retrieves all direct and indirect (or direct only) subtypes of the given RelationType.
@@ -375,11 +409,11 @@ pub extern "C" fn relation_type_get_subtypes(
     relation_type: *const Concept,
     transitivity: Transitivity,
 ) -> *mut ConceptIterator {
-    try_release(
+    try_release(capture(|| {
         borrow_as_relation_type(relation_type)
             .get_subtypes(borrow(transaction), transitivity)
-            .map(ConceptIterator::relation_types),
-    )
+            .map(ConceptIterator::relation_types)
+    }))
 }
 
 /// Retrieves all <code>Relation</code> objects that are instances of this <code>RelationType</code> or its subtypes.
@@ -391,11 +425,11 @@ pub extern "C" fn relation_type_get_instances(
     relation_type: *const Concept,
     transitivity: Transitivity,
 ) -> *mut ConceptIterator {
-    try_release(
+    try_release(capture(|| {
         borrow_as_relation_type(relation_type)
             .get_instances(borrow(transaction), transitivity)
-            .map(ConceptIterator::relations),
-    )
+            .map(ConceptIterator::relations)
+    }))
 }
 
 /// Retrieves roles that this <code>RelationType</code> relates to directly or via inheritance.
@@ -407,11 +441,11 @@ pub extern "C" fn relation_type_get_relates(
     relation_type: *const Concept,
     transitivity: Transitivity,
 ) -> *mut ConceptIterator {
-    try_release(
+    try_release(capture(|| {
         borrow_as_relation_type(relation_type)
             .get_relates(borrow(transaction), transitivity)
-            .map(ConceptIterator::role_types),
-    )
+            .map(ConceptIterator::role_types)
+    }))
 }
 
 /// Retrieves the role with the specified label that this <code>RelationType</code> relates to, directly or via inheritance.
@@ -421,10 +455,12 @@ pub extern "C" fn relation_type_get_relates_for_role_label(
     relation_type: *const Concept,
     role_label: *const c_char,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::role_type(
-        borrow_as_relation_type(relation_type)
-            .get_relates_for_role_label(borrow(transaction), string_view(role_label).to_owned()),
-    ))
+    release(capture(|| {
+        ConceptPromise::role_type(
+            borrow_as_relation_type(relation_type)
+                .get_relates_for_role_label(borrow(transaction), string_view(role_label).to_owned()),
+        )
+    }))
 }
 
 /// Retrieves the <code>RoleType</code> that is overridden by the role with the <code>role_label</code>.
@@ -434,10 +470,12 @@ pub extern "C" fn relation_type_get_relates_overridden(
     relation_type: *const Concept,
     overridden_role_label: *const c_char,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::role_type(
-        borrow_as_relation_type(relation_type)
-            .get_relates_overridden(borrow(transaction), string_view(overridden_role_label).to_owned()),
-    ))
+    release(capture(|| {
+        ConceptPromise::role_type(
+            borrow_as_relation_type(relation_type)
+                .get_relates_overridden(borrow(transaction), string_view(overridden_role_label).to_owned()),
+        )
+    }))
 }
 
 /// Sets the new role that this <code>RelationType</code> relates to.
@@ -449,11 +487,13 @@ pub extern "C" fn relation_type_set_relates(
     role_label: *const c_char,
     overridden_role_label: *const c_char,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(borrow_as_relation_type_mut(relation_type).set_relates(
-        borrow(transaction),
-        string_view(role_label).to_owned(),
-        unsafe { overridden_role_label.as_ref().map(|p| string_view(p).to_owned()) },
-    ))))
+    release(capture(|| {
+        VoidPromise::new(Box::new(borrow_as_relation_type_mut(relation_type).set_relates(
+            borrow(transaction),
+            string_view(role_label).to_owned(),
+            unsafe { overridden_role_label.as_ref().map(|p| string_view(p).to_owned()) },
+        )))
+    }))
 }
 
 /// Disallows this <code>RelationType</code> from relating to the given role.
@@ -463,10 +503,12 @@ pub extern "C" fn relation_type_unset_relates(
     relation_type: *mut Concept,
     role_label: *const c_char,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(
-        borrow_as_relation_type_mut(relation_type)
-            .unset_relates(borrow(transaction), string_view(role_label).to_owned()),
-    )))
+    release(capture(|| {
+        VoidPromise::new(Box::new(
+            borrow_as_relation_type_mut(relation_type)
+                .unset_relates(borrow(transaction), string_view(role_label).to_owned()),
+        ))
+    }))
 }
 
 /// Retrieves the <code>ValueType</code> of this <code>AttributeType</code>.
@@ -482,8 +524,10 @@ pub extern "C" fn attribute_type_put(
     attribute_type: *const Concept,
     value: *const Concept,
 ) -> *mut ConceptPromise {
-    let promise = borrow_as_attribute_type(attribute_type).put(borrow(transaction), borrow_as_value(value).clone());
-    release(ConceptPromise::attribute(|| promise.resolve().map(Some)))
+    release(capture(|| {
+        let promise = borrow_as_attribute_type(attribute_type).put(borrow(transaction), borrow_as_value(value).clone());
+        ConceptPromise::attribute(|| promise.resolve().map(Some))
+    }))
 }
 
 /// Retrieves an <code>Attribute</code> of this <code>AttributeType</code> with the given ``Value``
@@ -494,9 +538,11 @@ pub extern "C" fn attribute_type_get(
     attribute_type: *const Concept,
     value: *const Concept,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::attribute(
-        borrow_as_attribute_type(attribute_type).get(borrow(transaction), borrow_as_value(value).clone()),
-    ))
+    release(capture(|| {
+        ConceptPromise::attribute(
+            borrow_as_attribute_type(attribute_type).get(borrow(transaction), borrow_as_value(value).clone()),
+        )
+    }))
 }
 
 /// Retrieves the most immediate supertype of the given ``AttributeType``.
@@ -505,7 +551,9 @@ pub extern "C" fn attribute_type_get_supertype(
     transaction: *mut Transaction<'static>,
     attribute_type: *const Concept,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::attribute_type(borrow_as_attribute_type(attribute_type).get_supertype(borrow(transaction))))
+    release(capture(|| {
+        ConceptPromise::attribute_type(borrow_as_attribute_type(attribute_type).get_supertype(borrow(transaction)))
+    }))
 }
 
 /// Sets the supplied <code>AttributeType</code> as the supertype of the current <code>AttributeType</code>.
@@ -515,10 +563,12 @@ pub extern "C" fn attribute_type_set_supertype(
     attribute_type: *mut Concept,
     supertype: *const Concept,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(
-        borrow_as_attribute_type_mut(attribute_type)
-            .set_supertype(borrow(transaction), borrow_as_attribute_type(supertype).clone()),
-    )))
+    release(capture(|| {
+        VoidPromise::new(Box::new(
+            borrow_as_attribute_type_mut(attribute_type)
+                .set_supertype(borrow(transaction), borrow_as_attribute_type(supertype).clone()),
+        ))
+    }))
 }
 
 /// Retrieves all supertypes of the given ``AttributeType``.
@@ -527,11 +577,11 @@ pub extern "C" fn attribute_type_get_supertypes(
     transaction: *mut Transaction<'static>,
     attribute_type: *const Concept,
 ) -> *mut ConceptIterator {
-    try_release(
+    try_release(capture(|| {
         borrow_as_attribute_type(attribute_type)
             .get_supertypes(borrow(transaction))
-            .map(ConceptIterator::attribute_types),
-    )
+            .map(ConceptIterator::attribute_types)
+    }))
 }
 
 /// Retrieves all direct and indirect (or direct only) subtypes of the given ``AttributeType``.
@@ -543,11 +593,11 @@ pub extern "C" fn attribute_type_get_subtypes(
     attribute_type: *const Concept,
     transitivity: Transitivity,
 ) -> *mut ConceptIterator {
-    try_release(
+    try_release(capture(|| {
         borrow_as_attribute_type(attribute_type)
             .get_subtypes(borrow(transaction), transitivity)
-            .map(ConceptIterator::attribute_types),
-    )
+            .map(ConceptIterator::attribute_types)
+    }))
 }
 
 /// Retrieves subtypes of this <code>AttributeType</code>
@@ -561,11 +611,11 @@ pub extern "C" fn attribute_type_get_subtypes_with_value_type(
     value_type: ValueType,
     transitivity: Transitivity,
 ) -> *mut ConceptIterator {
-    try_release(
+    try_release(capture(|| {
         borrow_as_attribute_type(attribute_type)
             .get_subtypes_with_value_type(borrow(transaction), value_type, transitivity)
-            .map(ConceptIterator::attribute_types),
-    )
+            .map(ConceptIterator::attribute_types)
+    }))
 }
 
 /// Retrieves all <code>Attribute</code> objects that are instances of this <code>AttributeType</code> or its subtypes.
@@ -577,11 +627,11 @@ pub extern "C" fn attribute_type_get_instances(
     attribute_type: *const Concept,
     transitivity: Transitivity,
 ) -> *mut ConceptIterator {
-    try_release(
+    try_release(capture(|| {
         borrow_as_attribute_type(attribute_type)
             .get_instances(borrow(transaction), transitivity)
-            .map(ConceptIterator::attributes),
-    )
+            .map(ConceptIterator::attributes)
+    }))
 }
 
 /// Retrieves the regular expression that is defined for this <code>AttributeType</code>.
@@ -590,7 +640,9 @@ pub extern "C" fn attribute_type_get_regex(
     transaction: *mut Transaction<'static>,
     attribute_type: *const Concept,
 ) -> *mut StringPromise {
-    release(StringPromise(Box::new(borrow_as_attribute_type(attribute_type).get_regex(borrow(transaction)))))
+    release(capture(|| {
+        StringPromise::new(Box::new(borrow_as_attribute_type(attribute_type).get_regex(borrow(transaction))))
+    }))
 }
 
 /// Sets a regular expression as a constraint for this <code>AttributeType</code>. <code>Value</code>s
@@ -602,9 +654,11 @@ pub extern "C" fn attribute_type_set_regex(
     attribute_type: *const Concept,
     regex: *const c_char,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(
-        borrow_as_attribute_type(attribute_type).set_regex(borrow(transaction), string_view(regex).to_owned()),
-    )))
+    release(capture(|| {
+        VoidPromise::new(Box::new(
+            borrow_as_attribute_type(attribute_type).set_regex(borrow(transaction), string_view(regex).to_owned()),
+        ))
+    }))
 }
 
 /// Removes the regular expression that is defined for this <code>AttributeType</code>.
@@ -613,7 +667,9 @@ pub extern "C" fn attribute_type_unset_regex(
     transaction: *mut Transaction<'static>,
     attribute_type: *const Concept,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(borrow_as_attribute_type(attribute_type).unset_regex(borrow(transaction)))))
+    release(capture(|| {
+        VoidPromise::new(Box::new(borrow_as_attribute_type(attribute_type).unset_regex(borrow(transaction))))
+    }))
 }
 
 /// Retrieve all <code>Things</code> that own an attribute of this <code>AttributeType</code>
@@ -630,11 +686,11 @@ pub extern "C" fn attribute_type_get_owners(
     annotations: *const *const Annotation,
 ) -> *mut ConceptIterator {
     let annotations = array_view(annotations).copied().collect();
-    try_release(
+    try_release(capture(|| {
         borrow_as_attribute_type(attribute_type)
             .get_owners(borrow(transaction), transitivity, annotations)
-            .map(ConceptIterator::thing_types),
-    )
+            .map(ConceptIterator::thing_types)
+    }))
 }
 
 /// Checks if the role type is the root role type, ""relation:role""
@@ -655,7 +711,7 @@ pub extern "C" fn role_type_is_deleted(
     transaction: *const Transaction<'static>,
     role_type: *const Concept,
 ) -> *mut BoolPromise {
-    release(BoolPromise(Box::new(borrow_as_role_type(role_type).is_deleted(borrow(transaction)))))
+    release(capture(|| BoolPromise::new(Box::new(borrow_as_role_type(role_type).is_deleted(borrow(transaction))))))
 }
 
 /// Retrieves the <code>RelationType</code> that this role is directly related to.
@@ -664,7 +720,9 @@ pub extern "C" fn role_type_get_relation_type(
     transaction: *mut Transaction<'static>,
     role_type: *const Concept,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::relation_type(borrow_as_role_type(role_type).get_relation_type(borrow(transaction))))
+    release(capture(|| {
+        ConceptPromise::relation_type(borrow_as_role_type(role_type).get_relation_type(borrow(transaction)))
+    }))
 }
 
 /// Deletes this role type from the database.
@@ -673,7 +731,7 @@ pub extern "C" fn role_type_delete(
     transaction: *mut Transaction<'static>,
     role_type: *const Concept,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(borrow_as_role_type(role_type).delete(borrow(transaction)))))
+    release(capture(|| VoidPromise::new(Box::new(borrow_as_role_type(role_type).delete(borrow(transaction))))))
 }
 
 /// Gets the 'scope' of this role type.
@@ -696,9 +754,11 @@ pub extern "C" fn role_type_set_label(
     role_type: *const Concept,
     new_label: *const c_char,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(
-        borrow_as_role_type(role_type).set_label(borrow(transaction), string_view(new_label).to_owned()),
-    )))
+    release(capture(|| {
+        VoidPromise::new(Box::new(
+            borrow_as_role_type(role_type).set_label(borrow(transaction), string_view(new_label).to_owned()),
+        ))
+    }))
 }
 
 /// Retrieves the most immediate supertype of the given ``RoleType``.
@@ -707,7 +767,7 @@ pub extern "C" fn role_type_get_supertype(
     transaction: *mut Transaction<'static>,
     role_type: *const Concept,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::role_type(borrow_as_role_type(role_type).get_supertype(borrow(transaction))))
+    release(capture(|| ConceptPromise::role_type(borrow_as_role_type(role_type).get_supertype(borrow(transaction)))))
 }
 
 /// Retrieves all supertypes of the given ``RoleType``.
@@ -716,7 +776,9 @@ pub extern "C" fn role_type_get_supertypes(
     transaction: *mut Transaction<'static>,
     role_type: *const Concept,
 ) -> *mut ConceptIterator {
-    try_release(borrow_as_role_type(role_type).get_supertypes(borrow(transaction)).map(ConceptIterator::role_types))
+    try_release(capture(|| {
+        borrow_as_role_type(role_type).get_supertypes(borrow(transaction)).map(ConceptIterator::role_types)
+    }))
 }
 
 /// Retrieves all direct and indirect (or direct only) subtypes of the given ``RoleType``.
@@ -728,9 +790,9 @@ pub extern "C" fn role_type_get_subtypes(
     role_type: *const Concept,
     transitivity: Transitivity,
 ) -> *mut ConceptIterator {
-    try_release(
-        borrow_as_role_type(role_type).get_subtypes(borrow(transaction), transitivity).map(ConceptIterator::role_types),
-    )
+    try_release(capture(|| {
+        borrow_as_role_type(role_type).get_subtypes(borrow(transaction), transitivity).map(ConceptIterator::role_types)
+    }))
 }
 
 /// Retrieves <code>RelationType</code>s that this role is related to (directly or indirectly).
@@ -739,9 +801,9 @@ pub extern "C" fn role_type_get_relation_types(
     transaction: *mut Transaction<'static>,
     role_type: *const Concept,
 ) -> *mut ConceptIterator {
-    try_release(
-        borrow_as_role_type(role_type).get_relation_types(borrow(transaction)).map(ConceptIterator::relation_types),
-    )
+    try_release(capture(|| {
+        borrow_as_role_type(role_type).get_relation_types(borrow(transaction)).map(ConceptIterator::relation_types)
+    }))
 }
 
 /// Retrieves the <code>ThingType</code>s whose instances play this role.
@@ -753,11 +815,11 @@ pub extern "C" fn role_type_get_player_types(
     role_type: *const Concept,
     transitivity: Transitivity,
 ) -> *mut ConceptIterator {
-    try_release(
+    try_release(capture(|| {
         borrow_as_role_type(role_type)
             .get_player_types(borrow(transaction), transitivity)
-            .map(ConceptIterator::thing_types),
-    )
+            .map(ConceptIterator::thing_types)
+    }))
 }
 
 /// Retrieves the <code>Relation</code> instances that this role is related to.
@@ -769,11 +831,11 @@ pub extern "C" fn role_type_get_relation_instances(
     role_type: *const Concept,
     transitivity: Transitivity,
 ) -> *mut ConceptIterator {
-    try_release(
+    try_release(capture(|| {
         borrow_as_role_type(role_type)
             .get_relation_instances(borrow(transaction), transitivity)
-            .map(ConceptIterator::relations),
-    )
+            .map(ConceptIterator::relations)
+    }))
 }
 
 /// Retrieves the <code>Thing</code> instances that play this role.
@@ -785,9 +847,9 @@ pub extern "C" fn role_type_get_player_instances(
     role_type: *const Concept,
     transitivity: Transitivity,
 ) -> *mut ConceptIterator {
-    try_release(
+    try_release(capture(|| {
         borrow_as_role_type(role_type)
             .get_player_instances(borrow(transaction), transitivity)
-            .map(ConceptIterator::things),
-    )
+            .map(ConceptIterator::things)
+    }))
 }
@@ -17,14 +17,15 @@
  * under the License.
  */
 
-use std::{ffi::c_char, path::Path};
+use std::{ffi::c_char, path::Path, ptr::addr_of_mut};
 
 use itertools::Itertools;
-use typedb_driver::{Connection, Credential};
+use typedb_driver::{box_stream, ChannelMetrics, ChannelPool, ChannelSelection, Connection, Credential, NetworkRuntime};
 
 use super::{
     error::{try_release, unwrap_void},
-    memory::{borrow, free, release, string_array_view, string_view},
+    iterator::{iterator_next, CIterator},
+    memory::{borrow, free, release, release_string, string_array_view, string_view},
 };
 
 /// Open a TypeDB Driver to a TypeDB Core server available at the provided address.
@@ -35,6 +36,45 @@ pub extern "C" fn connection_open_core(address: *const c_char) -> *mut Connectio
     try_release(Connection::new_core(string_view(address)))
 }
 
+/// Open a TypeDB Driver to a TypeDB Core server available at the provided address, with its network I/O
+/// run by a runtime of the specified kind.
+///
+/// @param address The address of the TypeDB server
+/// @param multi_thread Whether network I/O is spread over a pool of threads rather than run on a single thread
+/// @param worker_threads The number of threads in the pool. Only used if <code>multi_thread</code> is set
+#[no_mangle]
+pub extern "C" fn connection_open_core_with_runtime(
+    address: *const c_char,
+    multi_thread: bool,
+    worker_threads: i64,
+) -> *mut Connection {
+    try_release(Connection::new_core_with_runtime(string_view(address), network_runtime(multi_thread, worker_threads)))
+}
+
+/// Open a TypeDB Driver to a TypeDB Core server available at the provided address, with its network I/O
+/// run by a runtime of the specified kind and spread over a pool of channels.
+///
+/// @param address The address of the TypeDB server
+/// @param multi_thread Whether network I/O is spread over a pool of threads rather than run on a single thread
+/// @param worker_threads The number of threads in the pool. Only used if <code>multi_thread</code> is set
+/// @param channel_pool_size The number of channels opened to the server
+/// @param least_loaded Whether each request uses the channel with the fewest open transactions and unanswered
+/// requests, rather than each channel in turn
+#[no_mangle]
+pub extern "C" fn connection_open_core_with_channel_pool(
+    address: *const c_char,
+    multi_thread: bool,
+    worker_threads: i64,
+    channel_pool_size: i64,
+    least_loaded: bool,
+) -> *mut Connection {
+    try_release(Connection::new_core_with_channel_pool(
+        string_view(address),
+        network_runtime(multi_thread, worker_threads),
+        channel_pool(channel_pool_size, least_loaded),
+    ))
+}
+
 /// Open a TypeDB Driver to TypeDB Cloud server(s) available at the provided addresses, using
 /// the provided credential.
 ///
@@ -49,6 +89,57 @@ pub extern "C" fn connection_open_cloud(
     try_release(Connection::new_cloud(&addresses, borrow(credential).clone()))
 }
 
+/// Open a TypeDB Driver to TypeDB Cloud server(s) available at the provided addresses, using
+/// the provided credential, with its network I/O run by a runtime of the specified kind.
+///
+/// @param addresses a null-terminated array holding the address(es) of the TypeDB server(s)
+/// @param credential The <code>Credential</code> to connect with
+/// @param multi_thread Whether network I/O is spread over a pool of threads rather than run on a single thread
+/// @param worker_threads The number of threads in the pool. Only used if <code>multi_thread</code> is set
+#[no_mangle]
+pub extern "C" fn connection_open_cloud_with_runtime(
+    addresses: *const *const c_char,
+    credential: *const Credential,
+    multi_thread: bool,
+    worker_threads: i64,
+) -> *mut Connection {
+    let addresses: Vec<&str> = string_array_view(addresses).collect();
+    try_release(Connection::new_cloud_with_runtime(
+        &addresses,
+        borrow(credential).clone(),
+        network_runtime(multi_thread, worker_threads),
+    ))
+}
+
+/// Open a TypeDB Driver to TypeDB Cloud server(s) available at the provided addresses, using
+/// the provided credential, with its network I/O run by a runtime of the specified kind and spread over
+/// a pool of channels to each server.
+///
+/// @param addresses a null-terminated array holding the address(es) of the TypeDB server(s)
+/// @param credential The <code>Credential</code> to connect with
+/// @param multi_thread Whether network I/O is spread over a pool of threads rather than run on a single thread
+/// @param worker_threads The number of threads in the pool. Only used if <code>multi_thread</code> is set
+/// @param channel_pool_size The number of channels opened to each server
+/// @param least_loaded Whether each request uses the channel with the fewest open transactions and unanswered
+/// requests, rather than each channel in turn
+#[no_mangle]
+pub extern "C" fn connection_open_cloud_with_channel_pool(
+    addresses: *const *const c_char,
+    credential: *const Credential,
+    multi_thread: bool,
+    worker_threads: i64,
+    channel_pool_size: i64,
+    least_loaded: bool,
+) -> *mut Connection {
+    let addresses: Vec<&str> = string_array_view(addresses).collect();
+    try_release(Connection::new_cloud_with_channel_pool(
+        &addresses,
+        borrow(credential).clone(),
+        network_runtime(multi_thread, worker_threads),
+        channel_pool(channel_pool_size, least_loaded),
+    ))
+}
+
 /// Open a TypeDB Driver to TypeDB Cloud server(s), using provided address translation, with
 /// the provided credential.
 ///
@@ -67,6 +158,78 @@ pub extern "C" fn connection_open_cloud_translated(
     try_release(Connection::new_cloud_with_translation(addresses, borrow(credential).clone()))
 }
 
+/// Open a TypeDB Driver to TypeDB Cloud server(s), using provided address translation, with
+/// the provided credential, with its network I/O run by a runtime of the specified kind.
+///
+/// @param public_addresses A null-terminated array holding the address(es) of the TypeDB server(s)
+/// the driver will connect to. This array <i>must</i> have the same length as <code>advertised_addresses</code>
+/// @param private_addresses A null-terminated array holding the address(es) the TypeDB server(s)
+/// are configured to advertise
+/// @param credential The <code>Credential</code> to connect with
+/// @param multi_thread Whether network I/O is spread over a pool of threads rather than run on a single thread
+/// @param worker_threads The number of threads in the pool. Only used if <code>multi_thread</code> is set
+#[no_mangle]
+pub extern "C" fn connection_open_cloud_translated_with_runtime(
+    public_addresses: *const *const c_char,
+    private_addresses: *const *const c_char,
+    credential: *const Credential,
+    multi_thread: bool,
+    worker_threads: i64,
+) -> *mut Connection {
+    let addresses = string_array_view(public_addresses).zip_eq(string_array_view(private_addresses)).collect();
+    try_release(Connection::new_cloud_with_translation_and_runtime(
+        addresses,
+        borrow(credential).clone(),
+        network_runtime(multi_thread, worker_threads),
+    ))
+}
+
+/// Open a TypeDB Driver to TypeDB Cloud server(s), using provided address translation, with
+/// the provided credential, with its network I/O run by a runtime of the specified kind and spread over
+/// a pool of channels to each server.
+///
+/// @param public_addresses A null-terminated array holding the address(es) of the TypeDB server(s)
+/// the driver will connect to. This array <i>must</i> have the same length as <code>advertised_addresses</code>
+/// @param private_addresses A null-terminated array holding the address(es) the TypeDB server(s)
+/// are configured to advertise
+/// @param credential The <code>Credential</code> to connect with
+/// @param multi_thread Whether network I/O is spread over a pool of threads rather than run on a single thread
+/// @param worker_threads The number of threads in the pool. Only used if <code>multi_thread</code> is set
+/// @param channel_pool_size The number of channels opened to each server
+/// @param least_loaded Whether each request uses the channel with the fewest open transactions and unanswered
+/// requests, rather than each channel in turn
+#[no_mangle]
+pub extern "C" fn connection_open_cloud_translated_with_channel_pool(
+    public_addresses: *const *const c_char,
+    private_addresses: *const *const c_char,
+    credential: *const Credential,
+    multi_thread: bool,
+    worker_threads: i64,
+    channel_pool_size: i64,
+    least_loaded: bool,
+) -> *mut Connection {
+    let addresses = string_array_view(public_addresses).zip_eq(string_array_view(private_addresses)).collect();
+    try_release(Connection::new_cloud_with_translation_and_channel_pool(
+        addresses,
+        borrow(credential).clone(),
+        network_runtime(multi_thread, worker_threads),
+        channel_pool(channel_pool_size, least_loaded),
+    ))
+}
+
+fn network_runtime(multi_thread: bool, worker_threads: i64) -> NetworkRuntime {
+    if multi_thread {
+        NetworkRuntime::MultiThread { worker_threads: worker_threads.max(1) as usize }
+    } else {
+        NetworkRuntime::CurrentThread
+    }
+}
+
+fn channel_pool(size: i64, least_loaded: bool) -> ChannelPool {
+    let selection = if least_loaded { ChannelSelection::LeastLoaded } else { ChannelSelection::RoundRobin };
+    ChannelPool { size: size.max(1) as usize, selection }
+}
+
 /// Closes the driver. Before instantiating a new driver, the driver that’s currently open should first be closed.
 /// Closing a connction frees the underlying rust object.
 #[no_mangle]
@@ -86,6 +249,70 @@ pub extern "C" fn connection_force_close(connection: *mut Connection) {
     unwrap_void(borrow(connection).force_close());
 }
 
+/// Iterator over the <code>ChannelMetrics</code> of each channel a connection has opened.
+pub struct ChannelMetricsIterator(CIterator<ChannelMetrics>);
+
+/// Forwards the <code>ChannelMetricsIterator</code> and returns the next <code>ChannelMetrics</code> if it exists,
+/// or null if there are no more elements.
+#[no_mangle]
+pub extern "C" fn channel_metrics_iterator_next(it: *mut ChannelMetricsIterator) -> *mut ChannelMetrics {
+    unsafe { iterator_next(addr_of_mut!((*it).0)) }
+}
+
+/// Frees the native rust <code>ChannelMetricsIterator</code> object
+#[no_mangle]
+pub extern "C" fn channel_metrics_iterator_drop(it: *mut ChannelMetricsIterator) {
+    free(it);
+}
+
+/// Returns the usage of every channel this connection has opened, to each of its servers.
+#[no_mangle]
+pub extern "C" fn connection_channel_metrics(connection: *const Connection) -> *mut ChannelMetricsIterator {
+    release(ChannelMetricsIterator(CIterator::new(box_stream(borrow(connection).channel_metrics().into_iter()))))
+}
+
+/// Frees the native rust <code>ChannelMetrics</code> object
+#[no_mangle]
+pub extern "C" fn channel_metrics_drop(channel_metrics: *mut ChannelMetrics) {
+    free(channel_metrics);
+}
+
+/// The server the channel is connected to
+#[no_mangle]
+pub extern "C" fn channel_metrics_get_server(channel_metrics: *const ChannelMetrics) -> *mut c_char {
+    release_string(borrow(channel_metrics).server.to_string())
+}
+
+/// The position of the channel in the pool of its server
+#[no_mangle]
+pub extern "C" fn channel_metrics_get_index(channel_metrics: *const ChannelMetrics) -> i64 {
+    borrow(channel_metrics).index as i64
+}
+
+/// The number of transactions currently open over the channel
+#[no_mangle]
+pub extern "C" fn channel_metrics_get_open_transactions(channel_metrics: *const ChannelMetrics) -> i64 {
+    borrow(channel_metrics).open_transactions as i64
+}
+
+/// The number of transactions opened over the channel since the connection was opened
+#[no_mangle]
+pub extern "C" fn channel_metrics_get_total_transactions(channel_metrics: *const ChannelMetrics) -> i64 {
+    borrow(channel_metrics).total_transactions as i64
+}
+
+/// The number of requests, other than transactions, that were sent over the channel and await a response
+#[no_mangle]
+pub extern "C" fn channel_metrics_get_pending_requests(channel_metrics: *const ChannelMetrics) -> i64 {
+    borrow(channel_metrics).pending_requests as i64
+}
+
+/// The number of requests, other than transactions, sent over the channel since the connection was opened
+#[no_mangle]
+pub extern "C" fn channel_metrics_get_total_requests(channel_metrics: *const ChannelMetrics) -> i64 {
+    borrow(channel_metrics).total_requests as i64
+}
+
 /// Creates a new <code>Credential</code> for connecting to TypeDB Cloud.
 ///
 /// @param username The name of the user to connect as
@@ -83,7 +83,7 @@ pub extern "C" fn replica_info_iterator_drop(it: *mut ReplicaInfoIterator) {
 /// <b>Only works in TypeDB Cloud</b>
 #[no_mangle]
 pub extern "C" fn database_get_replicas_info(database: *const Database) -> *mut ReplicaInfoIterator {
-    release(ReplicaInfoIterator(CIterator(box_stream(borrow(database).replicas_info().into_iter()))))
+    release(ReplicaInfoIterator(CIterator::new(box_stream(borrow(database).replicas_info().into_iter()))))
 }
 
 /// Returns the primary replica for this database.
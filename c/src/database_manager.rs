@@ -59,7 +59,7 @@ pub extern "C" fn database_iterator_drop(it: *mut DatabaseIterator) {
 /// Returns a <code>DatabaseIterator</code> over all databases present on the TypeDB server
 #[no_mangle]
 pub extern "C" fn databases_all(databases: *mut DatabaseManager) -> *mut DatabaseIterator {
-    try_release(borrow_mut(databases).all().map(|dbs| DatabaseIterator(CIterator(box_stream(dbs.into_iter())))))
+    try_release(borrow_mut(databases).all().map(|dbs| DatabaseIterator(CIterator::new(box_stream(dbs.into_iter())))))
 }
 
 /// Create a database with the given name
@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+use std::{borrow::Cow, collections::HashMap, ptr::slice_from_raw_parts_mut};
+
+use itertools::Itertools;
+use typedb_driver::{
+    answer::{ConceptMap, JSON},
+    concept::{Concept, Value},
+};
+
+use super::{concept::ConceptKind, memory::free};
+
+/// A contiguous array of bytes owned by the driver, such as an encoded batch of answers.
+/// Must be freed with \ref byte_array_drop(ByteArray*).
+#[repr(C)]
+pub struct ByteArray {
+    /// Pointer to the first byte of the array.
+    pub data: *mut u8,
+    /// Number of bytes in the array.
+    pub len: usize,
+}
+
+impl From<Vec<u8>> for ByteArray {
+    fn from(bytes: Vec<u8>) -> Self {
+        let len = bytes.len();
+        Self { data: Box::into_raw(bytes.into_boxed_slice()) as *mut u8, len }
+    }
+}
+
+impl Drop for ByteArray {
+    fn drop(&mut self) {
+        if !self.data.is_null() {
+            unsafe { drop(Box::from_raw(slice_from_raw_parts_mut(self.data, self.len))) }
+        }
+    }
+}
+
+/// Frees the native rust <code>ByteArray</code> object and the bytes it holds.
+#[no_mangle]
+pub extern "C" fn byte_array_drop(array: *mut ByteArray) {
+    free(array);
+}
+
+/// Marks a variable which is not bound in a given row of an encoded batch.
+const ABSENT: u8 = u8::MAX;
+
+/// Little-endian binary encoder shared by the compact answer encodings.
+/// Strings and byte arrays are length-prefixed with a <code>u32</code>.
+#[derive(Default)]
+pub(super) struct Encoder {
+    buffer: Vec<u8>,
+}
+
+impl Encoder {
+    pub(super) fn put_u8(&mut self, value: u8) {
+        self.buffer.push(value);
+    }
+
+    pub(super) fn put_u32(&mut self, value: u32) {
+        self.buffer.extend_from_slice(&value.to_le_bytes());
+    }
+
+    pub(super) fn put_i64(&mut self, value: i64) {
+        self.buffer.extend_from_slice(&value.to_le_bytes());
+    }
+
+    pub(super) fn put_f64(&mut self, value: f64) {
+        self.buffer.extend_from_slice(&value.to_le_bytes());
+    }
+
+    pub(super) fn put_bytes(&mut self, bytes: &[u8]) {
+        self.put_u32(bytes.len() as u32);
+        self.buffer.extend_from_slice(bytes);
+    }
+
+    pub(super) fn put_str(&mut self, string: &str) {
+        self.put_bytes(string.as_bytes());
+    }
+
+    /// Encodes a value as its <code>ValueType</code> tag followed by the payload: a byte for booleans,
+    /// an <code>i64</code> for longs and datetimes (as epoch millis), an <code>f64</code> for doubles, or a string.
+    pub(super) fn put_value(&mut self, value: &Value) {
+        self.put_u8(value.get_type() as u8);
+        match value {
+            Value::Boolean(bool) => self.put_u8(*bool as u8),
+            Value::Long(long) => self.put_i64(*long),
+            Value::Double(double) => self.put_f64(*double),
+            Value::String(string) => self.put_str(string),
+            Value::DateTime(date_time) => self.put_i64(date_time.and_utc().timestamp_millis()),
+        }
+    }
+
+    /// Encodes the output of <code>encode</code> prefixed with its length in bytes,
+    /// which lets the decoder skip over it without decoding it.
+    pub(super) fn put_sized(&mut self, encode: impl FnOnce(&mut Self)) {
+        let start = self.buffer.len();
+        self.put_u32(0);
+        encode(self);
+        let len = (self.buffer.len() - start - 4) as u32;
+        self.buffer[start..start + 4].copy_from_slice(&len.to_le_bytes());
+    }
+
+    pub(super) fn finish(self) -> Vec<u8> {
+        self.buffer
+    }
+}
+
+/// Encodes a batch of <code>ConceptMap</code>s column by column, one column per variable bound in any answer:
+///
+/// ```text
+/// u32 rows, u32 columns
+/// per column:
+///     str variable
+///     rows x u8 ConceptKind, or 0xFF if unbound
+///     rows x u32 index into the label dictionary, or 0xFFFFFFFF if the row has no label
+///     rows x u32 end offset of the row's IID, then bytes IIDs of all rows, concatenated
+///     per row bound to an Attribute or a Value, in row order: value
+/// u32 labels, then per label: str label
+/// ```
+///
+/// Things are labelled with the label of their type, and role types with their scoped label.
+pub(super) fn encode_concept_map_columns(concept_maps: &[ConceptMap]) -> Vec<u8> {
+    // answers to disjunctions need not bind the same variables, so a variable missing from one answer may be bound
+    // in the next
+    let variables = concept_maps.iter().flat_map(|concept_map| concept_map.map.keys()).sorted().dedup().collect_vec();
+    let mut labels = LabelDictionary::default();
+    let mut encoder = Encoder::default();
+    encoder.put_u32(concept_maps.len() as u32);
+    encoder.put_u32(variables.len() as u32);
+    for variable in variables {
+        encoder.put_str(variable);
+        let concepts = concept_maps.iter().map(|concept_map| concept_map.map.get(variable)).collect_vec();
+        for concept in &concepts {
+            encoder.put_u8(concept.map_or(ABSENT, |concept| ConceptKind::from(concept) as u8));
+        }
+        for concept in &concepts {
+            encoder.put_u32(concept.and_then(|concept| labels.index(concept)).unwrap_or(NO_LABEL));
+        }
+        let mut iids = Vec::new();
+        for concept in &concepts {
+            if let Some(iid) = concept.and_then(thing_iid) {
+                iids.extend_from_slice(iid);
+            }
+            encoder.put_u32(iids.len() as u32);
+        }
+        encoder.put_bytes(&iids);
+        for concept in concepts.into_iter().flatten() {
+            match concept {
+                Concept::Attribute(attribute) => encoder.put_value(&attribute.value),
+                Concept::Value(value) => encoder.put_value(value),
+                _ => (),
+            }
+        }
+    }
+    encoder.put_u32(labels.labels.len() as u32);
+    for label in &labels.labels {
+        encoder.put_str(label);
+    }
+    encoder.finish()
+}
+
+/// Marks a row of an encoded batch which has no label.
+const NO_LABEL: u32 = u32::MAX;
+
+/// The distinct labels of a batch, which repeat across rows and are therefore encoded once.
+#[derive(Default)]
+struct LabelDictionary {
+    labels: Vec<String>,
+    indices: HashMap<String, u32>,
+}
+
+impl LabelDictionary {
+    fn index(&mut self, concept: &Concept) -> Option<u32> {
+        let label = match concept {
+            Concept::Entity(entity) => Cow::Borrowed(entity.type_.label.as_str()),
+            Concept::Relation(relation) => Cow::Borrowed(relation.type_.label.as_str()),
+            Concept::Attribute(attribute) => Cow::Borrowed(attribute.type_.label.as_str()),
+            Concept::Value(_) => return None,
+            Concept::RootThingType(_) => Cow::Borrowed("thing"),
+            Concept::EntityType(entity_type) => Cow::Borrowed(entity_type.label.as_str()),
+            Concept::RelationType(relation_type) => Cow::Borrowed(relation_type.label.as_str()),
+            Concept::AttributeType(attribute_type) => Cow::Borrowed(attribute_type.label.as_str()),
+            Concept::RoleType(role_type) => Cow::Owned(role_type.label.to_string()),
+        };
+        if let Some(&index) = self.indices.get(label.as_ref()) {
+            return Some(index);
+        }
+        let index = self.labels.len() as u32;
+        self.indices.insert(label.to_string(), index);
+        self.labels.push(label.into_owned());
+        Some(index)
+    }
+}
+
+fn thing_iid(concept: &Concept) -> Option<&[u8]> {
+    match concept {
+        Concept::Entity(entity) => Some(entity.iid.as_bytes()),
+        Concept::Relation(relation) => Some(relation.iid.as_bytes()),
+        Concept::Attribute(attribute) => Some(attribute.iid.as_bytes()),
+        _ => None,
+    }
+}
+
+/// Encodes a <code>JSON</code> tree as a tag byte followed by its payload:
+///
+/// ```text
+/// 0 Object:  u32 size, then per member: str key, u32 length, value
+/// 1 Array:   u32 size, then per element: u32 length, value
+/// 2 String:  str
+/// 3 Number:  f64
+/// 4 Boolean: u8
+/// 5 Null
+/// ```
+///
+/// Members and elements are length-prefixed so that the decoder can index a container without decoding its contents.
+pub(super) fn encode_json(json: &JSON) -> Vec<u8> {
+    let mut encoder = Encoder::default();
+    encode_json_node(&mut encoder, json);
+    encoder.finish()
+}
+
+fn encode_json_node(encoder: &mut Encoder, json: &JSON) {
+    match json {
+        JSON::Object(object) => {
+            encoder.put_u8(0);
+            encoder.put_u32(object.len() as u32);
+            for (key, value) in object {
+                encoder.put_str(key);
+                encoder.put_sized(|encoder| encode_json_node(encoder, value));
+            }
+        }
+        JSON::Array(array) => {
+            encoder.put_u8(1);
+            encoder.put_u32(array.len() as u32);
+            for value in array {
+                encoder.put_sized(|encoder| encode_json_node(encoder, value));
+            }
+        }
+        JSON::String(string) => {
+            encoder.put_u8(2);
+            encoder.put_str(string);
+        }
+        JSON::Number(number) => {
+            encoder.put_u8(3);
+            encoder.put_f64(*number);
+        }
+        JSON::Boolean(boolean) => {
+            encoder.put_u8(4);
+            encoder.put_u8(*boolean as u8);
+        }
+        JSON::Null => encoder.put_u8(5),
+    }
+}
+
+/// Renders a JSON answer as compact single-line UTF-8 JSON text, with keys and strings escaped by `serde_json`.
+pub(super) fn encode_json_text(json: &JSON) -> Vec<u8> {
+    serde_json::to_vec(&to_serde_json(json)).expect("a JSON value always serialises")
+}
+
+fn to_serde_json(json: &JSON) -> serde_json::Value {
+    match json {
+        JSON::Object(object) => serde_json::Value::Object(
+            object.iter().map(|(key, value)| (key.to_string(), to_serde_json(value))).collect(),
+        ),
+        JSON::Array(array) => serde_json::Value::Array(array.iter().map(to_serde_json).collect()),
+        JSON::String(string) => serde_json::Value::String(string.to_string()),
+        // keep integral numbers, such as longs, free of a trailing `.0`
+        JSON::Number(number) if number.fract() == 0.0 && number.abs() < (1u64 << 53) as f64 => {
+            serde_json::Value::from(*number as i64)
+        }
+        JSON::Number(number) => {
+            serde_json::Number::from_f64(*number).map_or(serde_json::Value::Null, serde_json::Value::Number)
+        }
+        JSON::Boolean(boolean) => serde_json::Value::Bool(*boolean),
+        JSON::Null => serde_json::Value::Null,
+    }
+}
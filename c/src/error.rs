@@ -48,7 +48,7 @@ fn ok_record<T>(result: Result<T>) -> Option<T> {
     }
 }
 
-fn ok_record_flatten<T>(result: Option<Result<T>>) -> Option<T> {
+pub(super) fn ok_record_flatten<T>(result: Option<Result<T>>) -> Option<T> {
     result.and_then(ok_record)
 }
 
@@ -76,7 +76,7 @@ pub(super) fn unwrap_void(result: Result) {
     ok_record(result);
 }
 
-fn record_error(err: Error) {
+pub(super) fn record_error(err: Error) {
     trace!("Encountered error {err} in typedb-driver-rust");
     LAST_ERROR.with(|prev| *prev.borrow_mut() = Some(err));
 }
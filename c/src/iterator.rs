@@ -17,19 +17,109 @@
  * under the License.
  */
 
-use typedb_driver::{BoxStream, Result};
+use std::ptr::null_mut;
+
+use typedb_driver::{BoxStream, ResponseSignal, Result};
 
 use super::{
-    error::try_release_optional,
-    memory::{borrow_mut, release_optional},
+    error::{record_error, try_release_optional},
+    memory::{borrow, borrow_mut, release_array, release_optional},
+    signal::Signalled,
 };
 
-pub struct CIterator<T: 'static>(pub(super) BoxStream<'static, T>);
+pub struct CIterator<T: 'static> {
+    stream: BoxStream<'static, T>,
+    signal: ResponseSignal,
+    // the number of elements taken from the stream, including the deferred one
+    taken: u64,
+    // an element taken from the stream but not yet returned, such as an error that ended a batch
+    deferred: Option<T>,
+}
+
+impl<T: 'static> CIterator<T> {
+    pub(super) fn new(stream: BoxStream<'static, T>) -> Self {
+        Self { stream, signal: ResponseSignal::default(), taken: 0, deferred: None }
+    }
+}
+
+impl<T: 'static> Signalled for CIterator<T> {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.signal = signal;
+    }
+}
+
+impl<T: 'static> Iterator for CIterator<T> {
+    type Item = T;
+
+    fn next(&mut self) -> Option<T> {
+        if let Some(deferred) = self.deferred.take() {
+            return Some(deferred);
+        }
+        let next = self.stream.next();
+        if next.is_some() {
+            self.taken += 1;
+        }
+        next
+    }
+}
 
 pub(super) fn iterator_next<T: 'static>(it: *mut CIterator<T>) -> *mut T {
-    release_optional(borrow_mut(it).0.next())
+    release_optional(borrow_mut(it).next())
 }
 
 pub(super) fn iterator_try_next<T: 'static>(it: *mut CIterator<Result<T>>) -> *mut T {
-    try_release_optional(borrow_mut(it).0.next())
+    try_release_optional(borrow_mut(it).next())
+}
+
+/// Calls <code>callback(callback_id)</code> once the next element of the iterator is available, after which the next
+/// call to <code>next</code> returns without blocking. No thread is held while the iterator waits on the server: the
+/// driver runs the callback once the next response of the stream has arrived, or right away if the iterator still
+/// holds elements of the previous one. The elements the iterator has taken are counted against the answers the driver
+/// has received, so this does not rely on the stream reporting how many elements it holds.
+pub(super) fn iterator_on_next<T: 'static>(it: *mut CIterator<T>, callback_id: usize, callback: extern "C" fn(usize)) {
+    let it = borrow(it);
+    if it.deferred.is_some() {
+        callback(callback_id);
+    } else {
+        it.signal.on_next_ready(it.taken, move || callback(callback_id));
+    }
+}
+
+/// Pulls up to `max_size` elements from the iterator in a single call, returning them as a null-terminated array,
+/// or null if there are no more elements.
+pub(super) fn iterator_try_next_batch<T: Send + 'static>(
+    it: *mut CIterator<Result<T>>,
+    max_size: usize,
+) -> *mut *mut T {
+    try_next_batch(borrow_mut(it), max_size).map(release_array).unwrap_or_else(null_mut)
+}
+
+/// Pulls up to `max_size` elements from the iterator, blocking until `max_size` elements are available or the
+/// iterator is exhausted. Returns `None` if there are no more elements, or if an error was encountered before any
+/// element was collected, in which case the error is recorded.
+/// If an error is encountered after some elements have been collected, the collected elements are returned and the
+/// error is reported on the next call instead.
+pub(super) fn try_next_batch<T: Send + 'static>(it: &mut CIterator<Result<T>>, max_size: usize) -> Option<Vec<T>> {
+    let mut batch = Vec::with_capacity(max_size.min(BATCH_PREALLOCATION_LIMIT));
+    while batch.len() < max_size {
+        match it.next() {
+            Some(Ok(next)) => batch.push(next),
+            Some(Err(err)) if batch.is_empty() => {
+                record_error(err);
+                return None;
+            }
+            Some(Err(err)) => {
+                it.deferred = Some(Err(err));
+                break;
+            }
+            None => break,
+        }
+    }
+    if batch.is_empty() {
+        None
+    } else {
+        Some(batch)
+    }
 }
+
+const BATCH_PREALLOCATION_LIMIT: usize = 1024;
@@ -18,11 +18,13 @@
  */
 
 mod answer;
+mod arena;
 mod common;
 mod concept;
 mod connection;
 mod database;
 mod database_manager;
+mod encoding;
 mod error;
 mod iterator;
 mod logic;
@@ -31,6 +33,7 @@ mod options;
 mod promise;
 mod query;
 mod session;
+mod signal;
 mod transaction;
 mod user;
 mod user_manager;
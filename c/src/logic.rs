@@ -20,17 +20,19 @@
 use std::{ffi::c_char, ptr::addr_of_mut};
 
 use typedb_driver::{
-    box_stream, logic::Rule, transaction::logic::api::RuleAPI, BoxPromise, Error, Promise, Result, Transaction,
+    box_stream, logic::Rule, transaction::logic::api::RuleAPI, BoxPromise, Error, Promise, ResponseSignal, Result,
+    Transaction,
 };
 
 use super::{
     error::{try_release, try_release_optional},
-    iterator::{iterator_try_next, CIterator},
+    iterator::{iterator_on_next, iterator_try_next, CIterator},
     memory::{borrow, borrow_mut, free, release_string, string_view},
 };
 use crate::{
     memory::{release, take_ownership},
-    promise::{BoolPromise, VoidPromise},
+    promise::{promise_on_complete, BoolPromise, VoidPromise},
+    signal::{capture, Signalled},
 };
 
 /// Frees the native rust <code>ReplicaInfoIterator</code> object.
@@ -70,24 +72,38 @@ pub extern "C" fn rule_set_label(
     rule: *mut Rule,
     new_label: *const c_char,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(borrow_mut(rule).set_label(borrow(transaction), string_view(new_label).to_owned()))))
+    release(capture(|| {
+        VoidPromise::new(Box::new(borrow_mut(rule).set_label(borrow(transaction), string_view(new_label).to_owned())))
+    }))
 }
 
 /// Deletes this rule.
 #[no_mangle]
 pub extern "C" fn rule_delete(transaction: *const Transaction<'static>, rule: *mut Rule) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(borrow_mut(rule).delete(borrow(transaction)))))
+    release(capture(|| VoidPromise::new(Box::new(borrow_mut(rule).delete(borrow(transaction))))))
 }
 
 /// Check if this rule has been deleted.
 #[no_mangle]
 pub extern "C" fn rule_is_deleted(transaction: *const Transaction<'static>, rule: *mut Rule) -> *mut BoolPromise {
-    release(BoolPromise(Box::new(borrow_mut(rule).is_deleted(borrow(transaction)))))
+    release(capture(|| BoolPromise::new(Box::new(borrow_mut(rule).is_deleted(borrow(transaction))))))
 }
 
 /// Promise object representing the result of an asynchronous operation.
 /// Use \ref rule_promise_resolve(RulePromise*) to wait for and retrieve the resulting <code>Rule</code>.
-pub struct RulePromise(BoxPromise<'static, Result<Option<Rule>>>);
+pub struct RulePromise(BoxPromise<'static, Result<Option<Rule>>>, ResponseSignal);
+
+impl RulePromise {
+    fn new(promise: BoxPromise<'static, Result<Option<Rule>>>) -> Self {
+        Self(promise, ResponseSignal::default())
+    }
+}
+
+impl Signalled for RulePromise {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.1 = signal;
+    }
+}
 
 /// Waits for and returns the result of the operation represented by the <code>RulePromise</code> object.
 /// In case the operation failed, the error flag will only be set when the promise is resolved.
@@ -97,6 +113,18 @@ pub extern "C" fn rule_promise_resolve(promise: *mut RulePromise) -> *mut Rule {
     try_release_optional(take_ownership(promise).0.resolve().transpose())
 }
 
+/// Waits for the operation represented by the <code>RulePromise</code> without holding a thread, and calls
+/// <code>callback(callback_id)</code> once it has completed. The promise must still be resolved with
+/// \ref rule_promise_resolve(RulePromise*), which then returns without blocking.
+#[no_mangle]
+pub extern "C" fn rule_promise_on_complete(
+    promise: *mut RulePromise,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) {
+    promise_on_complete(&borrow(promise).1, callback_id, callback);
+}
+
 /// Creates a new Rule if none exists with the given label, or replaces the existing one.
 ///
 /// @param label The label of the Rule to create or replace
@@ -109,14 +137,16 @@ pub extern "C" fn logic_manager_put_rule(
     when: *const c_char,
     then: *const c_char,
 ) -> *mut RulePromise {
-    let promise = (move || {
-        Ok::<_, Error>(borrow(transaction).logic().put_rule(
-            string_view(label).to_owned(),
-            typeql::parse_pattern(string_view(when))?.into_conjunction(),
-            typeql::parse_statement(string_view(then))?,
-        ))
-    })();
-    release(RulePromise(Box::new(|| promise?.resolve().map(Some))))
+    release(capture(|| {
+        let promise = (move || {
+            Ok::<_, Error>(borrow(transaction).logic().put_rule(
+                string_view(label).to_owned(),
+                typeql::parse_pattern(string_view(when))?.into_conjunction(),
+                typeql::parse_statement(string_view(then))?,
+            ))
+        })();
+        RulePromise::new(Box::new(|| promise?.resolve().map(Some)))
+    }))
 }
 
 /// Retrieves the Rule that has the given label.
@@ -125,12 +155,18 @@ pub extern "C" fn logic_manager_get_rule(
     transaction: *mut Transaction<'static>,
     label: *const c_char,
 ) -> *mut RulePromise {
-    release(RulePromise(Box::new(borrow(transaction).logic().get_rule(string_view(label).to_owned()))))
+    release(capture(|| RulePromise::new(Box::new(borrow(transaction).logic().get_rule(string_view(label).to_owned())))))
 }
 
 /// An iterator over <code>Rule</code>s in the database
 pub struct RuleIterator(CIterator<Result<Rule>>);
 
+impl Signalled for RuleIterator {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.0.attach(signal);
+    }
+}
+
 /// Forwards the <code>RuleIterator</code> and returns the next <code>Rule</code> if it exists,
 /// or null if there are no more elements.
 #[no_mangle]
@@ -138,6 +174,14 @@ pub extern "C" fn rule_iterator_next(it: *mut RuleIterator) -> *mut Rule {
     unsafe { iterator_try_next(addr_of_mut!((*it).0)) }
 }
 
+/// Waits for the next element of the <code>RuleIterator</code> without holding a thread, and calls
+/// <code>callback(callback_id)</code> once it is available, after which
+/// \ref rule_iterator_next(RuleIterator*) returns without blocking.
+#[no_mangle]
+pub extern "C" fn rule_iterator_on_next(it: *mut RuleIterator, callback_id: usize, callback: extern "C" fn(usize)) {
+    unsafe { iterator_on_next(addr_of_mut!((*it).0), callback_id, callback) }
+}
+
 /// Frees the native rust <code>RuleIterator</code> object.
 #[no_mangle]
 pub extern "C" fn rule_iterator_drop(it: *mut RuleIterator) {
@@ -147,5 +191,7 @@ pub extern "C" fn rule_iterator_drop(it: *mut RuleIterator) {
 /// Returns a <code>RuleIterator</code> over all rules in the database for the transaction.
 #[no_mangle]
 pub extern "C" fn logic_manager_get_rules(transaction: *mut Transaction<'static>) -> *mut RuleIterator {
-    try_release(borrow(transaction).logic().get_rules().map(|it| RuleIterator(CIterator(box_stream(it)))))
+    try_release(capture(|| {
+        borrow(transaction).logic().get_rules().map(|it| RuleIterator(CIterator::new(box_stream(it))))
+    }))
 }
@@ -40,6 +40,13 @@ pub(super) fn release_optional<T>(t: Option<T>) -> *mut T {
     t.map(release).unwrap_or_else(null_mut)
 }
 
+pub(super) fn release_array<T>(ts: Vec<T>) -> *mut *mut T {
+    let raw = ts.into_iter().map(release).chain([null_mut()]).collect::<Box<[_]>>();
+    let raw = Box::into_raw(raw) as *mut *mut T;
+    trace!("Releasing ownership of array of <{}> @ {:?}", std::any::type_name::<T>(), raw);
+    raw
+}
+
 pub(super) fn release_string(str: String) -> *mut c_char {
     let raw = CString::new(str).unwrap().into_raw();
     trace!("Releasing ownership of <CString> @ {:?}", raw);
@@ -76,6 +83,17 @@ pub(super) fn free<T>(raw: *mut T) {
     }
 }
 
+/// Frees a null-terminated array produced by `release_array`, without freeing the elements it points to.
+pub(super) fn free_array<T>(raw: *mut *mut T) {
+    trace!("Freeing array of <{}> @ {:?}", std::any::type_name::<T>(), raw);
+    if !raw.is_null() {
+        unsafe {
+            let len = (0..).take_while(|&i| !(*raw.add(i)).is_null()).count() + 1;
+            drop(Box::from_raw(std::ptr::slice_from_raw_parts_mut(raw, len)))
+        }
+    }
+}
+
 pub(super) fn string_view(str: *const c_char) -> &'static str {
     assert!(!str.is_null());
     unsafe { CStr::from_ptr(str).to_str().unwrap() }
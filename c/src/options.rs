@@ -19,9 +19,12 @@
 
 use std::time::Duration;
 
-use typedb_driver::Options;
+use typedb_driver::{error::ConnectionError, DispatchPolicy, Options};
 
-use super::memory::{borrow, borrow_mut, free, release};
+use super::{
+    error::record_error,
+    memory::{borrow, borrow_mut, free, release},
+};
 
 /// Produces a new <code>TypeDBOptions</code> object.
 #[no_mangle]
@@ -114,6 +117,47 @@ pub extern "C" fn options_set_read_any_replica(options: *mut Options, read_any_r
     borrow_mut(options).read_any_replica = Some(read_any_replica);
 }
 
+/// Explicitly sets the dispatch policy of a transaction to send buffered requests as soon as no more are queued.
+/// Only settable at transaction level. Only affects the driver.
+#[no_mangle]
+pub extern "C" fn options_set_dispatch_immediate(options: *mut Options) {
+    borrow_mut(options).dispatch_policy = Some(DispatchPolicy::Immediate);
+}
+
+/// Explicitly sets the dispatch policy of a transaction to send a request immediately if nothing has been sent for
+/// <code>max_delay_micros</code>, and otherwise to coalesce requests until <code>max_delay_micros</code> after the last send.
+/// Only settable at transaction level. Only affects the driver.
+#[no_mangle]
+pub extern "C" fn options_set_dispatch_adaptive(options: *mut Options, max_delay_micros: i64) {
+    borrow_mut(options).dispatch_policy =
+        Some(DispatchPolicy::Adaptive { max_delay: Duration::from_micros(max_delay_micros as u64) });
+}
+
+/// Explicitly sets the dispatch policy of a transaction to send buffered requests every <code>interval_micros</code>,
+/// which must be positive. Only settable at transaction level. Only affects the driver.
+#[no_mangle]
+pub extern "C" fn options_set_dispatch_interval(options: *mut Options, interval_micros: i64) {
+    if interval_micros < 1 {
+        record_error(ConnectionError::InvalidDispatchInterval.into());
+        return;
+    }
+    borrow_mut(options).dispatch_policy = Some(DispatchPolicy::Interval(Duration::from_micros(interval_micros as u64)));
+}
+
+/// Explicitly sets how many answers of a stream the driver holds before it stops asking the server for more.
+/// Only settable at transaction level. Only affects the driver.
+#[no_mangle]
+pub extern "C" fn options_set_max_buffered_answers(options: *mut Options, max_buffered_answers: i64) {
+    borrow_mut(options).max_buffered_answers = Some(max_buffered_answers as u64);
+}
+
+/// Explicitly sets how many bytes of answers of a stream the driver holds before it stops asking the server for more.
+/// Only settable at transaction level. Only affects the driver.
+#[no_mangle]
+pub extern "C" fn options_set_max_buffered_bytes(options: *mut Options, max_buffered_bytes: i64) {
+    borrow_mut(options).max_buffered_bytes = Some(max_buffered_bytes as u64);
+}
+
 /// Returns the value set for the inference in this <code>TypeDBOptions</code> object.
 #[no_mangle]
 pub extern "C" fn options_get_infer(options: *const Options) -> bool {
@@ -188,6 +232,18 @@ pub extern "C" fn options_get_read_any_replica(options: *const Options) -> bool
     borrow(options).read_any_replica.unwrap()
 }
 
+/// Returns the value set for the maximum number of buffered answers in this <code>TypeDBOptions</code> object.
+#[no_mangle]
+pub extern "C" fn options_get_max_buffered_answers(options: *const Options) -> i64 {
+    borrow(options).max_buffered_answers.unwrap() as i64
+}
+
+/// Returns the value set for the maximum number of buffered bytes in this <code>TypeDBOptions</code> object.
+#[no_mangle]
+pub extern "C" fn options_get_max_buffered_bytes(options: *const Options) -> i64 {
+    borrow(options).max_buffered_bytes.unwrap() as i64
+}
+
 /// Checks whether the option for inference was explicitly set for this <code>TypeDBOptions</code> object.
 #[no_mangle]
 pub extern "C" fn options_has_infer(options: *const Options) -> bool {
@@ -247,3 +303,21 @@ pub extern "C" fn options_has_schema_lock_acquire_timeout_millis(options: *const
 pub extern "C" fn options_has_read_any_replica(options: *const Options) -> bool {
     borrow(options).read_any_replica.is_some()
 }
+
+/// Checks whether the dispatch policy was explicitly set for this <code>TypeDBOptions</code> object.
+#[no_mangle]
+pub extern "C" fn options_has_dispatch_policy(options: *const Options) -> bool {
+    borrow(options).dispatch_policy.is_some()
+}
+
+/// Checks whether the maximum number of buffered answers was explicitly set for this <code>TypeDBOptions</code> object.
+#[no_mangle]
+pub extern "C" fn options_has_max_buffered_answers(options: *const Options) -> bool {
+    borrow(options).max_buffered_answers.is_some()
+}
+
+/// Checks whether the maximum number of buffered bytes was explicitly set for this <code>TypeDBOptions</code> object.
+#[no_mangle]
+pub extern "C" fn options_has_max_buffered_bytes(options: *const Options) -> bool {
+    borrow(options).max_buffered_bytes.is_some()
+}
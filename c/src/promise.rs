@@ -19,17 +19,37 @@
 
 use std::ffi::c_char;
 
-use typedb_driver::{BoxPromise, Promise, Result};
+use typedb_driver::{BoxPromise, Promise, ResponseSignal, Result};
 
 use crate::{
     error::{try_release_optional_string, unwrap_or_default, unwrap_void},
-    memory::take_ownership,
+    memory::{borrow, take_ownership},
+    signal::Signalled,
 };
 
+/// Calls <code>callback(callback_id)</code> once the responses the promise waits on have arrived, after which
+/// resolving the promise no longer blocks. No thread is held while the operation is pending: the driver runs the
+/// callback once the responses are in, or right away if they already are.
+pub(super) fn promise_on_complete(signal: &ResponseSignal, callback_id: usize, callback: extern "C" fn(usize)) {
+    signal.on_ready(move || callback(callback_id));
+}
+
 /// Promise object representing the result of an asynchronous operation.
 /// A VoidPromise does not return a value, but must be resolved using \ref void_promise_resolve(VoidPromise*)
 /// to ensure the operation has completed, or for a failed operation to set the error.
-pub struct VoidPromise(pub BoxPromise<'static, Result<()>>);
+pub struct VoidPromise(pub BoxPromise<'static, Result<()>>, ResponseSignal);
+
+impl VoidPromise {
+    pub(super) fn new(promise: BoxPromise<'static, Result<()>>) -> Self {
+        Self(promise, ResponseSignal::default())
+    }
+}
+
+impl Signalled for VoidPromise {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.1 = signal;
+    }
+}
 
 /// Waits for the operation represented by the <code>VoidPromise</code> to complete.
 /// In case the operation failed, the error flag will only be set when the promise is resolved.
@@ -39,9 +59,33 @@ pub extern "C" fn void_promise_resolve(promise: *mut VoidPromise) {
     unwrap_void(take_ownership(promise).0.resolve());
 }
 
+/// Waits for the operation represented by the <code>VoidPromise</code> without holding a thread, and calls
+/// <code>callback(callback_id)</code> once it has completed. The promise must still be resolved with
+/// \ref void_promise_resolve(VoidPromise*), which then returns without blocking.
+#[no_mangle]
+pub extern "C" fn void_promise_on_complete(
+    promise: *mut VoidPromise,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) {
+    promise_on_complete(&borrow(promise).1, callback_id, callback);
+}
+
 /// Promise object representing the result of an asynchronous operation.
 /// Use \ref bool_promise_resolve(BoolPromise*) to wait for and retrieve the resulting boolean value.
-pub struct BoolPromise(pub BoxPromise<'static, Result<bool>>);
+pub struct BoolPromise(pub BoxPromise<'static, Result<bool>>, ResponseSignal);
+
+impl BoolPromise {
+    pub(super) fn new(promise: BoxPromise<'static, Result<bool>>) -> Self {
+        Self(promise, ResponseSignal::default())
+    }
+}
+
+impl Signalled for BoolPromise {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.1 = signal;
+    }
+}
 
 /// Waits for and returns the result of the operation represented by the <code>BoolPromise</code> object.
 /// In case the operation failed, the error flag will only be set when the promise is resolved.
@@ -51,9 +95,33 @@ pub extern "C" fn bool_promise_resolve(promise: *mut BoolPromise) -> bool {
     unwrap_or_default(take_ownership(promise).0.resolve())
 }
 
+/// Waits for the operation represented by the <code>BoolPromise</code> without holding a thread, and calls
+/// <code>callback(callback_id)</code> once it has completed. The promise must still be resolved with
+/// \ref bool_promise_resolve(BoolPromise*), which then returns without blocking.
+#[no_mangle]
+pub extern "C" fn bool_promise_on_complete(
+    promise: *mut BoolPromise,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) {
+    promise_on_complete(&borrow(promise).1, callback_id, callback);
+}
+
 /// Promise object representing the result of an asynchronous operation.
 /// Use \ref string_promise_resolve(StringPromise*) to wait for and retrieve the resulting string.
-pub struct StringPromise(pub BoxPromise<'static, Result<Option<String>>>);
+pub struct StringPromise(pub BoxPromise<'static, Result<Option<String>>>, ResponseSignal);
+
+impl StringPromise {
+    pub(super) fn new(promise: BoxPromise<'static, Result<Option<String>>>) -> Self {
+        Self(promise, ResponseSignal::default())
+    }
+}
+
+impl Signalled for StringPromise {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.1 = signal;
+    }
+}
 
 /// Waits for and returns the result of the operation represented by the <code>BoolPromise</code> object.
 /// In case the operation failed, the error flag will only be set when the promise is resolved.
@@ -62,3 +130,15 @@ pub struct StringPromise(pub BoxPromise<'static, Result<Option<String>>>);
 pub extern "C" fn string_promise_resolve(promise: *mut StringPromise) -> *mut c_char {
     try_release_optional_string(take_ownership(promise).0.resolve().transpose())
 }
+
+/// Waits for the operation represented by the <code>StringPromise</code> without holding a thread, and calls
+/// <code>callback(callback_id)</code> once it has completed. The promise must still be resolved with
+/// \ref string_promise_resolve(StringPromise*), which then returns without blocking.
+#[no_mangle]
+pub extern "C" fn string_promise_on_complete(
+    promise: *mut StringPromise,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) {
+    promise_on_complete(&borrow(promise).1, callback_id, callback);
+}
@@ -17,20 +17,23 @@
  * under the License.
  */
 
-use std::{ffi::c_char, ptr::addr_of_mut};
+use std::{ffi::c_char, ptr::addr_of_mut, time::Duration};
 
 use itertools::Itertools;
 use typedb_driver::{
-    answer::{ConceptMap, ConceptMapGroup, Explainable, ValueGroup},
+    answer::{ConceptMap, ConceptMapGroup, Explainable, ValueGroup, JSON},
     box_stream,
     logic::Explanation,
-    Options, Result, Transaction,
+    Options, ResponseSignal, Result, StreamCancel, StreamDemand, Transaction,
 };
 
 use super::{
-    error::try_release,
-    iterator::{iterator_try_next, CIterator},
-    memory::{borrow, free, string_view},
+    arena::{iterator_try_next_batch_in_arena, iterator_try_next_in_arena, AnswerArena},
+    encoding::{encode_concept_map_columns, encode_json, encode_json_text, ByteArray},
+    error::{try_release, try_release_optional},
+    iterator::{iterator_on_next, iterator_try_next, iterator_try_next_batch, try_next_batch, CIterator},
+    memory::{borrow, borrow_mut, free, free_array, release_optional, string_view},
+    signal::{capture, Signalled},
 };
 use crate::{common::StringIterator, concept::ConceptPromise, memory::release, promise::VoidPromise};
 
@@ -41,9 +44,11 @@ pub extern "C" fn query_define(
     query: *const c_char,
     options: *const Options,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(
-        borrow(transaction).query().define_with_options(string_view(query), *borrow(options)),
-    )))
+    release(capture(|| {
+        VoidPromise::new(Box::new(
+            borrow(transaction).query().define_with_options(string_view(query), *borrow(options)),
+        ))
+    }))
 }
 
 /// Performs a TypeQL Undefine query in the transaction.
@@ -53,9 +58,11 @@ pub extern "C" fn query_undefine(
     query: *const c_char,
     options: *const Options,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(
-        borrow(transaction).query().undefine_with_options(string_view(query), *borrow(options)),
-    )))
+    release(capture(|| {
+        VoidPromise::new(Box::new(
+            borrow(transaction).query().undefine_with_options(string_view(query), *borrow(options)),
+        ))
+    }))
 }
 
 /// Performs a TypeQL Delete query in the transaction.
@@ -65,14 +72,22 @@ pub extern "C" fn query_delete(
     query: *const c_char,
     options: *const Options,
 ) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(
-        borrow(transaction).query().delete_with_options(string_view(query), *borrow(options)),
-    )))
+    release(capture(|| {
+        VoidPromise::new(Box::new(
+            borrow(transaction).query().delete_with_options(string_view(query), *borrow(options)),
+        ))
+    }))
 }
 
 /// Iterator over the <code>ConceptMap</code>s in the result of a TypeQL Get query.
 pub struct ConceptMapIterator(pub CIterator<Result<ConceptMap>>);
 
+impl Signalled for ConceptMapIterator {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.0.attach(signal);
+    }
+}
+
 /// Forwards the <code>ConceptMapIterator</code> and returns the next <code>ConceptMap</code> if it exists,
 /// or null if there are no more elements.
 #[no_mangle]
@@ -80,12 +95,68 @@ pub extern "C" fn concept_map_iterator_next(it: *mut ConceptMapIterator) -> *mut
     unsafe { iterator_try_next(addr_of_mut!((*it).0)) }
 }
 
+/// Forwards the <code>ConceptMapIterator</code> and returns the next <code>ConceptMap</code> if it exists,
+/// or null if there are no more elements. The <code>ConceptMap</code> is owned by the <code>AnswerArena</code>
+/// and must not be freed individually.
+#[no_mangle]
+pub extern "C" fn concept_map_iterator_next_in_arena(
+    it: *mut ConceptMapIterator,
+    arena: *const AnswerArena,
+) -> *mut ConceptMap {
+    unsafe { iterator_try_next_in_arena(addr_of_mut!((*it).0), arena) }
+}
+
+/// Waits for the next element of the <code>ConceptMapIterator</code> without holding a thread, and calls
+/// <code>callback(callback_id)</code> once it is available, after which
+/// \ref concept_map_iterator_next(ConceptMapIterator*) returns without blocking.
+#[no_mangle]
+pub extern "C" fn concept_map_iterator_on_next(
+    it: *mut ConceptMapIterator,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) {
+    unsafe { iterator_on_next(addr_of_mut!((*it).0), callback_id, callback) }
+}
+
+/// Forwards the <code>ConceptMapIterator</code> by up to <code>max_size</code> elements and returns them
+/// as a null-terminated array of <code>ConceptMap</code>s, or null if there are no more elements.
+/// Blocks until <code>max_size</code> elements are available or the iterator is exhausted.
+/// The array must be freed with \ref concept_map_array_drop(ConceptMap**), the elements with \ref concept_map_drop(ConceptMap*).
+#[no_mangle]
+pub extern "C" fn concept_map_iterator_next_batch(
+    it: *mut ConceptMapIterator,
+    max_size: usize,
+) -> *mut *mut ConceptMap {
+    unsafe { iterator_try_next_batch(addr_of_mut!((*it).0), max_size) }
+}
+
+/// Forwards the <code>ConceptMapIterator</code> by up to <code>max_size</code> elements and returns them
+/// as a null-terminated array of <code>ConceptMap</code>s, or null if there are no more elements.
+/// Blocks until <code>max_size</code> elements are available or the iterator is exhausted.
+/// The array must be freed with \ref concept_map_array_drop(ConceptMap**), while the elements are owned
+/// by the <code>AnswerArena</code>.
+#[no_mangle]
+pub extern "C" fn concept_map_iterator_next_batch_in_arena(
+    it: *mut ConceptMapIterator,
+    max_size: usize,
+    arena: *const AnswerArena,
+) -> *mut *mut ConceptMap {
+    unsafe { iterator_try_next_batch_in_arena(addr_of_mut!((*it).0), max_size, arena) }
+}
+
 /// Frees the native rust <code>ConceptMapIterator</code> object
 #[no_mangle]
 pub extern "C" fn concept_map_iterator_drop(it: *mut ConceptMapIterator) {
     free(it);
 }
 
+/// Frees a null-terminated array of <code>ConceptMap</code>s returned by
+/// \ref concept_map_iterator_next_batch(ConceptMapIterator*, usize). The elements themselves are not freed.
+#[no_mangle]
+pub extern "C" fn concept_map_array_drop(array: *mut *mut ConceptMap) {
+    free_array(array);
+}
+
 /// Performs a TypeQL Get (Get) query in the transaction.
 #[no_mangle]
 pub extern "C" fn query_get(
@@ -93,14 +164,145 @@ pub extern "C" fn query_get(
     query: *const c_char,
     options: *const Options,
 ) -> *mut ConceptMapIterator {
+    try_release(capture(|| {
+        borrow(transaction)
+            .query()
+            .get_with_options(string_view(query), *borrow(options))
+            .map(|it| ConceptMapIterator(CIterator::new(box_stream(it))))
+    }))
+}
+
+/// Performs a TypeQL Get (Get) query in the transaction, returning its answers in batches of up to
+/// <code>max_rows</code> answers, each encoded column by column.
+#[no_mangle]
+pub extern "C" fn query_get_columnar(
+    transaction: *mut Transaction<'static>,
+    query: *const c_char,
+    options: *const Options,
+    max_rows: usize,
+) -> *mut ColumnarBatchIterator {
     try_release(
         borrow(transaction)
             .query()
             .get_with_options(string_view(query), *borrow(options))
-            .map(|it| ConceptMapIterator(CIterator(box_stream(it)))),
+            .map(|it| ColumnarBatchIterator { answers: CIterator::new(box_stream(it)), max_rows: max_rows.max(1) }),
+    )
+}
+
+/// Iterator over the answers of a TypeQL Get query, in batches encoded column by column.
+pub struct ColumnarBatchIterator {
+    answers: CIterator<Result<ConceptMap>>,
+    max_rows: usize,
+}
+
+/// Forwards the <code>ColumnarBatchIterator</code> and returns the next batch of answers encoded column by column
+/// in a <code>ByteArray</code>, or null if there are no more answers. Blocks until a full batch is available or the
+/// answers are exhausted. The result must be freed with \ref byte_array_drop(ByteArray*).
+#[no_mangle]
+pub extern "C" fn columnar_batch_iterator_next(it: *mut ColumnarBatchIterator) -> *mut ByteArray {
+    let it = borrow_mut(it);
+    release_optional(
+        try_next_batch(&mut it.answers, it.max_rows)
+            .map(|concept_maps| ByteArray::from(encode_concept_map_columns(&concept_maps))),
     )
 }
 
+/// Frees the native rust <code>ColumnarBatchIterator</code> object
+#[no_mangle]
+pub extern "C" fn columnar_batch_iterator_drop(it: *mut ColumnarBatchIterator) {
+    free(it);
+}
+
+/// Performs a TypeQL Get (Get) query in the transaction, asking the server to continue the answer stream only
+/// once answers beyond those already received have been requested through
+/// \ref stream_demand_request(const StreamDemand*, int64_t).
+#[no_mangle]
+pub extern "C" fn query_get_on_demand(
+    transaction: *mut Transaction<'static>,
+    query: *const c_char,
+    options: *const Options,
+    demand: *const StreamDemand,
+) -> *mut ConceptMapIterator {
+    try_release(capture(|| {
+        borrow(transaction)
+            .query()
+            .get_on_demand(string_view(query), *borrow(options), borrow(demand).clone())
+            .map(|it| ConceptMapIterator(CIterator::new(box_stream(it))))
+    }))
+}
+
+/// Produces a new <code>StreamDemand</code> with no answers requested.
+#[no_mangle]
+pub extern "C" fn stream_demand_new() -> *mut StreamDemand {
+    release(StreamDemand::new())
+}
+
+/// Requests <code>count</code> more answers from the streams opened with this <code>StreamDemand</code>.
+/// Non-positive counts are ignored.
+#[no_mangle]
+pub extern "C" fn stream_demand_request(demand: *const StreamDemand, count: i64) {
+    if count > 0 {
+        borrow(demand).request(count as u64);
+    }
+}
+
+/// Frees the native rust <code>StreamDemand</code> object.
+/// Streams opened with it keep their own reference and remain valid.
+#[no_mangle]
+pub extern "C" fn stream_demand_drop(demand: *mut StreamDemand) {
+    free(demand);
+}
+
+/// Performs a TypeQL Get (Get) query in the transaction, which can be cancelled through
+/// \ref stream_cancel_cancel(const StreamCancel*) or by the deadline of the <code>StreamCancel</code>.
+/// Once cancelled, the iterator returns an error instead of further answers.
+#[no_mangle]
+pub extern "C" fn query_get_cancellable(
+    transaction: *mut Transaction<'static>,
+    query: *const c_char,
+    options: *const Options,
+    cancel: *const StreamCancel,
+) -> *mut ConceptMapIterator {
+    try_release(capture(|| {
+        borrow(transaction)
+            .query()
+            .get_cancellable(string_view(query), *borrow(options), borrow(cancel).clone())
+            .map(|it| ConceptMapIterator(CIterator::new(box_stream(it))))
+    }))
+}
+
+/// Produces a new <code>StreamCancel</code> without a deadline.
+#[no_mangle]
+pub extern "C" fn stream_cancel_new() -> *mut StreamCancel {
+    release(StreamCancel::new())
+}
+
+/// Produces a new <code>StreamCancel</code> which cancels its streams once <code>timeout_millis</code>
+/// milliseconds have passed. Negative timeouts are treated as zero.
+#[no_mangle]
+pub extern "C" fn stream_cancel_new_with_timeout(timeout_millis: i64) -> *mut StreamCancel {
+    release(StreamCancel::with_timeout(Duration::from_millis(timeout_millis.max(0) as u64)))
+}
+
+/// Cancels every stream opened with this <code>StreamCancel</code>.
+#[no_mangle]
+pub extern "C" fn stream_cancel_cancel(cancel: *const StreamCancel) {
+    borrow(cancel).cancel();
+}
+
+/// Checks whether this <code>StreamCancel</code> has been cancelled, either explicitly or by its deadline.
+#[no_mangle]
+pub extern "C" fn stream_cancel_is_cancelled(cancel: *const StreamCancel) -> bool {
+    borrow(cancel).is_cancelled()
+}
+
+/// Frees the native rust <code>StreamCancel</code> object.
+/// Streams opened with it can still be cancelled by its deadline.
+#[no_mangle]
+pub extern "C" fn stream_cancel_drop(cancel: *mut StreamCancel) {
+    free(cancel);
+}
+
 /// Performs a TypeQL Fetch query in the transaction.
 #[no_mangle]
 pub extern "C" fn query_fetch(
@@ -108,12 +310,67 @@ pub extern "C" fn query_fetch(
     query: *const c_char,
     options: *const Options,
 ) -> *mut StringIterator {
-    try_release(
+    try_release(capture(|| {
         borrow(transaction)
             .query()
             .fetch_with_options(string_view(query), *borrow(options))
-            .map(|it| StringIterator(CIterator(box_stream(it.map_ok(|json| json.to_string()))))),
-    )
+            .map(|it| StringIterator(CIterator::new(box_stream(it.map_ok(|json| json.to_string())))))
+    }))
+}
+
+/// Performs a TypeQL Fetch query in the transaction.
+/// Unlike \ref query_fetch(Transaction*, const char*, const Options*), the answers are returned in a compact binary
+/// encoding rather than as JSON strings.
+#[no_mangle]
+pub extern "C" fn query_fetch_encoded(
+    transaction: *mut Transaction<'static>,
+    query: *const c_char,
+    options: *const Options,
+) -> *mut JSONIterator {
+    try_release(capture(|| {
+        borrow(transaction)
+            .query()
+            .fetch_with_options(string_view(query), *borrow(options))
+            .map(|it| JSONIterator(CIterator::new(box_stream(it))))
+    }))
+}
+
+/// Iterator over the <code>JSON</code> answers of a TypeQL Fetch query.
+pub struct JSONIterator(pub CIterator<Result<JSON>>);
+
+impl Signalled for JSONIterator {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.0.attach(signal);
+    }
+}
+
+/// Forwards the <code>JSONIterator</code> and returns the next answer encoded in a <code>ByteArray</code> if it exists,
+/// or null if there are no more elements. The result must be freed with \ref byte_array_drop(ByteArray*).
+#[no_mangle]
+pub extern "C" fn json_iterator_next(it: *mut JSONIterator) -> *mut ByteArray {
+    try_release_optional(borrow_mut(it).0.next().map(|res| res.map(|json| encode_json(&json).into())))
+}
+
+/// Waits for the next element of the <code>JSONIterator</code> without holding a thread, and calls
+/// <code>callback(callback_id)</code> once it is available, after which
+/// \ref json_iterator_next(JSONIterator*) returns without blocking.
+#[no_mangle]
+pub extern "C" fn json_iterator_on_next(it: *mut JSONIterator, callback_id: usize, callback: extern "C" fn(usize)) {
+    unsafe { iterator_on_next(addr_of_mut!((*it).0), callback_id, callback) }
+}
+
+/// Forwards the <code>JSONIterator</code> and returns the next answer as UTF-8 encoded single-line JSON text
+/// in a <code>ByteArray</code> if it exists, or null if there are no more elements.
+/// The result must be freed with \ref byte_array_drop(ByteArray*).
+#[no_mangle]
+pub extern "C" fn json_iterator_next_text(it: *mut JSONIterator) -> *mut ByteArray {
+    try_release_optional(borrow_mut(it).0.next().map(|res| res.map(|json| encode_json_text(&json).into())))
+}
+
+/// Frees the native rust <code>JSONIterator</code> object
+#[no_mangle]
+pub extern "C" fn json_iterator_drop(it: *mut JSONIterator) {
+    free(it);
 }
 
 /// Performs a TypeQL Insert query in the transaction.
@@ -123,12 +380,12 @@ pub extern "C" fn query_insert(
     query: *const c_char,
     options: *const Options,
 ) -> *mut ConceptMapIterator {
-    try_release(
+    try_release(capture(|| {
         borrow(transaction)
             .query()
             .insert_with_options(string_view(query), *borrow(options))
-            .map(|it| ConceptMapIterator(CIterator(box_stream(it)))),
-    )
+            .map(|it| ConceptMapIterator(CIterator::new(box_stream(it))))
+    }))
 }
 
 /// Performs a TypeQL Update query in the transaction.
@@ -138,12 +395,12 @@ pub extern "C" fn query_update(
     query: *const c_char,
     options: *const Options,
 ) -> *mut ConceptMapIterator {
-    try_release(
+    try_release(capture(|| {
         borrow(transaction)
             .query()
             .update_with_options(string_view(query), *borrow(options))
-            .map(|it| ConceptMapIterator(CIterator(box_stream(it)))),
-    )
+            .map(|it| ConceptMapIterator(CIterator::new(box_stream(it))))
+    }))
 }
 
 /// Performs a TypeQL Get Aggregate query in the transaction.
@@ -153,14 +410,22 @@ pub extern "C" fn query_get_aggregate(
     query: *const c_char,
     options: *const Options,
 ) -> *mut ConceptPromise {
-    release(ConceptPromise::value(
-        borrow(transaction).query().get_aggregate_with_options(string_view(query), *borrow(options)),
-    ))
+    release(capture(|| {
+        ConceptPromise::value(
+            borrow(transaction).query().get_aggregate_with_options(string_view(query), *borrow(options)),
+        )
+    }))
 }
 
 /// Iterator over the <code>ConceptMapGroup</code>s in the result of the TypeQL Get Group query.
 pub struct ConceptMapGroupIterator(CIterator<Result<ConceptMapGroup>>);
 
+impl Signalled for ConceptMapGroupIterator {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.0.attach(signal);
+    }
+}
+
 /// Forwards the <code>ConceptMapGroupIterator</code> and returns the next <code>ConceptMapGroup</code> if it exists,
 /// or null if there are no more elements.
 #[no_mangle]
@@ -168,6 +433,18 @@ pub extern "C" fn concept_map_group_iterator_next(it: *mut ConceptMapGroupIterat
     unsafe { iterator_try_next(addr_of_mut!((*it).0)) }
 }
 
+/// Waits for the next element of the <code>ConceptMapGroupIterator</code> without holding a thread, and calls
+/// <code>callback(callback_id)</code> once it is available, after which
+/// \ref concept_map_group_iterator_next(ConceptMapGroupIterator*) returns without blocking.
+#[no_mangle]
+pub extern "C" fn concept_map_group_iterator_on_next(
+    it: *mut ConceptMapGroupIterator,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) {
+    unsafe { iterator_on_next(addr_of_mut!((*it).0), callback_id, callback) }
+}
+
 /// Frees the native rust <code>ConceptMapGroupIterator</code> object
 #[no_mangle]
 pub extern "C" fn concept_map_group_iterator_drop(it: *mut ConceptMapGroupIterator) {
@@ -181,17 +458,23 @@ pub extern "C" fn query_get_group(
     query: *const c_char,
     options: *const Options,
 ) -> *mut ConceptMapGroupIterator {
-    try_release(
+    try_release(capture(|| {
         borrow(transaction)
             .query()
             .get_group_with_options(string_view(query), *borrow(options))
-            .map(|it| ConceptMapGroupIterator(CIterator(box_stream(it)))),
-    )
+            .map(|it| ConceptMapGroupIterator(CIterator::new(box_stream(it))))
+    }))
 }
 
 /// Iterator over the <code>ValueGroup</code>s in the result of the Get Group Aggregate query.
 pub struct ValueGroupIterator(CIterator<Result<ValueGroup>>);
 
+impl Signalled for ValueGroupIterator {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.0.attach(signal);
+    }
+}
+
 /// Forwards the <code>ValueGroupIterator</code> and returns the next <code>ValueGroup</code> if it exists,
 /// or null if there are no more elements.
 #[no_mangle]
@@ -199,6 +482,18 @@ pub extern "C" fn value_group_iterator_next(it: *mut ValueGroupIterator) -> *mut
     unsafe { iterator_try_next(addr_of_mut!((*it).0)) }
 }
 
+/// Waits for the next element of the <code>ValueGroupIterator</code> without holding a thread, and calls
+/// <code>callback(callback_id)</code> once it is available, after which
+/// \ref value_group_iterator_next(ValueGroupIterator*) returns without blocking.
+#[no_mangle]
+pub extern "C" fn value_group_iterator_on_next(
+    it: *mut ValueGroupIterator,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) {
+    unsafe { iterator_on_next(addr_of_mut!((*it).0), callback_id, callback) }
+}
+
 /// Frees the native rust <code>ValueGroupIterator</code> object
 #[no_mangle]
 pub extern "C" fn value_group_iterator_drop(it: *mut ValueGroupIterator) {
@@ -212,17 +507,23 @@ pub extern "C" fn query_get_group_aggregate(
     query: *const c_char,
     options: *const Options,
 ) -> *mut ValueGroupIterator {
-    try_release(
+    try_release(capture(|| {
         borrow(transaction)
             .query()
             .get_group_aggregate_with_options(string_view(query), *borrow(options))
-            .map(|it| ValueGroupIterator(CIterator(box_stream(it)))),
-    )
+            .map(|it| ValueGroupIterator(CIterator::new(box_stream(it))))
+    }))
 }
 
 /// Iterator over the <code>Explanation</code>s in the result of the explain query.
 pub struct ExplanationIterator(CIterator<Result<Explanation>>);
 
+impl Signalled for ExplanationIterator {
+    fn attach(&mut self, signal: ResponseSignal) {
+        self.0.attach(signal);
+    }
+}
+
 /// Forwards the <code>Explanation</code> and returns the next <code>Explanation</code> if it exists,
 /// or null if there are no more elements.
 #[no_mangle]
@@ -230,6 +531,18 @@ pub extern "C" fn explanation_iterator_next(it: *mut ExplanationIterator) -> *mu
     unsafe { iterator_try_next(addr_of_mut!((*it).0)) }
 }
 
+/// Waits for the next element of the <code>ExplanationIterator</code> without holding a thread, and calls
+/// <code>callback(callback_id)</code> once it is available, after which
+/// \ref explanation_iterator_next(ExplanationIterator*) returns without blocking.
+#[no_mangle]
+pub extern "C" fn explanation_iterator_on_next(
+    it: *mut ExplanationIterator,
+    callback_id: usize,
+    callback: extern "C" fn(usize),
+) {
+    unsafe { iterator_on_next(addr_of_mut!((*it).0), callback_id, callback) }
+}
+
 /// Frees the native rust <code>ExplanationIterator</code> object
 #[no_mangle]
 pub extern "C" fn explanation_iterator_drop(it: *mut ExplanationIterator) {
@@ -245,10 +558,10 @@ pub extern "C" fn query_explain(
     explainable: *const Explainable,
     options: *const Options,
 ) -> *mut ExplanationIterator {
-    try_release(
+    try_release(capture(|| {
         borrow(transaction)
             .query()
             .explain_with_options(borrow(explainable), *borrow(options))
-            .map(|it| ExplanationIterator(CIterator(box_stream(it)))),
-    )
+            .map(|it| ExplanationIterator(CIterator::new(box_stream(it))))
+    }))
 }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+use typedb_driver::{ResponseSignal, Result};
+
+/// A promise or iterator that can notify the caller once the responses it waits on have arrived.
+pub(super) trait Signalled {
+    fn attach(&mut self, signal: ResponseSignal);
+}
+
+impl<T: Signalled> Signalled for Result<T> {
+    fn attach(&mut self, signal: ResponseSignal) {
+        if let Ok(signalled) = self {
+            signalled.attach(signal);
+        }
+    }
+}
+
+/// Runs the operation that creates a promise or an iterator, and attaches to the result a signal for exactly the
+/// requests that the operation sent.
+pub(super) fn capture<T: Signalled>(operation: impl FnOnce() -> T) -> T {
+    let (mut signalled, signal) = ResponseSignal::capture(operation);
+    signalled.attach(signal);
+    signalled
+}
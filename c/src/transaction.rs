@@ -23,7 +23,7 @@ use super::{
     error::try_release,
     memory::{borrow, borrow_mut, free, release, take_ownership},
 };
-use crate::promise::VoidPromise;
+use crate::{promise::VoidPromise, signal::capture};
 
 /// Opens a transaction to perform read or write queries on the database connected to the session.
 ///
@@ -55,13 +55,13 @@ pub extern "C" fn transaction_force_close(txn: *mut Transaction<'static>) {
 /// the commit call and the native rust object is freed.
 #[no_mangle]
 pub extern "C" fn transaction_commit(txn: *mut Transaction<'static>) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(take_ownership(txn).commit())))
+    release(capture(|| VoidPromise::new(Box::new(take_ownership(txn).commit()))))
 }
 
 /// Rolls back the uncommitted changes made via this transaction.
 #[no_mangle]
 pub extern "C" fn transaction_rollback(txn: *const Transaction<'static>) -> *mut VoidPromise {
-    release(VoidPromise(Box::new(borrow(txn).rollback())))
+    release(capture(|| VoidPromise::new(Box::new(borrow(txn).rollback()))))
 }
 
 /// Checks whether this transaction is open.
@@ -70,6 +70,19 @@ pub extern "C" fn transaction_is_open(txn: *const Transaction<'static>) -> bool
     borrow(txn).is_open()
 }
 
+/// Returns the number of answers received for the streams of this transaction that have not been consumed yet.
+#[no_mangle]
+pub extern "C" fn transaction_buffered_answers(txn: *const Transaction<'static>) -> i64 {
+    borrow(txn).buffered_answers() as i64
+}
+
+/// Returns the size on the wire, in bytes, of the answers received for the streams of this transaction
+/// that have not been consumed yet.
+#[no_mangle]
+pub extern "C" fn transaction_buffered_bytes(txn: *const Transaction<'static>) -> i64 {
+    borrow(txn).buffered_bytes() as i64
+}
+
 /// Registers a callback function which will be executed when this transaction is closed.
 ///
 /// @param txn The transaction on which to register the callback
@@ -64,7 +64,7 @@ pub extern "C" fn user_iterator_drop(it: *mut UserIterator) {
 /// Retrieves all users which exist on the TypeDB server.
 #[no_mangle]
 pub extern "C" fn users_all(user_manager: *const UserManager) -> *mut UserIterator {
-    try_release(borrow(user_manager).all().map(|users| UserIterator(CIterator(box_stream(users.into_iter())))))
+    try_release(borrow(user_manager).all().map(|users| UserIterator(CIterator::new(box_stream(users.into_iter())))))
 }
 
 /// Checks if a user with the given name exists.
@@ -60,6 +60,8 @@ struct Type {};
 #define database_drop database_close
 
 %dropproxy(Connection, connection)
+%dropproxy(ChannelMetrics, channel_metrics)
+%dropproxy(ChannelMetricsIterator, channel_metrics_iterator)
 %dropproxy(Session, session)
 %dropproxy(Transaction, transaction)
 
@@ -82,7 +84,11 @@ struct Type {};
 %dropproxy(RolePlayerIterator, role_player_iterator)
 
 %dropproxy(ConceptMap, concept_map)
+%dropproxy(AnswerArena, answer_arena)
 %dropproxy(ConceptMapIterator, concept_map_iterator)
+%dropproxy(ColumnarBatchIterator, columnar_batch_iterator)
+%dropproxy(StreamDemand, stream_demand)
+%dropproxy(StreamCancel, stream_cancel)
 %dropproxy(Explainables, explainables)
 %dropproxy(Explainable, explainable)
 
@@ -90,6 +96,7 @@ struct Type {};
 %dropproxy(ConceptMapGroupIterator, concept_map_group_iterator)
 
 %dropproxy(StringIterator, string_iterator)
+%dropproxy(JSONIterator, json_iterator)
 %dropproxy(StringPairIterator, string_pair_iterator)
 
 %dropproxy(ValueGroup, value_group)
@@ -207,6 +214,86 @@ void transaction_on_close_register(const Transaction* transaction, TransactionCa
 }
 %}
 
+%feature("director") PromiseCallbackDirector;
+%inline %{
+struct PromiseCallbackDirector {
+    PromiseCallbackDirector() {}
+    virtual ~PromiseCallbackDirector() {}
+    virtual void callback() = 0;
+};
+%}
+
+%{
+#include <atomic>
+#include <iostream>
+#include <mutex>
+#include <unordered_map>
+static std::mutex promiseCallbacksMutex;
+static std::unordered_map<size_t, PromiseCallbackDirector*> promiseCallbacks {};
+
+static size_t promise_callback_register(PromiseCallbackDirector* handler) {
+    static std::atomic_size_t nextID;
+    std::size_t ID = nextID.fetch_add(1);
+    std::lock_guard<std::mutex> guard(promiseCallbacksMutex);
+    promiseCallbacks.insert({ID, handler});
+    return ID;
+}
+
+static void promise_callback_execute(size_t ID) {
+    PromiseCallbackDirector* handler;
+    {
+        std::lock_guard<std::mutex> guard(promiseCallbacksMutex);
+        auto it = promiseCallbacks.find(ID);
+        if (it == promiseCallbacks.end()) return;
+        handler = it->second;
+        promiseCallbacks.erase(it);
+    }
+    try {
+        handler->callback();
+    } catch (std::exception const& e) {
+        std::cerr << "[ERROR] " << e.what() << std::endl;
+    }
+    delete handler;
+}
+%}
+
+%define %promise_on_complete(Type, function_prefix)
+%rename(function_prefix ## _on_complete) function_prefix ## _on_complete_register;
+%ignore function_prefix ## _on_complete;
+%inline %{
+void function_prefix ## _on_complete_register(Type* promise, PromiseCallbackDirector* handler) {
+    function_prefix ## _on_complete(promise, promise_callback_register(handler), &promise_callback_execute);
+}
+%}
+%enddef
+
+%promise_on_complete(BoolPromise, bool_promise)
+%promise_on_complete(ConceptPromise, concept_promise)
+%promise_on_complete(RulePromise, rule_promise)
+%promise_on_complete(StringPromise, string_promise)
+%promise_on_complete(VoidPromise, void_promise)
+
+%define %iterator_on_next(Type, function_prefix)
+%rename(function_prefix ## _iterator_on_next) function_prefix ## _iterator_on_next_register;
+%ignore function_prefix ## _iterator_on_next;
+%inline %{
+void function_prefix ## _iterator_on_next_register(Type* iterator, PromiseCallbackDirector* handler) {
+    function_prefix ## _iterator_on_next(iterator, promise_callback_register(handler), &promise_callback_execute);
+}
+%}
+%enddef
+
+%iterator_on_next(ConceptIterator, concept)
+%iterator_on_next(ConceptMapGroupIterator, concept_map_group)
+%iterator_on_next(ConceptMapIterator, concept_map)
+%iterator_on_next(ExplanationIterator, explanation)
+%iterator_on_next(JSONIterator, json)
+%iterator_on_next(RolePlayerIterator, role_player)
+%iterator_on_next(RuleIterator, rule)
+%iterator_on_next(SchemaExceptionIterator, schema_exception)
+%iterator_on_next(StringIterator, string)
+%iterator_on_next(ValueGroupIterator, value_group)
+
 %delobject database_delete;
 
 %delobject transaction_commit;
@@ -251,6 +338,7 @@ void transaction_on_close_register(const Transaction* transaction, TransactionCa
 %newobject value_new_long;
 %newobject value_new_double;
 %newobject value_new_string;
+%newobject value_new_date_time;
 %newobject value_new_date_time_from_millis;
 %newobject value_get_string;
 
@@ -344,6 +432,16 @@ void transaction_on_close_register(const Transaction* transaction, TransactionCa
 %newobject connection_open_core;
 %newobject connection_open_cloud;
 %newobject connection_open_cloud_translated;
+%newobject connection_open_core_with_runtime;
+%newobject connection_open_cloud_with_runtime;
+%newobject connection_open_cloud_translated_with_runtime;
+%newobject connection_open_core_with_channel_pool;
+%newobject connection_open_cloud_with_channel_pool;
+%newobject connection_open_cloud_translated_with_channel_pool;
+
+%newobject connection_channel_metrics;
+%newobject channel_metrics_iterator_next;
+%newobject channel_metrics_get_server;
 
 %newobject credential_new;
 
@@ -388,14 +486,24 @@ void transaction_on_close_register(const Transaction* transaction, TransactionCa
 
 %newobject concept_map_iterator_next;
 
-%newobject query_match;
+%newobject query_get;
+%newobject query_get_columnar;
+%newobject query_get_on_demand;
+%newobject query_get_cancellable;
 %newobject query_insert;
 %newobject query_update;
-%newobject query_match_aggregate;
-%newobject query_match_group;
-%newobject query_match_group_aggregate;
+%newobject query_get_group;
+%newobject query_get_group_aggregate;
+%newobject query_fetch;
+%newobject query_fetch_encoded;
 %newobject query_explain;
 
+%newobject stream_demand_new;
+%newobject stream_cancel_new;
+%newobject stream_cancel_new_with_timeout;
+
+%newobject answer_arena_new;
+
 %newobject concept_map_group_iterator_next;
 %newobject value_group_iterator_next;
 %newobject explanation_get_mapping;
@@ -47,6 +47,8 @@ artifacts = [
   "org.hamcrest:hamcrest-all",
   "org.hamcrest:hamcrest-core",
   "org.hamcrest:hamcrest-library",
+  "org.openjdk.jmh:jmh-core",
+  "org.openjdk.jmh:jmh-generator-annprocess",
   "org.slf4j:jcl-over-slf4j",
   "org.slf4j:slf4j-api",
   "org.slf4j:log4j-over-slf4j",
@@ -45,6 +45,21 @@ public class TypeDB {
         return new TypeDBDriverImpl(address);
     }
 
+    /**
+     * Open a TypeDB Driver to a TypeDB Core server available at the provided address, with the provided settings.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDB.coreDriver(address, options);
+     * </pre>
+     *
+     * @param address The address of the TypeDB server
+     * @param options The settings to open the driver with
+     */
+    public static TypeDBDriver coreDriver(String address, TypeDBDriver.Options options) {
+        return new TypeDBDriverImpl(address, options);
+    }
+
     /**
      * Open a TypeDB Driver to a TypeDB Cloud server available at the provided address, using
      * the provided credential.
@@ -61,6 +76,23 @@ public class TypeDB {
         return cloudDriver(set(address), credential);
     }
 
+    /**
+     * Open a TypeDB Driver to a TypeDB Cloud server available at the provided address, using
+     * the provided credential, with the provided settings.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDB.cloudDriver(address, credential, options);
+     * </pre>
+     *
+     * @param address The address of the TypeDB server
+     * @param credential The credential to connect with
+     * @param options The settings to open the driver with
+     */
+    public static TypeDBDriver cloudDriver(String address, TypeDBCredential credential, TypeDBDriver.Options options) {
+        return cloudDriver(set(address), credential, options);
+    }
+
     /**
      * Open a TypeDB Driver to TypeDB Cloud server(s) available at the provided addresses, using
      * the provided credential.
@@ -77,6 +109,23 @@ public class TypeDB {
         return new TypeDBDriverImpl(addresses, credential);
     }
 
+    /**
+     * Open a TypeDB Driver to TypeDB Cloud server(s) available at the provided addresses, using
+     * the provided credential, with the provided settings.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDB.cloudDriver(addresses, credential, options);
+     * </pre>
+     *
+     * @param addresses The address(es) of the TypeDB server(s)
+     * @param credential The credential to connect with
+     * @param options The settings to open the driver with
+     */
+    public static TypeDBDriver cloudDriver(Set<String> addresses, TypeDBCredential credential, TypeDBDriver.Options options) {
+        return new TypeDBDriverImpl(addresses, credential, options);
+    }
+
     /**
      * Open a TypeDB Driver to TypeDB Cloud server(s), using provided address translation, with
      * the provided credential.
@@ -93,4 +142,24 @@ public class TypeDB {
     public static TypeDBDriver cloudDriver(Map<String, String> addressTranslation, TypeDBCredential credential) {
         return new TypeDBDriverImpl(addressTranslation, credential);
     }
+
+    /**
+     * Open a TypeDB Driver to TypeDB Cloud server(s), using provided address translation, with
+     * the provided credential and settings.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDB.cloudDriver(addressTranslation, credential, options);
+     * </pre>
+     *
+     * @param addressTranslation Translation map from addresses to be used by the driver for connection
+     * to addresses received from the TypeDB server(s)
+     * @param credential The credential to connect with
+     * @param options The settings to open the driver with
+     */
+    public static TypeDBDriver cloudDriver(
+            Map<String, String> addressTranslation, TypeDBCredential credential, TypeDBDriver.Options options
+    ) {
+        return new TypeDBDriverImpl(addressTranslation, credential, options);
+    }
 }
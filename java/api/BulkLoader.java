@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.api;
+
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.CheckReturnValue;
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.NON_NEGATIVE_VALUE_REQUIRED;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.POSITIVE_VALUE_REQUIRED;
+
+/**
+ * Loads data into a database through several write transactions in parallel, committing each
+ * transaction once it holds a batch of operations and opening a new one in its place.
+ * Operations are queued and picked up by worker threads; when the queue is full, submitting blocks
+ * until a worker catches up. A batch that fails to commit is replayed in a new transaction.
+ * Operations are not applied in submission order, and a batch is only atomic with respect to itself,
+ * so the operations given to a <code>BulkLoader</code> must not depend on one another.
+ */
+public interface BulkLoader extends AutoCloseable {
+
+    /**
+     * Queues an insert query, blocking while the queue is full.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * loader.insert("insert $p isa person, has name 'Alice';");
+     * </pre>
+     *
+     * @param query The TypeQL insert query to be executed
+     */
+    void insert(String query);
+
+    /**
+     * Queues an arbitrary operation on a write transaction, blocking while the queue is full.
+     * The operation may be run more than once if its batch is retried, each time against a new transaction.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * loader.submit(tx -&gt; tx.concepts().getEntityType("person").resolve().create(tx));
+     * </pre>
+     *
+     * @param operation The operation to run against a write transaction
+     */
+    void submit(Consumer<TypeDBTransaction> operation);
+
+    /**
+     * Queues every query in the stream, then closes the loader and returns its final statistics.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * loader.load(Files.lines(path));
+     * </pre>
+     *
+     * @param queries The TypeQL insert queries to be executed
+     */
+    Stats load(Stream<String> queries);
+
+    /**
+     * Returns the statistics of the operations committed so far.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * loader.stats().operationsPerSecond();
+     * </pre>
+     */
+    @CheckReturnValue
+    Stats stats();
+
+    /**
+     * Commits the remaining operations, waits for the workers to finish and closes the session.
+     * Throws if any batch could not be committed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * loader.close();
+     * </pre>
+     */
+    @Override
+    void close();
+
+    /**
+     * Settings for a <code>BulkLoader</code>.
+     */
+    class Options {
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private int batchSize = 1000;
+        private long batchBytes = 4L * 1024 * 1024;
+        private int maxRetries = 3;
+        private int queueCapacity = 10000;
+        private TypeDBOptions transactionOptions = new TypeDBOptions();
+
+        /**
+         * Produces a new <code>BulkLoader.Options</code> object with default settings.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * BulkLoader.Options options = new BulkLoader.Options();
+         * </pre>
+         */
+        public Options() {
+        }
+
+        /**
+         * Returns the number of write transactions loading data in parallel.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.parallelism();
+         * </pre>
+         */
+        @CheckReturnValue
+        public int parallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Sets the number of write transactions loading data in parallel. Defaults to the number of available processors.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.parallelism(parallelism);
+         * </pre>
+         *
+         * @param parallelism Number of worker transactions. Must be positive.
+         */
+        public Options parallelism(int parallelism) {
+            if (parallelism < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, parallelism);
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Returns the number of operations after which a transaction is committed.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.batchSize();
+         * </pre>
+         */
+        @CheckReturnValue
+        public int batchSize() {
+            return batchSize;
+        }
+
+        /**
+         * Sets the number of operations after which a transaction is committed. Defaults to 1000.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.batchSize(batchSize);
+         * </pre>
+         *
+         * @param batchSize Number of operations per transaction. Must be positive.
+         */
+        public Options batchSize(int batchSize) {
+            if (batchSize < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, batchSize);
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Returns the total query length, in bytes, after which a transaction is committed.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.batchBytes();
+         * </pre>
+         */
+        @CheckReturnValue
+        public long batchBytes() {
+            return batchBytes;
+        }
+
+        /**
+         * Sets the total UTF-8 encoded query length, in bytes, after which a transaction is committed,
+         * whether or not it holds <code>batchSize</code> operations. Defaults to 4 MiB.
+         * Operations submitted as functions count as zero bytes.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.batchBytes(batchBytes);
+         * </pre>
+         *
+         * @param batchBytes Number of query bytes per transaction. Must be positive.
+         */
+        public Options batchBytes(long batchBytes) {
+            if (batchBytes < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, batchBytes);
+            this.batchBytes = batchBytes;
+            return this;
+        }
+
+        /**
+         * Returns the number of times a failed batch is replayed before the load fails.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.maxRetries();
+         * </pre>
+         */
+        @CheckReturnValue
+        public int maxRetries() {
+            return maxRetries;
+        }
+
+        /**
+         * Sets the number of times a failed batch is replayed in a new transaction before the load fails. Defaults to 3.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.maxRetries(maxRetries);
+         * </pre>
+         *
+         * @param maxRetries Number of retries per batch. Zero disables retries.
+         */
+        public Options maxRetries(int maxRetries) {
+            if (maxRetries < 0) throw new TypeDBDriverException(NON_NEGATIVE_VALUE_REQUIRED, maxRetries);
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Returns the number of operations that may be queued before submitting blocks.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.queueCapacity();
+         * </pre>
+         */
+        @CheckReturnValue
+        public int queueCapacity() {
+            return queueCapacity;
+        }
+
+        /**
+         * Sets the number of operations that may be queued before submitting blocks. Defaults to 10000.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.queueCapacity(queueCapacity);
+         * </pre>
+         *
+         * @param queueCapacity Number of queued operations. Must be positive.
+         */
+        public Options queueCapacity(int queueCapacity) {
+            if (queueCapacity < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, queueCapacity);
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Returns the options with which the worker transactions are opened.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.transactionOptions();
+         * </pre>
+         */
+        @CheckReturnValue
+        public TypeDBOptions transactionOptions() {
+            return transactionOptions;
+        }
+
+        /**
+         * Sets the options with which the worker transactions are opened.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.transactionOptions(new TypeDBOptions().transactionTimeoutMillis(600000));
+         * </pre>
+         *
+         * @param transactionOptions <code>TypeDBOptions</code> for the worker transactions
+         */
+        public Options transactionOptions(TypeDBOptions transactionOptions) {
+            this.transactionOptions = transactionOptions;
+            return this;
+        }
+    }
+
+    /**
+     * A snapshot of the work committed by a <code>BulkLoader</code>.
+     */
+    class Stats {
+        private final long operations;
+        private final long batches;
+        private final long retries;
+        private final Duration elapsed;
+
+        /**
+         * @hidden
+         */
+        public Stats(long operations, long batches, long retries, Duration elapsed) {
+            this.operations = operations;
+            this.batches = batches;
+            this.retries = retries;
+            this.elapsed = elapsed;
+        }
+
+        /**
+         * Returns the number of committed operations.
+         */
+        @CheckReturnValue
+        public long operations() {
+            return operations;
+        }
+
+        /**
+         * Returns the number of committed transactions.
+         */
+        @CheckReturnValue
+        public long batches() {
+            return batches;
+        }
+
+        /**
+         * Returns the number of times a batch was replayed after a failure.
+         */
+        @CheckReturnValue
+        public long retries() {
+            return retries;
+        }
+
+        /**
+         * Returns the time since the loader was created, or its total running time once it is closed.
+         */
+        @CheckReturnValue
+        public Duration elapsed() {
+            return elapsed;
+        }
+
+        /**
+         * Returns the number of committed operations per second of <code>elapsed()</code>.
+         */
+        @CheckReturnValue
+        public double operationsPerSecond() {
+            long nanos = elapsed.toNanos();
+            return nanos == 0 ? 0 : operations * 1e9 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d operations in %d batches (%d retries) in %.3fs, %.0f operations/s",
+                    operations, batches, retries, elapsed.toNanos() / 1e9, operationsPerSecond());
+        }
+    }
+}
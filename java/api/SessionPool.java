@@ -0,0 +1,397 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.api;
+
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.CheckReturnValue;
+
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.NON_NEGATIVE_VALUE_REQUIRED;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.POSITIVE_VALUE_REQUIRED;
+
+/**
+ * A pool of open sessions to one database, along with read transactions opened ahead of time in the background,
+ * so that short-lived work does not wait for a session or a transaction to be set up.
+ * Sessions are borrowed with <code>session()</code> and returned to the pool when the borrowed handle is closed.
+ * Idle sessions beyond the minimum are closed after a while, and sessions or transactions
+ * found closed are replaced by a periodic health check.
+ */
+public interface SessionPool extends AutoCloseable {
+
+    /**
+     * Borrows a session from the pool, opening a new one if none is idle and the pool is not full,
+     * and otherwise waiting for one to be returned. Closing the returned session returns it to the pool.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * try (TypeDBSession session = pool.session()) { ... }
+     * </pre>
+     */
+    @CheckReturnValue
+    TypeDBSession session();
+
+    /**
+     * Takes a read transaction opened ahead of time, or opens one if none is ready. The transaction belongs to the caller,
+     * who must close it, and a replacement is opened in the background.
+     * A pre-opened transaction reads the data as of when it was opened,
+     * at most <code>maxTransactionAgeMillis</code> before it was taken.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * try (TypeDBTransaction tx = pool.readTransaction()) { ... }
+     * </pre>
+     */
+    @CheckReturnValue
+    TypeDBTransaction readTransaction();
+
+    /**
+     * Returns the number of sessions currently borrowed from the pool.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * pool.borrowedSessions();
+     * </pre>
+     */
+    @CheckReturnValue
+    int borrowedSessions();
+
+    /**
+     * Returns the number of open sessions waiting in the pool to be borrowed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * pool.idleSessions();
+     * </pre>
+     */
+    @CheckReturnValue
+    int idleSessions();
+
+    /**
+     * Returns the number of read transactions opened ahead of time and ready to be taken.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * pool.readyTransactions();
+     * </pre>
+     */
+    @CheckReturnValue
+    int readyTransactions();
+
+    /**
+     * Closes the pool, along with its idle sessions and pre-opened transactions.
+     * Borrowed sessions are closed when they are returned.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * pool.close();
+     * </pre>
+     */
+    @Override
+    void close();
+
+    /**
+     * Settings for a <code>SessionPool</code>.
+     */
+    class Options {
+        private int minSessions = 1;
+        private int maxSessions = Runtime.getRuntime().availableProcessors();
+        private int readyTransactions = 2;
+        private long idleTimeoutMillis = 60_000;
+        private long maxTransactionAgeMillis = 5_000;
+        private long healthCheckIntervalMillis = 1_000;
+        private long borrowTimeoutMillis = 30_000;
+        private TypeDBOptions sessionOptions = new TypeDBOptions();
+        private TypeDBOptions transactionOptions = new TypeDBOptions();
+
+        /**
+         * Produces a new <code>SessionPool.Options</code> object with default settings.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * SessionPool.Options options = new SessionPool.Options();
+         * </pre>
+         */
+        public Options() {
+        }
+
+        /**
+         * Returns the number of sessions kept open even when idle.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.minSessions();
+         * </pre>
+         */
+        @CheckReturnValue
+        public int minSessions() {
+            return minSessions;
+        }
+
+        /**
+         * Sets the number of sessions kept open even when idle. Defaults to 1.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.minSessions(minSessions);
+         * </pre>
+         *
+         * @param minSessions Number of sessions kept open
+         */
+        public Options minSessions(int minSessions) {
+            if (minSessions < 0) throw new TypeDBDriverException(NON_NEGATIVE_VALUE_REQUIRED, minSessions);
+            this.minSessions = minSessions;
+            return this;
+        }
+
+        /**
+         * Returns the maximum number of sessions that may be borrowed at once.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.maxSessions();
+         * </pre>
+         */
+        @CheckReturnValue
+        public int maxSessions() {
+            return maxSessions;
+        }
+
+        /**
+         * Sets the maximum number of sessions that may be borrowed at once. Defaults to the number of available processors.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.maxSessions(maxSessions);
+         * </pre>
+         *
+         * @param maxSessions Maximum number of borrowed sessions. Must be positive.
+         */
+        public Options maxSessions(int maxSessions) {
+            if (maxSessions < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, maxSessions);
+            this.maxSessions = maxSessions;
+            return this;
+        }
+
+        /**
+         * Returns the number of read transactions kept open ahead of time.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.readyTransactions();
+         * </pre>
+         */
+        @CheckReturnValue
+        public int readyTransactions() {
+            return readyTransactions;
+        }
+
+        /**
+         * Sets the number of read transactions kept open ahead of time. Defaults to 2.
+         * Zero disables pre-opening, so that <code>readTransaction()</code> always reads the latest data.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.readyTransactions(readyTransactions);
+         * </pre>
+         *
+         * @param readyTransactions Number of pre-opened read transactions
+         */
+        public Options readyTransactions(int readyTransactions) {
+            if (readyTransactions < 0) throw new TypeDBDriverException(NON_NEGATIVE_VALUE_REQUIRED, readyTransactions);
+            this.readyTransactions = readyTransactions;
+            return this;
+        }
+
+        /**
+         * Returns the time after which an idle session beyond <code>minSessions</code> is closed.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.idleTimeoutMillis();
+         * </pre>
+         */
+        @CheckReturnValue
+        public long idleTimeoutMillis() {
+            return idleTimeoutMillis;
+        }
+
+        /**
+         * Sets the time after which an idle session beyond <code>minSessions</code> is closed. Defaults to one minute.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.idleTimeoutMillis(idleTimeoutMillis);
+         * </pre>
+         *
+         * @param idleTimeoutMillis Idle timeout in milliseconds. Must be positive.
+         */
+        public Options idleTimeoutMillis(long idleTimeoutMillis) {
+            if (idleTimeoutMillis < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, idleTimeoutMillis);
+            this.idleTimeoutMillis = idleTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * Returns the time after which an unused pre-opened transaction is replaced by a new one.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.maxTransactionAgeMillis();
+         * </pre>
+         */
+        @CheckReturnValue
+        public long maxTransactionAgeMillis() {
+            return maxTransactionAgeMillis;
+        }
+
+        /**
+         * Sets the time after which an unused pre-opened transaction is replaced by a new one,
+         * which bounds how stale its data may be. Defaults to five seconds.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.maxTransactionAgeMillis(maxTransactionAgeMillis);
+         * </pre>
+         *
+         * @param maxTransactionAgeMillis Maximum age of a pre-opened transaction in milliseconds. Must be positive.
+         */
+        public Options maxTransactionAgeMillis(long maxTransactionAgeMillis) {
+            if (maxTransactionAgeMillis < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, maxTransactionAgeMillis);
+            this.maxTransactionAgeMillis = maxTransactionAgeMillis;
+            return this;
+        }
+
+        /**
+         * Returns the interval between health checks of the idle sessions and pre-opened transactions.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.healthCheckIntervalMillis();
+         * </pre>
+         */
+        @CheckReturnValue
+        public long healthCheckIntervalMillis() {
+            return healthCheckIntervalMillis;
+        }
+
+        /**
+         * Sets the interval between health checks, which replace closed sessions and transactions,
+         * close expired ones and open new ones up to the configured minimums. Defaults to one second.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.healthCheckIntervalMillis(healthCheckIntervalMillis);
+         * </pre>
+         *
+         * @param healthCheckIntervalMillis Health check interval in milliseconds. Must be positive.
+         */
+        public Options healthCheckIntervalMillis(long healthCheckIntervalMillis) {
+            if (healthCheckIntervalMillis < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, healthCheckIntervalMillis);
+            this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Returns the time to wait for a session when <code>maxSessions</code> sessions are borrowed.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.borrowTimeoutMillis();
+         * </pre>
+         */
+        @CheckReturnValue
+        public long borrowTimeoutMillis() {
+            return borrowTimeoutMillis;
+        }
+
+        /**
+         * Sets the time to wait for a session when <code>maxSessions</code> sessions are borrowed,
+         * after which <code>session()</code> throws. Defaults to 30 seconds.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.borrowTimeoutMillis(borrowTimeoutMillis);
+         * </pre>
+         *
+         * @param borrowTimeoutMillis Borrow timeout in milliseconds
+         */
+        public Options borrowTimeoutMillis(long borrowTimeoutMillis) {
+            if (borrowTimeoutMillis < 0) throw new TypeDBDriverException(NON_NEGATIVE_VALUE_REQUIRED, borrowTimeoutMillis);
+            this.borrowTimeoutMillis = borrowTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * Returns the options with which the pooled sessions are opened.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.sessionOptions();
+         * </pre>
+         */
+        @CheckReturnValue
+        public TypeDBOptions sessionOptions() {
+            return sessionOptions;
+        }
+
+        /**
+         * Sets the options with which the pooled sessions are opened.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.sessionOptions(sessionOptions);
+         * </pre>
+         *
+         * @param sessionOptions <code>TypeDBOptions</code> for the pooled sessions
+         */
+        public Options sessionOptions(TypeDBOptions sessionOptions) {
+            this.sessionOptions = sessionOptions;
+            return this;
+        }
+
+        /**
+         * Returns the options with which the pre-opened read transactions are opened.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.transactionOptions();
+         * </pre>
+         */
+        @CheckReturnValue
+        public TypeDBOptions transactionOptions() {
+            return transactionOptions;
+        }
+
+        /**
+         * Sets the options with which the pre-opened read transactions are opened.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.transactionOptions(transactionOptions);
+         * </pre>
+         *
+         * @param transactionOptions <code>TypeDBOptions</code> for the pre-opened read transactions
+         */
+        public Options transactionOptions(TypeDBOptions transactionOptions) {
+            this.transactionOptions = transactionOptions;
+            return this;
+        }
+    }
+}
@@ -22,8 +22,12 @@ package com.vaticle.typedb.driver.api;
 import com.vaticle.typedb.driver.api.database.DatabaseManager;
 import com.vaticle.typedb.driver.api.user.User;
 import com.vaticle.typedb.driver.api.user.UserManager;
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
 
 import javax.annotation.CheckReturnValue;
+import java.util.List;
+
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.POSITIVE_VALUE_REQUIRED;
 
 public interface TypeDBDriver extends AutoCloseable {
 
@@ -68,6 +72,53 @@ public interface TypeDBDriver extends AutoCloseable {
     @CheckReturnValue
     TypeDBSession session(String database, TypeDBSession.Type type, TypeDBOptions options);
 
+    /**
+     * Opens a session pool on the given database with default options.
+     *
+     * @see TypeDBDriver#sessionPool(String, TypeDBSession.Type, SessionPool.Options)
+     */
+    @CheckReturnValue
+    SessionPool sessionPool(String database, TypeDBSession.Type type);
+
+    /**
+     * Opens a <code>SessionPool</code> on the given database, which keeps sessions open to be borrowed
+     * and read transactions opened ahead of time.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.sessionPool(database, sessionType, new SessionPool.Options().maxSessions(16));
+     * </pre>
+     *
+     * @param database The name of the database with which the sessions connect
+     * @param type The type of the pooled sessions (DATA or SCHEMA)
+     * @param options <code>SessionPool.Options</code> for the pool
+     */
+    @CheckReturnValue
+    SessionPool sessionPool(String database, TypeDBSession.Type type, SessionPool.Options options);
+
+    /**
+     * Opens a bulk loader on the given database with default options.
+     *
+     * @see TypeDBDriver#bulkLoader(String, BulkLoader.Options)
+     */
+    @CheckReturnValue
+    BulkLoader bulkLoader(String database);
+
+    /**
+     * Opens a <code>BulkLoader</code> on the given database, which loads data through several write transactions
+     * in parallel and commits them in batches. The loader opens its own data session, which is closed along with it.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.bulkLoader(database, new BulkLoader.Options().parallelism(8));
+     * </pre>
+     *
+     * @param database The name of the database to load data into
+     * @param options <code>BulkLoader.Options</code> for the loader
+     */
+    @CheckReturnValue
+    BulkLoader bulkLoader(String database, BulkLoader.Options options);
+
     /**
      * Closes the driver. Before instantiating a new driver, the driver that’s currently open should first be closed.
      *
@@ -100,4 +151,237 @@ public interface TypeDBDriver extends AutoCloseable {
      */
     @CheckReturnValue
     UserManager users();
+
+    /**
+     * Returns the usage of every channel this driver has opened, to each of its servers.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.channelMetrics();
+     * </pre>
+     */
+    @CheckReturnValue
+    List<? extends ChannelMetrics> channelMetrics();
+
+    /**
+     * The usage of one channel of a driver.
+     */
+    interface ChannelMetrics {
+
+        /**
+         * The server the channel is connected to
+         */
+        @CheckReturnValue
+        String server();
+
+        /**
+         * The position of the channel in the pool of its server
+         */
+        @CheckReturnValue
+        long index();
+
+        /**
+         * The number of transactions currently open over the channel
+         */
+        @CheckReturnValue
+        long openTransactions();
+
+        /**
+         * The number of transactions opened over the channel since the driver was opened
+         */
+        @CheckReturnValue
+        long totalTransactions();
+
+        /**
+         * The number of requests, other than transactions, that were sent over the channel and await a response
+         */
+        @CheckReturnValue
+        long pendingRequests();
+
+        /**
+         * The number of requests, other than transactions, sent over the channel since the driver was opened
+         */
+        @CheckReturnValue
+        long totalRequests();
+    }
+
+    /**
+     * Settings for opening a <code>TypeDBDriver</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDB.coreDriver(address, new TypeDBDriver.Options().networkRuntime(TypeDBDriver.Options.NetworkRuntime.MULTI_THREAD));
+     * </pre>
+     */
+    class Options {
+        private NetworkRuntime networkRuntime = NetworkRuntime.CURRENT_THREAD;
+        private int networkWorkerThreads = Runtime.getRuntime().availableProcessors();
+        private int channelPoolSize = 1;
+        private ChannelSelection channelSelection = ChannelSelection.ROUND_ROBIN;
+
+        /**
+         * Produces a new <code>TypeDBDriver.Options</code> object with default settings.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * TypeDBDriver.Options options = new TypeDBDriver.Options();
+         * </pre>
+         */
+        public Options() {
+        }
+
+        /**
+         * Returns the kind of runtime that runs the network I/O of the driver.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.networkRuntime();
+         * </pre>
+         */
+        @CheckReturnValue
+        public NetworkRuntime networkRuntime() {
+            return networkRuntime;
+        }
+
+        /**
+         * Sets the kind of runtime that runs the network I/O of the driver: sending and receiving requests,
+         * decoding responses, and keeping sessions alive. Defaults to <code>CURRENT_THREAD</code>.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.networkRuntime(networkRuntime);
+         * </pre>
+         *
+         * @param networkRuntime The kind of runtime that runs the network I/O of the driver
+         */
+        public Options networkRuntime(NetworkRuntime networkRuntime) {
+            this.networkRuntime = networkRuntime;
+            return this;
+        }
+
+        /**
+         * Returns the number of threads network I/O is spread over with a <code>MULTI_THREAD</code> runtime.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.networkWorkerThreads();
+         * </pre>
+         */
+        @CheckReturnValue
+        public int networkWorkerThreads() {
+            return networkWorkerThreads;
+        }
+
+        /**
+         * Sets the number of threads network I/O is spread over with a <code>MULTI_THREAD</code> runtime.
+         * Defaults to the number of available processors.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.networkWorkerThreads(networkWorkerThreads);
+         * </pre>
+         *
+         * @param networkWorkerThreads Number of network threads. Must be positive.
+         */
+        public Options networkWorkerThreads(int networkWorkerThreads) {
+            if (networkWorkerThreads < 1) {
+                throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, networkWorkerThreads);
+            }
+            this.networkWorkerThreads = networkWorkerThreads;
+            return this;
+        }
+
+        /**
+         * Returns the number of channels the driver opens to each server.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.channelPoolSize();
+         * </pre>
+         */
+        @CheckReturnValue
+        public int channelPoolSize() {
+            return channelPoolSize;
+        }
+
+        /**
+         * Sets the number of channels the driver opens to each server. Every channel is a connection of its own,
+         * so transactions on different channels do not share a TCP socket or the server's limit on the streams
+         * of one connection. Defaults to 1.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.channelPoolSize(channelPoolSize);
+         * </pre>
+         *
+         * @param channelPoolSize Number of channels to each server. Must be positive.
+         */
+        public Options channelPoolSize(int channelPoolSize) {
+            if (channelPoolSize < 1) {
+                throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, channelPoolSize);
+            }
+            this.channelPoolSize = channelPoolSize;
+            return this;
+        }
+
+        /**
+         * Returns how a channel is chosen for each request and transaction.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.channelSelection();
+         * </pre>
+         */
+        @CheckReturnValue
+        public ChannelSelection channelSelection() {
+            return channelSelection;
+        }
+
+        /**
+         * Sets how a channel is chosen for each request and transaction, when more than one channel is opened
+         * to each server. Defaults to <code>ROUND_ROBIN</code>.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * options.channelSelection(channelSelection);
+         * </pre>
+         *
+         * @param channelSelection How a channel is chosen for each request and transaction
+         */
+        public Options channelSelection(ChannelSelection channelSelection) {
+            this.channelSelection = channelSelection;
+            return this;
+        }
+
+        /**
+         * The kind of runtime that runs the network I/O of a driver.
+         */
+        public enum NetworkRuntime {
+            /**
+             * All network I/O runs on a single thread. Cheapest for few concurrent transactions,
+             * but bounded by the throughput of one core.
+             */
+            CURRENT_THREAD,
+            /**
+             * Network I/O is spread over a pool of threads, so that concurrent transactions are served in parallel
+             * and large responses are decoded without stalling the other transactions.
+             */
+            MULTI_THREAD
+        }
+
+        /**
+         * How a channel is chosen for each request and transaction of a driver.
+         */
+        public enum ChannelSelection {
+            /**
+             * The channels are used in turn.
+             */
+            ROUND_ROBIN,
+            /**
+             * The channel with the fewest open transactions and unanswered requests is used, taking the channels
+             * in turn when several are equally loaded.
+             */
+            LEAST_LOADED
+        }
+    }
 }
@@ -23,11 +23,16 @@ import com.vaticle.typedb.driver.common.NativeObject;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
 
 import javax.annotation.CheckReturnValue;
+import java.time.Duration;
+import java.util.Objects;
 import java.util.Optional;
 
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.NON_NEGATIVE_VALUE_REQUIRED;
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.POSITIVE_VALUE_REQUIRED;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_explain;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_infer;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_max_buffered_answers;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_max_buffered_bytes;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_parallel;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_prefetch;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_prefetch_size;
@@ -38,6 +43,8 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_trace_infe
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_transaction_timeout_millis;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_explain;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_infer;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_max_buffered_answers;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_max_buffered_bytes;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_parallel;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_prefetch;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_prefetch_size;
@@ -47,8 +54,13 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_session_id
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_trace_inference;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_transaction_timeout_millis;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_new;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_dispatch_adaptive;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_dispatch_immediate;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_dispatch_interval;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_explain;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_infer;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_max_buffered_answers;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_max_buffered_bytes;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_parallel;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_prefetch;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_prefetch_size;
@@ -63,6 +75,11 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_transactio
  * the default server behaviour.
  */
 public class TypeDBOptions extends NativeObject<com.vaticle.typedb.driver.jni.Options> {
+    private Integer answerBatchSize = null;
+    private Boolean answerArena = null;
+    private Boolean schemaCache = null;
+    private DispatchPolicy dispatchPolicy = null;
+
     /**
      * Produces a new <code>TypeDBOptions</code> object.
      *
@@ -268,6 +285,236 @@ public class TypeDBOptions extends NativeObject<com.vaticle.typedb.driver.jni.Op
         return this;
     }
 
+    /**
+     * Returns the value set for the answer batch size in this <code>TypeDBOptions</code> object.
+     * If set, specifies how many answers the driver transfers from the native layer at once when
+     * iterating over query results.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.answerBatchSize();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Optional<Integer> answerBatchSize() {
+        return Optional.ofNullable(answerBatchSize);
+    }
+
+    /**
+     * Explicitly sets an answer batch size.
+     * If set, specifies how many answers the driver transfers from the native layer at once when
+     * iterating over query results. Only affects the client; a batch is handed over once it is full
+     * or the result stream is exhausted.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.answerBatchSize(answerBatchSize);
+     * </pre>
+     *
+     * @param answerBatchSize Number of answers the driver transfers from the native layer at once
+     */
+    public TypeDBOptions answerBatchSize(int answerBatchSize) {
+        if (answerBatchSize < 1) {
+            throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, answerBatchSize);
+        }
+        this.answerBatchSize = answerBatchSize;
+        return this;
+    }
+
+    /**
+     * Returns the value set for the answer arena in this <code>TypeDBOptions</code> object.
+     * If set to <code>true</code>, answers to Get, Insert and Update queries are freed in bulk by the transaction
+     * instead of individually by the garbage collector.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.answerArena();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Optional<Boolean> answerArena() {
+        return Optional.ofNullable(answerArena);
+    }
+
+    /**
+     * Explicitly enables or disables the answer arena.
+     * If enabled, the native memory of answers to Get, Insert and Update queries is owned by the transaction
+     * and freed in bulk when the transaction is closed or committed, or when <code>transaction.release()</code>
+     * is called, instead of individually by the garbage collector. Using an answer once it has been freed throws a
+     * <code>TypeDBDriverException</code>.
+     * Only settable at transaction level. Only affects the client.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.answerArena(answerArena);
+     * </pre>
+     *
+     * @param answerArena Explicitly enable or disable the answer arena
+     */
+    public TypeDBOptions answerArena(boolean answerArena) {
+        this.answerArena = answerArena;
+        return this;
+    }
+
+    /**
+     * Returns the value set for the schema cache in this <code>TypeDBOptions</code> object.
+     * If set to <code>true</code>, schema lookups are served from a cache shared by the transactions of the session.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.schemaCache();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Optional<Boolean> schemaCache() {
+        return Optional.ofNullable(schemaCache);
+    }
+
+    /**
+     * Explicitly enables or disables the schema cache.
+     * If enabled, types, labels, the type hierarchy, and owns, plays and relates lookups made in read transactions
+     * and in data sessions are cached for the lifetime of the session, so repeated lookups need no server round trip.
+     * The cache is cleared when a schema transaction on the session commits, when a commit on the session fails,
+     * and when the session reopens. Schema changes made through other sessions are not observed until then.
+     * Only settable at session level. Only affects the client.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.schemaCache(schemaCache);
+     * </pre>
+     *
+     * @param schemaCache Explicitly enable or disable the schema cache
+     */
+    public TypeDBOptions schemaCache(boolean schemaCache) {
+        this.schemaCache = schemaCache;
+        return this;
+    }
+
+    /**
+     * Returns the value set for the dispatch policy in this <code>TypeDBOptions</code> object.
+     * If set, specifies when the driver sends the requests of a transaction that are waiting to be sent to the server.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.dispatchPolicy();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Optional<DispatchPolicy> dispatchPolicy() {
+        return Optional.ofNullable(dispatchPolicy);
+    }
+
+    /**
+     * Explicitly sets a dispatch policy.
+     * If set, specifies when the driver sends the requests of a transaction that are waiting to be sent to the server.
+     * Sending requests as soon as they are made favours the latency of sequential operations, while holding them back
+     * to send them together favours the throughput of pipelined operations. If not set, waiting requests are sent
+     * every 3 milliseconds. Only settable at transaction level. Only affects the client.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.dispatchPolicy(TypeDBOptions.DispatchPolicy.adaptive(Duration.ofMillis(1)));
+     * </pre>
+     *
+     * @param dispatchPolicy When the driver sends the requests of a transaction
+     */
+    public TypeDBOptions dispatchPolicy(DispatchPolicy dispatchPolicy) {
+        switch (dispatchPolicy.mode()) {
+            case IMMEDIATE:
+                options_set_dispatch_immediate(nativeObject);
+                break;
+            case ADAPTIVE:
+                options_set_dispatch_adaptive(nativeObject, dispatchPolicy.delayMicros());
+                break;
+            case INTERVAL:
+                try {
+                    options_set_dispatch_interval(nativeObject, dispatchPolicy.delayMicros());
+                } catch (com.vaticle.typedb.driver.jni.Error e) {
+                    throw new TypeDBDriverException(e);
+                }
+                break;
+            default:
+                throw new IllegalStateException();
+        }
+        this.dispatchPolicy = dispatchPolicy;
+        return this;
+    }
+
+    /**
+     * Returns the value set for the maximum number of buffered answers in this <code>TypeDBOptions</code> object.
+     * If set, specifies how many answers of a query the driver holds before it stops asking the server for more.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.maxBufferedAnswers();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Optional<Long> maxBufferedAnswers() {
+        if (options_has_max_buffered_answers(nativeObject)) return Optional.of(options_get_max_buffered_answers(nativeObject));
+        return Optional.empty();
+    }
+
+    /**
+     * Explicitly sets a maximum number of buffered answers.
+     * If set, specifies how many answers of a query the driver holds before it stops asking the server for more.
+     * Answers received but not yet consumed are buffered in native memory; once a query reaches the limit, its server
+     * stream is paused until the consumer has caught up, so a slow consumer cannot make the driver buffer the whole
+     * result set. The server pauses between batches, so the limit may be exceeded by up to one batch.
+     * Only settable at transaction level. Only affects the client.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.maxBufferedAnswers(maxBufferedAnswers);
+     * </pre>
+     *
+     * @param maxBufferedAnswers Number of answers of a query the driver holds before pausing the server stream
+     */
+    public TypeDBOptions maxBufferedAnswers(long maxBufferedAnswers) {
+        if (maxBufferedAnswers < 1) {
+            throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, maxBufferedAnswers);
+        }
+        options_set_max_buffered_answers(nativeObject, maxBufferedAnswers);
+        return this;
+    }
+
+    /**
+     * Returns the value set for the maximum number of buffered bytes in this <code>TypeDBOptions</code> object.
+     * If set, specifies how many bytes of answers of a query the driver holds before it stops asking the server for more.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.maxBufferedBytes();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Optional<Long> maxBufferedBytes() {
+        if (options_has_max_buffered_bytes(nativeObject)) return Optional.of(options_get_max_buffered_bytes(nativeObject));
+        return Optional.empty();
+    }
+
+    /**
+     * Explicitly sets a maximum number of buffered bytes.
+     * If set, specifies how many bytes of answers of a query the driver holds before it stops asking the server for more,
+     * measured by their size on the wire. Once a query reaches the limit, its server stream is paused until the consumer
+     * has caught up. The server pauses between batches, so the limit may be exceeded by up to one batch.
+     * Only settable at transaction level. Only affects the client.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.maxBufferedBytes(maxBufferedBytes);
+     * </pre>
+     *
+     * @param maxBufferedBytes Number of bytes of answers of a query the driver holds before pausing the server stream
+     */
+    public TypeDBOptions maxBufferedBytes(long maxBufferedBytes) {
+        if (maxBufferedBytes < 1) {
+            throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, maxBufferedBytes);
+        }
+        options_set_max_buffered_bytes(nativeObject, maxBufferedBytes);
+        return this;
+    }
+
     /**
      * Returns the value set for the session idle timeout in this <code>TypeDBOptions</code> object.
      * If set, specifies a timeout that allows the server to close sessions if the driver terminates
@@ -411,4 +658,133 @@ public class TypeDBOptions extends NativeObject<com.vaticle.typedb.driver.jni.Op
         options_set_read_any_replica(nativeObject, readAnyReplica);
         return this;
     }
+
+    /**
+     * Specifies when the driver sends the requests of a transaction that are waiting to be sent to the server.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * // Send every request as soon as no more requests are waiting: lowest latency for sequential operations.
+     * TypeDBOptions.DispatchPolicy.immediate();
+     *
+     * // Send at once when nothing has been sent for 1ms, otherwise hold requests back for up to 1ms after the last send.
+     * TypeDBOptions.DispatchPolicy.adaptive(Duration.ofMillis(1));
+     *
+     * // Send waiting requests every 3ms: highest throughput for pipelined operations.
+     * TypeDBOptions.DispatchPolicy.interval(Duration.ofMillis(3));
+     * </pre>
+     */
+    public static final class DispatchPolicy {
+        private final Mode mode;
+        private final Duration delay;
+
+        private DispatchPolicy(Mode mode, Duration delay) {
+            this.mode = mode;
+            this.delay = delay;
+        }
+
+        /**
+         * Sends waiting requests as soon as no more requests are queued.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * TypeDBOptions.DispatchPolicy.immediate();
+         * </pre>
+         */
+        public static DispatchPolicy immediate() {
+            return new DispatchPolicy(Mode.IMMEDIATE, Duration.ZERO);
+        }
+
+        /**
+         * Sends a request at once if nothing has been sent for <code>maxDelay</code>, and otherwise holds it back
+         * together with any requests that follow it until <code>maxDelay</code> after the last send.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * TypeDBOptions.DispatchPolicy.adaptive(maxDelay);
+         * </pre>
+         *
+         * @param maxDelay The longest time a request is held back
+         */
+        public static DispatchPolicy adaptive(Duration maxDelay) {
+            return new DispatchPolicy(Mode.ADAPTIVE, requireNonNegative(maxDelay));
+        }
+
+        /**
+         * Sends waiting requests at a fixed interval.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * TypeDBOptions.DispatchPolicy.interval(interval);
+         * </pre>
+         *
+         * @param interval The time between two sends. Must be at least one microsecond.
+         */
+        public static DispatchPolicy interval(Duration interval) {
+            // a zero interval would leave the driver's dispatcher spinning rather than waiting for requests
+            long intervalMicros = interval.toNanos() / 1000;
+            if (intervalMicros < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, intervalMicros);
+            return new DispatchPolicy(Mode.INTERVAL, interval);
+        }
+
+        private static Duration requireNonNegative(Duration duration) {
+            if (duration.isNegative()) throw new TypeDBDriverException(NON_NEGATIVE_VALUE_REQUIRED, duration.toMillis());
+            return duration;
+        }
+
+        /**
+         * Returns the mode of this dispatch policy.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * dispatchPolicy.mode();
+         * </pre>
+         */
+        @CheckReturnValue
+        public Mode mode() {
+            return mode;
+        }
+
+        /**
+         * Returns the delay of this dispatch policy: the longest time a request is held back for
+         * an adaptive policy, the time between two sends for an interval policy, and zero otherwise.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * dispatchPolicy.delay();
+         * </pre>
+         */
+        @CheckReturnValue
+        public Duration delay() {
+            return delay;
+        }
+
+        private long delayMicros() {
+            return delay.toNanos() / 1000;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) return true;
+            if (obj == null || obj.getClass() != getClass()) return false;
+            DispatchPolicy that = (DispatchPolicy) obj;
+            return mode == that.mode && delay.equals(that.delay);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mode, delay);
+        }
+
+        @Override
+        public String toString() {
+            return mode == Mode.IMMEDIATE ? mode.toString() : mode + "(" + delay.toNanos() / 1000 + "us)";
+        }
+
+        public enum Mode {
+            IMMEDIATE,
+            ADAPTIVE,
+            INTERVAL
+        }
+    }
 }
@@ -19,7 +19,11 @@
 
 package com.vaticle.typedb.driver.api;
 
+import com.vaticle.typedb.driver.api.answer.ConceptMap;
+
 import javax.annotation.CheckReturnValue;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface TypeDBSession extends AutoCloseable {
 
@@ -79,6 +83,32 @@ public interface TypeDBSession extends AutoCloseable {
     @CheckReturnValue
     TypeDBTransaction transaction(TypeDBTransaction.Type type, TypeDBOptions options);
 
+    /**
+     * Runs the given get queries concurrently with default options, using up to one read transaction per available processor.
+     *
+     * @see TypeDBSession#getPartitioned(List, TypeDBOptions, int)
+     */
+    @CheckReturnValue
+    Stream<ConceptMap> getPartitioned(List<String> queries);
+
+    /**
+     * Runs a set of get queries, each covering one partition of the answers, concurrently in separate read transactions,
+     * and merges their answers into a single stream. Answers are fetched in the background as the stream is consumed,
+     * in no particular order, and the stream may be consumed in parallel. Closing the stream closes the transactions
+     * of any queries that have not finished.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * session.getPartitioned(List.of("match $x isa person; get;", "match $x isa company; get;"), options, parallelism);
+     * </pre>
+     *
+     * @param queries The TypeQL get queries, one per partition
+     * @param options Options for the read transactions
+     * @param parallelism The maximum number of read transactions open at once
+     */
+    @CheckReturnValue
+    Stream<ConceptMap> getPartitioned(List<String> queries, TypeDBOptions options, int parallelism);
+
     /**
      * Registers a callback function which will be executed when this session is closed.
      *
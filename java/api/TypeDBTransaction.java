@@ -50,6 +50,34 @@ public interface TypeDBTransaction extends AutoCloseable {
     @CheckReturnValue
     TypeDBOptions options();
 
+    /**
+     * Returns the number of answers the driver has received for the queries of this transaction
+     * that have not been consumed yet.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.bufferedAnswers();
+     * </pre>
+     *
+     * @see TypeDBOptions#maxBufferedAnswers(long)
+     */
+    @CheckReturnValue
+    long bufferedAnswers();
+
+    /**
+     * Returns the size on the wire, in bytes, of the answers the driver has received for the queries of this transaction
+     * that have not been consumed yet.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.bufferedBytes();
+     * </pre>
+     *
+     * @see TypeDBOptions#maxBufferedBytes(long)
+     */
+    @CheckReturnValue
+    long bufferedBytes();
+
     /**
      * The <code>ConceptManager</code> for this transaction, providing access to all Concept API methods.
      */
@@ -100,6 +128,18 @@ public interface TypeDBTransaction extends AutoCloseable {
      */
     void rollback();
 
+    /**
+     * Frees all answers retrieved in this transaction so far, if it was opened with the answer arena enabled
+     * (see <code>TypeDBOptions.answerArena</code>). The transaction remains open, but using a freed answer
+     * throws a <code>TypeDBDriverException</code>. Has no effect if the answer arena is not enabled.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.release()
+     * </pre>
+     */
+    void release();
+
     /**
      * Closes the transaction.
      *
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.api.answer;
+
+import com.vaticle.typedb.driver.api.concept.value.Value;
+
+import javax.annotation.CheckReturnValue;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A batch of answers to a TypeQL Get query, laid out column by column.
+ * Each query variable maps to a <code>Column</code> holding the IIDs, labels and values bound to it in every row,
+ * backed by primitive arrays rather than one <code>ConceptMap</code> per answer.
+ */
+public interface ColumnarBatch {
+    /**
+     * Retrieves the number of rows (answers) in this batch.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * columnarBatch.size();
+     * </pre>
+     */
+    @CheckReturnValue
+    int size();
+
+    /**
+     * Retrieves the variables bound in any row of this batch, in column order. A variable need not be bound
+     * in every row, as answers to disjunctions may bind different variables.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * columnarBatch.variables();
+     * </pre>
+     */
+    @CheckReturnValue
+    List<String> variables();
+
+    /**
+     * Retrieves the column holding the concepts bound to the given variable.
+     * Throws an exception if the variable is not present.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * columnarBatch.column(variable);
+     * </pre>
+     *
+     * @param variable The string representation of a variable
+     */
+    @CheckReturnValue
+    Column column(String variable);
+
+    /**
+     * The concepts bound to a single variable across all rows of a <code>ColumnarBatch</code>.
+     * Rows are addressed by their index within the batch.
+     */
+    interface Column {
+        /**
+         * Retrieves the variable this column holds the concepts of.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * column.variable();
+         * </pre>
+         */
+        @CheckReturnValue
+        String variable();
+
+        /**
+         * Checks if the variable is bound in the given row.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * column.isPresent(row);
+         * </pre>
+         *
+         * @param row The index of the row within the batch
+         */
+        @CheckReturnValue
+        boolean isPresent(int row);
+
+        /**
+         * Checks if the concept in the given row is a <code>Thing</code>.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * column.isThing(row);
+         * </pre>
+         *
+         * @param row The index of the row within the batch
+         */
+        @CheckReturnValue
+        boolean isThing(int row);
+
+        /**
+         * Checks if the concept in the given row is a <code>Type</code>.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * column.isType(row);
+         * </pre>
+         *
+         * @param row The index of the row within the batch
+         */
+        @CheckReturnValue
+        boolean isType(int row);
+
+        /**
+         * Checks if the concept in the given row is a <code>Value</code>.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * column.isValue(row);
+         * </pre>
+         *
+         * @param row The index of the row within the batch
+         */
+        @CheckReturnValue
+        boolean isValue(int row);
+
+        /**
+         * Checks if the concept in the given row carries a value, i.e. it is an <code>Attribute</code>
+         * or a <code>Value</code>.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * column.hasValue(row);
+         * </pre>
+         *
+         * @param row The index of the row within the batch
+         */
+        @CheckReturnValue
+        boolean hasValue(int row);
+
+        /**
+         * Retrieves the unique id of the <code>Thing</code> in the given row.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * column.getIID(row);
+         * </pre>
+         *
+         * @param row The index of the row within the batch
+         */
+        @CheckReturnValue
+        String getIID(int row);
+
+        /**
+         * Retrieves the unique id of the <code>Thing</code> in the given row as raw bytes, without hex encoding.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * column.getIIDBytes(row);
+         * </pre>
+         *
+         * @param row The index of the row within the batch
+         */
+        @CheckReturnValue
+        byte[] getIIDBytes(int row);
+
+        /**
+         * Retrieves the label of the <code>Type</code> in the given row,
+         * or the label of the type of the <code>Thing</code> in the given row.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * column.getLabel(row);
+         * </pre>
+         *
+         * @param row The index of the row within the batch
+         */
+        @CheckReturnValue
+        String getLabel(int row);
+
+        /**
+         * Retrieves the <code>Value.Type</code> of the value carried by the concept in the given row.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * column.getValueType(row);
+         * </pre>
+         *
+         * @param row The index of the row within the batch
+         */
+        @CheckReturnValue
+        Value.Type getValueType(int row);
+
+        /**
+         * Returns a <code>boolean</code> value carried by the concept in the given row.
+         * If the value has another type, raises an exception.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * column.getBoolean(row);
+         * </pre>
+         *
+         * @param row The index of the row within the batch
+         */
+        @CheckReturnValue
+        boolean getBoolean(int row);
+
+        /**
+         * Returns a <code>long</code> value carried by the concept in the given row.
+         * If the value has another type, raises an exception.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * column.getLong(row);
+         * </pre>
+         *
+         * @param row The index of the row within the batch
+         */
+        @CheckReturnValue
+        long getLong(int row);
+
+        /**
+         * Returns a <code>double</code> value carried by the concept in the given row.
+         * If the value has another type, raises an exception.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * column.getDouble(row);
+         * </pre>
+         *
+         * @param row The index of the row within the batch
+         */
+        @CheckReturnValue
+        double getDouble(int row);
+
+        /**
+         * Returns a <code>string</code> value carried by the concept in the given row.
+         * If the value has another type, raises an exception.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * column.getString(row);
+         * </pre>
+         *
+         * @param row The index of the row within the batch
+         */
+        @CheckReturnValue
+        String getString(int row);
+
+        /**
+         * Returns a <code>datetime</code> value carried by the concept in the given row.
+         * If the value has another type, raises an exception.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * column.getDateTime(row);
+         * </pre>
+         *
+         * @param row The index of the row within the batch
+         */
+        @CheckReturnValue
+        LocalDateTime getDateTime(int row);
+    }
+}
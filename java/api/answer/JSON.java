@@ -24,7 +24,12 @@ import com.eclipsesource.json.JsonValue;
 import com.vaticle.typedb.common.collection.Pair;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -33,13 +38,56 @@ import java.util.stream.StreamSupport;
 import static com.vaticle.typedb.common.util.Objects.className;
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Internal.ILLEGAL_CAST;
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Internal.ILLEGAL_STATE;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
 import static java.util.stream.Collectors.joining;
 
 public abstract class JSON {
+    private static final byte OBJECT = 0;
+    private static final byte ARRAY = 1;
+    private static final byte STRING = 2;
+    private static final byte NUMBER = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte NULL = 5;
+
     public static JSON parse(java.lang.String string) {
         return of(Json.parse(string));
     }
 
+    /**
+     * Decodes a JSON answer from the binary encoding produced by the native driver.
+     * Objects and arrays are decoded lazily, one level at a time, when their contents are first accessed.
+     */
+    public static JSON decode(byte[] encoded) {
+        return decode(ByteBuffer.wrap(encoded).order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    private static JSON decode(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case OBJECT: return new JSON.Object(buffer.slice().order(ByteOrder.LITTLE_ENDIAN));
+            case ARRAY: return new JSON.Array(buffer.slice().order(ByteOrder.LITTLE_ENDIAN));
+            case STRING: return new JSON.String(readString(buffer));
+            case NUMBER: return new JSON.Number(buffer.getDouble());
+            case BOOLEAN: return new JSON.Boolean(buffer.get() != 0);
+            case NULL: return new JSON.Null();
+            default: throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
+    }
+
+    private static JSON decodeSized(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        ByteBuffer node = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        node.limit(length);
+        buffer.position(buffer.position() + length);
+        return decode(node);
+    }
+
+    private static java.lang.String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new java.lang.String(bytes, StandardCharsets.UTF_8);
+    }
+
     private static JSON of(JsonValue value) {
         if (value.isObject()) {
             return new JSON.Object(StreamSupport.stream(value.asObject().spliterator(), false)
@@ -99,23 +147,57 @@ public abstract class JSON {
         throw new TypeDBDriverException(ILLEGAL_CAST, className(boolean.class));
     }
 
+    /**
+     * The layout of a sequence of JSON answers written to an output.
+     */
+    public enum Format {
+        /**
+         * A single JSON array holding all answers, with no whitespace between them.
+         */
+        COMPACT,
+        /**
+         * Newline-delimited JSON: each answer on its own line.
+         */
+        NDJSON
+    }
+
     private static java.lang.String indent(java.lang.String string) {
         return Arrays.stream(string.split("\n")).map(s -> "    " + s).collect(joining("\n"));
     }
 
     private static class Object extends JSON {
-        private final Map<java.lang.String, JSON> object;
+        // the decoded form is published before the encoding is released, so a reader always sees one of the two
+        private volatile Map<java.lang.String, JSON> object;
+        private volatile ByteBuffer encoded;
 
         Object(Map<java.lang.String, JSON> object) {
             this.object = object;
         }
 
+        Object(ByteBuffer encoded) {
+            this.encoded = encoded;
+        }
+
         public boolean isObject() {
             return true;
         }
 
         @Override
         public Map<java.lang.String, JSON> asObject() {
+            Map<java.lang.String, JSON> object = this.object;
+            if (object == null) {
+                ByteBuffer encoded = this.encoded;
+                if (encoded == null) return this.object;
+                ByteBuffer buffer = encoded.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+                int size = buffer.getInt();
+                object = new HashMap<>(size * 2);
+                for (int i = 0; i < size; i++) {
+                    java.lang.String key = readString(buffer);
+                    object.put(key, decodeSized(buffer));
+                }
+                this.object = object;
+                this.encoded = null;
+            }
             return object;
         }
 
@@ -124,12 +206,12 @@ public abstract class JSON {
             if (obj == this) return true;
             if (obj == null || getClass() != obj.getClass()) return false;
             JSON.Object that = (JSON.Object) obj;
-            return this.object.equals(that.object);
+            return this.asObject().equals(that.asObject());
         }
 
         @Override
         public int hashCode() {
-            return object.hashCode();
+            return asObject().hashCode();
         }
 
         @Override
@@ -161,17 +243,36 @@ public abstract class JSON {
     }
 
     private static class Array extends JSON {
-        private final List<JSON> array;
+        // the decoded form is published before the encoding is released, so a reader always sees one of the two
+        private volatile List<JSON> array;
+        private volatile ByteBuffer encoded;
 
         Array(List<JSON> array) {
             this.array = array;
         }
 
+        Array(ByteBuffer encoded) {
+            this.encoded = encoded;
+        }
+
         public boolean isArray() {
             return true;
         }
 
         public List<JSON> asArray() {
+            List<JSON> array = this.array;
+            if (array == null) {
+                ByteBuffer encoded = this.encoded;
+                if (encoded == null) return this.array;
+                ByteBuffer buffer = encoded.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+                int size = buffer.getInt();
+                array = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    array.add(decodeSized(buffer));
+                }
+                this.array = array;
+                this.encoded = null;
+            }
             return array;
         }
 
@@ -180,12 +281,12 @@ public abstract class JSON {
             if (obj == this) return true;
             if (obj == null || getClass() != obj.getClass()) return false;
             JSON.Array that = (JSON.Array) obj;
-            return this.array.equals(that.array);
+            return this.asArray().equals(that.asArray());
         }
 
         @Override
         public int hashCode() {
-            return array.hashCode();
+            return asArray().hashCode();
         }
 
         @Override
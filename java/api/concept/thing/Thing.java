@@ -43,6 +43,17 @@ public interface Thing extends Concept {
     @CheckReturnValue
     String getIID();
 
+    /**
+     * Retrieves the unique id of the <code>Thing</code> as raw bytes, without hex encoding.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * thing.getIIDBytes();
+     * </pre>
+     */
+    @CheckReturnValue
+    byte[] getIIDBytes();
+
     /**
      * Retrieves the type which this <code>Thing</code> belongs to.
      *
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.api.query;
+
+import javax.annotation.CheckReturnValue;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A TypeQL query template, split once around its parameter placeholders, into which values are bound as text
+ * without building or serialising a query AST. A placeholder is written <code>${name}</code>; a placeholder enclosed
+ * in double quotes, such as <code>"${name}"</code>, is also recognised along with its quotes, so that templates may be
+ * built with the TypeQL builder by passing the placeholder as a string value. Placeholders in comments are ignored,
+ * and a placeholder within a longer string literal is rejected when the template is prepared.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * PreparedQuery insert = tx.query().prepare("insert $p isa person, has name ${name}, has age ${age};");
+ * tx.query().insert(insert.bind().set("name", "Alice").set("age", 42).query());
+ * </pre>
+ */
+public interface PreparedQuery {
+
+    /**
+     * Returns the template from which this query was prepared.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * prepared.template();
+     * </pre>
+     */
+    @CheckReturnValue
+    String template();
+
+    /**
+     * Returns the names of the parameters of the template, in order of first appearance.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * prepared.parameters();
+     * </pre>
+     */
+    @CheckReturnValue
+    List<String> parameters();
+
+    /**
+     * Starts binding values to the parameters of the template.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * prepared.bind();
+     * </pre>
+     */
+    @CheckReturnValue
+    Binding bind();
+
+    /**
+     * A set of values bound to the parameters of a <code>PreparedQuery</code>. Each value is validated and rendered
+     * as a TypeQL literal when it is bound; binding a parameter again replaces its value.
+     */
+    interface Binding {
+
+        /**
+         * Binds a string value, rendered as a quoted and escaped TypeQL string.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * binding.set("name", "Alice");
+         * </pre>
+         *
+         * @param parameter The name of the parameter
+         * @param value The value to bind
+         */
+        Binding set(String parameter, String value);
+
+        /**
+         * Binds a long value.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * binding.set("age", 42);
+         * </pre>
+         *
+         * @param parameter The name of the parameter
+         * @param value The value to bind
+         */
+        Binding set(String parameter, long value);
+
+        /**
+         * Binds a double value, which must be finite.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * binding.set("score", 0.5);
+         * </pre>
+         *
+         * @param parameter The name of the parameter
+         * @param value The value to bind
+         */
+        Binding set(String parameter, double value);
+
+        /**
+         * Binds a boolean value.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * binding.set("active", true);
+         * </pre>
+         *
+         * @param parameter The name of the parameter
+         * @param value The value to bind
+         */
+        Binding set(String parameter, boolean value);
+
+        /**
+         * Binds a datetime value, truncated to milliseconds.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * binding.set("created", LocalDateTime.now());
+         * </pre>
+         *
+         * @param parameter The name of the parameter
+         * @param value The value to bind
+         */
+        Binding set(String parameter, LocalDateTime value);
+
+        /**
+         * Binds the IID of a thing, in its hexadecimal form as returned by <code>Thing.getIID()</code>.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * binding.setIID("person", person.getIID());
+         * </pre>
+         *
+         * @param parameter The name of the parameter
+         * @param iid The IID to bind
+         */
+        Binding setIID(String parameter, String iid);
+
+        /**
+         * Binds a type label, optionally scoped (for example <code>marriage:spouse</code>).
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * binding.setLabel("type", "person");
+         * </pre>
+         *
+         * @param parameter The name of the parameter
+         * @param label The label to bind
+         */
+        Binding setLabel(String parameter, String label);
+
+        /**
+         * Renders the query. Every parameter of the template must be bound.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * binding.query();
+         * </pre>
+         */
+        @CheckReturnValue
+        String query();
+    }
+}
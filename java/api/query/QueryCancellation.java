@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.api.query;
+
+import com.vaticle.typedb.driver.common.NativeObject;
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.CheckReturnValue;
+import java.time.Duration;
+
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.NON_NEGATIVE_VALUE_REQUIRED;
+import static com.vaticle.typedb.driver.jni.typedb_driver.stream_cancel_cancel;
+import static com.vaticle.typedb.driver.jni.typedb_driver.stream_cancel_is_cancelled;
+import static com.vaticle.typedb.driver.jni.typedb_driver.stream_cancel_new;
+import static com.vaticle.typedb.driver.jni.typedb_driver.stream_cancel_new_with_timeout;
+
+/**
+ * A handle through which queries are cancelled, either explicitly or once a deadline has passed.
+ * Once a query is cancelled, the driver stops asking the server for further answers and releases the answers
+ * it has buffered; its stream then fails with an error instead of returning further answers.
+ * Unlike closing the stream, cancelling is safe from any thread, including while another thread is waiting for answers.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * QueryCancellation cancellation = QueryCancellation.withTimeout(Duration.ofSeconds(10));
+ * transaction.query().get(query, options, cancellation).forEach(answer -&gt; ...);
+ * </pre>
+ */
+public class QueryCancellation extends NativeObject<com.vaticle.typedb.driver.jni.StreamCancel> {
+    /**
+     * Produces a new <code>QueryCancellation</code> without a deadline.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * new QueryCancellation();
+     * </pre>
+     */
+    public QueryCancellation() {
+        this(stream_cancel_new());
+    }
+
+    private QueryCancellation(com.vaticle.typedb.driver.jni.StreamCancel nativeObject) {
+        super(nativeObject);
+    }
+
+    /**
+     * Produces a new <code>QueryCancellation</code> which cancels its queries once <code>timeout</code>
+     * has passed since it was created.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * QueryCancellation.withTimeout(Duration.ofSeconds(10));
+     * </pre>
+     *
+     * @param timeout How long the queries may run before they are cancelled
+     */
+    public static QueryCancellation withTimeout(Duration timeout) {
+        if (timeout.isNegative()) throw new TypeDBDriverException(NON_NEGATIVE_VALUE_REQUIRED, timeout.toMillis());
+        return new QueryCancellation(stream_cancel_new_with_timeout(timeout.toMillis()));
+    }
+
+    /**
+     * Cancels every query started with this <code>QueryCancellation</code>.
+     * Queries started with it afterwards are cancelled immediately.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * cancellation.cancel();
+     * </pre>
+     */
+    public void cancel() {
+        stream_cancel_cancel(nativeObject);
+    }
+
+    /**
+     * Checks whether this <code>QueryCancellation</code> has been cancelled, either explicitly or by its deadline.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * cancellation.isCancelled();
+     * </pre>
+     */
+    @CheckReturnValue
+    public boolean isCancelled() {
+        return stream_cancel_is_cancelled(nativeObject);
+    }
+}
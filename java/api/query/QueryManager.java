@@ -20,6 +20,7 @@
 package com.vaticle.typedb.driver.api.query;
 
 import com.vaticle.typedb.driver.api.TypeDBOptions;
+import com.vaticle.typedb.driver.api.answer.ColumnarBatch;
 import com.vaticle.typedb.driver.api.answer.ConceptMap;
 import com.vaticle.typedb.driver.api.answer.ConceptMapGroup;
 import com.vaticle.typedb.driver.api.answer.JSON;
@@ -36,7 +37,13 @@ import com.vaticle.typeql.lang.query.TypeQLUndefine;
 import com.vaticle.typeql.lang.query.TypeQLUpdate;
 
 import javax.annotation.CheckReturnValue;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 /**
@@ -78,6 +85,125 @@ public interface QueryManager {
     @CheckReturnValue
     Stream<ConceptMap> get(String query, TypeDBOptions options);
 
+    /**
+     * Performs a TypeQL Get (Get) query in the transaction, which is cancelled through the given
+     * <code>QueryCancellation</code>, either explicitly or by its deadline. Once cancelled, the server is no longer
+     * asked for further answers, the answers already received are released, and the stream fails with an error.
+     * Closing the returned stream, for instance with try-with-resources, also cancels the query.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query().get(query, options, cancellation)
+     * </pre>
+     *
+     * @param query The TypeQL Get (Get) query to be executed
+     * @param options Specify query options
+     * @param cancellation The handle through which the query is cancelled
+     */
+    @CheckReturnValue
+    Stream<ConceptMap> get(TypeQLGet query, TypeDBOptions options, QueryCancellation cancellation);
+
+    /**
+     * @see QueryManager#get(TypeQLGet, TypeDBOptions, QueryCancellation)
+     */
+    @CheckReturnValue
+    Stream<ConceptMap> get(String query, TypeDBOptions options, QueryCancellation cancellation);
+
+    /**
+     * Performs a TypeQL Get (Get) query with default options, returning the answers in column-oriented batches.
+     *
+     * @see QueryManager#getColumnar(TypeQLGet, TypeDBOptions)
+     */
+    @CheckReturnValue
+    Stream<ColumnarBatch> getColumnar(TypeQLGet query);
+
+    /**
+     * Performs a TypeQL Get (Get) query in the transaction, returning the answers in column-oriented batches
+     * of up to <code>answerBatchSize</code> rows each (1024 by default).
+     * Each batch holds the IIDs, labels and values bound to every variable in primitive arrays,
+     * which avoids materialising a <code>ConceptMap</code> per answer.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query().getColumnar(query, options)
+     * </pre>
+     *
+     * @param query The TypeQL Get (Get) query to be executed
+     * @param options Specify query options
+     */
+    @CheckReturnValue
+    Stream<ColumnarBatch> getColumnar(TypeQLGet query, TypeDBOptions options);
+
+    /**
+     * Performs a TypeQL Get (Get) query with default options, returning the answers in column-oriented batches.
+     *
+     * @see QueryManager#getColumnar(TypeQLGet, TypeDBOptions)
+     */
+    @CheckReturnValue
+    Stream<ColumnarBatch> getColumnar(String query);
+
+    /**
+     * @see QueryManager#getColumnar(TypeQLGet, TypeDBOptions)
+     */
+    @CheckReturnValue
+    Stream<ColumnarBatch> getColumnar(String query, TypeDBOptions options);
+
+    /**
+     * Performs a TypeQL Get (Get) query with default options, publishing the answers to reactive subscribers.
+     *
+     * @see QueryManager#getPublisher(TypeQLGet, TypeDBOptions, Executor)
+     */
+    @CheckReturnValue
+    Flow.Publisher<ConceptMap> getPublisher(TypeQLGet query);
+
+    /**
+     * Performs a TypeQL Get (Get) query, publishing the answers to reactive subscribers.
+     *
+     * @see QueryManager#getPublisher(TypeQLGet, TypeDBOptions, Executor)
+     */
+    @CheckReturnValue
+    Flow.Publisher<ConceptMap> getPublisher(TypeQLGet query, TypeDBOptions options);
+
+    /**
+     * Performs a TypeQL Get (Get) query in the transaction once per subscriber, publishing the answers
+     * as the subscriber requests them. The driver only asks the server to continue the answer stream once
+     * the subscriber has requested answers beyond those already received, so a slow subscriber holds back
+     * the server instead of accumulating answers in the driver. If prefetching is enabled,
+     * the server still sends its first batch of up to <code>prefetchSize</code> answers eagerly.
+     * Answers are fetched and delivered on the given <code>executor</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query().getPublisher(query, options, executor).subscribe(subscriber)
+     * </pre>
+     *
+     * @param query The TypeQL Get (Get) query to be executed
+     * @param options Specify query options
+     * @param executor The executor on which answers are fetched and delivered to subscribers
+     */
+    @CheckReturnValue
+    Flow.Publisher<ConceptMap> getPublisher(TypeQLGet query, TypeDBOptions options, Executor executor);
+
+    /**
+     * Performs a TypeQL Get (Get) query with default options, publishing the answers to reactive subscribers.
+     *
+     * @see QueryManager#getPublisher(TypeQLGet, TypeDBOptions, Executor)
+     */
+    @CheckReturnValue
+    Flow.Publisher<ConceptMap> getPublisher(String query);
+
+    /**
+     * @see QueryManager#getPublisher(TypeQLGet, TypeDBOptions, Executor)
+     */
+    @CheckReturnValue
+    Flow.Publisher<ConceptMap> getPublisher(String query, TypeDBOptions options);
+
+    /**
+     * @see QueryManager#getPublisher(TypeQLGet, TypeDBOptions, Executor)
+     */
+    @CheckReturnValue
+    Flow.Publisher<ConceptMap> getPublisher(String query, TypeDBOptions options, Executor executor);
+
     /**
      * Performs a TypeQL Get Aggregate query with default options.
      *
@@ -221,6 +347,77 @@ public interface QueryManager {
     @CheckReturnValue
     Stream<JSON> fetch(String query, TypeDBOptions options);
 
+    /**
+     * Performs a TypeQL Fetch (Fetch) query in the transaction, writing each answer as single-line JSON text
+     * straight to the given <code>OutputStream</code> without materialising <code>JSON</code> objects.
+     * The next answer is only read once the previous one has been written, so a slow sink applies backpressure
+     * to the query. The output is not flushed or closed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query().fetch(query, options, outputStream, JSON.Format.NDJSON)
+     * </pre>
+     *
+     * @param query The TypeQL Fetch (Fetch) query to be executed
+     * @param options Specify query options
+     * @param output The stream to write the answers to, encoded in UTF-8
+     * @param format The layout of the answers in the output
+     * @return The number of answers written
+     */
+    long fetch(TypeQLFetch query, TypeDBOptions options, OutputStream output, JSON.Format format) throws IOException;
+
+    /**
+     * @see QueryManager#fetch(TypeQLFetch, TypeDBOptions, OutputStream, JSON.Format)
+     */
+    long fetch(String query, TypeDBOptions options, OutputStream output, JSON.Format format) throws IOException;
+
+    /**
+     * Performs a TypeQL Fetch (Fetch) query in the transaction, writing each answer as single-line JSON text
+     * straight to the given <code>Writer</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query().fetch(query, options, writer, JSON.Format.COMPACT)
+     * </pre>
+     *
+     * @param query The TypeQL Fetch (Fetch) query to be executed
+     * @param options Specify query options
+     * @param writer The writer to write the answers to
+     * @param format The layout of the answers in the output
+     * @return The number of answers written
+     * @see QueryManager#fetch(TypeQLFetch, TypeDBOptions, OutputStream, JSON.Format)
+     */
+    long fetch(TypeQLFetch query, TypeDBOptions options, Writer writer, JSON.Format format) throws IOException;
+
+    /**
+     * @see QueryManager#fetch(TypeQLFetch, TypeDBOptions, Writer, JSON.Format)
+     */
+    long fetch(String query, TypeDBOptions options, Writer writer, JSON.Format format) throws IOException;
+
+    /**
+     * Performs a TypeQL Fetch (Fetch) query in the transaction, writing each answer as UTF-8 encoded
+     * single-line JSON text straight to the given <code>WritableByteChannel</code>.
+     * A selectable channel must be in blocking mode, otherwise an <code>IllegalBlockingModeException</code> is thrown.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query().fetch(query, options, channel, JSON.Format.NDJSON)
+     * </pre>
+     *
+     * @param query The TypeQL Fetch (Fetch) query to be executed
+     * @param options Specify query options
+     * @param channel The channel to write the answers to
+     * @param format The layout of the answers in the output
+     * @return The number of answers written
+     * @see QueryManager#fetch(TypeQLFetch, TypeDBOptions, OutputStream, JSON.Format)
+     */
+    long fetch(TypeQLFetch query, TypeDBOptions options, WritableByteChannel channel, JSON.Format format) throws IOException;
+
+    /**
+     * @see QueryManager#fetch(TypeQLFetch, TypeDBOptions, WritableByteChannel, JSON.Format)
+     */
+    long fetch(String query, TypeDBOptions options, WritableByteChannel channel, JSON.Format format) throws IOException;
+
     /**
      * Performs a TypeQL Insert query with default options.
      *
@@ -415,4 +612,18 @@ public interface QueryManager {
      */
     @CheckReturnValue
     Stream<Explanation> explain(ConceptMap.Explainable explainable, TypeDBOptions options);
+
+    /**
+     * Prepares a query template with parameter placeholders, to be bound and rendered without building a query AST.
+     * Templates are split once and cached, so that preparing a recently prepared template again is cheap.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query().prepare("match $p isa person, has name ${name}; get;");
+     * </pre>
+     *
+     * @param template The TypeQL query template
+     */
+    @CheckReturnValue
+    PreparedQuery prepare(String template);
 }
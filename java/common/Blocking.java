@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.common;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Locale;
+
+/**
+ * Controls how threads wait for native network operations, such as resolving a <code>Promise</code>
+ * or fetching the next answer of a query.
+ * <p>A thread that blocks inside native code cannot be unmounted, so a virtual thread waiting on the server pins
+ * its carrier thread for the whole wait. Instead, a parking thread asks the driver to signal once the server has
+ * responded, and parks until then, releasing its carrier.</p>
+ * <p>The initial mode is read from the <code>typedb.driver.blocking</code> system property
+ * (<code>auto</code>, <code>native</code> or <code>park</code>), and defaults to <code>AUTO</code>.</p>
+ */
+public final class Blocking {
+    public static final String MODE_PROPERTY = "typedb.driver.blocking";
+    private static final MethodHandle IS_VIRTUAL = isVirtualHandle();
+    private static volatile Mode mode = initialMode();
+
+    private Blocking() {
+    }
+
+    /**
+     * How threads wait for native operations.
+     */
+    public enum Mode {
+        /** Virtual threads park, and platform threads block inside native code. */
+        AUTO,
+        /** All threads block inside native code. */
+        NATIVE,
+        /** All threads park until the native operation signals completion. */
+        PARK,
+    }
+
+    /**
+     * Returns the current blocking mode.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * Blocking.mode()
+     * </pre>
+     */
+    public static Mode mode() {
+        return mode;
+    }
+
+    /**
+     * Sets how threads wait for native operations from now on.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * Blocking.setMode(Blocking.Mode.PARK)
+     * </pre>
+     *
+     * @param mode The blocking mode
+     */
+    public static void setMode(Mode mode) {
+        Blocking.mode = mode;
+    }
+
+    static boolean shouldPark() {
+        switch (mode) {
+            case PARK:
+                return true;
+            case NATIVE:
+                return false;
+            default:
+                return isVirtual(Thread.currentThread());
+        }
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) return false;
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle isVirtualHandle() {
+        // Thread.isVirtual() only exists from Java 21
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Mode initialMode() {
+        String property = System.getProperty(MODE_PROPERTY);
+        if (property == null) return Mode.AUTO;
+        try {
+            return Mode.valueOf(property.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Mode.AUTO;
+        }
+    }
+}
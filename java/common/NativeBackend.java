@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.common;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_get_kind;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_get_entries;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_iterator_next_batch;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_iterator_on_next;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_to_string;
+import static com.vaticle.typedb.driver.jni.typedb_driver.value_get_string;
+
+/**
+ * The calls into the native library on the answer hot path, made either through the SWIG-generated JNI bindings or,
+ * on Java 22 and above, through the Foreign Function &amp; Memory API.
+ * <p>The backend is chosen once, from the <code>typedb.driver.native.backend</code> system property
+ * (<code>jni</code> or <code>ffm</code>), and defaults to JNI. The FFM backend ships separately, as the optional
+ * <code>com.vaticle.typedb:typedb-driver-ffm</code> artifact; if FFM is requested but that artifact is not on the
+ * class path, or the runtime is older than Java 22, JNI is used.</p>
+ */
+public abstract class NativeBackend {
+    public static final String BACKEND_PROPERTY = "typedb.driver.native.backend";
+    private static final String FOREIGN_BACKEND_CLASS = "com.vaticle.typedb.driver.ffm.ForeignNativeBackend";
+
+    private static final NativeBackend JNI = new JNIBackend();
+    private static final NativeBackend INSTANCE = initialBackend();
+
+    protected NativeBackend() {
+        Loader.loadNativeLibraries();
+    }
+
+    public static NativeBackend get() {
+        return INSTANCE;
+    }
+
+    public static NativeBackend jni() {
+        return JNI;
+    }
+
+    public static Optional<NativeBackend> foreign() {
+        try {
+            return Optional.of((NativeBackend) Class.forName(FOREIGN_BACKEND_CLASS).getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // the backend is not on the class path, or the runtime is older than Java 22
+            return Optional.empty();
+        }
+    }
+
+    public abstract String name();
+
+    public abstract com.vaticle.typedb.driver.jni.ConceptKind conceptGetKind(com.vaticle.typedb.driver.jni.Concept concept);
+
+    public abstract String conceptToString(com.vaticle.typedb.driver.jni.Concept concept);
+
+    public abstract String valueGetString(com.vaticle.typedb.driver.jni.Concept value);
+
+    public abstract com.vaticle.typedb.driver.jni.typedb_driver.ConceptMapEntries conceptMapGetEntries(
+            com.vaticle.typedb.driver.jni.ConceptMap conceptMap
+    );
+
+    public abstract com.vaticle.typedb.driver.jni.ConceptMap[] conceptMapIteratorNextBatch(
+            com.vaticle.typedb.driver.jni.ConceptMapIterator iterator, int maxSize
+    ) throws com.vaticle.typedb.driver.jni.Error;
+
+    /**
+     * Runs <code>callback</code> once the next answer of the iterator is available, without holding a thread while it waits.
+     */
+    public abstract void conceptMapIteratorOnNext(com.vaticle.typedb.driver.jni.ConceptMapIterator iterator, Runnable callback);
+
+    private static NativeBackend initialBackend() {
+        String property = System.getProperty(BACKEND_PROPERTY);
+        if (property != null && property.trim().toLowerCase(Locale.ROOT).equals("ffm")) return foreign().orElse(JNI);
+        return JNI;
+    }
+
+    private static final class JNIBackend extends NativeBackend {
+        @Override
+        public String name() {
+            return "jni";
+        }
+
+        @Override
+        public com.vaticle.typedb.driver.jni.ConceptKind conceptGetKind(com.vaticle.typedb.driver.jni.Concept concept) {
+            return concept_get_kind(concept);
+        }
+
+        @Override
+        public String conceptToString(com.vaticle.typedb.driver.jni.Concept concept) {
+            return concept_to_string(concept);
+        }
+
+        @Override
+        public String valueGetString(com.vaticle.typedb.driver.jni.Concept value) {
+            return value_get_string(value);
+        }
+
+        @Override
+        public com.vaticle.typedb.driver.jni.typedb_driver.ConceptMapEntries conceptMapGetEntries(
+                com.vaticle.typedb.driver.jni.ConceptMap conceptMap
+        ) {
+            return concept_map_get_entries(conceptMap);
+        }
+
+        @Override
+        public com.vaticle.typedb.driver.jni.ConceptMap[] conceptMapIteratorNextBatch(
+                com.vaticle.typedb.driver.jni.ConceptMapIterator iterator, int maxSize
+        ) throws com.vaticle.typedb.driver.jni.Error {
+            return concept_map_iterator_next_batch(iterator, maxSize);
+        }
+
+        @Override
+        public void conceptMapIteratorOnNext(com.vaticle.typedb.driver.jni.ConceptMapIterator iterator, Runnable callback) {
+            NativeCallback.register(callback, director -> concept_map_iterator_on_next(iterator, director));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.common;
+
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A function run by the native library once a background operation has completed.
+ */
+class NativeCallback extends com.vaticle.typedb.driver.jni.PromiseCallbackDirector {
+    // the native side only holds a weak reference to the callback, so pending callbacks are kept alive here
+    private static final Set<NativeCallback> pending = ConcurrentHashMap.newKeySet();
+    private final Runnable function;
+
+    private NativeCallback(Runnable function) {
+        this.function = function;
+        pending.add(this);
+    }
+
+    static void register(Runnable function, Registration registration) {
+        NativeCallback callback = new NativeCallback(function);
+        try {
+            // NOTE: .released() relinquishes ownership of the native object to the Rust side
+            registration.register(callback.released());
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            pending.remove(callback);
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public void callback() {
+        pending.remove(this);
+        function.run();
+    }
+
+    @FunctionalInterface
+    interface Registration {
+        void register(com.vaticle.typedb.driver.jni.PromiseCallbackDirector callback) throws com.vaticle.typedb.driver.jni.Error;
+    }
+}
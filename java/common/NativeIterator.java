@@ -22,24 +22,62 @@ package com.vaticle.typedb.driver.common;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_iterator_on_next;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_group_iterator_on_next;
+import static com.vaticle.typedb.driver.jni.typedb_driver.explanation_iterator_on_next;
+import static com.vaticle.typedb.driver.jni.typedb_driver.json_iterator_on_next;
+import static com.vaticle.typedb.driver.jni.typedb_driver.role_player_iterator_on_next;
+import static com.vaticle.typedb.driver.jni.typedb_driver.rule_iterator_on_next;
+import static com.vaticle.typedb.driver.jni.typedb_driver.schema_exception_iterator_on_next;
+import static com.vaticle.typedb.driver.jni.typedb_driver.string_iterator_on_next;
+import static com.vaticle.typedb.driver.jni.typedb_driver.value_group_iterator_on_next;
 import static java.util.Spliterator.IMMUTABLE;
 import static java.util.Spliterator.NONNULL;
 import static java.util.Spliterator.ORDERED;
 import static java.util.Spliterators.spliteratorUnknownSize;
 
-public class NativeIterator<T> implements Iterator<T> {
+/**
+ * Iterates over the elements of a native iterator. Closing it, directly or by closing the stream it backs,
+ * frees the native iterator, which cancels the server stream the elements are read from.
+ * A <code>NativeIterator</code> must be closed by the thread consuming it.
+ */
+public class NativeIterator<T> implements Iterator<T>, AutoCloseable {
     private final Iterator<T> inner;
+    private final AutoCloseable resource;
+    private final Consumer<Runnable> onNext;
+    private boolean isFetched = false;
+    private boolean isClosed = false;
 
     public NativeIterator(Iterator<T> inner) {
+        this(inner, inner instanceof AutoCloseable ? (AutoCloseable) inner : null);
+    }
+
+    private NativeIterator(Iterator<T> inner, AutoCloseable resource) {
         this.inner = inner;
+        this.resource = resource;
+        this.onNext = nativeOnNext(inner);
+    }
+
+    /**
+     * Creates an iterator which pulls up to <code>batchSize</code> elements across the native boundary at once,
+     * and drains them locally before fetching the next batch. Closing it closes <code>resource</code>,
+     * the native iterator the batches are read from.
+     */
+    public static <T> NativeIterator<T> batched(BatchSource<T> source, int batchSize, AutoCloseable resource) {
+        return new NativeIterator<>(new BatchIterator<>(source, batchSize), resource);
     }
 
     @Override
     public boolean hasNext() {
+        if (isClosed) return false;
         try {
+            awaitNext();
             return inner.hasNext();
         } catch (com.vaticle.typedb.driver.jni.Error.Unchecked e) {
             throw new TypeDBDriverException(e);
@@ -48,14 +86,117 @@ public class NativeIterator<T> implements Iterator<T> {
 
     @Override
     public T next() {
+        if (isClosed) throw new NoSuchElementException();
         try {
+            awaitNext();
+            isFetched = false;
             return inner.next();
         } catch (com.vaticle.typedb.driver.jni.Error.Unchecked e) {
             throw new TypeDBDriverException(e);
         }
     }
 
+    private void awaitNext() {
+        if (isFetched || onNext == null) return;
+        if (Blocking.shouldPark()) {
+            CompletableFuture<Void> fetched = new CompletableFuture<>();
+            onNext.accept(() -> fetched.complete(null));
+            fetched.join();
+        }
+        isFetched = true;
+    }
+
+    @Override
+    public void close() {
+        if (isClosed) return;
+        isClosed = true;
+        if (resource == null) return;
+        try {
+            resource.close();
+        } catch (Exception e) {
+            throw new TypeDBDriverException(e.getMessage(), e);
+        }
+    }
+
     public Stream<T> stream() {
-        return StreamSupport.stream(spliteratorUnknownSize(this, NONNULL | IMMUTABLE | ORDERED), false);
+        return StreamSupport.stream(spliteratorUnknownSize(this, NONNULL | IMMUTABLE | ORDERED), false).onClose(this::close);
+    }
+
+    private static Consumer<Runnable> nativeOnNext(Iterator<?> iterator) {
+        if (iterator instanceof com.vaticle.typedb.driver.jni.ConceptMapIterator) {
+            return callback -> NativeBackend.get().conceptMapIteratorOnNext((com.vaticle.typedb.driver.jni.ConceptMapIterator) iterator, callback);
+        } else if (iterator instanceof com.vaticle.typedb.driver.jni.JSONIterator) {
+            return directorOnNext(director -> json_iterator_on_next((com.vaticle.typedb.driver.jni.JSONIterator) iterator, director));
+        } else if (iterator instanceof com.vaticle.typedb.driver.jni.ConceptIterator) {
+            return directorOnNext(director -> concept_iterator_on_next((com.vaticle.typedb.driver.jni.ConceptIterator) iterator, director));
+        } else if (iterator instanceof com.vaticle.typedb.driver.jni.ConceptMapGroupIterator) {
+            return directorOnNext(director -> concept_map_group_iterator_on_next((com.vaticle.typedb.driver.jni.ConceptMapGroupIterator) iterator, director));
+        } else if (iterator instanceof com.vaticle.typedb.driver.jni.ValueGroupIterator) {
+            return directorOnNext(director -> value_group_iterator_on_next((com.vaticle.typedb.driver.jni.ValueGroupIterator) iterator, director));
+        } else if (iterator instanceof com.vaticle.typedb.driver.jni.ExplanationIterator) {
+            return directorOnNext(director -> explanation_iterator_on_next((com.vaticle.typedb.driver.jni.ExplanationIterator) iterator, director));
+        } else if (iterator instanceof com.vaticle.typedb.driver.jni.StringIterator) {
+            return directorOnNext(director -> string_iterator_on_next((com.vaticle.typedb.driver.jni.StringIterator) iterator, director));
+        } else if (iterator instanceof com.vaticle.typedb.driver.jni.RuleIterator) {
+            return directorOnNext(director -> rule_iterator_on_next((com.vaticle.typedb.driver.jni.RuleIterator) iterator, director));
+        } else if (iterator instanceof com.vaticle.typedb.driver.jni.RolePlayerIterator) {
+            return directorOnNext(director -> role_player_iterator_on_next((com.vaticle.typedb.driver.jni.RolePlayerIterator) iterator, director));
+        } else if (iterator instanceof com.vaticle.typedb.driver.jni.SchemaExceptionIterator) {
+            return directorOnNext(director -> schema_exception_iterator_on_next((com.vaticle.typedb.driver.jni.SchemaExceptionIterator) iterator, director));
+        } else {
+            return null;
+        }
+    }
+
+    private static Consumer<Runnable> directorOnNext(NativeCallback.Registration registration) {
+        return callback -> NativeCallback.register(callback, registration);
+    }
+
+    @FunctionalInterface
+    public interface BatchSource<T> {
+        /**
+         * Returns the next batch of at most <code>maxSize</code> elements, or <code>null</code> once exhausted.
+         */
+        T[] next(int maxSize) throws com.vaticle.typedb.driver.jni.Error;
+    }
+
+    private static class BatchIterator<T> implements Iterator<T> {
+        private final BatchSource<T> source;
+        private final int batchSize;
+        private T[] batch = null;
+        private int position = 0;
+        private boolean isFinished = false;
+
+        private BatchIterator(BatchSource<T> source, int batchSize) {
+            this.source = source;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (batch != null && position < batch.length) return true;
+            if (isFinished) return false;
+            try {
+                batch = source.next(batchSize);
+            } catch (com.vaticle.typedb.driver.jni.Error e) {
+                isFinished = true;
+                throw new TypeDBDriverException(e);
+            }
+            position = 0;
+            if (batch == null || batch.length == 0) {
+                isFinished = true;
+                batch = null;
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            T next = batch[position];
+            batch[position++] = null;
+            return next;
+        }
     }
 }
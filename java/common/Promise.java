@@ -21,9 +21,18 @@ package com.vaticle.typedb.driver.common;
 
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static com.vaticle.typedb.driver.jni.typedb_driver.bool_promise_on_complete;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_promise_on_complete;
+import static com.vaticle.typedb.driver.jni.typedb_driver.rule_promise_on_complete;
+import static com.vaticle.typedb.driver.jni.typedb_driver.string_promise_on_complete;
+import static com.vaticle.typedb.driver.jni.typedb_driver.void_promise_on_complete;
+
 /**
  * A <code>Promise</code> represents an asynchronous network operation.
  * <p>The request it represents is performed immediately. The response is only retrieved
@@ -31,6 +40,14 @@ import java.util.function.Supplier;
  */
 public class Promise<T> {
     private final Supplier<T> inner;
+    private final Consumer<Runnable> onComplete;
+    // a lock rather than a monitor, so that virtual threads waiting to resolve are not pinned to their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean isResolved = false;
+    private T result = null;
+    private RuntimeException error = null;
+    private CompletableFuture<Void> completion = null;
+    private CompletableFuture<T> future = null;
 
     /**
      * Promise constructor
@@ -43,11 +60,18 @@ public class Promise<T> {
      * @param inner The supplier to function to wrap into the promise
      */
     public Promise(Supplier<T> inner) {
+        this(inner, nativeOnComplete(inner));
+    }
+
+    private Promise(Supplier<T> inner, Consumer<Runnable> onComplete) {
         this.inner = inner;
+        this.onComplete = onComplete;
     }
 
     /**
      * Retrieves the result of the Promise.
+     * If <code>Blocking</code> decides the calling thread should park, it waits for the native operation
+     * to signal completion instead of blocking inside native code.
      *
      * <h3>Examples</h3>
      * <pre>
@@ -55,10 +79,85 @@ public class Promise<T> {
      * </pre>
      */
     public T resolve() {
+        if (onComplete != null && Blocking.shouldPark()) awaitCompletion();
+        lock.lock();
+        try {
+            if (!isResolved) {
+                try {
+                    result = this.inner.get();
+                } catch (com.vaticle.typedb.driver.jni.Error.Unchecked e) {
+                    error = new TypeDBDriverException(e);
+                } catch (RuntimeException e) {
+                    error = e;
+                }
+                isResolved = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (error != null) throw error;
+        return result;
+    }
+
+    /**
+     * Returns a <code>CompletableFuture</code> which is completed with the result of the Promise without blocking
+     * the calling thread. For promises of native operations, the future is completed from a driver thread as soon
+     * as the server responds, so any number of operations can be in flight at once.
+     * Dependent stages which do not specify an executor run on that driver thread, and should not block.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * promise.toCompletableFuture().thenAccept(result -&gt; ...)
+     * </pre>
+     */
+    public CompletableFuture<T> toCompletableFuture() {
+        lock.lock();
+        try {
+            if (future == null) {
+                future = new CompletableFuture<>();
+                if (isResolved || onComplete == null) CompletableFuture.runAsync(this::complete);
+                else completion().whenComplete((ignored, e) -> {
+                    if (e != null) future.completeExceptionally(e);
+                    else complete();
+                });
+            }
+            return future;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitCompletion() {
+        CompletableFuture<Void> completion;
+        lock.lock();
+        try {
+            if (isResolved) return;
+            completion = completion();
+        } finally {
+            lock.unlock();
+        }
+        // if the native signal could not be registered, resolving blocks in native code instead
+        completion.handle((ignored, e) -> null).join();
+    }
+
+    private CompletableFuture<Void> completion() {
+        if (completion == null) {
+            CompletableFuture<Void> signal = new CompletableFuture<>();
+            completion = signal;
+            try {
+                onComplete.accept(() -> signal.complete(null));
+            } catch (TypeDBDriverException e) {
+                signal.completeExceptionally(e);
+            }
+        }
+        return completion;
+    }
+
+    private void complete() {
         try {
-            return this.inner.get();
-        } catch (com.vaticle.typedb.driver.jni.Error.Unchecked e) {
-            throw new TypeDBDriverException(e);
+            future.complete(resolve());
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
         }
     }
 
@@ -78,6 +177,39 @@ public class Promise<T> {
             T res = promise.get();
             if (res != null) return fn.apply(res);
             else return null;
-        });
+        }, nativeOnComplete(promise));
+    }
+
+    /**
+     * Helper function to map promises, applying the mapping function to <code>null</code> results as well.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * Promise.transform(supplier, mapper);
+     * </pre>
+     *
+     * @param promise The supplier function to wrap into the promise
+     * @param fn The mapping function
+     */
+    static public<T, U> Promise<U> transform(Supplier<T> promise, Function<T, U> fn) {
+        return new Promise<>(() -> fn.apply(promise.get()), nativeOnComplete(promise));
+    }
+
+    private static Consumer<Runnable> nativeOnComplete(Supplier<?> promise) {
+        NativeCallback.Registration onComplete;
+        if (promise instanceof com.vaticle.typedb.driver.jni.VoidPromise) {
+            onComplete = callback -> void_promise_on_complete((com.vaticle.typedb.driver.jni.VoidPromise) promise, callback);
+        } else if (promise instanceof com.vaticle.typedb.driver.jni.BoolPromise) {
+            onComplete = callback -> bool_promise_on_complete((com.vaticle.typedb.driver.jni.BoolPromise) promise, callback);
+        } else if (promise instanceof com.vaticle.typedb.driver.jni.StringPromise) {
+            onComplete = callback -> string_promise_on_complete((com.vaticle.typedb.driver.jni.StringPromise) promise, callback);
+        } else if (promise instanceof com.vaticle.typedb.driver.jni.ConceptPromise) {
+            onComplete = callback -> concept_promise_on_complete((com.vaticle.typedb.driver.jni.ConceptPromise) promise, callback);
+        } else if (promise instanceof com.vaticle.typedb.driver.jni.RulePromise) {
+            onComplete = callback -> rule_promise_on_complete((com.vaticle.typedb.driver.jni.RulePromise) promise, callback);
+        } else {
+            return null;
+        }
+        return function -> NativeCallback.register(function, onComplete);
     }
 }
@@ -50,6 +50,22 @@ public abstract class ErrorMessage extends com.vaticle.typedb.common.exception.E
                 new Driver(11, "Value cannot be less than 1, was: '%d'.");
         public static final Driver MISSING_DB_NAME =
                 new Driver(12, "Database name cannot be null.");
+        public static final Driver NON_NEGATIVE_VALUE_REQUIRED =
+                new Driver(13, "Value cannot be less than 0, was: '%d'.");
+        public static final Driver BULK_LOADER_CLOSED =
+                new Driver(14, "The bulk loader has been closed and no further operation is allowed.");
+        public static final Driver BULK_LOAD_FAILED =
+                new Driver(15, "A batch of %d operation(s) could not be committed after %d attempt(s).");
+        public static final Driver INTERRUPTED =
+                new Driver(16, "The thread was interrupted while waiting on the driver.");
+        public static final Driver PARTITIONED_ANSWER_ARENA =
+                new Driver(17, "The answer arena cannot be enabled for partitioned queries, as their answers outlive their transactions.");
+        public static final Driver SESSION_POOL_CLOSED =
+                new Driver(18, "The session pool has been closed and no further operation is allowed.");
+        public static final Driver SESSION_POOL_EXHAUSTED =
+                new Driver(19, "No session was returned to the pool within %d ms.");
+        public static final Driver ANSWER_RELEASED =
+                new Driver(20, "The answer has been freed by the answer arena of its transaction and can no longer be used.");
 
         private static final String codePrefix = "JDR";
         private static final String messagePrefix = "Driver Error";
@@ -92,6 +108,16 @@ public abstract class ErrorMessage extends com.vaticle.typedb.common.exception.E
                 new Query(1, "The variable '%s' does not exist.");
         public static final Query MISSING_QUERY =
                 new Query(2, "Query cannot be null or empty.");
+        public static final Query MALFORMED_QUERY_TEMPLATE =
+                new Query(3, "The query template has an unterminated or invalid parameter placeholder at index %d.");
+        public static final Query UNKNOWN_QUERY_PARAMETER =
+                new Query(4, "The parameter '%s' does not appear in the query template.");
+        public static final Query UNBOUND_QUERY_PARAMETER =
+                new Query(5, "The parameter '%s' of the query template has not been bound.");
+        public static final Query INVALID_QUERY_PARAMETER =
+                new Query(6, "The value '%s' is not a valid %s.");
+        public static final Query QUOTED_QUERY_PARAMETER =
+                new Query(7, "The query template has a parameter placeholder inside a string literal at index %d. A placeholder may only stand for a whole string value.");
 
         private static final String codePrefix = "JQR";
         private static final String messagePrefix = "Query Error";
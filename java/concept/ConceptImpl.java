@@ -21,6 +21,7 @@ package com.vaticle.typedb.driver.concept;
 
 import com.vaticle.typedb.driver.api.TypeDBTransaction;
 import com.vaticle.typedb.driver.api.concept.Concept;
+import com.vaticle.typedb.driver.common.NativeBackend;
 import com.vaticle.typedb.driver.common.NativeObject;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
 import com.vaticle.typedb.driver.concept.thing.AttributeImpl;
@@ -33,19 +34,11 @@ import com.vaticle.typedb.driver.concept.type.RoleTypeImpl;
 import com.vaticle.typedb.driver.concept.type.ThingTypeImpl;
 import com.vaticle.typedb.driver.concept.value.ValueImpl;
 
+import javax.annotation.Nullable;
+
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.TRANSACTION_CLOSED;
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concept_equals;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_value;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_to_string;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_attribute;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_attribute_type;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_entity;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_entity_type;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_relation;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_relation_type;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_role_type;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_root_thing_type;
 
 public abstract class ConceptImpl extends NativeObject<com.vaticle.typedb.driver.jni.Concept> implements Concept {
     protected ConceptImpl(com.vaticle.typedb.driver.jni.Concept concept) {
@@ -58,26 +51,36 @@ public abstract class ConceptImpl extends NativeObject<com.vaticle.typedb.driver
         return nativeTransaction;
     }
 
+    /**
+     * The schema cache to serve schema lookups in <code>transaction</code> from, or <code>null</code> if there is none.
+     */
+    @Nullable
+    protected static SchemaCache schemaCache(TypeDBTransaction transaction) {
+        return ((ConceptManagerImpl) transaction.concepts()).schemaCache;
+    }
+
     public static ConceptImpl of(com.vaticle.typedb.driver.jni.Concept concept) {
-        if (concept_is_entity_type(concept)) return new EntityTypeImpl(concept);
-        else if (concept_is_relation_type(concept)) return new RelationTypeImpl(concept);
-        else if (concept_is_attribute_type(concept)) return new AttributeTypeImpl(concept);
-        else if (concept_is_root_thing_type(concept)) return new ThingTypeImpl.Root(concept);
-        else if (concept_is_entity(concept)) return new EntityImpl(concept);
-        else if (concept_is_relation(concept)) return new RelationImpl(concept);
-        else if (concept_is_attribute(concept)) return new AttributeImpl(concept);
-        else if (concept_is_value(concept)) return new ValueImpl(concept);
-        else if (concept_is_role_type(concept)) return new RoleTypeImpl(concept);
-        throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        switch (NativeBackend.get().conceptGetKind(concept)) {
+            case EntityType: return new EntityTypeImpl(concept);
+            case RelationType: return new RelationTypeImpl(concept);
+            case AttributeType: return new AttributeTypeImpl(concept);
+            case RootThingType: return new ThingTypeImpl.Root(concept);
+            case Entity: return new EntityImpl(concept);
+            case Relation: return new RelationImpl(concept);
+            case Attribute: return new AttributeImpl(concept);
+            case Value: return new ValueImpl(concept);
+            case RoleType: return new RoleTypeImpl(concept);
+            default: throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
     }
 
     @Override
     public String toString() {
-        return concept_to_string(nativeObject);
+        return NativeBackend.get().conceptToString(nativeObject);
     }
 
     @Override
-    public final boolean equals(Object obj) {
+    public boolean equals(Object obj) {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         ConceptImpl that = (ConceptImpl) obj;
@@ -32,12 +32,14 @@ import com.vaticle.typedb.driver.concept.type.AttributeTypeImpl;
 import com.vaticle.typedb.driver.concept.type.EntityTypeImpl;
 import com.vaticle.typedb.driver.concept.type.RelationTypeImpl;
 
+import javax.annotation.Nullable;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.TRANSACTION_CLOSED;
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Concept.MISSING_IID;
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Concept.MISSING_LABEL;
+import static com.vaticle.typedb.driver.concept.SchemaCache.key;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_attribute;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_attribute_type;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_entity;
@@ -56,9 +58,16 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.schema_exception_messa
 
 public final class ConceptManagerImpl implements ConceptManager {
     final com.vaticle.typedb.driver.jni.Transaction nativeTransaction;
+    @Nullable
+    final SchemaCache schemaCache;
 
     public ConceptManagerImpl(com.vaticle.typedb.driver.jni.Transaction nativeTransaction) {
+        this(nativeTransaction, null);
+    }
+
+    public ConceptManagerImpl(com.vaticle.typedb.driver.jni.Transaction nativeTransaction, @Nullable SchemaCache schemaCache) {
         this.nativeTransaction = nativeTransaction;
+        this.schemaCache = schemaCache;
     }
 
     @Override
@@ -80,6 +89,9 @@ public final class ConceptManagerImpl implements ConceptManager {
     public Promise<EntityTypeImpl> getEntityType(String label) {
         if (label == null || label.isEmpty()) throw new TypeDBDriverException(MISSING_LABEL);
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        if (schemaCache != null) {
+            return schemaCache.promise(key("entityType", label), () -> concepts_get_entity_type(nativeTransaction, label), EntityTypeImpl::new);
+        }
         return Promise.map(concepts_get_entity_type(nativeTransaction, label), EntityTypeImpl::new);
     }
 
@@ -87,6 +99,9 @@ public final class ConceptManagerImpl implements ConceptManager {
     public Promise<RelationTypeImpl> getRelationType(String label) {
         if (label == null || label.isEmpty()) throw new TypeDBDriverException(MISSING_LABEL);
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        if (schemaCache != null) {
+            return schemaCache.promise(key("relationType", label), () -> concepts_get_relation_type(nativeTransaction, label), RelationTypeImpl::new);
+        }
         return Promise.map(concepts_get_relation_type(nativeTransaction, label), RelationTypeImpl::new);
     }
 
@@ -94,6 +109,9 @@ public final class ConceptManagerImpl implements ConceptManager {
     public Promise<AttributeTypeImpl> getAttributeType(String label) {
         if (label == null || label.isEmpty()) throw new TypeDBDriverException(MISSING_LABEL);
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        if (schemaCache != null) {
+            return schemaCache.promise(key("attributeType", label), () -> concepts_get_attribute_type(nativeTransaction, label), AttributeTypeImpl::new);
+        }
         return Promise.map(concepts_get_attribute_type(nativeTransaction, label), AttributeTypeImpl::new);
     }
 
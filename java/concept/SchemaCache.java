@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.concept;
+
+import com.vaticle.typedb.driver.common.Promise;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A read-through cache of schema lookups, shared by the transactions of a session opened with
+ * <code>TypeDBOptions.schemaCache(true)</code>. Entries are kept until the cache is invalidated, which discards
+ * all of them at once; results of lookups still in flight at that point are not retained.
+ */
+public final class SchemaCache {
+    private static final Object ABSENT = new Object();
+
+    private volatile ConcurrentHashMap<List<Object>, Object> entries = new ConcurrentHashMap<>();
+
+    public static List<Object> key(Object... parts) {
+        return Arrays.asList(parts);
+    }
+
+    /**
+     * Returns the cached results of a lookup, or collects them from <code>lookup</code> and caches them.
+     */
+    public <T> Stream<T> stream(List<Object> key, Supplier<Stream<T>> lookup) {
+        ConcurrentHashMap<List<Object>, Object> entries = this.entries;
+        Object cached = entries.get(key);
+        if (cached == null) cached = store(entries, key, lookup.get().collect(toList()));
+        @SuppressWarnings("unchecked") List<T> results = (List<T>) cached;
+        return results.stream();
+    }
+
+    /**
+     * Returns a resolved <code>Promise</code> of the cached result of a lookup, or sends the lookup and caches its result
+     * once it resolves. <code>request</code> is only called on a cache miss.
+     */
+    public <T, U> Promise<U> promise(List<Object> key, Supplier<Supplier<T>> request, Function<T, U> fn) {
+        ConcurrentHashMap<List<Object>, Object> entries = this.entries;
+        Object cached = entries.get(key);
+        if (cached != null) {
+            @SuppressWarnings("unchecked") U result = cached == ABSENT ? null : (U) cached;
+            return new Promise<>(() -> result);
+        }
+        return Promise.transform(request.get(), res -> {
+            U result = res == null ? null : fn.apply(res);
+            store(entries, key, result == null ? ABSENT : result);
+            return result;
+        });
+    }
+
+    public void invalidate() {
+        entries = new ConcurrentHashMap<>();
+    }
+
+    private static Object store(ConcurrentHashMap<List<Object>, Object> entries, List<Object> key, Object value) {
+        // if the cache was invalidated meanwhile, the value lands in the discarded map
+        Object previous = entries.putIfAbsent(key, value);
+        return previous != null ? previous : value;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.concept.answer;
+
+import com.vaticle.typedb.driver.api.answer.ColumnarBatch;
+import com.vaticle.typedb.driver.api.concept.value.Value;
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import com.vaticle.typedb.driver.concept.thing.ThingImpl;
+import com.vaticle.typedb.driver.jni.ConceptKind;
+import com.vaticle.typedb.driver.jni.ValueType;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Concept.INVALID_CONCEPT_CASTING;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Internal.ILLEGAL_CAST;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.VARIABLE_DOES_NOT_EXIST;
+
+/**
+ * Decodes the column-oriented encoding produced by <code>columnar_batch_iterator_next</code>
+ * into primitive arrays, one set per variable.
+ */
+public class ColumnarBatchImpl implements ColumnarBatch {
+    private static final int ABSENT = 0xFF;
+
+    private final int size;
+    private final List<String> variables;
+    private final Map<String, ColumnImpl> columns;
+
+    public ColumnarBatchImpl(byte[] encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(encoded).order(ByteOrder.LITTLE_ENDIAN);
+        size = buffer.getInt();
+        int columnCount = buffer.getInt();
+        List<String> variables = new ArrayList<>(columnCount);
+        columns = new HashMap<>(columnCount * 2);
+        for (int i = 0; i < columnCount; i++) {
+            ColumnImpl column = new ColumnImpl(readString(buffer), size, buffer);
+            variables.add(column.variable);
+            columns.put(column.variable, column);
+        }
+        this.variables = Collections.unmodifiableList(variables);
+        // the label dictionary follows the columns, so each distinct label is decoded once per batch
+        String[] labels = new String[buffer.getInt()];
+        for (int i = 0; i < labels.length; i++) labels[i] = readString(buffer);
+        for (ColumnImpl column : columns.values()) column.labels = labels;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<String> variables() {
+        return variables;
+    }
+
+    @Override
+    public Column column(String variable) {
+        ColumnImpl column = columns.get(variable);
+        if (column == null) throw new TypeDBDriverException(VARIABLE_DOES_NOT_EXIST, variable);
+        return column;
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        return new String(readBytes(buffer), StandardCharsets.UTF_8);
+    }
+
+    private static class ColumnImpl implements Column {
+        private final String variable;
+        private final ConceptKind[] kinds;
+        private final int[] labelIndices;
+        private final int[] iidOffsets;
+        private final byte[] iids;
+        private final Value.Type[] valueTypes;
+        private final long[] primitives;
+        private final String[] strings;
+        private String[] labels;
+
+        private ColumnImpl(String variable, int size, ByteBuffer buffer) {
+            this.variable = variable;
+            kinds = new ConceptKind[size];
+            for (int row = 0; row < size; row++) {
+                int kind = Byte.toUnsignedInt(buffer.get());
+                if (kind != ABSENT) kinds[row] = ConceptKind.swigToEnum(kind);
+            }
+            labelIndices = new int[size];
+            buffer.asIntBuffer().get(labelIndices);
+            buffer.position(buffer.position() + size * Integer.BYTES);
+            // the IIDs of all rows are kept in one array, in which row r's IID ends at iidOffsets[r + 1]
+            iidOffsets = new int[size + 1];
+            buffer.asIntBuffer().get(iidOffsets, 1, size);
+            buffer.position(buffer.position() + size * Integer.BYTES);
+            iids = readBytes(buffer);
+            valueTypes = new Value.Type[size];
+            primitives = new long[size];
+            strings = new String[size];
+            for (int row = 0; row < size; row++) {
+                if (kinds[row] == ConceptKind.Attribute || kinds[row] == ConceptKind.Value) decodeValue(row, buffer);
+            }
+        }
+
+        private void decodeValue(int row, ByteBuffer buffer) {
+            valueTypes[row] = Value.Type.of(ValueType.swigToEnum(Byte.toUnsignedInt(buffer.get())));
+            switch (valueTypes[row]) {
+                case BOOLEAN:
+                    primitives[row] = buffer.get();
+                    break;
+                case LONG:
+                case DOUBLE:
+                case DATETIME:
+                    primitives[row] = buffer.getLong();
+                    break;
+                case STRING:
+                    strings[row] = readString(buffer);
+                    break;
+                default:
+                    throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+            }
+        }
+
+        @Override
+        public String variable() {
+            return variable;
+        }
+
+        @Override
+        public boolean isPresent(int row) {
+            return kinds[row] != null;
+        }
+
+        @Override
+        public boolean isThing(int row) {
+            return iidOffsets[row + 1] > iidOffsets[row];
+        }
+
+        @Override
+        public boolean isType(int row) {
+            return isPresent(row) && !isThing(row) && !isValue(row);
+        }
+
+        @Override
+        public boolean isValue(int row) {
+            return kinds[row] == ConceptKind.Value;
+        }
+
+        @Override
+        public boolean hasValue(int row) {
+            return valueTypes[row] != null;
+        }
+
+        @Override
+        public String getIID(int row) {
+            if (!isThing(row)) throw new TypeDBDriverException(INVALID_CONCEPT_CASTING, kindName(row), "Thing");
+            return ThingImpl.iidToString(iids, iidOffsets[row], iidOffsets[row + 1] - iidOffsets[row]);
+        }
+
+        @Override
+        public byte[] getIIDBytes(int row) {
+            if (!isThing(row)) throw new TypeDBDriverException(INVALID_CONCEPT_CASTING, kindName(row), "Thing");
+            return Arrays.copyOfRange(iids, iidOffsets[row], iidOffsets[row + 1]);
+        }
+
+        @Override
+        public String getLabel(int row) {
+            if (!isPresent(row) || isValue(row)) {
+                throw new TypeDBDriverException(INVALID_CONCEPT_CASTING, kindName(row), "Thing or Type");
+            }
+            return labels[labelIndices[row]];
+        }
+
+        @Override
+        public Value.Type getValueType(int row) {
+            if (!hasValue(row)) throw new TypeDBDriverException(INVALID_CONCEPT_CASTING, kindName(row), "Value");
+            return valueTypes[row];
+        }
+
+        @Override
+        public boolean getBoolean(int row) {
+            checkValueType(row, Value.Type.BOOLEAN, "boolean");
+            return primitives[row] != 0;
+        }
+
+        @Override
+        public long getLong(int row) {
+            checkValueType(row, Value.Type.LONG, "long");
+            return primitives[row];
+        }
+
+        @Override
+        public double getDouble(int row) {
+            checkValueType(row, Value.Type.DOUBLE, "double");
+            return Double.longBitsToDouble(primitives[row]);
+        }
+
+        @Override
+        public String getString(int row) {
+            checkValueType(row, Value.Type.STRING, "string");
+            return strings[row];
+        }
+
+        @Override
+        public LocalDateTime getDateTime(int row) {
+            checkValueType(row, Value.Type.DATETIME, "LocalDateTime");
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(primitives[row]), ZoneOffset.UTC);
+        }
+
+        private void checkValueType(int row, Value.Type expected, String typeName) {
+            if (getValueType(row) != expected) throw new TypeDBDriverException(ILLEGAL_CAST, typeName);
+        }
+
+        private String kindName(int row) {
+            return isPresent(row) ? kinds[row].toString() : "null";
+        }
+    }
+}
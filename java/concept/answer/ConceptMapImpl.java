@@ -21,12 +21,15 @@ package com.vaticle.typedb.driver.concept.answer;
 
 import com.vaticle.typedb.driver.api.answer.ConceptMap;
 import com.vaticle.typedb.driver.api.concept.Concept;
+import com.vaticle.typedb.driver.common.NativeBackend;
 import com.vaticle.typedb.driver.common.NativeObject;
 import com.vaticle.typedb.driver.common.NativeIterator;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
 import com.vaticle.typedb.driver.concept.ConceptImpl;
 import com.vaticle.typedb.common.collection.Pair;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -38,10 +41,8 @@ import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Concept.NO
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Concept.NONEXISTENT_EXPLAINABLE_OWNERSHIP;
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.VARIABLE_DOES_NOT_EXIST;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_equals;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_get;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_get_entries_in_arena;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_get_explainables;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_get_values;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_get_variables;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_to_string;
 import static com.vaticle.typedb.driver.jni.typedb_driver.explainable_get_conjunction;
 import static com.vaticle.typedb.driver.jni.typedb_driver.explainable_get_id;
@@ -55,35 +56,54 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.explainables_get_relat
 import static com.vaticle.typedb.driver.jni.typedb_driver.explainables_to_string;
 
 public class ConceptMapImpl extends NativeObject<com.vaticle.typedb.driver.jni.ConceptMap> implements ConceptMap {
+    private final com.vaticle.typedb.driver.jni.AnswerArena arena;
     private int hash = 0;
     private Map<String, Concept> cachedMap = null;
 
     public ConceptMapImpl(com.vaticle.typedb.driver.jni.ConceptMap concept_map) {
+        this(concept_map, null);
+    }
+
+    public ConceptMapImpl(com.vaticle.typedb.driver.jni.ConceptMap concept_map, com.vaticle.typedb.driver.jni.AnswerArena arena) {
         super(concept_map);
+        this.arena = arena;
     }
 
     @Override
     public Stream<String> variables() {
-        return new NativeIterator<>(concept_map_get_variables(nativeObject)).stream();
+        return map().keySet().stream();
     }
 
     @Override
     public Stream<Concept> concepts() {
-        return new NativeIterator<>(concept_map_get_values(nativeObject)).stream().map(ConceptImpl::of);
+        return map().values().stream();
     }
 
     @Override
     public Map<String, Concept> map() {
-        if (cachedMap == null) cachedMap = variables().collect(Collectors.toUnmodifiableMap(v -> v, this::get));
+        if (cachedMap == null) cachedMap = materialise();
         return cachedMap;
     }
 
     @Override
     public Concept get(String variable) {
         if (variable == null || variable.isEmpty()) throw new TypeDBDriverException(MISSING_VARIABLE);
-        com.vaticle.typedb.driver.jni.Concept concept = concept_map_get(nativeObject, variable);
+        Concept concept = map().get(variable);
         if (concept == null) throw new TypeDBDriverException(VARIABLE_DOES_NOT_EXIST, variable);
-        return ConceptImpl.of(concept);
+        return concept;
+    }
+
+    private Map<String, Concept> materialise() {
+        // all variables and concepts are fetched in a single native call
+        com.vaticle.typedb.driver.jni.typedb_driver.ConceptMapEntries entries = arena == null
+                ? NativeBackend.get().conceptMapGetEntries(nativeObject)
+                : concept_map_get_entries_in_arena(nativeObject, arena);
+        Map<String, Concept> map = new HashMap<>(entries.variables.length * 4 / 3 + 1);
+        for (int i = 0; i < entries.variables.length; i++) {
+            com.vaticle.typedb.driver.jni.Concept concept = entries.concepts[i];
+            map.put(entries.variables[i], ConceptImpl.of(arena == null ? concept : concept.inArena(arena)));
+        }
+        return Collections.unmodifiableMap(map);
     }
 
     @Override
@@ -39,12 +39,10 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_attribute;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_entity;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_relation;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_get_kind;
 import static com.vaticle.typedb.driver.jni.typedb_driver.thing_delete;
 import static com.vaticle.typedb.driver.jni.typedb_driver.thing_get_has;
-import static com.vaticle.typedb.driver.jni.typedb_driver.thing_get_iid;
+import static com.vaticle.typedb.driver.jni.typedb_driver.thing_get_iid_bytes;
 import static com.vaticle.typedb.driver.jni.typedb_driver.thing_get_is_inferred;
 import static com.vaticle.typedb.driver.jni.typedb_driver.thing_get_playing;
 import static com.vaticle.typedb.driver.jni.typedb_driver.thing_get_relations;
@@ -53,6 +51,9 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.thing_set_has;
 import static com.vaticle.typedb.driver.jni.typedb_driver.thing_unset_has;
 
 public abstract class ThingImpl extends ConceptImpl implements Thing {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private byte[] iid = null;
     private int hash = 0;
 
     ThingImpl(com.vaticle.typedb.driver.jni.Concept concept) {
@@ -60,15 +61,42 @@ public abstract class ThingImpl extends ConceptImpl implements Thing {
     }
 
     public static ThingImpl of(com.vaticle.typedb.driver.jni.Concept concept) {
-        if (concept_is_entity(concept)) return new EntityImpl(concept);
-        else if (concept_is_relation(concept)) return new RelationImpl(concept);
-        else if (concept_is_attribute(concept)) return new AttributeImpl(concept);
-        throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        switch (concept_get_kind(concept)) {
+            case Entity: return new EntityImpl(concept);
+            case Relation: return new RelationImpl(concept);
+            case Attribute: return new AttributeImpl(concept);
+            default: throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
     }
 
     @Override
     public final String getIID() {
-        return thing_get_iid(nativeObject);
+        return iidToString(iid());
+    }
+
+    @Override
+    public final byte[] getIIDBytes() {
+        return iid().clone();
+    }
+
+    private byte[] iid() {
+        if (iid == null) iid = thing_get_iid_bytes(nativeObject);
+        return iid;
+    }
+
+    public static String iidToString(byte[] iid) {
+        return iidToString(iid, 0, iid.length);
+    }
+
+    public static String iidToString(byte[] bytes, int offset, int length) {
+        char[] hex = new char[2 + length * 2];
+        hex[0] = '0';
+        hex[1] = 'x';
+        for (int i = 0; i < length; i++) {
+            hex[2 + i * 2] = HEX_DIGITS[(bytes[offset + i] >> 4) & 0xF];
+            hex[3 + i * 2] = HEX_DIGITS[bytes[offset + i] & 0xF];
+        }
+        return new String(hex);
     }
 
     @Override
@@ -147,9 +175,16 @@ public abstract class ThingImpl extends ConceptImpl implements Thing {
         return new Promise<>(thing_is_deleted(nativeTransaction(transaction), nativeObject));
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        return Arrays.equals(iid(), ((ThingImpl) obj).iid());
+    }
+
     @Override
     public int hashCode() {
-        if (hash == 0) hash = getIID().hashCode();
+        if (hash == 0) hash = Arrays.hashCode(iid());
         return hash;
     }
 }
@@ -49,13 +49,16 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.attribute_type_unset_r
 import static java.util.Collections.emptySet;
 
 public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
+    private Value.Type valueType = null;
+
     public AttributeTypeImpl(com.vaticle.typedb.driver.jni.Concept concept) {
         super(concept);
     }
 
     @Override
     public Value.Type getValueType() {
-        return Value.Type.of(attribute_type_get_value_type(nativeObject));
+        if (valueType == null) valueType = Value.Type.of(attribute_type_get_value_type(nativeObject));
+        return valueType;
     }
 
     @Override
@@ -67,16 +70,12 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
     @Nullable
     @Override
     public Promise<AttributeTypeImpl> getSupertype(TypeDBTransaction transaction) {
-        return Promise.map(attribute_type_get_supertype(nativeTransaction(transaction), nativeObject), AttributeTypeImpl::new);
+        return cachedPromise(transaction, () -> attribute_type_get_supertype(nativeTransaction(transaction), nativeObject), AttributeTypeImpl::new, "supertype");
     }
 
     @Override
     public final Stream<AttributeTypeImpl> getSupertypes(TypeDBTransaction transaction) {
-        try {
-            return new NativeIterator<>(attribute_type_get_supertypes(nativeTransaction(transaction), nativeObject)).stream().map(AttributeTypeImpl::new);
-        } catch (com.vaticle.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
-        }
+        return cachedStream(transaction, () -> new NativeIterator<>(attribute_type_get_supertypes(nativeTransaction(transaction), nativeObject)).stream().map(AttributeTypeImpl::new), "supertypes");
     }
 
     @Override
@@ -91,21 +90,12 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
 
     @Override
     public final Stream<AttributeTypeImpl> getSubtypes(TypeDBTransaction transaction, Transitivity transitivity) {
-        try {
-            return new NativeIterator<>(attribute_type_get_subtypes(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(AttributeTypeImpl::new);
-        } catch (com.vaticle.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
-        }
+        return cachedStream(transaction, () -> new NativeIterator<>(attribute_type_get_subtypes(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(AttributeTypeImpl::new), "subtypes", transitivity);
     }
 
     @Override
     public final Stream<AttributeTypeImpl> getSubtypes(TypeDBTransaction transaction, Value.Type valueType, Transitivity transitivity) {
-        try {
-            return new NativeIterator<>(attribute_type_get_subtypes_with_value_type(nativeTransaction(transaction), nativeObject, valueType.nativeObject, transitivity.nativeObject)
-                    ).stream().map(AttributeTypeImpl::new);
-        } catch (com.vaticle.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
-        }
+        return cachedStream(transaction, () -> new NativeIterator<>(attribute_type_get_subtypes_with_value_type(nativeTransaction(transaction), nativeObject, valueType.nativeObject, transitivity.nativeObject)).stream().map(AttributeTypeImpl::new), "subtypes", valueType, transitivity);
     }
 
     @Override
@@ -140,11 +130,7 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
     @Override
     public Stream<ThingTypeImpl> getOwners(TypeDBTransaction transaction, Set<Annotation> annotations, Transitivity transitivity) {
         com.vaticle.typedb.driver.jni.Annotation[] annotationsArray = annotations.stream().map(anno -> anno.nativeObject).toArray(com.vaticle.typedb.driver.jni.Annotation[]::new);
-        try {
-            return new NativeIterator<>(attribute_type_get_owners(nativeTransaction(transaction), nativeObject, transitivity.nativeObject, annotationsArray)).stream().map(ThingTypeImpl::of);
-        } catch (com.vaticle.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
-        }
+        return cachedStream(transaction, () -> new NativeIterator<>(attribute_type_get_owners(nativeTransaction(transaction), nativeObject, transitivity.nativeObject, annotationsArray)).stream().map(ThingTypeImpl::of), "owners", annotations, transitivity);
     }
 
     @Override
@@ -54,16 +54,12 @@ public class EntityTypeImpl extends ThingTypeImpl implements EntityType {
     @Nullable
     @Override
     public Promise<EntityTypeImpl> getSupertype(TypeDBTransaction transaction) {
-        return Promise.map(entity_type_get_supertype(nativeTransaction(transaction), nativeObject), EntityTypeImpl::new);
+        return cachedPromise(transaction, () -> entity_type_get_supertype(nativeTransaction(transaction), nativeObject), EntityTypeImpl::new, "supertype");
     }
 
     @Override
     public final Stream<EntityTypeImpl> getSupertypes(TypeDBTransaction transaction) {
-        try {
-            return new NativeIterator<>(entity_type_get_supertypes(nativeTransaction(transaction), nativeObject)).stream().map(EntityTypeImpl::new);
-        } catch (com.vaticle.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
-        }
+        return cachedStream(transaction, () -> new NativeIterator<>(entity_type_get_supertypes(nativeTransaction(transaction), nativeObject)).stream().map(EntityTypeImpl::new), "supertypes");
     }
 
     @Override
@@ -73,11 +69,7 @@ public class EntityTypeImpl extends ThingTypeImpl implements EntityType {
 
     @Override
     public final Stream<EntityTypeImpl> getSubtypes(TypeDBTransaction transaction, Transitivity transitivity) {
-        try {
-            return new NativeIterator<>(entity_type_get_subtypes(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(EntityTypeImpl::new);
-        } catch (com.vaticle.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
-        }
+        return cachedStream(transaction, () -> new NativeIterator<>(entity_type_get_subtypes(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(EntityTypeImpl::new), "subtypes", transitivity);
     }
 
     @Override
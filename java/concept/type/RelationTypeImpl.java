@@ -66,16 +66,12 @@ public class RelationTypeImpl extends ThingTypeImpl implements RelationType {
 
     @Override
     public final Stream<RoleTypeImpl> getRelates(TypeDBTransaction transaction, Transitivity transitivity) {
-        try {
-            return new NativeIterator<>(relation_type_get_relates(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(RoleTypeImpl::new);
-        } catch (com.vaticle.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
-        }
+        return cachedStream(transaction, () -> new NativeIterator<>(relation_type_get_relates(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(RoleTypeImpl::new), "relates", transitivity);
     }
 
     @Override
     public final Promise<RoleTypeImpl> getRelates(TypeDBTransaction transaction, String roleLabel) {
-        return Promise.map(relation_type_get_relates_for_role_label(nativeTransaction(transaction), nativeObject, roleLabel), RoleTypeImpl::new);
+        return cachedPromise(transaction, () -> relation_type_get_relates_for_role_label(nativeTransaction(transaction), nativeObject, roleLabel), RoleTypeImpl::new, "relates", roleLabel);
     }
 
     @Nullable
@@ -122,16 +118,12 @@ public class RelationTypeImpl extends ThingTypeImpl implements RelationType {
     @Nullable
     @Override
     public Promise<RelationTypeImpl> getSupertype(TypeDBTransaction transaction) {
-        return Promise.map(relation_type_get_supertype(nativeTransaction(transaction), nativeObject), RelationTypeImpl::new);
+        return cachedPromise(transaction, () -> relation_type_get_supertype(nativeTransaction(transaction), nativeObject), RelationTypeImpl::new, "supertype");
     }
 
     @Override
     public final Stream<RelationTypeImpl> getSupertypes(TypeDBTransaction transaction) {
-        try {
-            return new NativeIterator<>(relation_type_get_supertypes(nativeTransaction(transaction), nativeObject)).stream().map(RelationTypeImpl::new);
-        } catch (com.vaticle.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
-        }
+        return cachedStream(transaction, () -> new NativeIterator<>(relation_type_get_supertypes(nativeTransaction(transaction), nativeObject)).stream().map(RelationTypeImpl::new), "supertypes");
     }
 
     @Override
@@ -141,11 +133,7 @@ public class RelationTypeImpl extends ThingTypeImpl implements RelationType {
 
     @Override
     public final Stream<RelationTypeImpl> getSubtypes(TypeDBTransaction transaction, Transitivity transitivity) {
-        try {
-            return new NativeIterator<>(relation_type_get_subtypes(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(RelationTypeImpl::new);
-        } catch (com.vaticle.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
-        }
+        return cachedStream(transaction, () -> new NativeIterator<>(relation_type_get_subtypes(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(RelationTypeImpl::new), "subtypes", transitivity);
     }
 
     @Override
@@ -49,6 +49,8 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.role_type_is_deleted;
 import static com.vaticle.typedb.driver.jni.typedb_driver.role_type_set_label;
 
 public class RoleTypeImpl extends TypeImpl implements RoleType {
+    private Label label = null;
+
     public RoleTypeImpl(com.vaticle.typedb.driver.jni.Concept concept) {
         super(concept);
     }
@@ -65,7 +67,8 @@ public class RoleTypeImpl extends TypeImpl implements RoleType {
 
     @Override
     public Label getLabel() {
-        return Label.of(role_type_get_scope(nativeObject), role_type_get_name(nativeObject));
+        if (label == null) label = Label.of(role_type_get_scope(nativeObject), role_type_get_name(nativeObject));
+        return label;
     }
 
     @Override
@@ -89,16 +92,12 @@ public class RoleTypeImpl extends TypeImpl implements RoleType {
     @Nullable
     @Override
     public Promise<RoleTypeImpl> getSupertype(TypeDBTransaction transaction) {
-        return Promise.map(role_type_get_supertype(nativeTransaction(transaction), nativeObject), RoleTypeImpl::new);
+        return cachedPromise(transaction, () -> role_type_get_supertype(nativeTransaction(transaction), nativeObject), RoleTypeImpl::new, "supertype");
     }
 
     @Override
     public final Stream<RoleTypeImpl> getSupertypes(TypeDBTransaction transaction) {
-        try {
-            return new NativeIterator<>(role_type_get_supertypes(nativeTransaction(transaction), nativeObject)).stream().map(RoleTypeImpl::new);
-        } catch (com.vaticle.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
-        }
+        return cachedStream(transaction, () -> new NativeIterator<>(role_type_get_supertypes(nativeTransaction(transaction), nativeObject)).stream().map(RoleTypeImpl::new), "supertypes");
     }
 
     @Override
@@ -108,11 +107,7 @@ public class RoleTypeImpl extends TypeImpl implements RoleType {
 
     @Override
     public final Stream<RoleTypeImpl> getSubtypes(TypeDBTransaction transaction, Transitivity transitivity) {
-        try {
-            return new NativeIterator<>(role_type_get_subtypes(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(RoleTypeImpl::new);
-        } catch (com.vaticle.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
-        }
+        return cachedStream(transaction, () -> new NativeIterator<>(role_type_get_subtypes(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(RoleTypeImpl::new), "subtypes", transitivity);
     }
 
     @Override
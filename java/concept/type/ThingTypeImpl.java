@@ -36,10 +36,7 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_attribute_type;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_entity_type;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_relation_type;
-import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_root_thing_type;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_get_kind;
 import static com.vaticle.typedb.driver.jni.typedb_driver.thing_type_delete;
 import static com.vaticle.typedb.driver.jni.typedb_driver.thing_type_get_label;
 import static com.vaticle.typedb.driver.jni.typedb_driver.thing_type_get_owns;
@@ -60,16 +57,20 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.thing_type_unset_plays
 import static java.util.Collections.emptySet;
 
 public abstract class ThingTypeImpl extends TypeImpl implements ThingType {
+    private Label label = null;
+
     ThingTypeImpl(com.vaticle.typedb.driver.jni.Concept concept) {
         super(concept);
     }
 
     public static ThingTypeImpl of(com.vaticle.typedb.driver.jni.Concept concept) {
-        if (concept_is_entity_type(concept)) return new EntityTypeImpl(concept);
-        else if (concept_is_relation_type(concept)) return new RelationTypeImpl(concept);
-        else if (concept_is_attribute_type(concept)) return new AttributeTypeImpl(concept);
-        else if (concept_is_root_thing_type(concept)) return new Root(concept);
-        throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        switch (concept_get_kind(concept)) {
+            case EntityType: return new EntityTypeImpl(concept);
+            case RelationType: return new RelationTypeImpl(concept);
+            case AttributeType: return new AttributeTypeImpl(concept);
+            case RootThingType: return new Root(concept);
+            default: throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
     }
 
     @Override
@@ -92,7 +93,8 @@ public abstract class ThingTypeImpl extends TypeImpl implements ThingType {
 
     @Override
     public Label getLabel() {
-        return Label.of(thing_type_get_label(nativeObject));
+        if (label == null) label = Label.of(thing_type_get_label(nativeObject));
+        return label;
     }
 
     @Override
@@ -181,11 +183,7 @@ public abstract class ThingTypeImpl extends TypeImpl implements ThingType {
 
     @Override
     public final Stream<RoleTypeImpl> getPlays(TypeDBTransaction transaction, Transitivity transitivity) {
-        try {
-            return new NativeIterator<>(thing_type_get_plays(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(RoleTypeImpl::new);
-        } catch (com.vaticle.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
-        }
+        return cachedStream(transaction, () -> new NativeIterator<>(thing_type_get_plays(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(RoleTypeImpl::new), "plays", transitivity);
     }
 
     @Override
@@ -241,13 +239,9 @@ public abstract class ThingTypeImpl extends TypeImpl implements ThingType {
     }
 
     private Stream<AttributeTypeImpl> getOwns(TypeDBTransaction transaction, Value.Type valueType, Transitivity transitivity, Set<Annotation> annotations) {
-        try {
-            return new NativeIterator<>(thing_type_get_owns(nativeTransaction(transaction), nativeObject, valueType == null ? null : valueType.nativeObject, transitivity.nativeObject,
-                    annotations.stream().map(anno -> anno.nativeObject).toArray(com.vaticle.typedb.driver.jni.Annotation[]::new)
-            )).stream().map(AttributeTypeImpl::new);
-        } catch (com.vaticle.typedb.driver.jni.Error e) {
-            throw new TypeDBDriverException(e);
-        }
+        return cachedStream(transaction, () -> new NativeIterator<>(thing_type_get_owns(nativeTransaction(transaction), nativeObject, valueType == null ? null : valueType.nativeObject, transitivity.nativeObject,
+                annotations.stream().map(anno -> anno.nativeObject).toArray(com.vaticle.typedb.driver.jni.Annotation[]::new)
+        )).stream().map(AttributeTypeImpl::new), "owns", valueType, transitivity, annotations);
     }
 
     @Override
@@ -22,9 +22,16 @@ package com.vaticle.typedb.driver.concept.type;
 import com.vaticle.typedb.driver.api.TypeDBTransaction;
 import com.vaticle.typedb.driver.api.concept.type.Type;
 import com.vaticle.typedb.driver.common.Promise;
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
 import com.vaticle.typedb.driver.concept.ConceptImpl;
+import com.vaticle.typedb.driver.concept.SchemaCache;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 public abstract class TypeImpl extends ConceptImpl implements Type {
@@ -47,9 +54,49 @@ public abstract class TypeImpl extends ConceptImpl implements Type {
     @Override
     public abstract Stream<? extends TypeImpl> getSubtypes(TypeDBTransaction transaction, Transitivity transitivity);
 
+    /**
+     * Serves a schema lookup from the session's schema cache if the transaction has one.
+     */
+    protected final <T> Stream<T> cachedStream(TypeDBTransaction transaction, NativeLookup<Stream<T>> lookup, String name, Object... args) {
+        SchemaCache cache = schemaCache(transaction);
+        if (cache == null) return lookup.resolve();
+        return cache.stream(schemaKey(name, args), lookup::resolve);
+    }
+
+    /**
+     * As <code>cachedStream</code>, for lookups answered with a <code>Promise</code>.
+     * The request is only sent to the server on a cache miss.
+     */
+    protected final <T, U> Promise<U> cachedPromise(TypeDBTransaction transaction, Supplier<Supplier<T>> request, Function<T, U> fn, String name, Object... args) {
+        SchemaCache cache = schemaCache(transaction);
+        if (cache == null) return Promise.map(request.get(), fn);
+        return cache.promise(schemaKey(name, args), request, fn);
+    }
+
+    private List<Object> schemaKey(String name, Object... args) {
+        List<Object> key = new ArrayList<>(args.length + 2);
+        key.add(getLabel());
+        key.add(name);
+        Collections.addAll(key, args);
+        return key;
+    }
+
     @Override
     public int hashCode() {
         if (hash == 0) hash = getLabel().hashCode();
         return hash;
     }
+
+    @FunctionalInterface
+    protected interface NativeLookup<T> {
+        T get() throws com.vaticle.typedb.driver.jni.Error;
+
+        default T resolve() {
+            try {
+                return get();
+            } catch (com.vaticle.typedb.driver.jni.Error e) {
+                throw new TypeDBDriverException(e);
+            }
+        }
+    }
 }
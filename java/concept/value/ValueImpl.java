@@ -20,154 +20,211 @@
 package com.vaticle.typedb.driver.concept.value;
 
 import com.vaticle.typedb.driver.api.concept.value.Value;
+import com.vaticle.typedb.driver.common.NativeBackend;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
 import com.vaticle.typedb.driver.concept.ConceptImpl;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Objects;
 
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Concept.MISSING_VALUE;
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Internal.ILLEGAL_CAST;
-import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Internal.ILLEGAL_STATE;
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
 import static com.vaticle.typedb.driver.jni.typedb_driver.value_get_boolean;
-import static com.vaticle.typedb.driver.jni.typedb_driver.value_get_date_time_as_millis;
+import static com.vaticle.typedb.driver.jni.typedb_driver.value_get_date_time_as_seconds;
+import static com.vaticle.typedb.driver.jni.typedb_driver.value_get_date_time_subsec_nanos;
 import static com.vaticle.typedb.driver.jni.typedb_driver.value_get_double;
 import static com.vaticle.typedb.driver.jni.typedb_driver.value_get_long;
-import static com.vaticle.typedb.driver.jni.typedb_driver.value_get_string;
-import static com.vaticle.typedb.driver.jni.typedb_driver.value_is_boolean;
-import static com.vaticle.typedb.driver.jni.typedb_driver.value_is_date_time;
-import static com.vaticle.typedb.driver.jni.typedb_driver.value_is_double;
-import static com.vaticle.typedb.driver.jni.typedb_driver.value_is_long;
-import static com.vaticle.typedb.driver.jni.typedb_driver.value_is_string;
+import static com.vaticle.typedb.driver.jni.typedb_driver.value_get_value_type;
 import static com.vaticle.typedb.driver.jni.typedb_driver.value_new_boolean;
-import static com.vaticle.typedb.driver.jni.typedb_driver.value_new_date_time_from_millis;
+import static com.vaticle.typedb.driver.jni.typedb_driver.value_new_date_time;
 import static com.vaticle.typedb.driver.jni.typedb_driver.value_new_double;
 import static com.vaticle.typedb.driver.jni.typedb_driver.value_new_long;
 import static com.vaticle.typedb.driver.jni.typedb_driver.value_new_string;
 
 public class ValueImpl extends ConceptImpl implements Value {
-    private int hash = 0;
+    // The native value is decoded once: booleans, longs, doubles (as raw bits) and datetimes (as epoch seconds)
+    // are held in `primitive`, the nanoseconds within a datetime's second in `nanos`, and strings in `string`.
+    private final Type type;
+    private final long primitive;
+    private final int nanos;
+    private final String string;
 
     public ValueImpl(com.vaticle.typedb.driver.jni.Concept concept) {
         super(concept);
+        type = Type.of(value_get_value_type(concept));
+        switch (type) {
+            case BOOLEAN:
+                primitive = value_get_boolean(concept) ? 1 : 0;
+                nanos = 0;
+                string = null;
+                break;
+            case LONG:
+                primitive = value_get_long(concept);
+                nanos = 0;
+                string = null;
+                break;
+            case DOUBLE:
+                primitive = Double.doubleToRawLongBits(value_get_double(concept));
+                nanos = 0;
+                string = null;
+                break;
+            case STRING:
+                primitive = 0;
+                nanos = 0;
+                string = NativeBackend.get().valueGetString(concept);
+                break;
+            case DATETIME:
+                primitive = value_get_date_time_as_seconds(concept);
+                nanos = (int) value_get_date_time_subsec_nanos(concept);
+                string = null;
+                break;
+            default:
+                throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
+    }
+
+    private ValueImpl(
+            com.vaticle.typedb.driver.jni.Concept concept, Type type, long primitive, int nanos, String string
+    ) {
+        super(concept);
+        this.type = type;
+        this.primitive = primitive;
+        this.nanos = nanos;
+        this.string = string;
     }
 
     public static Value of(boolean value) {
-        return new ValueImpl(value_new_boolean(value));
+        return new ValueImpl(value_new_boolean(value), Type.BOOLEAN, value ? 1 : 0, 0, null);
     }
 
     public static Value of(long value) {
-        return new ValueImpl(value_new_long(value));
+        return new ValueImpl(value_new_long(value), Type.LONG, value, 0, null);
     }
 
     public static Value of(double value) {
-        return new ValueImpl(value_new_double(value));
+        return new ValueImpl(value_new_double(value), Type.DOUBLE, Double.doubleToRawLongBits(value), 0, null);
     }
 
     public static Value of(String value) {
         if (value == null) throw new TypeDBDriverException(MISSING_VALUE);
-        return new ValueImpl(value_new_string(value));
+        return new ValueImpl(value_new_string(value), Type.STRING, 0, 0, value);
     }
 
     public static Value of(LocalDateTime value) {
         if (value == null) throw new TypeDBDriverException(MISSING_VALUE);
-        return new ValueImpl(value_new_date_time_from_millis(value.atZone(ZoneOffset.UTC).toInstant().toEpochMilli()));
+        Instant instant = value.toInstant(ZoneOffset.UTC);
+        long seconds = instant.getEpochSecond();
+        int nanos = instant.getNano();
+        return new ValueImpl(value_new_date_time(seconds, nanos), Type.DATETIME, seconds, nanos, null);
     }
 
     @Override
     public Type getType() {
-        if (isBoolean()) return Type.BOOLEAN;
-        else if (isLong()) return Type.LONG;
-        else if (isDouble()) return Type.DOUBLE;
-        else if (isString()) return Type.STRING;
-        else if (isDateTime()) return Type.DATETIME;
-        else throw new TypeDBDriverException(ILLEGAL_STATE);
+        return type;
     }
 
     @Override
     public boolean isBoolean() {
-        return value_is_boolean(nativeObject);
+        return type == Type.BOOLEAN;
     }
 
     @Override
     public boolean isLong() {
-        return value_is_long(nativeObject);
+        return type == Type.LONG;
     }
 
     @Override
     public boolean isDouble() {
-        return value_is_double(nativeObject);
+        return type == Type.DOUBLE;
     }
 
     @Override
     public boolean isString() {
-        return value_is_string(nativeObject);
+        return type == Type.STRING;
     }
 
     @Override
     public boolean isDateTime() {
-        return value_is_date_time(nativeObject);
+        return type == Type.DATETIME;
     }
 
     @Override
     public Object asUntyped() {
-        if (isBoolean()) return asBoolean();
-        else if (isLong()) return asLong();
-        else if (isDouble()) return asDouble();
-        else if (isString()) return asString();
-        else if (isDateTime()) return asDateTime();
-        throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        switch (type) {
+            case BOOLEAN: return asBoolean();
+            case LONG: return asLong();
+            case DOUBLE: return asDouble();
+            case STRING: return asString();
+            case DATETIME: return asDateTime();
+            default: throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
     }
 
     @Override
     public boolean asBoolean() {
         if (!isBoolean()) throw new TypeDBDriverException(ILLEGAL_CAST, "boolean");
-        return value_get_boolean(nativeObject);
+        return primitive != 0;
     }
 
     @Override
     public long asLong() {
         if (!isLong()) throw new TypeDBDriverException(ILLEGAL_CAST, "long");
-        return value_get_long(nativeObject);
+        return primitive;
     }
 
     @Override
     public double asDouble() {
         if (!isDouble()) throw new TypeDBDriverException(ILLEGAL_CAST, "double");
-        return value_get_double(nativeObject);
+        return Double.longBitsToDouble(primitive);
     }
 
     @Override
     public String asString() {
         if (!isString()) throw new TypeDBDriverException(ILLEGAL_CAST, "String");
-        return value_get_string(nativeObject);
+        return string;
     }
 
     @Override
     public LocalDateTime asDateTime() {
         if (!isDateTime()) throw new TypeDBDriverException(ILLEGAL_CAST, "LocalDateTime");
-        return LocalDateTime.ofInstant(Instant.ofEpochMilli(value_get_date_time_as_millis(nativeObject)), ZoneOffset.UTC);
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(primitive, nanos), ZoneOffset.UTC);
     }
 
     @Override
     public String toString() {
-        if (isBoolean()) return Boolean.toString(asBoolean());
-        else if (isLong()) return Long.toString(asLong());
-        else if (isDouble()) return Double.toString(asDouble());
-        else if (isString()) return asString();
-        else if (isDateTime()) return asDateTime().toString();
-        throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        switch (type) {
+            case BOOLEAN: return Boolean.toString(asBoolean());
+            case LONG: return Long.toString(asLong());
+            case DOUBLE: return Double.toString(asDouble());
+            case STRING: return asString();
+            case DATETIME: return asDateTime().toString();
+            default: throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
     }
 
     @Override
-    public int hashCode() {
-        if (hash == 0) hash = computeHash();
-        return hash;
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ValueImpl that = (ValueImpl) obj;
+        if (this.type != that.type) return false;
+        // doubles are compared as Double.equals does, so that equality agrees with hashCode
+        if (type == Type.DOUBLE) return Double.compare(this.asDouble(), that.asDouble()) == 0;
+        return this.primitive == that.primitive && this.nanos == that.nanos && Objects.equals(this.string, that.string);
     }
 
-    private int computeHash() {
-        return asUntyped().hashCode();
+    @Override
+    public int hashCode() {
+        switch (type) {
+            case BOOLEAN: return Boolean.hashCode(asBoolean());
+            case LONG: return Long.hashCode(primitive);
+            case DOUBLE: return Double.hashCode(asDouble());
+            case STRING: return string.hashCode();
+            case DATETIME: return 31 * Long.hashCode(primitive) + nanos;
+            default: throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
     }
 }
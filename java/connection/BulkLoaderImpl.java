@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.connection;
+
+import com.vaticle.typedb.driver.api.BulkLoader;
+import com.vaticle.typedb.driver.api.TypeDBTransaction;
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.WRITE;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.BULK_LOADER_CLOSED;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.BULK_LOAD_FAILED;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.INTERRUPTED;
+
+public class BulkLoaderImpl implements BulkLoader {
+    private static final Operation END = new Operation(tx -> {}, 0);
+    private static final long RETRY_BACKOFF_MILLIS = 100;
+
+    private final TypeDBSessionImpl session;
+    private final Options options;
+    private final BlockingQueue<Operation> queue;
+    private final List<Thread> workers;
+    private final AtomicReference<RuntimeException> failure;
+    private final AtomicLong operations;
+    private final AtomicLong batches;
+    private final AtomicLong retries;
+    private final ReadWriteLock closeLock;
+    private final long startNanos;
+    private volatile long endNanos;
+    private volatile boolean isOpen;
+
+    BulkLoaderImpl(TypeDBSessionImpl session, Options options) {
+        this.session = session;
+        this.options = options;
+        queue = new ArrayBlockingQueue<>(options.queueCapacity());
+        failure = new AtomicReference<>();
+        operations = new AtomicLong();
+        batches = new AtomicLong();
+        retries = new AtomicLong();
+        closeLock = new ReentrantReadWriteLock();
+        startNanos = System.nanoTime();
+        isOpen = true;
+        workers = new ArrayList<>(options.parallelism());
+        for (int i = 0; i < options.parallelism(); i++) {
+            Thread worker = new Thread(new Worker(), "typedb-bulk-loader-" + session.databaseName() + "-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    @Override
+    public void insert(String query) {
+        enqueue(new Operation(tx -> tx.query().insert(query), utf8Length(query)));
+    }
+
+    @Override
+    public void submit(Consumer<TypeDBTransaction> operation) {
+        enqueue(new Operation(operation, 0));
+    }
+
+    private void enqueue(Operation operation) {
+        // close() takes the write lock, so no operation can be queued behind the END markers, where no worker would
+        // ever take it; workers keep draining the queue until they see END, so a blocked put always completes
+        closeLock.readLock().lock();
+        try {
+            if (!isOpen) throw new TypeDBDriverException(BULK_LOADER_CLOSED);
+            throwIfFailed();
+            put(operation);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    private void put(Operation operation) {
+        try {
+            queue.put(operation);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TypeDBDriverException(INTERRUPTED);
+        }
+    }
+
+    private void throwIfFailed() {
+        RuntimeException error = failure.get();
+        if (error != null) throw new TypeDBDriverException(error.getMessage(), error);
+    }
+
+    @Override
+    public Stats load(Stream<String> queries) {
+        try {
+            queries.forEach(this::insert);
+        } finally {
+            close();
+        }
+        return stats();
+    }
+
+    @Override
+    public Stats stats() {
+        long end = isOpen ? System.nanoTime() : endNanos;
+        return new Stats(operations.get(), batches.get(), retries.get(), Duration.ofNanos(end - startNanos));
+    }
+
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (!isOpen) return;
+            isOpen = false;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            for (int i = 0; i < workers.size(); i++) put(END);
+            for (Thread worker : workers) worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TypeDBDriverException(INTERRUPTED);
+        } finally {
+            endNanos = System.nanoTime();
+            session.close();
+        }
+        throwIfFailed();
+    }
+
+    private static long utf8Length(String query) {
+        long length = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c < 0x80) length += 1;
+            else if (c < 0x800) length += 2;
+            else if (Character.isSurrogate(c)) {
+                // a surrogate pair is a single 4-byte code point; a lone surrogate is encoded as '?'
+                boolean isPair = Character.isHighSurrogate(c) && i + 1 < query.length()
+                        && Character.isLowSurrogate(query.charAt(i + 1));
+                length += isPair ? 4 : 1;
+                if (isPair) i++;
+            } else length += 3;
+        }
+        return length;
+    }
+
+    private static class Operation {
+        private final Consumer<TypeDBTransaction> function;
+        private final long bytes;
+
+        private Operation(Consumer<TypeDBTransaction> function, long bytes) {
+            this.function = function;
+            this.bytes = bytes;
+        }
+    }
+
+    private class Worker implements Runnable {
+        private final List<Operation> batch = new ArrayList<>();
+        private long batchBytes = 0;
+        private TypeDBTransaction transaction = null;
+        private TypeDBDriverException batchError = null;
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    Operation operation = queue.take();
+                    if (operation == END) break;
+                    // after a failure, keep draining the queue so that producers are not blocked forever
+                    if (failure.get() != null) continue;
+                    try {
+                        add(operation);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                        abort();
+                    }
+                }
+                if (failure.get() == null) commit();
+            } catch (InterruptedException e) {
+                failure.compareAndSet(null, new TypeDBDriverException(INTERRUPTED));
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                abort();
+            }
+        }
+
+        private void add(Operation operation) {
+            batch.add(operation);
+            batchBytes += operation.bytes;
+            // queries are sent as soon as they are issued and their answers are not awaited: the native transaction
+            // batches outgoing requests, and errors surface at the latest when the batch is committed
+            if (batchError == null) {
+                try {
+                    if (transaction == null) transaction = session.transaction(WRITE, options.transactionOptions());
+                    operation.function.accept(transaction);
+                } catch (TypeDBDriverException e) {
+                    batchError = e;
+                    abort();
+                }
+            }
+            if (batch.size() >= options.batchSize() || batchBytes >= options.batchBytes()) commit();
+        }
+
+        private void commit() {
+            if (batch.isEmpty()) return;
+            TypeDBDriverException error = batchError != null ? batchError : tryCommit();
+            batchError = null;
+            for (int attempt = 1; error != null; attempt++) {
+                if (attempt > options.maxRetries()) {
+                    throw new TypeDBDriverException(BULK_LOAD_FAILED.message(batch.size(), attempt), error);
+                }
+                retries.incrementAndGet();
+                backoff(attempt);
+                error = replay();
+                if (error == null) error = tryCommit();
+            }
+            operations.addAndGet(batch.size());
+            batches.incrementAndGet();
+            batch.clear();
+            batchBytes = 0;
+        }
+
+        private TypeDBDriverException tryCommit() {
+            try {
+                if (transaction != null) transaction.commit();
+                return null;
+            } catch (TypeDBDriverException e) {
+                return e;
+            } finally {
+                abort();
+            }
+        }
+
+        private TypeDBDriverException replay() {
+            try {
+                transaction = session.transaction(WRITE, options.transactionOptions());
+                for (Operation operation : batch) operation.function.accept(transaction);
+                return null;
+            } catch (TypeDBDriverException e) {
+                abort();
+                return e;
+            }
+        }
+
+        private void backoff(int attempt) {
+            try {
+                Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TypeDBDriverException(INTERRUPTED);
+            }
+        }
+
+        private void abort() {
+            if (transaction == null) return;
+            try {
+                transaction.close();
+            } catch (TypeDBDriverException ignored) {
+            } finally {
+                transaction = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.connection;
+
+import com.vaticle.typedb.driver.api.TypeDBOptions;
+import com.vaticle.typedb.driver.api.TypeDBTransaction;
+import com.vaticle.typedb.driver.api.answer.ConceptMap;
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.lang.ref.Cleaner;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.READ;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.INTERRUPTED;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.PARTITIONED_ANSWER_ARENA;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.POSITIVE_VALUE_REQUIRED;
+
+/**
+ * Runs each query in its own read transaction on a pool of producer threads, which hand answers over to the
+ * consuming stream in chunks through a bounded queue. The consuming stream splits into batches of answers,
+ * so that it can itself be consumed in parallel.
+ */
+class PartitionedGet implements Iterator<ConceptMap> {
+    private static final int CHUNK_SIZE = 64;
+    private static final int CHUNKS_PER_PARTITION = 4;
+    private static final List<ConceptMap> END = Collections.emptyList();
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+    // stops the producers of a stream that is dropped without being closed or consumed to the end
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Producers producers;
+    private final Cleaner.Cleanable cleanable;
+    private Iterator<ConceptMap> chunk;
+    private boolean isDone;
+
+    private PartitionedGet(TypeDBSessionImpl session, List<String> queries, TypeDBOptions options, int parallelism) {
+        producers = new Producers(session, queries, options, parallelism);
+        cleanable = CLEANER.register(this, producers);
+        chunk = Collections.emptyIterator();
+        isDone = queries.isEmpty();
+    }
+
+    static Stream<ConceptMap> stream(TypeDBSessionImpl session, List<String> queries, TypeDBOptions options, int parallelism) {
+        if (parallelism < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, parallelism);
+        if (options.answerArena().orElse(false)) throw new TypeDBDriverException(PARTITIONED_ANSWER_ARENA);
+        PartitionedGet iterator = new PartitionedGet(session, queries, options, parallelism);
+        Spliterator<ConceptMap> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!chunk.hasNext()) {
+            if (isDone) return false;
+            List<ConceptMap> next;
+            try {
+                next = producers.queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TypeDBDriverException(INTERRUPTED);
+            }
+            RuntimeException error = producers.failure.get();
+            if (error != null) {
+                close();
+                throw new TypeDBDriverException(error.getMessage(), error);
+            }
+            if (next == END) {
+                isDone = true;
+                cleanable.clean();
+                return false;
+            }
+            chunk = next.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public ConceptMap next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return chunk.next();
+    }
+
+    private void close() {
+        isDone = true;
+        cleanable.clean();
+    }
+
+    /**
+     * The producer threads and the queue they fill. Must not refer back to the consuming iterator, so that the
+     * iterator can be cleaned once it is no longer reachable.
+     */
+    private static class Producers implements Runnable {
+        private final TypeDBSessionImpl session;
+        private final TypeDBOptions options;
+        private final BlockingQueue<List<ConceptMap>> queue;
+        private final AtomicInteger remaining;
+        private final AtomicReference<RuntimeException> failure;
+        private final ExecutorService executor;
+        private volatile boolean isOpen;
+
+        private Producers(TypeDBSessionImpl session, List<String> queries, TypeDBOptions options, int parallelism) {
+            this.session = session;
+            this.options = options;
+            queue = new ArrayBlockingQueue<>(parallelism * CHUNKS_PER_PARTITION);
+            remaining = new AtomicInteger(queries.size());
+            failure = new AtomicReference<>();
+            isOpen = true;
+
+            int pool = POOL_COUNTER.incrementAndGet();
+            AtomicInteger threadCounter = new AtomicInteger();
+            int threads = Math.max(1, Math.min(parallelism, queries.size()));
+            executor = Executors.newFixedThreadPool(threads, runnable -> {
+                String name = "typedb-partitioned-get-" + pool + "-" + threadCounter.incrementAndGet();
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+            for (String query : queries) executor.execute(() -> produce(query));
+            executor.shutdown();
+        }
+
+        private void produce(String query) {
+            try {
+                if (!isRunning()) return;
+                try (TypeDBTransaction transaction = session.transaction(READ, options)) {
+                    Iterator<ConceptMap> answers = transaction.query().get(query).iterator();
+                    List<ConceptMap> chunk = new ArrayList<>(CHUNK_SIZE);
+                    while (isRunning() && answers.hasNext()) {
+                        chunk.add(answers.next());
+                        if (chunk.size() == CHUNK_SIZE) {
+                            put(chunk);
+                            chunk = new ArrayList<>(CHUNK_SIZE);
+                        }
+                    }
+                    if (!chunk.isEmpty()) put(chunk);
+                }
+            } catch (RuntimeException e) {
+                fail(e);
+            } finally {
+                if (remaining.decrementAndGet() == 0) put(END);
+            }
+        }
+
+        private boolean isRunning() {
+            return isOpen && failure.get() == null;
+        }
+
+        private void fail(RuntimeException error) {
+            // the consumer checks for a failure whenever it takes a chunk, so END can be dropped if the queue is full
+            if (failure.compareAndSet(null, error)) queue.offer(END);
+        }
+
+        private void put(List<ConceptMap> chunk) {
+            // blocks until the consumer takes a chunk, or until the stream is closed and the producers are interrupted
+            try {
+                if (isOpen) queue.put(chunk);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (isOpen) fail(new TypeDBDriverException(INTERRUPTED));
+            }
+        }
+
+        /**
+         * Stops the producers once the stream is closed, consumed to the end, or dropped.
+         */
+        @Override
+        public void run() {
+            isOpen = false;
+            executor.shutdownNow();
+            queue.clear();
+        }
+    }
+}
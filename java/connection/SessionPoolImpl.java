@@ -0,0 +1,389 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.connection;
+
+import com.vaticle.typedb.driver.api.SessionPool;
+import com.vaticle.typedb.driver.api.TypeDBOptions;
+import com.vaticle.typedb.driver.api.TypeDBSession;
+import com.vaticle.typedb.driver.api.TypeDBTransaction;
+import com.vaticle.typedb.driver.api.answer.ConceptMap;
+import com.vaticle.typedb.driver.api.database.DatabaseManager;
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.READ;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.INTERRUPTED;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.SESSION_CLOSED;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.SESSION_POOL_CLOSED;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.SESSION_POOL_EXHAUSTED;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public class SessionPoolImpl implements SessionPool {
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final DatabaseManager databaseManager;
+    private final String database;
+    private final TypeDBSession.Type type;
+    private final Options options;
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<IdleSession> idle;
+    private final ConcurrentLinkedDeque<ReadyTransaction> ready;
+    private final AtomicInteger borrowed;
+    private final ConcurrentHashMap<TypeDBSessionImpl, LeaseCallbacks> leaseCallbacks;
+    private final ScheduledExecutorService maintenance;
+    private TypeDBSessionImpl transactionSession;
+    private volatile boolean isOpen;
+
+    SessionPoolImpl(DatabaseManager databaseManager, String database, TypeDBSession.Type type, Options options) {
+        this.databaseManager = databaseManager;
+        this.database = database;
+        this.type = type;
+        this.options = options;
+        permits = new Semaphore(options.maxSessions());
+        idle = new ConcurrentLinkedDeque<>();
+        ready = new ConcurrentLinkedDeque<>();
+        borrowed = new AtomicInteger();
+        leaseCallbacks = new ConcurrentHashMap<>();
+        transactionSession = null;
+        isOpen = true;
+
+        String threadName = "typedb-session-pool-" + POOL_COUNTER.incrementAndGet();
+        maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        // open the minimum number of sessions up front, so that a failure to connect surfaces here
+        for (int i = 0; i < Math.min(options.minSessions(), options.maxSessions()); i++) idle.addLast(new IdleSession(open()));
+        maintenance.scheduleWithFixedDelay(this::checkHealth, 0, options.healthCheckIntervalMillis(), MILLISECONDS);
+    }
+
+    private TypeDBSessionImpl open() {
+        return new TypeDBSessionImpl(databaseManager, database, type, options.sessionOptions());
+    }
+
+    @Override
+    public TypeDBSession session() {
+        if (!isOpen) throw new TypeDBDriverException(SESSION_POOL_CLOSED);
+        try {
+            if (!permits.tryAcquire(options.borrowTimeoutMillis(), MILLISECONDS)) {
+                throw new TypeDBDriverException(SESSION_POOL_EXHAUSTED, options.borrowTimeoutMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TypeDBDriverException(INTERRUPTED);
+        }
+        try {
+            TypeDBSessionImpl session = null;
+            IdleSession candidate;
+            // the most recently returned sessions are taken first, so that the rest can expire when demand drops
+            while (session == null && (candidate = idle.pollFirst()) != null) {
+                if (candidate.session.isOpen()) session = candidate.session;
+                else closeSession(candidate.session);
+            }
+            if (session == null) session = open();
+            borrowed.incrementAndGet();
+            return new PooledSession(session);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void giveBack(PooledSession lease) {
+        // the next lease must not see the transactions or callbacks of this one
+        lease.transactions.forEach(SessionPoolImpl::closeQuietly);
+        LeaseCallbacks callbacks = leaseCallbacks.get(lease.session);
+        if (callbacks != null) callbacks.clear();
+        borrowed.decrementAndGet();
+        if (isOpen && lease.session.isOpen()) idle.addFirst(new IdleSession(lease.session));
+        else closeSession(lease.session);
+        permits.release();
+    }
+
+    private LeaseCallbacks leaseCallbacks(TypeDBSessionImpl session) {
+        return leaseCallbacks.computeIfAbsent(session, LeaseCallbacks::new);
+    }
+
+    private void closeSession(TypeDBSessionImpl session) {
+        leaseCallbacks.remove(session);
+        closeQuietly(session);
+    }
+
+    @Override
+    public TypeDBTransaction readTransaction() {
+        if (!isOpen) throw new TypeDBDriverException(SESSION_POOL_CLOSED);
+        try {
+            ReadyTransaction candidate;
+            while ((candidate = ready.pollFirst()) != null) {
+                if (candidate.isUsable()) return candidate.transaction;
+                closeQuietly(candidate.transaction);
+            }
+            return transactionSession().transaction(READ, options.transactionOptions());
+        } finally {
+            if (options.readyTransactions() > 0) scheduleFill();
+        }
+    }
+
+    private void scheduleFill() {
+        try {
+            maintenance.execute(this::fillReadyTransactions);
+        } catch (RejectedExecutionException ignored) {
+            // the pool has been closed
+        }
+    }
+
+    private synchronized TypeDBSessionImpl transactionSession() {
+        if (transactionSession == null || !transactionSession.isOpen()) {
+            if (transactionSession != null) closeQuietly(transactionSession);
+            transactionSession = open();
+        }
+        return transactionSession;
+    }
+
+    private void checkHealth() {
+        if (!isOpen) return;
+        try {
+            long now = System.currentTimeMillis();
+            int kept = 0;
+            // idle sessions are ordered from the most to the least recently used
+            for (Iterator<IdleSession> iter = idle.iterator(); iter.hasNext(); ) {
+                IdleSession candidate = iter.next();
+                boolean expired = kept >= options.minSessions() && now - candidate.since > options.idleTimeoutMillis();
+                if (candidate.session.isOpen() && !expired) {
+                    kept++;
+                } else if (idle.removeFirstOccurrence(candidate)) {
+                    closeSession(candidate.session);
+                }
+            }
+            for (int i = kept + borrowed.get(); i < Math.min(options.minSessions(), options.maxSessions()); i++) {
+                idle.addLast(new IdleSession(open()));
+            }
+            for (Iterator<ReadyTransaction> iter = ready.iterator(); iter.hasNext(); ) {
+                ReadyTransaction candidate = iter.next();
+                if (!candidate.isUsable() && ready.removeFirstOccurrence(candidate)) closeQuietly(candidate.transaction);
+            }
+            fillReadyTransactions();
+        } catch (TypeDBDriverException ignored) {
+            // the server may be unavailable, in which case the next check tries again
+        }
+    }
+
+    private void fillReadyTransactions() {
+        if (!isOpen) return;
+        try {
+            while (ready.size() < options.readyTransactions()) {
+                ready.addLast(new ReadyTransaction(transactionSession().transaction(READ, options.transactionOptions())));
+            }
+        } catch (TypeDBDriverException ignored) {
+            // retried at the next health check
+        }
+        // the pool may have been closed while a transaction was being opened
+        if (!isOpen) closeReadyTransactions();
+    }
+
+    private void closeReadyTransactions() {
+        ReadyTransaction candidate;
+        while ((candidate = ready.pollFirst()) != null) closeQuietly(candidate.transaction);
+    }
+
+    @Override
+    public int borrowedSessions() {
+        return borrowed.get();
+    }
+
+    @Override
+    public int idleSessions() {
+        return idle.size();
+    }
+
+    @Override
+    public int readyTransactions() {
+        return ready.size();
+    }
+
+    @Override
+    public void close() {
+        if (!isOpen) return;
+        isOpen = false;
+        maintenance.shutdown();
+        try {
+            maintenance.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closeReadyTransactions();
+        IdleSession candidate;
+        while ((candidate = idle.pollFirst()) != null) closeSession(candidate.session);
+        synchronized (this) {
+            if (transactionSession != null) closeQuietly(transactionSession);
+            transactionSession = null;
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+        }
+    }
+
+    private static class IdleSession {
+        private final TypeDBSessionImpl session;
+        private final long since;
+
+        private IdleSession(TypeDBSessionImpl session) {
+            this.session = session;
+            this.since = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * The callbacks of the current lease of a pooled session. The session keeps every callback registered with it for
+     * as long as it is open, so it is given a single callback of each kind that runs those of whichever lease holds it.
+     */
+    private static class LeaseCallbacks {
+        private final List<Runnable> onClose;
+        private final List<Runnable> onReopen;
+
+        private LeaseCallbacks(TypeDBSessionImpl session) {
+            onClose = new CopyOnWriteArrayList<>();
+            onReopen = new CopyOnWriteArrayList<>();
+            session.onClose(() -> onClose.forEach(Runnable::run));
+            session.onReopen(() -> onReopen.forEach(Runnable::run));
+        }
+
+        private void clear() {
+            onClose.clear();
+            onReopen.clear();
+        }
+    }
+
+    private class ReadyTransaction {
+        private final TypeDBTransaction transaction;
+        private final long openedAt;
+
+        private ReadyTransaction(TypeDBTransaction transaction) {
+            this.transaction = transaction;
+            this.openedAt = System.currentTimeMillis();
+        }
+
+        private boolean isUsable() {
+            return transaction.isOpen() && System.currentTimeMillis() - openedAt <= options.maxTransactionAgeMillis();
+        }
+    }
+
+    private class PooledSession implements TypeDBSession {
+        private final TypeDBSessionImpl session;
+        private final Set<TypeDBTransaction> transactions;
+        private final AtomicBoolean isReturned;
+
+        private PooledSession(TypeDBSessionImpl session) {
+            this.session = session;
+            this.transactions = ConcurrentHashMap.newKeySet();
+            this.isReturned = new AtomicBoolean(false);
+        }
+
+        private TypeDBSessionImpl session() {
+            if (isReturned.get()) throw new TypeDBDriverException(SESSION_CLOSED);
+            return session;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !isReturned.get() && session.isOpen();
+        }
+
+        @Override
+        public Type type() {
+            return session.type();
+        }
+
+        @Override
+        public String databaseName() {
+            return session.databaseName();
+        }
+
+        @Override
+        public TypeDBOptions options() {
+            return session.options();
+        }
+
+        @Override
+        public TypeDBTransaction transaction(TypeDBTransaction.Type type) {
+            return track(session().transaction(type));
+        }
+
+        @Override
+        public TypeDBTransaction transaction(TypeDBTransaction.Type type, TypeDBOptions options) {
+            return track(session().transaction(type, options));
+        }
+
+        private TypeDBTransaction track(TypeDBTransaction transaction) {
+            transactions.removeIf(tx -> !tx.isOpen());
+            transactions.add(transaction);
+            // the lease may have been returned while the transaction was being opened
+            if (isReturned.get() && transactions.remove(transaction)) {
+                closeQuietly(transaction);
+                throw new TypeDBDriverException(SESSION_CLOSED);
+            }
+            return transaction;
+        }
+
+        @Override
+        public Stream<ConceptMap> getPartitioned(List<String> queries) {
+            return session().getPartitioned(queries);
+        }
+
+        @Override
+        public Stream<ConceptMap> getPartitioned(List<String> queries, TypeDBOptions options, int parallelism) {
+            return session().getPartitioned(queries, options, parallelism);
+        }
+
+        @Override
+        public void onClose(Runnable function) {
+            leaseCallbacks(session()).onClose.add(function);
+        }
+
+        @Override
+        public void onReopen(Runnable function) {
+            leaseCallbacks(session()).onReopen.add(function);
+        }
+
+        @Override
+        public void close() {
+            if (isReturned.compareAndSet(false, true)) giveBack(this);
+        }
+    }
+}
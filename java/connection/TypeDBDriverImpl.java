@@ -19,6 +19,8 @@
 
 package com.vaticle.typedb.driver.connection;
 
+import com.vaticle.typedb.driver.api.BulkLoader;
+import com.vaticle.typedb.driver.api.SessionPool;
 import com.vaticle.typedb.driver.api.TypeDBDriver;
 import com.vaticle.typedb.driver.api.TypeDBCredential;
 import com.vaticle.typedb.driver.api.TypeDBOptions;
@@ -26,6 +28,7 @@ import com.vaticle.typedb.driver.api.TypeDBSession;
 import com.vaticle.typedb.driver.api.database.DatabaseManager;
 import com.vaticle.typedb.driver.api.user.User;
 import com.vaticle.typedb.driver.api.user.UserManager;
+import com.vaticle.typedb.driver.common.NativeIterator;
 import com.vaticle.typedb.driver.common.NativeObject;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
 import com.vaticle.typedb.driver.user.UserManagerImpl;
@@ -34,27 +37,47 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-
+import java.util.stream.Collectors;
+
+import static com.vaticle.typedb.driver.jni.typedb_driver.channel_metrics_get_index;
+import static com.vaticle.typedb.driver.jni.typedb_driver.channel_metrics_get_open_transactions;
+import static com.vaticle.typedb.driver.jni.typedb_driver.channel_metrics_get_pending_requests;
+import static com.vaticle.typedb.driver.jni.typedb_driver.channel_metrics_get_server;
+import static com.vaticle.typedb.driver.jni.typedb_driver.channel_metrics_get_total_requests;
+import static com.vaticle.typedb.driver.jni.typedb_driver.channel_metrics_get_total_transactions;
+import static com.vaticle.typedb.driver.jni.typedb_driver.connection_channel_metrics;
 import static com.vaticle.typedb.driver.jni.typedb_driver.connection_force_close;
 import static com.vaticle.typedb.driver.jni.typedb_driver.connection_is_open;
-import static com.vaticle.typedb.driver.jni.typedb_driver.connection_open_cloud;
-import static com.vaticle.typedb.driver.jni.typedb_driver.connection_open_cloud_translated;
-import static com.vaticle.typedb.driver.jni.typedb_driver.connection_open_core;
+import static com.vaticle.typedb.driver.jni.typedb_driver.connection_open_cloud_translated_with_channel_pool;
+import static com.vaticle.typedb.driver.jni.typedb_driver.connection_open_cloud_with_channel_pool;
+import static com.vaticle.typedb.driver.jni.typedb_driver.connection_open_core_with_channel_pool;
 
 public class TypeDBDriverImpl extends NativeObject<com.vaticle.typedb.driver.jni.Connection> implements TypeDBDriver {
     private final UserManagerImpl userMgr;
     private final DatabaseManager databaseMgr;
 
     public TypeDBDriverImpl(String address) throws TypeDBDriverException {
-        this(openCore(address));
+        this(address, new Options());
+    }
+
+    public TypeDBDriverImpl(String address, Options options) throws TypeDBDriverException {
+        this(openCore(address, options));
     }
 
     public TypeDBDriverImpl(Set<String> initAddresses, TypeDBCredential credential) throws TypeDBDriverException {
-        this(openCloud(initAddresses, credential));
+        this(initAddresses, credential, new Options());
+    }
+
+    public TypeDBDriverImpl(Set<String> initAddresses, TypeDBCredential credential, Options options) throws TypeDBDriverException {
+        this(openCloud(initAddresses, credential, options));
     }
 
     public TypeDBDriverImpl(Map<String, String> addressTranslation, TypeDBCredential credential) throws TypeDBDriverException {
-        this(openCloud(addressTranslation, credential));
+        this(addressTranslation, credential, new Options());
+    }
+
+    public TypeDBDriverImpl(Map<String, String> addressTranslation, TypeDBCredential credential, Options options) throws TypeDBDriverException {
+        this(openCloud(addressTranslation, credential, options));
     }
 
     private TypeDBDriverImpl(com.vaticle.typedb.driver.jni.Connection connection) {
@@ -63,23 +86,30 @@ public class TypeDBDriverImpl extends NativeObject<com.vaticle.typedb.driver.jni
         userMgr = new UserManagerImpl(this.nativeObject);
     }
 
-    private static com.vaticle.typedb.driver.jni.Connection openCore(String address) {
+    private static com.vaticle.typedb.driver.jni.Connection openCore(String address, Options options) {
         try {
-            return connection_open_core(address);
+            return connection_open_core_with_channel_pool(
+                    address, isMultiThread(options), options.networkWorkerThreads(),
+                    options.channelPoolSize(), isLeastLoaded(options)
+            );
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
     }
 
-    private static com.vaticle.typedb.driver.jni.Connection openCloud(Set<String> initAddresses, TypeDBCredential credential) {
+    private static com.vaticle.typedb.driver.jni.Connection openCloud(Set<String> initAddresses, TypeDBCredential credential, Options options) {
         try {
-            return connection_open_cloud(initAddresses.toArray(new String[0]), credential.nativeObject);
+            return connection_open_cloud_with_channel_pool(
+                    initAddresses.toArray(new String[0]), credential.nativeObject,
+                    isMultiThread(options), options.networkWorkerThreads(),
+                    options.channelPoolSize(), isLeastLoaded(options)
+            );
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
     }
 
-    private static com.vaticle.typedb.driver.jni.Connection openCloud(Map<String, String> addressTranslation, TypeDBCredential credential) {
+    private static com.vaticle.typedb.driver.jni.Connection openCloud(Map<String, String> addressTranslation, TypeDBCredential credential, Options options) {
         try {
             List<String> publicAddresses = new ArrayList();
             List<String> privateAddresses = new ArrayList();
@@ -87,16 +117,28 @@ public class TypeDBDriverImpl extends NativeObject<com.vaticle.typedb.driver.jni
                 publicAddresses.add(entry.getKey());
                 privateAddresses.add(entry.getValue());
             }
-            return connection_open_cloud_translated(
+            return connection_open_cloud_translated_with_channel_pool(
                 publicAddresses.toArray(new String[0]),
                 privateAddresses.toArray(new String[0]),
-                credential.nativeObject
+                credential.nativeObject,
+                isMultiThread(options),
+                options.networkWorkerThreads(),
+                options.channelPoolSize(),
+                isLeastLoaded(options)
             );
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
     }
 
+    private static boolean isMultiThread(Options options) {
+        return options.networkRuntime() == Options.NetworkRuntime.MULTI_THREAD;
+    }
+
+    private static boolean isLeastLoaded(Options options) {
+        return options.channelSelection() == Options.ChannelSelection.LEAST_LOADED;
+    }
+
     @Override
     public boolean isOpen() {
         return connection_is_open(nativeObject);
@@ -112,6 +154,11 @@ public class TypeDBDriverImpl extends NativeObject<com.vaticle.typedb.driver.jni
         return userMgr;
     }
 
+    @Override
+    public List<? extends TypeDBDriver.ChannelMetrics> channelMetrics() {
+        return new NativeIterator<>(connection_channel_metrics(nativeObject)).stream().map(ChannelMetrics::new).collect(Collectors.toList());
+    }
+
     @Override
     public DatabaseManager databases() {
         return databaseMgr;
@@ -127,6 +174,26 @@ public class TypeDBDriverImpl extends NativeObject<com.vaticle.typedb.driver.jni
         return new TypeDBSessionImpl(databases(), database, type, options);
     }
 
+    @Override
+    public SessionPool sessionPool(String database, TypeDBSession.Type type) {
+        return sessionPool(database, type, new SessionPool.Options());
+    }
+
+    @Override
+    public SessionPool sessionPool(String database, TypeDBSession.Type type, SessionPool.Options options) {
+        return new SessionPoolImpl(databases(), database, type, options);
+    }
+
+    @Override
+    public BulkLoader bulkLoader(String database) {
+        return bulkLoader(database, new BulkLoader.Options());
+    }
+
+    @Override
+    public BulkLoader bulkLoader(String database, BulkLoader.Options options) {
+        return new BulkLoaderImpl(new TypeDBSessionImpl(databases(), database, TypeDBSession.Type.DATA, new TypeDBOptions()), options);
+    }
+
     @Override
     public void close() {
         if (!isOpen()) return;
@@ -136,4 +203,40 @@ public class TypeDBDriverImpl extends NativeObject<com.vaticle.typedb.driver.jni
             throw new TypeDBDriverException(error);
         }
     }
+
+    public static class ChannelMetrics extends NativeObject<com.vaticle.typedb.driver.jni.ChannelMetrics> implements TypeDBDriver.ChannelMetrics {
+        ChannelMetrics(com.vaticle.typedb.driver.jni.ChannelMetrics channelMetrics) {
+            super(channelMetrics);
+        }
+
+        @Override
+        public String server() {
+            return channel_metrics_get_server(nativeObject);
+        }
+
+        @Override
+        public long index() {
+            return channel_metrics_get_index(nativeObject);
+        }
+
+        @Override
+        public long openTransactions() {
+            return channel_metrics_get_open_transactions(nativeObject);
+        }
+
+        @Override
+        public long totalTransactions() {
+            return channel_metrics_get_total_transactions(nativeObject);
+        }
+
+        @Override
+        public long pendingRequests() {
+            return channel_metrics_get_pending_requests(nativeObject);
+        }
+
+        @Override
+        public long totalRequests() {
+            return channel_metrics_get_total_requests(nativeObject);
+        }
+    }
 }
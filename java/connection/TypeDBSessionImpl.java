@@ -22,12 +22,15 @@ package com.vaticle.typedb.driver.connection;
 import com.vaticle.typedb.driver.api.TypeDBOptions;
 import com.vaticle.typedb.driver.api.TypeDBSession;
 import com.vaticle.typedb.driver.api.TypeDBTransaction;
+import com.vaticle.typedb.driver.api.answer.ConceptMap;
 import com.vaticle.typedb.driver.api.database.DatabaseManager;
 import com.vaticle.typedb.driver.common.NativeObject;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import com.vaticle.typedb.driver.concept.SchemaCache;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static com.vaticle.typedb.driver.jni.typedb_driver.session_force_close;
 import static com.vaticle.typedb.driver.jni.typedb_driver.session_get_database_name;
@@ -39,6 +42,7 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.session_on_reopen;
 public class TypeDBSessionImpl extends NativeObject<com.vaticle.typedb.driver.jni.Session> implements TypeDBSession {
     private final Type type;
     private final TypeDBOptions options;
+    private final SchemaCache schemaCache;
 
     private final List<SessionCallback> callbacks;
 
@@ -48,6 +52,13 @@ public class TypeDBSessionImpl extends NativeObject<com.vaticle.typedb.driver.jn
         this.options = options;
 
         callbacks = new ArrayList<>();
+        if (options.schemaCache().orElse(false)) {
+            schemaCache = new SchemaCache();
+            // the schema may have changed while the session was disconnected
+            onReopen(schemaCache::invalidate);
+        } else {
+            schemaCache = null;
+        }
     }
 
     private static com.vaticle.typedb.driver.jni.Session newNative(DatabaseManager databaseManager, String database, Type type, TypeDBOptions options) {
@@ -88,6 +99,20 @@ public class TypeDBSessionImpl extends NativeObject<com.vaticle.typedb.driver.jn
         return new TypeDBTransactionImpl(this, type, options);
     }
 
+    @Override
+    public Stream<ConceptMap> getPartitioned(List<String> queries) {
+        return getPartitioned(queries, new TypeDBOptions(), Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public Stream<ConceptMap> getPartitioned(List<String> queries, TypeDBOptions options, int parallelism) {
+        return PartitionedGet.stream(this, queries, options, parallelism);
+    }
+
+    SchemaCache schemaCache() {
+        return schemaCache;
+    }
+
     @Override
     public void onClose(Runnable function) {
         try {
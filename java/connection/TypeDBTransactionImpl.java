@@ -20,13 +20,16 @@
 package com.vaticle.typedb.driver.connection;
 
 import com.vaticle.typedb.driver.api.TypeDBOptions;
+import com.vaticle.typedb.driver.api.TypeDBSession;
 import com.vaticle.typedb.driver.api.TypeDBTransaction;
 import com.vaticle.typedb.driver.api.concept.ConceptManager;
 import com.vaticle.typedb.driver.api.logic.LogicManager;
 import com.vaticle.typedb.driver.api.query.QueryManager;
 import com.vaticle.typedb.driver.common.NativeObject;
+import com.vaticle.typedb.driver.common.Promise;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
 import com.vaticle.typedb.driver.concept.ConceptManagerImpl;
+import com.vaticle.typedb.driver.concept.SchemaCache;
 import com.vaticle.typedb.driver.logic.LogicManagerImpl;
 import com.vaticle.typedb.driver.query.QueryManagerImpl;
 
@@ -34,7 +37,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_RELEASED;
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.TRANSACTION_CLOSED;
+import static com.vaticle.typedb.driver.jni.typedb_driver.answer_arena_new;
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_buffered_answers;
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_buffered_bytes;
 import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_commit;
 import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_force_close;
 import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_is_open;
@@ -45,6 +52,9 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_rollback;
 public class TypeDBTransactionImpl extends NativeObject<com.vaticle.typedb.driver.jni.Transaction> implements TypeDBTransaction {
     private final TypeDBTransaction.Type type;
     private final TypeDBOptions options;
+    private final com.vaticle.typedb.driver.jni.AnswerArena arena;
+    private final SchemaCache sessionSchemaCache;
+    private final boolean writesSchema;
 
     private final ConceptManager conceptManager;
     private final LogicManager logicManager;
@@ -56,10 +66,16 @@ public class TypeDBTransactionImpl extends NativeObject<com.vaticle.typedb.drive
         super(newNative(session, type, options));
         this.type = type;
         this.options = options;
-
-        conceptManager = new ConceptManagerImpl(nativeObject);
+        arena = options.answerArena().orElse(false)
+                ? answer_arena_new().onReleasedAccess(() -> new TypeDBDriverException(ANSWER_RELEASED))
+                : null;
+        sessionSchemaCache = session.schemaCache();
+        writesSchema = session.type() == TypeDBSession.Type.SCHEMA && type == Type.WRITE;
+
+        // lookups are not cached in transactions which may change the schema themselves
+        conceptManager = new ConceptManagerImpl(nativeObject, writesSchema ? null : sessionSchemaCache);
         logicManager = new LogicManagerImpl(nativeObject);
-        queryManager = new QueryManagerImpl(nativeObject);
+        queryManager = new QueryManagerImpl(nativeObject, arena);
 
         callbacks = new ArrayList<>();
     }
@@ -88,6 +104,18 @@ public class TypeDBTransactionImpl extends NativeObject<com.vaticle.typedb.drive
         else return transaction_is_open(nativeObject);
     }
 
+    @Override
+    public long bufferedAnswers() {
+        if (!nativeObject.isOwned()) return 0;
+        else return transaction_buffered_answers(nativeObject);
+    }
+
+    @Override
+    public long bufferedBytes() {
+        if (!nativeObject.isOwned()) return 0;
+        else return transaction_buffered_bytes(nativeObject);
+    }
+
     @Override
     public ConceptManager concepts() {
         return conceptManager;
@@ -118,22 +146,28 @@ public class TypeDBTransactionImpl extends NativeObject<com.vaticle.typedb.drive
     @Override
     public void commit() {
         if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        // NOTE: .released() relinquishes ownership of the native object to the Rust side
         try {
-            // NOTE: .released() relinquishes ownership of the native object to the Rust side
-            transaction_commit(nativeObject.released()).get();
-        } catch (com.vaticle.typedb.driver.jni.Error.Unchecked e) {
-            throw new TypeDBDriverException(e);
+            new Promise<>(transaction_commit(nativeObject.released())).resolve();
+            if (writesSchema) invalidateSchemaCache();
+        } catch (RuntimeException e) {
+            // a failed commit may be the result of a schema change the cache has not seen
+            invalidateSchemaCache();
+            throw e;
+        } finally {
+            dropArena();
         }
     }
 
     @Override
     public void rollback() {
         if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
-        try {
-            transaction_rollback(nativeObject).get();
-        } catch (com.vaticle.typedb.driver.jni.Error.Unchecked e) {
-            throw new TypeDBDriverException(e);
-        }
+        new Promise<>(transaction_rollback(nativeObject)).resolve();
+    }
+
+    @Override
+    public void release() {
+        if (arena != null) arena.releaseAnswers();
     }
 
     @Override
@@ -145,10 +179,22 @@ public class TypeDBTransactionImpl extends NativeObject<com.vaticle.typedb.drive
                 throw new TypeDBDriverException(error);
             } finally {
                 callbacks.clear();
+                dropArena();
             }
         }
     }
 
+    private void invalidateSchemaCache() {
+        if (sessionSchemaCache != null) sessionSchemaCache.invalidate();
+    }
+
+    private void dropArena() {
+        if (arena != null) {
+            arena.releaseAnswers();
+            arena.delete();
+        }
+    }
+
     static class TransactionOnClose extends com.vaticle.typedb.driver.jni.TransactionCallbackDirector {
         private final Consumer<Throwable> function;
 
@@ -19,17 +19,31 @@ dir_mapping = {
     "TypeDBTransaction.adoc": "transaction",
     "TypeDBTransaction.Type.adoc": "transaction",
     "QueryManager.adoc": "transaction",
+    "QueryCancellation.adoc": "transaction",
+    "PreparedQuery.adoc": "transaction",
+    "PreparedQuery.Binding.adoc": "transaction",
     "Explanation.adoc": "answer",
     "ConceptMap.Explainable.adoc": "answer",
     "ConceptMap.Explainables.adoc": "answer",
     "ConceptMap.adoc": "answer",
+    "ColumnarBatch.adoc": "answer",
+    "ColumnarBatch.Column.adoc": "answer",
     "ConceptMapGroup.adoc": "answer",
     "JSON.adoc": "answer",
     "ValueGroup.adoc": "answer",
     "Promise_T_.adoc": "answer",
     "TypeDB.adoc": "connection",
     "TypeDBDriver.adoc": "connection",
+    "TypeDBDriver.Options.adoc": "connection",
+    "TypeDBDriver.Options.NetworkRuntime.adoc": "connection",
+    "TypeDBDriver.Options.ChannelSelection.adoc": "connection",
+    "TypeDBDriver.ChannelMetrics.adoc": "connection",
     "TypeDBCredential.adoc": "connection",
+    "BulkLoader.adoc": "connection",
+    "BulkLoader.Options.adoc": "connection",
+    "BulkLoader.Stats.adoc": "connection",
+    "Blocking.adoc": "connection",
+    "Blocking.Mode.adoc": "connection",
     "UserManager.adoc": "connection",
     "Database.Replica.adoc": "connection",
     "User.adoc": "connection",
@@ -56,6 +70,10 @@ dir_mapping = {
     "Thing.adoc": "data",
     "TypeDBSession.adoc": "session",
     "TypeDBSession.Type.adoc": "session",
+    "SessionPool.adoc": "session",
+    "SessionPool.Options.adoc": "session",
     "TypeDBOptions.adoc": "session",
+    "TypeDBOptions.DispatchPolicy.adoc": "session",
+    "TypeDBOptions.DispatchPolicy.Mode.adoc": "session",
     "TypeDBDriverException.adoc": "errors",
 }
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.ffm;
+
+import com.vaticle.typedb.driver.common.NativeBackend;
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_BOOLEAN;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * Calls the C API of the native library directly through the Foreign Function &amp; Memory API (Java 22+),
+ * bypassing the SWIG-generated JNI glue. Strings are passed as native UTF-8 segments and arrays are read in place,
+ * and completion callbacks go through a single upcall stub. Answers are still wrapped in the SWIG proxy classes,
+ * so both backends hand out interchangeable objects.
+ */
+public final class ForeignNativeBackend extends NativeBackend {
+    private static final Linker LINKER = Linker.nativeLinker();
+    // functions that neither block nor call back into Java can skip the thread state transition
+    private static final Linker.Option CRITICAL = Linker.Option.critical(false);
+
+    private static MethodHandle checkError;
+    private static MethodHandle getLastError;
+    private static MethodHandle stringFree;
+    private static MethodHandle conceptGetKind;
+    private static MethodHandle conceptToString;
+    private static MethodHandle valueGetString;
+    private static MethodHandle conceptMapGetEntries;
+    private static MethodHandle conceptMapEntriesDrop;
+    private static MethodHandle conceptMapIteratorNextBatch;
+    private static MethodHandle conceptMapArrayDrop;
+    private static MethodHandle conceptMapIteratorOnNext;
+
+    private static final Map<Long, Runnable> callbacks = new ConcurrentHashMap<>();
+    private static final AtomicLong nextCallbackId = new AtomicLong();
+    private static MemorySegment callbackStub;
+
+    public ForeignNativeBackend() {
+        super();
+        initialise();
+    }
+
+    private static synchronized void initialise() {
+        if (callbackStub != null) return;
+        // the native library is loaded by the driver's own class loader
+        SymbolLookup symbols = SymbolLookup.loaderLookup();
+        checkError = downcall(symbols, "check_error", FunctionDescriptor.of(JAVA_BOOLEAN), CRITICAL);
+        getLastError = downcall(symbols, "get_last_error", FunctionDescriptor.of(ADDRESS), CRITICAL);
+        stringFree = downcall(symbols, "string_free", FunctionDescriptor.ofVoid(ADDRESS), CRITICAL);
+        conceptGetKind = downcall(symbols, "concept_get_kind", FunctionDescriptor.of(JAVA_INT, ADDRESS), CRITICAL);
+        conceptToString = downcall(symbols, "concept_to_string", FunctionDescriptor.of(ADDRESS, ADDRESS), CRITICAL);
+        valueGetString = downcall(symbols, "value_get_string", FunctionDescriptor.of(ADDRESS, ADDRESS), CRITICAL);
+        conceptMapGetEntries = downcall(symbols, "concept_map_get_entries", FunctionDescriptor.of(ADDRESS, ADDRESS), CRITICAL);
+        conceptMapEntriesDrop = downcall(symbols, "concept_map_entries_drop", FunctionDescriptor.ofVoid(ADDRESS), CRITICAL);
+        conceptMapIteratorNextBatch = downcall(
+                symbols, "concept_map_iterator_next_batch", FunctionDescriptor.of(ADDRESS, ADDRESS, JAVA_LONG)
+        );
+        conceptMapArrayDrop = downcall(symbols, "concept_map_array_drop", FunctionDescriptor.ofVoid(ADDRESS), CRITICAL);
+        conceptMapIteratorOnNext = downcall(
+                symbols, "concept_map_iterator_on_next", FunctionDescriptor.ofVoid(ADDRESS, JAVA_LONG, ADDRESS)
+        );
+        try {
+            MethodHandle onComplete = MethodHandles.lookup().findStatic(
+                    ForeignNativeBackend.class, "onComplete", MethodType.methodType(void.class, long.class)
+            );
+            callbackStub = LINKER.upcallStub(onComplete, FunctionDescriptor.ofVoid(JAVA_LONG), Arena.global());
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle downcall(SymbolLookup symbols, String name, FunctionDescriptor descriptor, Linker.Option... options) {
+        MemorySegment symbol = symbols.find(name).orElseThrow(() -> new UnsatisfiedLinkError(name));
+        return LINKER.downcallHandle(symbol, descriptor, options);
+    }
+
+    @Override
+    public String name() {
+        return "ffm";
+    }
+
+    @Override
+    public com.vaticle.typedb.driver.jni.ConceptKind conceptGetKind(com.vaticle.typedb.driver.jni.Concept concept) {
+        try {
+            return com.vaticle.typedb.driver.jni.ConceptKind.swigToEnum((int) conceptGetKind.invokeExact(segment(concept.address())));
+        } catch (Throwable e) {
+            throw unexpected(e);
+        }
+    }
+
+    @Override
+    public String conceptToString(com.vaticle.typedb.driver.jni.Concept concept) {
+        try {
+            return takeString((MemorySegment) conceptToString.invokeExact(segment(concept.address())));
+        } catch (Throwable e) {
+            throw unexpected(e);
+        }
+    }
+
+    @Override
+    public String valueGetString(com.vaticle.typedb.driver.jni.Concept value) {
+        try {
+            return takeString((MemorySegment) valueGetString.invokeExact(segment(value.address())));
+        } catch (Throwable e) {
+            throw unexpected(e);
+        }
+    }
+
+    @Override
+    public com.vaticle.typedb.driver.jni.typedb_driver.ConceptMapEntries conceptMapGetEntries(
+            com.vaticle.typedb.driver.jni.ConceptMap conceptMap
+    ) {
+        try {
+            MemorySegment entries = ((MemorySegment) conceptMapGetEntries.invokeExact(segment(conceptMap.address())))
+                    .reinterpret(3 * ADDRESS.byteSize());
+            // struct ConceptMapEntries { char** variables; Concept** concepts; size_t len; }
+            int len = (int) entries.getAtIndex(JAVA_LONG, 2);
+            MemorySegment variables = entries.getAtIndex(ADDRESS, 0).reinterpret(len * ADDRESS.byteSize());
+            MemorySegment concepts = entries.getAtIndex(ADDRESS, 1).reinterpret(len * ADDRESS.byteSize());
+            String[] variableNames = new String[len];
+            com.vaticle.typedb.driver.jni.Concept[] conceptHandles = new com.vaticle.typedb.driver.jni.Concept[len];
+            for (int i = 0; i < len; i++) {
+                variableNames[i] = variables.getAtIndex(ADDRESS, i).reinterpret(Long.MAX_VALUE).getString(0);
+                conceptHandles[i] = com.vaticle.typedb.driver.jni.Concept.ofAddress(concepts.getAtIndex(JAVA_LONG, i), true);
+            }
+            conceptMapEntriesDrop.invokeExact(entries);
+            return new com.vaticle.typedb.driver.jni.typedb_driver.ConceptMapEntries(variableNames, conceptHandles);
+        } catch (Throwable e) {
+            throw unexpected(e);
+        }
+    }
+
+    @Override
+    public com.vaticle.typedb.driver.jni.ConceptMap[] conceptMapIteratorNextBatch(
+            com.vaticle.typedb.driver.jni.ConceptMapIterator iterator, int maxSize
+    ) throws com.vaticle.typedb.driver.jni.Error {
+        MemorySegment array;
+        try {
+            array = (MemorySegment) conceptMapIteratorNextBatch.invokeExact(segment(iterator.address()), (long) maxSize);
+        } catch (Throwable e) {
+            throw unexpected(e);
+        }
+        if (array.address() == 0) {
+            checkError();
+            return null;
+        }
+        MemorySegment elements = array.reinterpret(Long.MAX_VALUE);
+        List<com.vaticle.typedb.driver.jni.ConceptMap> batch = new ArrayList<>(Math.min(maxSize, 1024));
+        for (long i = 0, address; (address = elements.getAtIndex(JAVA_LONG, i)) != 0; i++) {
+            batch.add(com.vaticle.typedb.driver.jni.ConceptMap.ofAddress(address, true));
+        }
+        try {
+            conceptMapArrayDrop.invokeExact(array);
+        } catch (Throwable e) {
+            throw unexpected(e);
+        }
+        return batch.toArray(new com.vaticle.typedb.driver.jni.ConceptMap[0]);
+    }
+
+    @Override
+    public void conceptMapIteratorOnNext(com.vaticle.typedb.driver.jni.ConceptMapIterator iterator, Runnable callback) {
+        long callbackId = nextCallbackId.getAndIncrement();
+        callbacks.put(callbackId, callback);
+        try {
+            conceptMapIteratorOnNext.invokeExact(segment(iterator.address()), callbackId, callbackStub);
+        } catch (Throwable e) {
+            callbacks.remove(callbackId);
+            throw unexpected(e);
+        }
+    }
+
+    private static void onComplete(long callbackId) {
+        // an exception escaping an upcall would crash the JVM
+        try {
+            Runnable callback = callbacks.remove(callbackId);
+            if (callback != null) callback.run();
+        } catch (Throwable e) {
+            Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+        }
+    }
+
+    private static void checkError() throws com.vaticle.typedb.driver.jni.Error {
+        try {
+            if ((boolean) checkError.invokeExact()) {
+                MemorySegment error = (MemorySegment) getLastError.invokeExact();
+                throw com.vaticle.typedb.driver.jni.Error.ofAddress(error.address(), true);
+            }
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw unexpected(e);
+        }
+    }
+
+    private static String takeString(MemorySegment string) throws Throwable {
+        if (string.address() == 0) return null;
+        try {
+            return string.reinterpret(Long.MAX_VALUE).getString(0);
+        } finally {
+            stringFree.invokeExact(string);
+        }
+    }
+
+    private static MemorySegment segment(long address) {
+        return MemorySegment.ofAddress(address);
+    }
+
+    private static RuntimeException unexpected(Throwable e) {
+        if (e instanceof RuntimeException) return (RuntimeException) e;
+        if (e instanceof Error) throw (Error) e;
+        return new TypeDBDriverException(e.getMessage(), e);
+    }
+}
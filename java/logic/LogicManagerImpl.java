@@ -67,6 +67,6 @@ public final class LogicManagerImpl implements LogicManager {
         if (label == null || label.isEmpty()) throw new TypeDBDriverException(MISSING_LABEL);
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         com.vaticle.typedb.driver.jni.RulePromise promise = logic_manager_put_rule(nativeTransaction, label, when.toString(), then.toString());
-        return new Promise<>(() -> new RuleImpl(promise.get()));
+        return Promise.transform(promise, RuleImpl::new);
     }
 }
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.query;
+
+import com.vaticle.typedb.driver.api.TypeDBOptions;
+import com.vaticle.typedb.driver.api.answer.ConceptMap;
+import com.vaticle.typedb.driver.common.NativeIterator;
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import com.vaticle.typedb.driver.concept.answer.ConceptMapImpl;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.TRANSACTION_CLOSED;
+import static com.vaticle.typedb.driver.jni.typedb_driver.query_get_on_demand;
+import static com.vaticle.typedb.driver.jni.typedb_driver.stream_demand_new;
+import static com.vaticle.typedb.driver.jni.typedb_driver.stream_demand_request;
+
+/**
+ * Publishes the answers of a get query. Each subscription runs the query afresh, and the server stream is only
+ * continued once the subscriber has requested answers beyond those already received.
+ */
+final class ConceptMapPublisher implements Flow.Publisher<ConceptMap> {
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    // answers are pulled with blocking native calls, so they are kept off the common fork-join pool
+    static final Executor DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "typedb-answer-publisher-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final com.vaticle.typedb.driver.jni.Transaction nativeTransaction;
+    private final String query;
+    private final TypeDBOptions options;
+    private final Executor executor;
+
+    ConceptMapPublisher(com.vaticle.typedb.driver.jni.Transaction nativeTransaction, String query, TypeDBOptions options, Executor executor) {
+        this.nativeTransaction = nativeTransaction;
+        this.query = query;
+        this.options = options;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ConceptMap> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!nativeTransaction.isOwned()) {
+            reject(subscriber, new TypeDBDriverException(TRANSACTION_CLOSED));
+            return;
+        }
+        com.vaticle.typedb.driver.jni.StreamDemand demand = stream_demand_new();
+        com.vaticle.typedb.driver.jni.ConceptMapIterator iterator;
+        try {
+            iterator = query_get_on_demand(nativeTransaction, query, options.nativeObject, demand);
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            reject(subscriber, new TypeDBDriverException(e));
+            return;
+        }
+        // answers are pulled one at a time: a batched pull could wait on answers that have not been requested yet
+        subscriber.onSubscribe(new Subscription(subscriber, demand, new NativeIterator<>(iterator)));
+    }
+
+    private static void reject(Flow.Subscriber<?> subscriber, TypeDBDriverException error) {
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        subscriber.onError(error);
+    }
+
+    private final class Subscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super ConceptMap> subscriber;
+        private final com.vaticle.typedb.driver.jni.StreamDemand demand;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger pendingSignals = new AtomicInteger();
+        private volatile boolean isFinished = false;
+        private volatile Throwable invalidRequest = null;
+        private NativeIterator<com.vaticle.typedb.driver.jni.ConceptMap> answers;
+
+        private Subscription(Flow.Subscriber<? super ConceptMap> subscriber, com.vaticle.typedb.driver.jni.StreamDemand demand,
+                             NativeIterator<com.vaticle.typedb.driver.jni.ConceptMap> answers) {
+            this.subscriber = subscriber;
+            this.demand = demand;
+            this.answers = answers;
+        }
+
+        @Override
+        public void request(long n) {
+            if (isFinished) return;
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Subscribers must request a positive number of answers, but requested " + n + ".");
+            } else {
+                requested.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+                stream_demand_request(demand, n);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            isFinished = true;
+            signal();
+        }
+
+        private void signal() {
+            if (pendingSignals.getAndIncrement() == 0) executor.execute(this);
+        }
+
+        @Override
+        public void run() {
+            int signals = 1;
+            do {
+                drain();
+                signals = pendingSignals.addAndGet(-signals);
+            } while (signals != 0);
+        }
+
+        private void drain() {
+            if (answers == null) return;
+            while (!isFinished) {
+                if (invalidRequest != null) {
+                    fail(invalidRequest);
+                    return;
+                }
+                if (requested.get() == 0) return;
+                ConceptMap next;
+                try {
+                    if (!answers.hasNext()) {
+                        isFinished = true;
+                        release();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    next = new ConceptMapImpl(answers.next());
+                } catch (TypeDBDriverException e) {
+                    fail(e);
+                    return;
+                }
+                subscriber.onNext(next);
+                requested.getAndUpdate(current -> current == Long.MAX_VALUE ? current : current - 1);
+            }
+            // the subscriber has cancelled: freeing the native iterator stops the server stream
+            release();
+        }
+
+        private void fail(Throwable error) {
+            isFinished = true;
+            release();
+            subscriber.onError(error);
+        }
+
+        private void release() {
+            answers.close();
+            answers = null;
+        }
+    }
+}
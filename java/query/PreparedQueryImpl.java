@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.query;
+
+import com.vaticle.typedb.driver.api.query.PreparedQuery;
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Concept.MISSING_VALUE;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.INVALID_QUERY_PARAMETER;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.MALFORMED_QUERY_TEMPLATE;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.MISSING_QUERY;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.QUOTED_QUERY_PARAMETER;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.UNBOUND_QUERY_PARAMETER;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.UNKNOWN_QUERY_PARAMETER;
+
+public final class PreparedQueryImpl implements PreparedQuery {
+    /**
+     * The system property setting the number of templates kept by <code>PreparedQueryImpl.of</code>.
+     */
+    public static final String CACHE_SIZE_PROPERTY = "typedb.driver.preparedQueryCacheSize";
+    private static final int CACHE_SIZE = Integer.getInteger(CACHE_SIZE_PROPERTY, 256);
+    private static final Map<String, PreparedQueryImpl> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<String, PreparedQueryImpl>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedQueryImpl> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            }
+    );
+
+    private static final Pattern PARAMETER_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_\\-]*");
+    private static final Pattern IID = Pattern.compile("0x[0-9a-fA-F]+");
+    private static final Pattern LABEL = Pattern.compile("[\\p{L}_][\\p{L}\\p{N}_\\-]*(:[\\p{L}_][\\p{L}\\p{N}_\\-]*)?");
+    private static final DateTimeFormatter DATETIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+
+    private final String template;
+    private final String[] fragments;
+    private final int[] slots;
+    private final List<String> parameters;
+    private final int fragmentsLength;
+
+    private PreparedQueryImpl(String template) {
+        this.template = template;
+        List<String> fragments = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<String> parameters = new ArrayList<>();
+        int fragmentStart = 0, index = 0;
+        // the template is scanned once, stepping over string literals and comments, so that their text is never taken
+        // for a placeholder
+        while (index < template.length()) {
+            char c = template.charAt(index);
+            int start = index, next;
+            String name;
+            if (c == '#') {
+                int lineEnd = template.indexOf('\n', index);
+                index = lineEnd < 0 ? template.length() : lineEnd + 1;
+                continue;
+            } else if (c == '"' || c == '\'') {
+                next = literalEnd(template, index);
+                int placeholder = template.indexOf("${", index);
+                if (placeholder < 0 || placeholder >= next) {
+                    index = next;
+                    continue;
+                }
+                // a placeholder is only recognised in a string literal that holds nothing else, and is then replaced
+                // along with its quotes; one spliced into other text would leave the bound value inside the literal
+                name = placeholder == index + 1 ? placeholderName(template, placeholder) : null;
+                if (name == null || next != placeholder + name.length() + 4) {
+                    throw new TypeDBDriverException(QUOTED_QUERY_PARAMETER, placeholder);
+                }
+            } else if (template.startsWith("${", index)) {
+                name = placeholderName(template, index);
+                if (name == null) throw new TypeDBDriverException(MALFORMED_QUERY_TEMPLATE, index);
+                next = index + name.length() + 3;
+            } else {
+                index++;
+                continue;
+            }
+            fragments.add(template.substring(fragmentStart, start));
+            if (!parameters.contains(name)) parameters.add(name);
+            slots.add(parameters.indexOf(name));
+            fragmentStart = index = next;
+        }
+        fragments.add(template.substring(fragmentStart));
+        this.fragments = fragments.toArray(new String[0]);
+        this.slots = slots.stream().mapToInt(Integer::intValue).toArray();
+        this.parameters = Collections.unmodifiableList(parameters);
+        this.fragmentsLength = fragments.stream().mapToInt(String::length).sum();
+    }
+
+    private static String placeholderName(String template, int index) {
+        int end = template.indexOf('}', index);
+        if (end < 0) return null;
+        String name = template.substring(index + 2, end);
+        return PARAMETER_NAME.matcher(name).matches() ? name : null;
+    }
+
+    private static int literalEnd(String template, int index) {
+        char quote = template.charAt(index);
+        for (int i = index + 1; i < template.length(); i++) {
+            char c = template.charAt(i);
+            if (c == '\\') i++;
+            else if (c == quote) return i + 1;
+        }
+        // an unterminated literal is left for the server to reject
+        return template.length();
+    }
+
+    /**
+     * Returns the prepared form of a template, splitting it only if it is not among the most recently prepared templates.
+     */
+    public static PreparedQueryImpl of(String template) {
+        if (template == null || template.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
+        PreparedQueryImpl prepared = CACHE.get(template);
+        if (prepared == null) {
+            prepared = new PreparedQueryImpl(template);
+            CACHE.put(template, prepared);
+        }
+        return prepared;
+    }
+
+    @Override
+    public String template() {
+        return template;
+    }
+
+    @Override
+    public List<String> parameters() {
+        return parameters;
+    }
+
+    @Override
+    public Binding bind() {
+        return new BindingImpl();
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private class BindingImpl implements Binding {
+        private final String[] values = new String[parameters.size()];
+
+        private Binding put(String parameter, String literal) {
+            int slot = parameters.indexOf(parameter);
+            if (slot < 0) throw new TypeDBDriverException(UNKNOWN_QUERY_PARAMETER, parameter);
+            values[slot] = literal;
+            return this;
+        }
+
+        @Override
+        public Binding set(String parameter, String value) {
+            if (value == null) throw new TypeDBDriverException(MISSING_VALUE);
+            StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') literal.append('\\');
+                literal.append(c);
+            }
+            return put(parameter, literal.append('"').toString());
+        }
+
+        @Override
+        public Binding set(String parameter, long value) {
+            return put(parameter, Long.toString(value));
+        }
+
+        @Override
+        public Binding set(String parameter, double value) {
+            if (!Double.isFinite(value)) throw new TypeDBDriverException(INVALID_QUERY_PARAMETER, value, "double");
+            String literal = BigDecimal.valueOf(value).toPlainString();
+            return put(parameter, literal.indexOf('.') < 0 ? literal + ".0" : literal);
+        }
+
+        @Override
+        public Binding set(String parameter, boolean value) {
+            return put(parameter, Boolean.toString(value));
+        }
+
+        @Override
+        public Binding set(String parameter, LocalDateTime value) {
+            if (value == null) throw new TypeDBDriverException(MISSING_VALUE);
+            return put(parameter, DATETIME.format(value));
+        }
+
+        @Override
+        public Binding setIID(String parameter, String iid) {
+            if (iid == null || !IID.matcher(iid).matches()) throw new TypeDBDriverException(INVALID_QUERY_PARAMETER, iid, "IID");
+            return put(parameter, iid);
+        }
+
+        @Override
+        public Binding setLabel(String parameter, String label) {
+            if (label == null || !LABEL.matcher(label).matches()) throw new TypeDBDriverException(INVALID_QUERY_PARAMETER, label, "label");
+            return put(parameter, label);
+        }
+
+        @Override
+        public String query() {
+            int length = fragmentsLength;
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) throw new TypeDBDriverException(UNBOUND_QUERY_PARAMETER, parameters.get(i));
+            }
+            for (int slot : slots) length += values[slot].length();
+            StringBuilder query = new StringBuilder(length).append(fragments[0]);
+            for (int i = 0; i < slots.length; i++) query.append(values[slots[i]]).append(fragments[i + 1]);
+            return query.toString();
+        }
+
+        @Override
+        public String toString() {
+            return query();
+        }
+    }
+}
@@ -20,16 +20,21 @@
 package com.vaticle.typedb.driver.query;
 
 import com.vaticle.typedb.driver.api.TypeDBOptions;
+import com.vaticle.typedb.driver.api.answer.ColumnarBatch;
 import com.vaticle.typedb.driver.api.answer.ConceptMap;
 import com.vaticle.typedb.driver.api.answer.ConceptMapGroup;
 import com.vaticle.typedb.driver.api.answer.JSON;
 import com.vaticle.typedb.driver.api.answer.ValueGroup;
 import com.vaticle.typedb.driver.api.concept.value.Value;
 import com.vaticle.typedb.driver.api.logic.Explanation;
+import com.vaticle.typedb.driver.api.query.PreparedQuery;
+import com.vaticle.typedb.driver.api.query.QueryCancellation;
 import com.vaticle.typedb.driver.api.query.QueryManager;
+import com.vaticle.typedb.driver.common.NativeBackend;
 import com.vaticle.typedb.driver.common.NativeIterator;
 import com.vaticle.typedb.driver.common.Promise;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import com.vaticle.typedb.driver.concept.answer.ColumnarBatchImpl;
 import com.vaticle.typedb.driver.concept.answer.ConceptMapGroupImpl;
 import com.vaticle.typedb.driver.concept.answer.ConceptMapImpl;
 import com.vaticle.typedb.driver.concept.answer.ValueGroupImpl;
@@ -44,28 +49,49 @@ import com.vaticle.typeql.lang.query.TypeQLUndefine;
 import com.vaticle.typeql.lang.query.TypeQLUpdate;
 
 import javax.annotation.CheckReturnValue;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.TRANSACTION_CLOSED;
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.MISSING_QUERY;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_iterator_next_batch_in_arena;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_iterator_next_in_arena;
+import static com.vaticle.typedb.driver.jni.typedb_driver.json_iterator_next_text;
 import static com.vaticle.typedb.driver.jni.typedb_driver.query_define;
 import static com.vaticle.typedb.driver.jni.typedb_driver.query_delete;
 import static com.vaticle.typedb.driver.jni.typedb_driver.query_explain;
-import static com.vaticle.typedb.driver.jni.typedb_driver.query_fetch;
+import static com.vaticle.typedb.driver.jni.typedb_driver.query_fetch_encoded;
 import static com.vaticle.typedb.driver.jni.typedb_driver.query_insert;
 import static com.vaticle.typedb.driver.jni.typedb_driver.query_get;
 import static com.vaticle.typedb.driver.jni.typedb_driver.query_get_aggregate;
+import static com.vaticle.typedb.driver.jni.typedb_driver.query_get_cancellable;
+import static com.vaticle.typedb.driver.jni.typedb_driver.query_get_columnar;
 import static com.vaticle.typedb.driver.jni.typedb_driver.query_get_group;
 import static com.vaticle.typedb.driver.jni.typedb_driver.query_get_group_aggregate;
 import static com.vaticle.typedb.driver.jni.typedb_driver.query_undefine;
 import static com.vaticle.typedb.driver.jni.typedb_driver.query_update;
 
 public final class QueryManagerImpl implements QueryManager {
+    private static final int DEFAULT_COLUMNAR_BATCH_SIZE = 1024;
+    private static final byte[] JSON_ARRAY_START = {'['};
+    private static final byte[] JSON_ARRAY_SEPARATOR = {','};
+    private static final byte[] JSON_ARRAY_END = {']'};
+    private static final byte[] NEWLINE = {'\n'};
+
     private final com.vaticle.typedb.driver.jni.Transaction nativeTransaction;
+    private final com.vaticle.typedb.driver.jni.AnswerArena arena;
 
-    public QueryManagerImpl(com.vaticle.typedb.driver.jni.Transaction nativeTransaction) {
+    public QueryManagerImpl(com.vaticle.typedb.driver.jni.Transaction nativeTransaction, com.vaticle.typedb.driver.jni.AnswerArena arena) {
         this.nativeTransaction = nativeTransaction;
+        this.arena = arena;
     }
 
     @Override
@@ -88,12 +114,90 @@ public final class QueryManagerImpl implements QueryManager {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
         try {
-            return new NativeIterator<>(query_get(nativeTransaction, query, options.nativeObject)).stream().map(ConceptMapImpl::new);
+            return conceptMaps(query_get(nativeTransaction, query, options.nativeObject), options).stream()
+                    .map(conceptMap -> new ConceptMapImpl(conceptMap, arena));
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public Stream<ConceptMap> get(TypeQLGet query, TypeDBOptions options, QueryCancellation cancellation) {
+        return get(query.toString(false), options, cancellation);
+    }
+
+    @Override
+    public Stream<ConceptMap> get(String query, TypeDBOptions options, QueryCancellation cancellation) {
+        if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
+        try {
+            return conceptMaps(query_get_cancellable(nativeTransaction, query, options.nativeObject, cancellation.nativeObject), options).stream()
+                    .map(conceptMap -> new ConceptMapImpl(conceptMap, arena));
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public Stream<ColumnarBatch> getColumnar(TypeQLGet query) {
+        return getColumnar(query.toString(false));
+    }
+
+    @Override
+    public Stream<ColumnarBatch> getColumnar(TypeQLGet query, TypeDBOptions options) {
+        return getColumnar(query.toString(false), options);
+    }
+
+    @Override
+    public Stream<ColumnarBatch> getColumnar(String query) {
+        return getColumnar(query, new TypeDBOptions());
+    }
+
+    @Override
+    public Stream<ColumnarBatch> getColumnar(String query, TypeDBOptions options) {
+        if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
+        try {
+            int batchSize = options.answerBatchSize().orElse(DEFAULT_COLUMNAR_BATCH_SIZE);
+            return new NativeIterator<>(query_get_columnar(nativeTransaction, query, options.nativeObject, batchSize)).stream()
+                    .map(ColumnarBatchImpl::new);
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
     }
 
+    @Override
+    public Flow.Publisher<ConceptMap> getPublisher(TypeQLGet query) {
+        return getPublisher(query.toString(false));
+    }
+
+    @Override
+    public Flow.Publisher<ConceptMap> getPublisher(TypeQLGet query, TypeDBOptions options) {
+        return getPublisher(query.toString(false), options);
+    }
+
+    @Override
+    public Flow.Publisher<ConceptMap> getPublisher(TypeQLGet query, TypeDBOptions options, Executor executor) {
+        return getPublisher(query.toString(false), options, executor);
+    }
+
+    @Override
+    public Flow.Publisher<ConceptMap> getPublisher(String query) {
+        return getPublisher(query, new TypeDBOptions());
+    }
+
+    @Override
+    public Flow.Publisher<ConceptMap> getPublisher(String query, TypeDBOptions options) {
+        return getPublisher(query, options, ConceptMapPublisher.DEFAULT_EXECUTOR);
+    }
+
+    @Override
+    public Flow.Publisher<ConceptMap> getPublisher(String query, TypeDBOptions options, Executor executor) {
+        if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
+        return new ConceptMapPublisher(nativeTransaction, query, options, executor);
+    }
+
     @Override
     @CheckReturnValue
     public Promise<Optional<Value>> get(TypeQLGet.Aggregate query) {
@@ -118,8 +222,7 @@ public final class QueryManagerImpl implements QueryManager {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
         com.vaticle.typedb.driver.jni.ConceptPromise promise = query_get_aggregate(nativeTransaction, query, options.nativeObject);
-        return new Promise<>(() -> {
-            var res = promise.get();
+        return Promise.transform(promise, res -> {
             if (res == null) return Optional.empty();
             else return Optional.of(new ValueImpl(res));
         });
@@ -197,7 +300,62 @@ public final class QueryManagerImpl implements QueryManager {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
         try {
-            return new NativeIterator<>(query_fetch(nativeTransaction, query, options.nativeObject)).stream().map(JSON::parse);
+            return new NativeIterator<>(query_fetch_encoded(nativeTransaction, query, options.nativeObject)).stream().map(JSON::decode);
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public long fetch(TypeQLFetch query, TypeDBOptions options, OutputStream output, JSON.Format format) throws IOException {
+        return fetch(query.toString(false), options, output, format);
+    }
+
+    @Override
+    public long fetch(String query, TypeDBOptions options, OutputStream output, JSON.Format format) throws IOException {
+        return fetch(query, options, format, output::write);
+    }
+
+    @Override
+    public long fetch(TypeQLFetch query, TypeDBOptions options, Writer writer, JSON.Format format) throws IOException {
+        return fetch(query.toString(false), options, writer, format);
+    }
+
+    @Override
+    public long fetch(String query, TypeDBOptions options, Writer writer, JSON.Format format) throws IOException {
+        return fetch(query, options, format, utf8 -> writer.write(new String(utf8, StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public long fetch(TypeQLFetch query, TypeDBOptions options, WritableByteChannel channel, JSON.Format format) throws IOException {
+        return fetch(query.toString(false), options, channel, format);
+    }
+
+    @Override
+    public long fetch(String query, TypeDBOptions options, WritableByteChannel channel, JSON.Format format) throws IOException {
+        return fetch(query, options, Channels.newOutputStream(channel), format);
+    }
+
+    private long fetch(String query, TypeDBOptions options, JSON.Format format, JSONSink sink) throws IOException {
+        if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
+        try {
+            com.vaticle.typedb.driver.jni.JSONIterator answers = query_fetch_encoded(nativeTransaction, query, options.nativeObject);
+            try {
+                long count = 0;
+                if (format == JSON.Format.COMPACT) sink.write(JSON_ARRAY_START);
+                byte[] answer;
+                while ((answer = json_iterator_next_text(answers)) != null) {
+                    if (format == JSON.Format.COMPACT && count > 0) sink.write(JSON_ARRAY_SEPARATOR);
+                    sink.write(answer);
+                    if (format == JSON.Format.NDJSON) sink.write(NEWLINE);
+                    count++;
+                }
+                if (format == JSON.Format.COMPACT) sink.write(JSON_ARRAY_END);
+                return count;
+            } finally {
+                answers.delete();
+            }
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -223,7 +381,8 @@ public final class QueryManagerImpl implements QueryManager {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
         try {
-            return new NativeIterator<>(query_insert(nativeTransaction, query, options.nativeObject)).stream().map(ConceptMapImpl::new);
+            return conceptMaps(query_insert(nativeTransaction, query, options.nativeObject), options).stream()
+                    .map(conceptMap -> new ConceptMapImpl(conceptMap, arena));
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -275,7 +434,8 @@ public final class QueryManagerImpl implements QueryManager {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
         try {
-            return new NativeIterator<>(query_update(nativeTransaction, query, options.nativeObject)).stream().map(ConceptMapImpl::new);
+            return conceptMaps(query_update(nativeTransaction, query, options.nativeObject), options).stream()
+                    .map(conceptMap -> new ConceptMapImpl(conceptMap, arena));
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -348,4 +508,37 @@ public final class QueryManagerImpl implements QueryManager {
             throw new TypeDBDriverException(e);
         }
     }
+
+    private NativeIterator<com.vaticle.typedb.driver.jni.ConceptMap> conceptMaps(com.vaticle.typedb.driver.jni.ConceptMapIterator iterator, TypeDBOptions options) {
+        Optional<Integer> batchSize = options.answerBatchSize();
+        if (arena != null) {
+            if (batchSize.isPresent()) {
+                return NativeIterator.batched(maxSize -> inArena(concept_map_iterator_next_batch_in_arena(iterator, maxSize, arena)), batchSize.get(), iterator);
+            }
+            NativeIterator.BatchSource<com.vaticle.typedb.driver.jni.ConceptMap> next = maxSize -> {
+                com.vaticle.typedb.driver.jni.ConceptMap conceptMap = concept_map_iterator_next_in_arena(iterator, arena);
+                return conceptMap == null ? null : new com.vaticle.typedb.driver.jni.ConceptMap[]{conceptMap.inArena(arena)};
+            };
+            return NativeIterator.batched(next, 1, iterator);
+        }
+        if (batchSize.isEmpty()) return new NativeIterator<>(iterator);
+        return NativeIterator.batched(maxSize -> NativeBackend.get().conceptMapIteratorNextBatch(iterator, maxSize), batchSize.get(), iterator);
+    }
+
+    private com.vaticle.typedb.driver.jni.ConceptMap[] inArena(com.vaticle.typedb.driver.jni.ConceptMap[] batch) {
+        if (batch != null) {
+            for (com.vaticle.typedb.driver.jni.ConceptMap conceptMap : batch) conceptMap.inArena(arena);
+        }
+        return batch;
+    }
+
+    @FunctionalInterface
+    private interface JSONSink {
+        void write(byte[] utf8) throws IOException;
+    }
+
+    @Override
+    public PreparedQuery prepare(String template) {
+        return PreparedQueryImpl.of(template);
+    }
 }
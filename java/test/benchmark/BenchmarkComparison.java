@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.driver.test.benchmark;
+
+import com.vaticle.typedb.driver.api.answer.JSON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compares two JMH result files written with <code>-rf json</code>, and exits with a non-zero status if any benchmark
+ * regressed by more than the given fraction (0.1 by default) beyond the error margins of both runs.
+ * Benchmarks missing from either file are reported, but do not fail the comparison.
+ * <p>
+ * Usage: <code>BenchmarkComparison &lt;baseline.json&gt; &lt;current.json&gt; [max-regression]</code>
+ */
+public class BenchmarkComparison {
+    private static final double DEFAULT_MAX_REGRESSION = 0.1;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [max-regression]");
+            System.exit(2);
+        }
+        Map<String, Result> baseline = read(args[0]);
+        Map<String, Result> current = read(args[1]);
+        double maxRegression = args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_MAX_REGRESSION;
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null) {
+                System.out.printf("NEW        %s: %s%n", entry.getKey(), after);
+            } else if (!before.unit.equals(after.unit)) {
+                System.out.printf("CHANGED    %s: unit changed from %s to %s%n",
+                        entry.getKey(), before.unit, after.unit);
+            } else {
+                boolean regressed = after.regressedFrom(before, maxRegression);
+                if (regressed) regressions++;
+                System.out.printf("%-10s %s: %s -> %s (%+.1f%%)%n", regressed ? "REGRESSED" : "OK", entry.getKey(),
+                        before, after, 100 * (after.score - before.score) / before.score);
+            }
+        }
+        for (String name : baseline.keySet()) {
+            if (!current.containsKey(name)) System.out.printf("REMOVED    %s%n", name);
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.0f%% against the baseline%n",
+                    regressions, 100 * maxRegression);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(String path) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JSON run : JSON.parse(new String(Files.readAllBytes(Paths.get(path)), UTF_8)).asArray()) {
+            Map<String, JSON> fields = run.asObject();
+            String name = fields.get("benchmark").asString();
+            if (fields.containsKey("params") && fields.get("params").isObject()) {
+                StringJoiner params = new StringJoiner(", ", "[", "]");
+                new TreeMap<>(fields.get("params").asObject()).forEach((param, value) ->
+                        params.add(param + "=" + value.asString()));
+                name += params;
+            }
+            String mode = fields.get("mode").asString();
+            Map<String, JSON> metric = fields.get("primaryMetric").asObject();
+            double score = metric.get("score").asNumber();
+            double error = errorOf(metric.get("scoreError"));
+            results.put(name + " (" + mode + ")", new Result(mode, score, error, metric.get("scoreUnit").asString()));
+        }
+        return results;
+    }
+
+    private static double errorOf(JSON scoreError) {
+        // JMH writes "NaN" when there are too few iterations to estimate the error
+        return scoreError.isNumber() ? scoreError.asNumber() : 0;
+    }
+
+    private static class Result {
+        private final String mode;
+        private final double score;
+        private final double error;
+        private final String unit;
+
+        private Result(String mode, double score, double error, String unit) {
+            this.mode = mode;
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+        }
+
+        private boolean regressedFrom(Result baseline, double maxRegression) {
+            // throughput is better when higher; average, sample and single shot times are better when lower
+            double worsening = mode.equals("thrpt") ? baseline.score - score : score - baseline.score;
+            return worsening > maxRegression * baseline.score && worsening > baseline.error + error;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.3f +- %.3f %s", score, error, unit);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.test.benchmark;
+
+import com.vaticle.typedb.driver.TypeDB;
+import com.vaticle.typedb.driver.api.TypeDBDriver;
+import com.vaticle.typedb.driver.api.TypeDBSession;
+import com.vaticle.typedb.driver.api.TypeDBTransaction;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static com.vaticle.typedb.driver.api.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.driver.api.TypeDBSession.Type.SCHEMA;
+import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.WRITE;
+
+/**
+ * A small, fixed dataset on a running TypeDB Core server, shared by all benchmarks of a trial.
+ * The server address defaults to <code>localhost:1729</code> and can be set with <code>-Dtypedb.benchmark.address</code>.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+    public static final String ADDRESS_PROPERTY = "typedb.benchmark.address";
+    public static final String DATABASE = "java-benchmark";
+    public static final int PERSONS = 1000;
+
+    public static final String SCHEMA_QUERY = "define " +
+            "name sub attribute, value string; " +
+            "age sub attribute, value long; " +
+            "friendship sub relation, relates friend; " +
+            "person sub entity, owns name, owns age, plays friendship:friend;";
+    public static final String GET_PERSONS = "match $p isa person, has name $n, has age $a; get;";
+    public static final String GET_MIXED = "match $p isa $t, has name $n; ?v = 1; get; limit 100;";
+    public static final String COUNT_PERSONS = "match $p isa person; get; count;";
+
+    public TypeDBDriver driver;
+    public TypeDBSession session;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = TypeDB.coreDriver(System.getProperty(ADDRESS_PROPERTY, TypeDB.DEFAULT_ADDRESS));
+        if (driver.databases().contains(DATABASE)) driver.databases().get(DATABASE).delete();
+        driver.databases().create(DATABASE);
+        try (TypeDBSession schema = driver.session(DATABASE, SCHEMA); TypeDBTransaction tx = schema.transaction(WRITE)) {
+            tx.query().define(SCHEMA_QUERY).resolve();
+            tx.commit();
+        }
+        session = driver.session(DATABASE, DATA);
+        try (TypeDBTransaction tx = session.transaction(WRITE)) {
+            for (int i = 0; i < PERSONS; i++) {
+                tx.query().insert("insert $p isa person, has name \"person-" + i + "\", has age " + i % 100 + ";");
+            }
+            tx.commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        session.close();
+        driver.databases().get(DATABASE).delete();
+        driver.close();
+    }
+}
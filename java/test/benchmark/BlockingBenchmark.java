@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.test.benchmark;
+
+import com.vaticle.typedb.driver.api.TypeDBTransaction;
+import com.vaticle.typedb.driver.common.Blocking;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.READ;
+
+/**
+ * Compares how well virtual threads share their carriers when the driver blocks in native code
+ * (<code>Blocking.Mode.NATIVE</code>) and when it parks until the driver signals a response
+ * (<code>Blocking.Mode.PARK</code>). One operation is a round in which every client runs a few read queries,
+ * alongside a probe virtual thread that repeatedly sleeps for a millisecond; the probe's wake-up lag, reported as
+ * secondary results, grows when all carriers are pinned. Requires JDK 21 or later.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlockingBenchmark {
+    private static final int QUERIES_PER_CLIENT = 20;
+    private static final long PROBE_INTERVAL_MILLIS = 1;
+
+    @Param({"NATIVE", "PARK"})
+    public Blocking.Mode blocking;
+
+    @Param({"256"})
+    public int clients;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        Blocking.setMode(blocking);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        Blocking.setMode(Blocking.Mode.AUTO);
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Wake-ups and accumulated wake-up lag of the probe, summed over the rounds of an iteration.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Probe {
+        public long probeWakeUps;
+        public long probeLagMicros;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public long virtualThreadClients(BenchmarkDatabase database, Probe probe)
+            throws InterruptedException, ExecutionException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        Future<long[]> lag = executor.submit(() -> probe(running));
+        List<Future<Long>> answers = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            answers.add(executor.submit(() -> {
+                long count = 0;
+                for (int q = 0; q < QUERIES_PER_CLIENT; q++) {
+                    try (TypeDBTransaction tx = database.session.transaction(READ)) {
+                        count += tx.query().get(BenchmarkDatabase.GET_PERSONS).count();
+                    }
+                }
+                return count;
+            }));
+        }
+        long total = 0;
+        for (Future<Long> count : answers) total += count.get();
+        running.set(false);
+        long[] samples = lag.get();
+        probe.probeWakeUps += samples[0];
+        probe.probeLagMicros += samples[1];
+        return total;
+    }
+
+    private static long[] probe(AtomicBoolean running) throws InterruptedException {
+        long wakeUps = 0, lagMicros = 0;
+        while (running.get()) {
+            long before = System.nanoTime();
+            Thread.sleep(PROBE_INTERVAL_MILLIS);
+            long lag = System.nanoTime() - before - TimeUnit.MILLISECONDS.toNanos(PROBE_INTERVAL_MILLIS);
+            wakeUps++;
+            lagMicros += TimeUnit.NANOSECONDS.toMicros(Math.max(lag, 0));
+        }
+        return new long[]{wakeUps, lagMicros};
+    }
+}
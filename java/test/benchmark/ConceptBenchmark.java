@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.test.benchmark;
+
+import com.vaticle.typedb.driver.api.TypeDBTransaction;
+import com.vaticle.typedb.driver.api.answer.ConceptMap;
+import com.vaticle.typedb.driver.api.concept.Concept;
+import com.vaticle.typedb.driver.api.concept.value.Value;
+import com.vaticle.typedb.driver.concept.ConceptImpl;
+import com.vaticle.typedb.driver.concept.answer.ConceptMapImpl;
+import com.vaticle.typedb.driver.concept.value.ValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.READ;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Wrapping of native answers into Java objects: no server round trips are measured,
+ * only the JNI calls made while dispatching and reading concepts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConceptBenchmark {
+    private com.vaticle.typedb.driver.jni.Concept[] concepts;
+    private com.vaticle.typedb.driver.jni.ConceptMap[] conceptMaps;
+    private int next;
+
+    private Value booleanValue;
+    private Value longValue;
+    private Value doubleValue;
+    private Value stringValue;
+    private Value dateTimeValue;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        try (TypeDBTransaction tx = database.session.transaction(READ)) {
+            List<ConceptMap> answers = tx.query().get(BenchmarkDatabase.GET_MIXED).collect(toList());
+            conceptMaps = answers.stream().map(answer -> ((ConceptMapImpl) answer).nativeObject)
+                    .toArray(com.vaticle.typedb.driver.jni.ConceptMap[]::new);
+            concepts = answers.stream().flatMap(ConceptMap::concepts).map(concept -> ((ConceptImpl) concept).nativeObject)
+                    .toArray(com.vaticle.typedb.driver.jni.Concept[]::new);
+        }
+        booleanValue = ValueImpl.of(true);
+        longValue = ValueImpl.of(42L);
+        doubleValue = ValueImpl.of(4.2);
+        stringValue = ValueImpl.of("benchmark");
+        dateTimeValue = ValueImpl.of(LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+
+    @Benchmark
+    public Concept conceptOf() {
+        next = (next + 1) % concepts.length;
+        return ConceptImpl.of(concepts[next]);
+    }
+
+    @Benchmark
+    public Map<String, Concept> conceptMapMap() {
+        next = (next + 1) % conceptMaps.length;
+        return new ConceptMapImpl(conceptMaps[next]).map();
+    }
+
+    @Benchmark
+    public void valueTypeChecks(Blackhole blackhole) {
+        blackhole.consume(longValue.getType());
+        blackhole.consume(longValue.isBoolean());
+        blackhole.consume(longValue.isLong());
+        blackhole.consume(longValue.isDouble());
+        blackhole.consume(longValue.isString());
+        blackhole.consume(longValue.isDateTime());
+    }
+
+    @Benchmark
+    public void valueAccessors(Blackhole blackhole) {
+        blackhole.consume(booleanValue.asBoolean());
+        blackhole.consume(longValue.asLong());
+        blackhole.consume(doubleValue.asDouble());
+        blackhole.consume(stringValue.asString());
+        blackhole.consume(dateTimeValue.asDateTime());
+    }
+
+    @Benchmark
+    public Object valueAsUntyped() {
+        return stringValue.asUntyped();
+    }
+}
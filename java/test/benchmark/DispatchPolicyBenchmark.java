@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.test.benchmark;
+
+import com.vaticle.typedb.driver.api.TypeDBOptions;
+import com.vaticle.typedb.driver.api.TypeDBTransaction;
+import com.vaticle.typedb.driver.common.Promise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.READ;
+
+/**
+ * Transaction request dispatch policies: the latency distribution of sequential point operations,
+ * each waiting for the previous one, and the throughput of pipelined operations sent without waiting.
+ */
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatchPolicyBenchmark {
+    private static final int PIPELINED = 100;
+
+    @Param({"immediate", "adaptive", "interval"})
+    public String policy;
+
+    private TypeDBTransaction transaction;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        transaction = database.session.transaction(READ, new TypeDBOptions().dispatchPolicy(dispatchPolicy(policy)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        transaction.close();
+    }
+
+    private static TypeDBOptions.DispatchPolicy dispatchPolicy(String policy) {
+        switch (policy) {
+            case "immediate":
+                return TypeDBOptions.DispatchPolicy.immediate();
+            case "adaptive":
+                return TypeDBOptions.DispatchPolicy.adaptive(Duration.ofMillis(1));
+            case "interval":
+                return TypeDBOptions.DispatchPolicy.interval(Duration.ofMillis(3));
+            default:
+                throw new IllegalArgumentException(policy);
+        }
+    }
+
+    /**
+     * Latency percentiles of a single round trip, issued only once the previous one has completed.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object sequentialPointOperation() {
+        return transaction.concepts().getEntityType("person").resolve();
+    }
+
+    /**
+     * Operations per second when many requests are issued before any of their responses is awaited.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(PIPELINED)
+    public void pipelinedOperations(Blackhole blackhole) {
+        List<Promise<?>> promises = new ArrayList<>(PIPELINED);
+        for (int i = 0; i < PIPELINED; i++) promises.add(transaction.concepts().getEntityType("person"));
+        for (Promise<?> promise : promises) blackhole.consume(promise.resolve());
+    }
+}
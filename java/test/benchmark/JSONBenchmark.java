@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.test.benchmark;
+
+import com.vaticle.typedb.driver.api.answer.JSON;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of fetch answers as they are received from the server. Does not need a server.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JSONBenchmark {
+    private static final String FETCH_ANSWER = "{\"p\": {\"name\": [{\"value\": \"person-%d\", " +
+            "\"value_type\": \"string\", \"type\": {\"label\": \"name\", \"root\": \"attribute\"}}], " +
+            "\"age\": [{\"value\": %d, \"value_type\": \"long\", \"type\": {\"label\": \"age\", \"root\": \"attribute\"}}], " +
+            "\"type\": {\"label\": \"person\", \"root\": \"entity\"}}, \"friends\": {\"count\": %d.5, \"active\": true}}";
+
+    private String small;
+    private String large;
+
+    @Setup
+    public void setUp() {
+        small = String.format(FETCH_ANSWER, 1, 1, 1);
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) builder.append(", ");
+            builder.append(String.format(FETCH_ANSWER, i, i % 100, i));
+        }
+        large = builder.append("]").toString();
+    }
+
+    @Benchmark
+    public JSON parseAnswer() {
+        return JSON.parse(small);
+    }
+
+    @Benchmark
+    public JSON parseHundredAnswers() {
+        return JSON.parse(large);
+    }
+}
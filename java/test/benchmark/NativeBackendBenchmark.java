@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.test.benchmark;
+
+import com.vaticle.typedb.driver.api.TypeDBOptions;
+import com.vaticle.typedb.driver.api.TypeDBTransaction;
+import com.vaticle.typedb.driver.api.answer.ConceptMap;
+import com.vaticle.typedb.driver.common.NativeBackend;
+import com.vaticle.typedb.driver.concept.answer.ConceptMapImpl;
+import com.vaticle.typedb.driver.concept.value.ValueImpl;
+import com.vaticle.typedb.driver.connection.TypeDBTransactionImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.READ;
+import static com.vaticle.typedb.driver.jni.typedb_driver.query_get;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Head-to-head comparison of the JNI and the Foreign Function &amp; Memory native backends on the answer hot path.
+ * The <code>ffm</code> runs need Java 22 or later and <code>--enable-native-access=ALL-UNNAMED</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+@State(Scope.Thread)
+public class NativeBackendBenchmark {
+    @Param({"jni", "ffm"})
+    public String backend;
+
+    private NativeBackend nativeBackend;
+    private com.vaticle.typedb.driver.jni.ConceptMap[] conceptMaps;
+    private com.vaticle.typedb.driver.jni.Concept stringValue;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        nativeBackend = backend.equals("ffm")
+                ? NativeBackend.foreign().orElseThrow(() -> new IllegalStateException("The FFM backend requires Java 22 or later"))
+                : NativeBackend.jni();
+        try (TypeDBTransaction tx = database.session.transaction(READ)) {
+            List<ConceptMap> answers = tx.query().get(BenchmarkDatabase.GET_PERSONS).limit(100).collect(toList());
+            conceptMaps = answers.stream().map(answer -> ((ConceptMapImpl) answer).nativeObject)
+                    .toArray(com.vaticle.typedb.driver.jni.ConceptMap[]::new);
+        }
+        stringValue = ((ValueImpl) ValueImpl.of("benchmark")).nativeObject;
+    }
+
+    @Benchmark
+    public void conceptMapGetEntriesAndKinds(Blackhole blackhole) {
+        next = (next + 1) % conceptMaps.length;
+        for (com.vaticle.typedb.driver.jni.Concept concept : nativeBackend.conceptMapGetEntries(conceptMaps[next]).concepts) {
+            blackhole.consume(nativeBackend.conceptGetKind(concept));
+        }
+    }
+
+    @Benchmark
+    public com.vaticle.typedb.driver.jni.typedb_driver.ConceptMapEntries conceptMapGetEntries() {
+        next = (next + 1) % conceptMaps.length;
+        return nativeBackend.conceptMapGetEntries(conceptMaps[next]);
+    }
+
+    @Benchmark
+    public String conceptToString() {
+        next = (next + 1) % conceptMaps.length;
+        return nativeBackend.conceptToString(nativeBackend.conceptMapGetEntries(conceptMaps[next]).concepts[0]);
+    }
+
+    @Benchmark
+    public String valueGetString() {
+        return nativeBackend.valueGetString(stringValue);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkDatabase.PERSONS)
+    public void iterateBatches(BenchmarkDatabase database, Blackhole blackhole) throws com.vaticle.typedb.driver.jni.Error {
+        try (TypeDBTransaction tx = database.session.transaction(READ)) {
+            com.vaticle.typedb.driver.jni.ConceptMapIterator iterator = query_get(
+                    ((TypeDBTransactionImpl) tx).nativeObject, BenchmarkDatabase.GET_PERSONS, new TypeDBOptions().nativeObject
+            );
+            com.vaticle.typedb.driver.jni.ConceptMap[] batch;
+            while ((batch = nativeBackend.conceptMapIteratorNextBatch(iterator, 64)) != null && batch.length > 0) {
+                for (com.vaticle.typedb.driver.jni.ConceptMap conceptMap : batch) {
+                    blackhole.consume(nativeBackend.conceptMapGetEntries(conceptMap));
+                }
+            }
+        }
+    }
+}
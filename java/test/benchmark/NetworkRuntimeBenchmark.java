@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.test.benchmark;
+
+import com.vaticle.typedb.driver.TypeDB;
+import com.vaticle.typedb.driver.api.TypeDBDriver;
+import com.vaticle.typedb.driver.api.TypeDBSession;
+import com.vaticle.typedb.driver.api.TypeDBTransaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.vaticle.typedb.driver.api.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.READ;
+
+/**
+ * Throughput of concurrent transactions streaming answers through a driver whose network I/O runs on a single
+ * thread or on a pool of threads. One operation is a round in which every transaction streams all the persons,
+ * so answers per second are the score multiplied by <code>transactions * BenchmarkDatabase.PERSONS</code>.
+ */
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NetworkRuntimeBenchmark {
+    @Param({"CURRENT_THREAD", "MULTI_THREAD"})
+    public TypeDBDriver.Options.NetworkRuntime networkRuntime;
+
+    @Param({"1", "4", "16"})
+    public int transactions;
+
+    private TypeDBDriver driver;
+    private TypeDBSession session;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        driver = TypeDB.coreDriver(
+                System.getProperty(BenchmarkDatabase.ADDRESS_PROPERTY, TypeDB.DEFAULT_ADDRESS),
+                new TypeDBDriver.Options().networkRuntime(networkRuntime)
+        );
+        session = driver.session(BenchmarkDatabase.DATABASE, DATA);
+        executor = Executors.newFixedThreadPool(transactions);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        session.close();
+        driver.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public long concurrentTransactions() throws InterruptedException, ExecutionException {
+        List<Future<Long>> answers = new ArrayList<>(transactions);
+        for (int i = 0; i < transactions; i++) {
+            answers.add(executor.submit(() -> {
+                try (TypeDBTransaction tx = session.transaction(READ)) {
+                    return tx.query().get(BenchmarkDatabase.GET_PERSONS).count();
+                }
+            }));
+        }
+        long total = 0;
+        for (Future<Long> count : answers) total += count.get();
+        return total;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.test.benchmark;
+
+import com.vaticle.typedb.driver.api.query.PreparedQuery;
+import com.vaticle.typedb.driver.query.PreparedQueryImpl;
+import com.vaticle.typeql.lang.TypeQL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.vaticle.typeql.lang.TypeQL.cVar;
+
+/**
+ * Rendering the same insert query with different values, by building and serialising a TypeQL AST
+ * and by binding the values into a prepared template. No server is involved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PreparedQueryBenchmark {
+    private static final String TEMPLATE = "match $c isa company, has name ${company}; " +
+            "insert $p isa person, has name ${name}, has age ${age}; (employer: $c, employee: $p) isa employment;";
+    private static final int VALUES = 1024;
+
+    private String[] companies;
+    private String[] names;
+    private long[] ages;
+    private PreparedQuery prepared;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        companies = new String[VALUES];
+        names = new String[VALUES];
+        ages = new long[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            companies[i] = "company-" + (i % 16);
+            names[i] = "person-" + i;
+            ages[i] = 20 + i % 50;
+        }
+        prepared = PreparedQueryImpl.of(TEMPLATE);
+    }
+
+    @Benchmark
+    public String buildAndSerialise() {
+        int i = next++ & (VALUES - 1);
+        return TypeQL.match(cVar("c").isa("company").has("name", companies[i]))
+                .insert(
+                        cVar("p").isa("person").has("name", names[i]).has("age", ages[i]),
+                        TypeQL.rel("employer", cVar("c")).rel("employee", cVar("p")).isa("employment")
+                ).toString(false);
+    }
+
+    @Benchmark
+    public String bindPrepared() {
+        int i = next++ & (VALUES - 1);
+        return prepared.bind().set("company", companies[i]).set("name", names[i]).set("age", ages[i]).query();
+    }
+
+    @Benchmark
+    public String prepareCachedAndBind() {
+        int i = next++ & (VALUES - 1);
+        return PreparedQueryImpl.of(TEMPLATE).bind().set("company", companies[i]).set("name", names[i]).set("age", ages[i]).query();
+    }
+}
@@ -21,14 +21,25 @@ package com.vaticle.typedb.driver.test.integration;
 
 import com.vaticle.typedb.core.tool.runner.TypeDBCoreRunner;
 import com.vaticle.typedb.driver.TypeDB;
+import com.vaticle.typedb.driver.api.BulkLoader;
+import com.vaticle.typedb.driver.api.SessionPool;
 import com.vaticle.typedb.driver.api.TypeDBDriver;
 import com.vaticle.typedb.driver.api.TypeDBOptions;
 import com.vaticle.typedb.driver.api.TypeDBSession;
 import com.vaticle.typedb.driver.api.TypeDBTransaction;
+import com.vaticle.typedb.driver.api.answer.ColumnarBatch;
 import com.vaticle.typedb.driver.api.answer.ConceptMap;
+import com.vaticle.typedb.driver.api.answer.JSON;
+import com.vaticle.typedb.driver.api.concept.thing.Attribute;
 import com.vaticle.typedb.driver.api.concept.type.AttributeType;
 import com.vaticle.typedb.driver.api.concept.type.EntityType;
 import com.vaticle.typedb.driver.api.logic.Explanation;
+import com.vaticle.typedb.driver.api.query.PreparedQuery;
+import com.vaticle.typedb.driver.api.query.QueryCancellation;
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import com.vaticle.typedb.driver.connection.TypeDBSessionImpl;
+import com.vaticle.typedb.driver.connection.TypeDBTransactionImpl;
+import com.vaticle.typedb.driver.jni.AnswerArena;
 import com.vaticle.typedb.common.collection.Pair;
 import com.vaticle.typeql.lang.TypeQL;
 import com.vaticle.typeql.lang.common.TypeQLArg;
@@ -41,19 +52,34 @@ import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.vaticle.typedb.driver.api.TypeDBSession.Type.DATA;
 import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.READ;
 import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.WRITE;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.ANSWER_RELEASED;
 import static com.vaticle.typeql.lang.TypeQL.and;
 import static com.vaticle.typeql.lang.TypeQL.cVar;
 import static com.vaticle.typeql.lang.TypeQL.rel;
@@ -61,6 +87,10 @@ import static com.vaticle.typeql.lang.TypeQL.rule;
 import static com.vaticle.typeql.lang.TypeQL.type;
 import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 @SuppressWarnings("Duplicates")
@@ -396,6 +426,446 @@ public class DriverQueryTest {
         }, READ, new TypeDBOptions().prefetch(true).prefetchSize(50));
     }
 
+    @Test
+    public void fetchToOutputStreamTest() {
+        localhostTypeDBTX(tx -> {
+            tx.query().define("define fetch-name sub attribute, value string; fetch-item sub entity, owns fetch-name;").resolve();
+            tx.commit();
+        }, TypeDBSession.Type.SCHEMA);
+        localhostTypeDBTX(tx -> {
+            tx.query().insert("insert $x isa fetch-item, has fetch-name \"a \\\"quoted\\\" name\";");
+            tx.query().insert("insert $x isa fetch-item, has fetch-name \"back\\\\slash\";");
+            tx.commit();
+        }, WRITE);
+        // the relabelled key needs escaping just like the values do
+        String query = "match $x isa fetch-item; fetch $x: fetch-name as \"key \\\"with\\\" quotes\";";
+        localhostTypeDBTX(tx -> {
+            List<JSON> answers = tx.query().fetch(query).collect(toList());
+            ByteArrayOutputStream compact = new ByteArrayOutputStream();
+            ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+            try {
+                assertEquals(answers.size(), tx.query().fetch(query, new TypeDBOptions(), compact, JSON.Format.COMPACT));
+                assertEquals(answers.size(), tx.query().fetch(query, new TypeDBOptions(), ndjson, JSON.Format.NDJSON));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            String compactText = compact.toString(StandardCharsets.UTF_8);
+            assertEquals(new HashSet<>(answers), new HashSet<>(JSON.parse(compactText).asArray()));
+            assertFalse(compactText.contains("\n"));
+            assertFalse(compactText.contains("\": "));
+            List<String> lines = List.of(ndjson.toString(StandardCharsets.UTF_8).split("\n"));
+            assertEquals(new HashSet<>(answers), lines.stream().map(JSON::parse).collect(Collectors.toSet()));
+        }, READ);
+    }
+
+    @Test
+    public void columnarGetTest() {
+        localhostTypeDBTX(tx -> {
+            tx.query().define("define columnar-name sub attribute, value string; columnar-rank sub attribute, value long; " +
+                    "columnar-item sub entity, owns columnar-name, owns columnar-rank;").resolve();
+            tx.commit();
+        }, TypeDBSession.Type.SCHEMA);
+        localhostTypeDBTX(tx -> {
+            tx.query().insert("insert $x isa columnar-item, has columnar-name \"named\";");
+            tx.query().insert("insert $x isa columnar-item, has columnar-rank 1;");
+            tx.query().insert("insert $x isa columnar-item, has columnar-rank 2;");
+            tx.commit();
+        }, WRITE);
+        // each branch binds a variable the other does not, so no single answer holds every column
+        String query = "match $x isa columnar-item; { $x has columnar-name $n; } or { $x has columnar-rank $r; }; get;";
+        localhostTypeDBTX(tx -> {
+            List<ConceptMap> answers = tx.query().get(query).collect(toList());
+            List<ColumnarBatch> batches = tx.query().getColumnar(query, new TypeDBOptions().answerBatchSize(answers.size())).collect(toList());
+            assertEquals(1, batches.size());
+            ColumnarBatch batch = batches.get(0);
+            assertEquals(answers.size(), batch.size());
+            List<String> variables = answers.stream().flatMap(ConceptMap::variables).distinct().sorted().collect(toList());
+            assertEquals(variables, batch.variables());
+            for (String variable : variables) {
+                long bound = answers.stream().filter(answer -> answer.variables().anyMatch(variable::equals)).count();
+                long present = IntStream.range(0, batch.size()).filter(row -> batch.column(variable).isPresent(row)).count();
+                assertEquals(bound, present);
+            }
+        }, READ);
+    }
+
+    @Test
+    public void answerArenaTest() {
+        localhostTypeDBTX(tx -> {
+            tx.query().define("define arena-name sub attribute, value string; arena-item sub entity, owns arena-name;").resolve();
+            tx.commit();
+        }, TypeDBSession.Type.SCHEMA);
+        int items = 10;
+        localhostTypeDBTX(tx -> {
+            for (int i = 0; i < items; i++) tx.query().insert("insert $x isa arena-item, has arena-name \"item" + i + "\";");
+            tx.commit();
+        }, WRITE);
+        String query = "match $x isa arena-item, has arena-name $n; get;";
+        try (TypeDBSession session = typedbDriver.session("typedb", DATA);
+             TypeDBTransaction tx = session.transaction(READ, new TypeDBOptions().answerArena(true))) {
+            List<ConceptMap> answers = tx.query().get(query).collect(toList());
+            assertEquals(items, answers.size());
+            ConceptMap answer = answers.get(0);
+            Attribute name = answer.get("n").asAttribute();
+            assert name.getValue().asString().startsWith("item");
+
+            tx.release();
+            try {
+                answer.toString();
+                fail();
+            } catch (TypeDBDriverException e) {
+                assertEquals(ANSWER_RELEASED, e.getErrorMessage());
+            }
+            try {
+                name.getValue();
+                fail();
+            } catch (TypeDBDriverException e) {
+                assertEquals(ANSWER_RELEASED, e.getErrorMessage());
+            }
+
+            // answers retrieved after a release belong to the next generation of the arena
+            assertEquals(items, tx.query().get(query).map(a -> a.get("n").asAttribute().getValue().asString()).distinct().count());
+        }
+        try (TypeDBSession session = typedbDriver.session("typedb", DATA);
+             TypeDBTransaction tx = session.transaction(WRITE, new TypeDBOptions().answerArena(true))) {
+            // answers to inserts are held in the arena as well
+            ConceptMap inserted = tx.query().insert("insert $x isa arena-item, has arena-name \"inserted\";").findFirst().get();
+            tx.release();
+            try {
+                inserted.toString();
+                fail();
+            } catch (TypeDBDriverException e) {
+                assertEquals(ANSWER_RELEASED, e.getErrorMessage());
+            }
+        }
+    }
+
+    @Test
+    public void answerArenaFreedOnCloseTest() throws ReflectiveOperationException {
+        Field arenaField = TypeDBTransactionImpl.class.getDeclaredField("arena");
+        arenaField.setAccessible(true);
+        AnswerArena arena;
+        try (TypeDBSession session = typedbDriver.session("typedb", DATA);
+             TypeDBTransaction tx = session.transaction(READ, new TypeDBOptions().answerArena(true))) {
+            arena = (AnswerArena) arenaField.get(tx);
+            // the transaction owns its native arena, so that closing the transaction frees it
+            assertTrue(arena.isOwned());
+        }
+        assertFalse(arena.isOwned());
+        assertEquals(0, arena.address());
+    }
+
+    @Test
+    public void schemaCacheInvalidationTest() {
+        try (TypeDBSession session = typedbDriver.session("typedb", TypeDBSession.Type.SCHEMA, new TypeDBOptions().schemaCache(true))) {
+            try (TypeDBTransaction tx = session.transaction(WRITE)) {
+                tx.query().define("define cached-item sub entity;").resolve();
+                tx.commit();
+            }
+            try (TypeDBTransaction tx = session.transaction(READ)) {
+                assertEquals(1, tx.concepts().getEntityType("cached-item").resolve().getSubtypes(tx).count());
+                assertNull(tx.concepts().getEntityType("cached-other").resolve());
+            }
+            // a commit on another session is not seen, since lookups are served from this session's cache
+            localhostTypeDBTX(tx -> {
+                tx.query().define("define cached-child sub cached-item; cached-other sub entity;").resolve();
+                tx.commit();
+            }, TypeDBSession.Type.SCHEMA);
+            try (TypeDBTransaction tx = session.transaction(READ)) {
+                assertEquals(1, tx.concepts().getEntityType("cached-item").resolve().getSubtypes(tx).count());
+                assertNull(tx.concepts().getEntityType("cached-other").resolve());
+            }
+            // a schema commit on this session invalidates the cache
+            try (TypeDBTransaction tx = session.transaction(WRITE)) {
+                tx.query().define("define cached-grandchild sub cached-child;").resolve();
+                tx.commit();
+            }
+            try (TypeDBTransaction tx = session.transaction(READ)) {
+                assertEquals(3, tx.concepts().getEntityType("cached-item").resolve().getSubtypes(tx).count());
+                assertNotNull(tx.concepts().getEntityType("cached-other").resolve());
+            }
+        }
+    }
+
+    @Test
+    public void bulkLoaderTest() {
+        localhostTypeDBTX(tx -> {
+            tx.query().define("define bulk-id sub attribute, value long; bulk-item sub entity, owns bulk-id;").resolve();
+            tx.commit();
+        }, TypeDBSession.Type.SCHEMA);
+        int items = 1000;
+        BulkLoader.Options options = new BulkLoader.Options().parallelism(4).batchSize(100);
+        BulkLoader.Stats stats = typedbDriver.bulkLoader("typedb", options)
+                .load(IntStream.range(0, items).mapToObj(i -> "insert $x isa bulk-item, has bulk-id " + i + ";"));
+        LOG.info("bulkLoaderTest() - {}", stats);
+        assertEquals(items, stats.operations());
+        localhostTypeDBTX(tx -> {
+            assertEquals(items, tx.query().get("match $x isa bulk-item; get;").count());
+        }, READ);
+    }
+
+    @Test
+    public void partitionedGetTest() throws InterruptedException {
+        localhostTypeDBTX(tx -> {
+            tx.query().define("define partition-id sub attribute, value long; partition-item sub entity, owns partition-id;").resolve();
+            tx.commit();
+        }, TypeDBSession.Type.SCHEMA);
+        int items = 200, partitions = 4;
+        localhostTypeDBTX(tx -> {
+            for (int i = 0; i < items; i++) tx.query().insert("insert $x isa partition-item, has partition-id " + i + ";");
+            tx.commit();
+        }, WRITE);
+        List<String> queries = IntStream.range(0, partitions).mapToObj(p -> String.format(
+                "match $x isa partition-item, has partition-id $id; $id >= %d; $id < %d; get;",
+                p * items / partitions, (p + 1) * items / partitions
+        )).collect(toList());
+        try (TypeDBSession session = typedbDriver.session("typedb", DATA);
+             Stream<ConceptMap> answers = session.getPartitioned(queries, new TypeDBOptions(), 2)) {
+            assertEquals(items, answers.parallel().map(answer -> answer.get("id").asAttribute().getValue().asLong()).distinct().count());
+        }
+        try (TypeDBSession session = typedbDriver.session("typedb", DATA)) {
+            try (Stream<ConceptMap> answers = session.getPartitioned(queries, new TypeDBOptions(), 2)) {
+                assertTrue(answers.iterator().hasNext());
+            }
+            // closing the stream before it is consumed to the end stops its producer threads
+            assertEquals(0, awaitStable(() -> Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.getName().startsWith("typedb-partitioned-get-")).count()));
+        }
+    }
+
+    @Test
+    public void sessionPoolTest() {
+        SessionPool.Options options = new SessionPool.Options().minSessions(1).maxSessions(2).readyTransactions(1).borrowTimeoutMillis(100);
+        try (SessionPool pool = typedbDriver.sessionPool("typedb", DATA, options)) {
+            try (TypeDBSession first = pool.session(); TypeDBSession second = pool.session()) {
+                assertEquals(2, pool.borrowedSessions());
+                try (TypeDBSession third = pool.session()) {
+                    fail();
+                } catch (RuntimeException e) {
+                    assert e.getMessage().contains("No session was returned");
+                }
+                try (TypeDBTransaction tx = first.transaction(READ)) {
+                    assertEquals(1, tx.query().get("match $x sub thing; get; limit 1;").count());
+                }
+            }
+            assertEquals(0, pool.borrowedSessions());
+            assertEquals(2, pool.idleSessions());
+            for (int i = 0; i < 3; i++) {
+                try (TypeDBTransaction tx = pool.readTransaction()) {
+                    assertEquals(READ, tx.type());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void sessionPoolLeaseTest() throws ReflectiveOperationException {
+        SessionPool.Options options = new SessionPool.Options().minSessions(1).maxSessions(1).readyTransactions(0);
+        Field callbacksField = TypeDBSessionImpl.class.getDeclaredField("callbacks");
+        callbacksField.setAccessible(true);
+        try (SessionPool pool = typedbDriver.sessionPool("typedb", DATA, options)) {
+            int registered = -1;
+            for (int i = 0; i < 3; i++) {
+                TypeDBTransaction leftOpen;
+                try (TypeDBSession session = pool.session()) {
+                    session.onClose(() -> {});
+                    session.onReopen(() -> {});
+                    leftOpen = session.transaction(READ);
+                    // every lease borrows the same session, which must not keep the callbacks of earlier leases
+                    Field sessionField = session.getClass().getDeclaredField("session");
+                    sessionField.setAccessible(true);
+                    int callbacks = ((List<?>) callbacksField.get(sessionField.get(session))).size();
+                    if (registered >= 0) assertEquals(registered, callbacks);
+                    registered = callbacks;
+                }
+                assertFalse(leftOpen.isOpen());
+            }
+        }
+    }
+
+    @Test
+    public void boundedStreamBufferTest() throws InterruptedException {
+        localhostTypeDBTX(tx -> {
+            tx.query().define("define buffered-id sub attribute, value long; buffered-item sub entity, owns buffered-id;").resolve();
+            tx.commit();
+        }, TypeDBSession.Type.SCHEMA);
+        int items = 500, prefetchSize = 10, maxBufferedAnswers = 20;
+        localhostTypeDBTX(tx -> {
+            for (int i = 0; i < items; i++) tx.query().insert("insert $x isa buffered-item, has buffered-id " + i + ";");
+            tx.commit();
+        }, WRITE);
+        TypeDBOptions options = new TypeDBOptions().prefetchSize(prefetchSize).maxBufferedAnswers(maxBufferedAnswers);
+        try (TypeDBSession session = typedbDriver.session("typedb", DATA);
+             TypeDBTransaction tx = session.transaction(READ, options)) {
+            Iterator<ConceptMap> answers = tx.query().get("match $x isa buffered-item; get;").iterator();
+            answers.next();
+            // the server stream pauses between batches, so the buffer may overshoot by up to one batch
+            long buffered = awaitStable(tx::bufferedAnswers);
+            assertTrue("buffered " + buffered + " answers", buffered <= maxBufferedAnswers + prefetchSize);
+            assertTrue(buffered > 0);
+            assertTrue(tx.bufferedBytes() > 0);
+            int consumed = 1;
+            while (answers.hasNext()) {
+                answers.next();
+                consumed++;
+            }
+            assertEquals(items, consumed);
+            assertEquals(0, tx.bufferedAnswers());
+            assertEquals(0, tx.bufferedBytes());
+        }
+    }
+
+    @Test
+    public void publisherBackpressureTest() throws InterruptedException {
+        localhostTypeDBTX(tx -> {
+            tx.query().define("define published-id sub attribute, value long; published-item sub entity, owns published-id;").resolve();
+            tx.commit();
+        }, TypeDBSession.Type.SCHEMA);
+        int items = 200, prefetchSize = 10, requested = 5;
+        localhostTypeDBTX(tx -> {
+            for (int i = 0; i < items; i++) tx.query().insert("insert $x isa published-item, has published-id " + i + ";");
+            tx.commit();
+        }, WRITE);
+        TypeDBOptions options = new TypeDBOptions().prefetchSize(prefetchSize);
+        try (TypeDBSession session = typedbDriver.session("typedb", DATA);
+             TypeDBTransaction tx = session.transaction(READ, options)) {
+            AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            AtomicInteger received = new AtomicInteger();
+            CountDownLatch delivered = new CountDownLatch(requested);
+            CountDownLatch finished = new CountDownLatch(1);
+            tx.query().getPublisher("match $x isa published-item; get;", options).subscribe(new Flow.Subscriber<ConceptMap>() {
+                @Override
+                public void onSubscribe(Flow.Subscription s) {
+                    subscription.set(s);
+                }
+
+                @Override
+                public void onNext(ConceptMap answer) {
+                    received.incrementAndGet();
+                    delivered.countDown();
+                }
+
+                @Override
+                public void onError(Throwable e) {
+                    error.set(e);
+                    finished.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                    finished.countDown();
+                }
+            });
+            subscription.get().request(requested);
+            assertTrue(delivered.await(1, TimeUnit.MINUTES));
+            // only the requested answers are delivered, and the server stream stays paused after its first batch
+            long buffered = awaitStable(tx::bufferedAnswers);
+            assertEquals(requested, received.get());
+            assertTrue("buffered " + buffered + " answers", buffered <= prefetchSize);
+            subscription.get().request(Long.MAX_VALUE);
+            assertTrue(finished.await(1, TimeUnit.MINUTES));
+            assertNull(error.get());
+            assertEquals(items, received.get());
+        }
+    }
+
+    @Test
+    public void queryCancellationTest() {
+        localhostTypeDBTX(tx -> {
+            tx.query().define("define cancelled-id sub attribute, value long; cancelled-item sub entity, owns cancelled-id;").resolve();
+            tx.commit();
+        }, TypeDBSession.Type.SCHEMA);
+        int items = 500;
+        localhostTypeDBTX(tx -> {
+            for (int i = 0; i < items; i++) tx.query().insert("insert $x isa cancelled-item, has cancelled-id " + i + ";");
+            tx.commit();
+        }, WRITE);
+        String query = "match $x isa cancelled-item; get;";
+        TypeDBOptions options = new TypeDBOptions().prefetchSize(10);
+        try (TypeDBSession session = typedbDriver.session("typedb", DATA);
+             TypeDBTransaction tx = session.transaction(READ)) {
+            try (Stream<ConceptMap> answers = tx.query().get(query, options)) {
+                assertEquals(5, answers.limit(5).count());
+            }
+            // closing the stream releases whatever it had buffered
+            assertEquals(0, tx.bufferedAnswers());
+
+            QueryCancellation cancellation = new QueryCancellation();
+            Iterator<ConceptMap> answers = tx.query().get(query, options, cancellation).iterator();
+            answers.next();
+            cancellation.cancel();
+            assert cancellation.isCancelled();
+            assertEquals(0, tx.bufferedAnswers());
+            try {
+                while (answers.hasNext()) answers.next();
+                fail();
+            } catch (RuntimeException e) {
+                assert e.getMessage().contains("cancelled") : e.getMessage();
+            }
+
+            QueryCancellation timedOut = QueryCancellation.withTimeout(Duration.ZERO);
+            try {
+                tx.query().get(query, options, timedOut).count();
+                fail();
+            } catch (RuntimeException e) {
+                assert e.getMessage().contains("cancelled") : e.getMessage();
+            }
+            assert timedOut.isCancelled();
+
+            // cancelled queries leave the transaction usable
+            assertEquals(items, tx.query().get(query, options).count());
+        }
+    }
+
+    @Test
+    public void preparedQueryTest() {
+        localhostTypeDBTX(tx -> {
+            tx.query().define("define prepared-name sub attribute, value string; prepared-item sub entity, owns prepared-name;").resolve();
+            tx.commit();
+        }, TypeDBSession.Type.SCHEMA);
+        String name = "a \"quoted\" \\ name";
+        localhostTypeDBTX(tx -> {
+            PreparedQuery insert = tx.query().prepare("insert $x isa ${type}, has prepared-name ${name};");
+            assertEquals(List.of("type", "name"), insert.parameters());
+            tx.query().insert(insert.bind().setLabel("type", "prepared-item").set("name", name).query());
+            tx.commit();
+        }, WRITE);
+        localhostTypeDBTX(tx -> {
+            String match = TypeQL.match(cVar("x").isa("prepared-item").has("prepared-name", "${name}")).get().toString(false);
+            assertEquals(1, tx.query().get(tx.query().prepare(match).bind().set("name", name).query()).count());
+
+            // placeholders are not recognised in comments, and are rejected inside a longer string literal
+            String commented = "# ${ignored}\nmatch $x isa prepared-item, has prepared-name ${name}; get;";
+            assertEquals(List.of("name"), tx.query().prepare(commented).parameters());
+            try {
+                tx.query().prepare("match $x isa prepared-item, has prepared-name \"a ${name}\"; get;");
+                fail();
+            } catch (TypeDBDriverException e) {
+                assert e.getMessage().contains("string literal") : e.getMessage();
+            }
+        }, READ);
+    }
+
+    @Test
+    public void channelPoolTest() {
+        TypeDBDriver.Options options = new TypeDBDriver.Options()
+                .channelPoolSize(4).channelSelection(TypeDBDriver.Options.ChannelSelection.LEAST_LOADED);
+        try (TypeDBDriver driver = TypeDB.coreDriver(typedb.address(), options);
+             TypeDBSession session = driver.session("typedb", DATA)) {
+            List<TypeDBTransaction> transactions = IntStream.range(0, 4).mapToObj(i -> session.transaction(READ)).collect(toList());
+            List<? extends TypeDBDriver.ChannelMetrics> metrics = driver.channelMetrics();
+            assertEquals(4, metrics.size());
+            assertEquals(4, metrics.stream().mapToLong(TypeDBDriver.ChannelMetrics::openTransactions).sum());
+            // the least loaded channel is chosen, so every transaction went over a channel of its own
+            metrics.forEach(channel -> assertEquals(1, channel.openTransactions()));
+            for (TypeDBTransaction tx : transactions) {
+                assertEquals(1, tx.query().get("match $x sub thing; get; limit 1;").count());
+                tx.close();
+            }
+        }
+    }
+
     @Test
     public void testMissingPortInURL() {
         try {
@@ -408,6 +878,22 @@ public class DriverQueryTest {
         }
     }
 
+    /**
+     * Polls a gauge until it reads the same value several times in a row, and returns that value.
+     */
+    private static long awaitStable(LongSupplier gauge) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        long value = gauge.getAsLong();
+        for (int stableReads = 0; stableReads < 10; ) {
+            assertTrue("the gauge did not settle", System.nanoTime() < deadline);
+            Thread.sleep(10);
+            long next = gauge.getAsLong();
+            stableReads = next == value ? stableReads + 1 : 0;
+            value = next;
+        }
+        return value;
+    }
+
     private String[] lionNames() {
         return new String[]{"male-partner", "female-partner", "young-lion"};
     }
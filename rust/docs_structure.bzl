@@ -19,6 +19,8 @@ dir_mapping = {
     "Transaction.adoc": "transaction",
     "TransactionType.adoc": "transaction",
     "QueryManager.adoc": "transaction",
+    "StreamCancel.adoc": "transaction",
+    "StreamDemand.adoc": "transaction",
     "Explanation.adoc": "answer",
     "Explainable.adoc": "answer",
     "Explainables.adoc": "answer",
@@ -30,6 +32,10 @@ dir_mapping = {
     "Connection.adoc": "connection",
     "UserManager.adoc": "connection",
     "Credential.adoc": "connection",
+    "NetworkRuntime.adoc": "connection",
+    "ChannelPool.adoc": "connection",
+    "ChannelSelection.adoc": "connection",
+    "ChannelMetrics.adoc": "connection",
     "ReplicaInfo.adoc": "connection",
     "User.adoc": "connection",
     "Database.adoc": "connection",
@@ -42,7 +42,8 @@ impl fmt::Display for JSON {
                     if i > 0 {
                         f.write_str(", ")?;
                     }
-                    write!(f, r#""{}": {}"#, k, v)?;
+                    write_escaped_string(k, f)?;
+                    write!(f, ": {}", v)?;
                 }
                 f.write_char('}')?;
             }
@@ -126,4 +127,12 @@ mod test {
         let json_string = JSON::String(Cow::Owned(string));
         assert_eq!(serde_json::to_string(&serde_json_value).unwrap(), json_string.to_string());
     }
+
+    #[test]
+    fn test_object_keys_are_escaped() {
+        let key = "quote \" backslash \\ newline \n";
+        let json = JSON::Object([(Cow::Borrowed(key), JSON::Null)].into_iter().collect());
+        let parsed: serde_json::Value = serde_json::from_str(&json.to_string()).unwrap();
+        assert_eq!(parsed, serde_json::json!({ key: null }));
+    }
 }
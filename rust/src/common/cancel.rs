@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::{
+    fmt,
+    sync::{Arc, Mutex},
+    time::{Duration, Instant},
+};
+
+use super::Callback;
+
+/// A handle through which the server answer streams opened with it can be cancelled.
+///
+/// Once cancelled, the driver stops asking the server to continue the streams and releases the answers it has
+/// buffered for them; consumers still reading receive an error instead of further answers. A handle created with a
+/// timeout cancels its streams once the deadline passes.
+///
+/// # Examples
+///
+/// ```rust
+/// let cancel = StreamCancel::with_timeout(Duration::from_secs(10));
+/// let answers = transaction.query().get_cancellable(query, Options::new(), cancel.clone())?;
+/// cancel.cancel();
+/// ```
+#[derive(Clone, Default)]
+pub struct StreamCancel {
+    state: Arc<Mutex<CancelState>>,
+    deadline: Option<Instant>,
+}
+
+#[derive(Default)]
+struct CancelState {
+    is_cancelled: bool,
+    listeners: Vec<Callback>,
+}
+
+impl StreamCancel {
+    pub fn new() -> Self {
+        Self::default()
+    }
+
+    /// Creates a handle which cancels its streams once `timeout` has passed since its creation.
+    pub fn with_timeout(timeout: Duration) -> Self {
+        Self { state: Default::default(), deadline: Instant::now().checked_add(timeout) }
+    }
+
+    /// Cancels every stream opened with this handle. Streams opened with it afterwards are cancelled immediately.
+    pub fn cancel(&self) {
+        let listeners = {
+            let mut state = self.state.lock().unwrap();
+            state.is_cancelled = true;
+            std::mem::take(&mut state.listeners)
+        };
+        for listener in listeners {
+            listener();
+        }
+    }
+
+    /// Checks whether this handle has been cancelled, either explicitly or by its deadline.
+    pub fn is_cancelled(&self) -> bool {
+        self.state.lock().unwrap().is_cancelled || self.is_past_deadline()
+    }
+
+    /// Returns the instant at which this handle cancels its streams, if it has a timeout.
+    pub fn deadline(&self) -> Option<Instant> {
+        self.deadline
+    }
+
+    fn is_past_deadline(&self) -> bool {
+        // the streams themselves are cancelled by a timer in their transaction, which never reaches this handle
+        self.deadline.map_or(false, |deadline| deadline <= Instant::now())
+    }
+
+    pub(crate) fn on_cancel(&self, listener: Callback) {
+        let listener = {
+            let mut state = self.state.lock().unwrap();
+            if state.is_cancelled {
+                Some(listener)
+            } else {
+                state.listeners.push(listener);
+                None
+            }
+        };
+        if let Some(listener) = listener {
+            listener();
+        }
+    }
+}
+
+impl fmt::Debug for StreamCancel {
+    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+        let state = self.state.lock().unwrap();
+        f.debug_struct("StreamCancel")
+            .field("is_cancelled", &(state.is_cancelled || self.is_past_deadline()))
+            .field("deadline", &self.deadline)
+            .field("streams", &state.listeners.len())
+            .finish()
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::{
+    fmt,
+    sync::{Arc, Mutex},
+};
+
+use super::Callback;
+
+/// Consumer-driven demand for a server answer stream.
+///
+/// By default, the driver asks the server for the next batch of answers as soon as the previous one has been
+/// received. A stream opened with a `StreamDemand` instead only asks for more once the consumer has requested
+/// answers beyond those already received, so that a slow consumer holds back the server rather than accumulating
+/// answers in the driver. The first batch is still sent eagerly if prefetching is enabled.
+///
+/// # Examples
+///
+/// ```rust
+/// let demand = StreamDemand::new();
+/// let answers = transaction.query().get_on_demand(query, Options::new(), demand.clone())?;
+/// demand.request(100);
+/// ```
+#[derive(Clone, Default)]
+pub struct StreamDemand {
+    state: Arc<Mutex<DemandState>>,
+}
+
+#[derive(Default)]
+struct DemandState {
+    requested: u64,
+    received: u64,
+    continuation: Option<Callback>,
+}
+
+impl StreamDemand {
+    pub fn new() -> Self {
+        Self::default()
+    }
+
+    /// Requests `count` more answers. If the server is waiting to continue the stream and the total requested now
+    /// exceeds the answers already received, the stream is continued.
+    pub fn request(&self, count: u64) {
+        let continuation = {
+            let mut state = self.state.lock().unwrap();
+            state.requested = state.requested.saturating_add(count);
+            if state.requested > state.received {
+                state.continuation.take()
+            } else {
+                None
+            }
+        };
+        if let Some(continuation) = continuation {
+            continuation();
+        }
+    }
+
+    /// Returns the number of answers requested but not yet received.
+    pub fn outstanding(&self) -> u64 {
+        let state = self.state.lock().unwrap();
+        state.requested.saturating_sub(state.received)
+    }
+
+    pub(crate) fn on_received(&self, count: u64) {
+        let mut state = self.state.lock().unwrap();
+        state.received = state.received.saturating_add(count);
+    }
+
+    pub(crate) fn on_continue(&self, continuation: Callback) {
+        let continuation = {
+            let mut state = self.state.lock().unwrap();
+            if state.requested > state.received {
+                Some(continuation)
+            } else {
+                state.continuation = Some(continuation);
+                None
+            }
+        };
+        if let Some(continuation) = continuation {
+            continuation();
+        }
+    }
+}
+
+impl fmt::Debug for StreamDemand {
+    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+        let state = self.state.lock().unwrap();
+        f.debug_struct("StreamDemand")
+            .field("requested", &state.requested)
+            .field("received", &state.received)
+            .field("is_parked", &state.continuation.is_some())
+            .finish()
+    }
+}
@@ -74,6 +74,10 @@ error_messages! { ConnectionError
         23: "Invalid URL '{address}': missing port.",
     AddressTranslationMismatch { unknown: HashSet<Address>, unmapped: HashSet<Address> } =
         24: "Address translation map does not match the server's advertised address list. User-provided servers not in the advertised list: {unknown:?}. Advertised servers not mapped by user: {unmapped:?}.",
+    QueryCancelled =
+        25: "The query was cancelled before all of its answers were received.",
+    InvalidDispatchInterval =
+        26: "The dispatch interval must be at least one microsecond.",
 }
 
 error_messages! { InternalError
@@ -18,6 +18,8 @@
  */
 
 pub(crate) mod address;
+mod cancel;
+mod demand;
 pub mod error;
 mod id;
 pub mod info;
@@ -25,16 +27,21 @@ mod options;
 #[cfg_attr(not(feature = "sync"), path = "promise_async.rs")]
 #[cfg_attr(feature = "sync", path = "promise_sync.rs")]
 mod promise;
+mod signal;
 #[cfg_attr(not(feature = "sync"), path = "stream_async.rs")]
 #[cfg_attr(feature = "sync", path = "stream_sync.rs")]
 pub mod stream;
 
 pub use self::{
+    cancel::StreamCancel,
+    demand::StreamDemand,
     error::Error,
-    options::Options,
+    options::{DispatchPolicy, Options},
     promise::{box_promise, BoxPromise, Promise},
+    signal::ResponseSignal,
     stream::{box_stream, BoxStream},
 };
+pub(crate) use self::signal::ReadySource;
 
 pub(crate) type Callback = Box<dyn FnOnce() + Send>;
 
@@ -50,6 +50,12 @@ pub struct Options {
     pub schema_lock_acquire_timeout: Option<Duration>,
     /// If set to `True`, enables reading data from any replica, potentially boosting read throughput. Only settable in TypeDB Cloud.
     pub read_any_replica: Option<bool>,
+    /// If set, specifies when a transaction sends its buffered requests to the server. Only settable at transaction level. Only affects the driver.
+    pub dispatch_policy: Option<DispatchPolicy>,
+    /// If set, specifies how many answers of a stream the driver holds before it stops asking the server for more. Only settable at transaction level. Only affects the driver.
+    pub max_buffered_answers: Option<u64>,
+    /// If set, specifies how many bytes of answers of a stream the driver holds before it stops asking the server for more. Only settable at transaction level. Only affects the driver.
+    pub max_buffered_bytes: Option<u64>,
 }
 
 impl Options {
@@ -106,4 +112,50 @@ impl Options {
     pub fn read_any_replica(self, read_any_replica: bool) -> Self {
         Self { read_any_replica: Some(read_any_replica), ..self }
     }
+
+    /// If set, specifies when a transaction sends its buffered requests to the server. Only settable at transaction level. Only affects the driver.
+    pub fn dispatch_policy(self, dispatch_policy: DispatchPolicy) -> Self {
+        Self { dispatch_policy: Some(dispatch_policy), ..self }
+    }
+
+    /// If set, specifies how many answers of a stream the driver holds before it stops asking the server for more. Only settable at transaction level. Only affects the driver.
+    pub fn max_buffered_answers(self, max_buffered_answers: u64) -> Self {
+        Self { max_buffered_answers: Some(max_buffered_answers), ..self }
+    }
+
+    /// If set, specifies how many bytes of answers of a stream the driver holds before it stops asking the server for more. Only settable at transaction level. Only affects the driver.
+    pub fn max_buffered_bytes(self, max_buffered_bytes: u64) -> Self {
+        Self { max_buffered_bytes: Some(max_buffered_bytes), ..self }
+    }
+}
+
+/// Decides when a transaction sends the requests it has buffered to the server.
+/// Requests are always sent once they reach the maximum gRPC message size.
+///
+/// # Examples
+///
+/// ```rust
+/// let options = Options::new().dispatch_policy(DispatchPolicy::Adaptive { max_delay: Duration::from_millis(1) });
+/// ```
+#[derive(Clone, Copy, Debug, PartialEq, Eq)]
+pub enum DispatchPolicy {
+    /// Requests are sent as soon as no more are queued, minimising the latency of isolated requests.
+    Immediate,
+    /// A request arriving when nothing has been sent for `max_delay` is sent immediately. Otherwise requests are
+    /// buffered until `max_delay` after the last send, so that bursts are coalesced while isolated requests are not delayed.
+    Adaptive { max_delay: Duration },
+    /// Requests are sent every `interval`, maximising batching of pipelined requests. Intervals shorter than
+    /// `MIN_INTERVAL` are raised to it.
+    Interval(Duration),
+}
+
+impl DispatchPolicy {
+    pub const DEFAULT_INTERVAL: Duration = Duration::from_millis(3);
+    pub const MIN_INTERVAL: Duration = Duration::from_micros(1);
+}
+
+impl Default for DispatchPolicy {
+    fn default() -> Self {
+        Self::Interval(Self::DEFAULT_INTERVAL)
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::{
+    cell::RefCell,
+    fmt,
+    sync::{
+        atomic::{AtomicUsize, Ordering},
+        Arc, Mutex, Weak,
+    },
+};
+
+use super::Callback;
+
+/// Signals when the responses that a promise or stream waits on have arrived, so that resolving the promise or
+/// taking the next element of the stream returns without blocking.
+///
+/// Used by bindings of the blocking driver that complete operations asynchronously: `ResponseSignal::capture` runs a
+/// single operation and returns the requests it sent together with its result. Rather than occupying a thread per
+/// pending operation, the binding is called back from the driver once the responses are in.
+///
+/// # Examples
+///
+/// ```rust
+/// let (promise, signal) = ResponseSignal::capture(|| transaction.commit());
+/// signal.on_ready(move || notify());
+/// ```
+#[derive(Clone, Default)]
+pub struct ResponseSignal {
+    sources: Vec<Weak<dyn ReadySource>>,
+}
+
+/// Something a `ResponseSignal` can wait on: the response of a single request, or the responses of a stream.
+pub(crate) trait ReadySource: Send + Sync {
+    /// Calls `callback` once there is a response to take, immediately if there already is one. For a stream, `taken`
+    /// is the number of answers its consumer has taken so far; answers of responses the consumer has already
+    /// received, but not yet taken, count as ready.
+    fn on_ready(&self, taken: u64, callback: Callback);
+}
+
+thread_local! {
+    // the requests sent by each `capture` in progress on this thread, innermost last
+    static CAPTURES: RefCell<Vec<Vec<Weak<dyn ReadySource>>>> = RefCell::new(Vec::new());
+}
+
+/// Ends a capture if its operation panics.
+struct CaptureFrame;
+
+impl Drop for CaptureFrame {
+    fn drop(&mut self) {
+        CAPTURES.with(|captures| captures.borrow_mut().pop());
+    }
+}
+
+impl ResponseSignal {
+    /// Runs `operation` and returns its result, together with a signal for exactly the requests it sent. Requests sent
+    /// before or after, or by other threads, are not picked up.
+    pub fn capture<T>(operation: impl FnOnce() -> T) -> (T, Self) {
+        CAPTURES.with(|captures| captures.borrow_mut().push(Vec::new()));
+        let frame = CaptureFrame;
+        let result = operation();
+        let sources = CAPTURES.with(|captures| captures.borrow_mut().pop()).unwrap_or_default();
+        std::mem::forget(frame);
+        (result, Self { sources })
+    }
+
+    /// Records a request sent by this thread for the innermost capture in progress, if any. A source that is gone no
+    /// longer has anything to wait on, and counts as ready.
+    #[cfg_attr(not(feature = "sync"), allow(dead_code))]
+    pub(crate) fn record(source: Weak<dyn ReadySource>) {
+        CAPTURES.with(|captures| {
+            if let Some(sources) = captures.borrow_mut().last_mut() {
+                sources.push(source);
+            }
+        })
+    }
+
+    /// Calls `callback` once every captured response has arrived. If they all have, `callback` is called right away
+    /// on this thread, otherwise on a thread of the driver, which it must not block.
+    pub fn on_ready(&self, callback: impl FnOnce() + Send + 'static) {
+        self.on_next_ready(0, callback)
+    }
+
+    /// Calls `callback` once the consumer of a captured stream, having taken `taken` answers so far, can take the
+    /// next answer without blocking: because it has already received it, a further response has arrived, or the
+    /// stream has ended. As with `on_ready`, `callback` may be called right away on this thread.
+    pub fn on_next_ready(&self, taken: u64, callback: impl FnOnce() + Send + 'static) {
+        let sources: Vec<Arc<dyn ReadySource>> = self.sources.iter().filter_map(Weak::upgrade).collect();
+        match sources.len() {
+            0 => callback(),
+            1 => sources[0].on_ready(taken, Box::new(callback)),
+            count => {
+                let remaining = Arc::new(AtomicUsize::new(count));
+                let callback = Arc::new(Mutex::new(Some(Box::new(callback) as Callback)));
+                for source in sources {
+                    let remaining = remaining.clone();
+                    let callback = callback.clone();
+                    source.on_ready(
+                        taken,
+                        Box::new(move || {
+                            if remaining.fetch_sub(1, Ordering::AcqRel) == 1 {
+                                if let Some(callback) = callback.lock().unwrap().take() {
+                                    callback();
+                                }
+                            }
+                        }),
+                    );
+                }
+            }
+        }
+    }
+}
+
+impl fmt::Debug for ResponseSignal {
+    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+        f.debug_struct("ResponseSignal").field("sources", &self.sources.len()).finish()
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::sync::{
+    atomic::{AtomicU64, AtomicUsize, Ordering},
+    Arc,
+};
+
+use crate::common::address::Address;
+
+/// How a `Connection` spreads its requests over the HTTP/2 channels it opens to each server.
+/// Every channel is a connection of its own, so transactions on different channels do not share a TCP socket
+/// or the server's limit on the streams of one connection.
+#[derive(Clone, Copy, Debug, PartialEq, Eq)]
+pub struct ChannelPool {
+    /// The number of channels opened to each server
+    pub size: usize,
+    /// How a channel is chosen for each request and transaction
+    pub selection: ChannelSelection,
+}
+
+impl Default for ChannelPool {
+    fn default() -> Self {
+        Self { size: 1, selection: ChannelSelection::default() }
+    }
+}
+
+/// How a channel of a `ChannelPool` is chosen for each request and transaction.
+#[derive(Clone, Copy, Debug, PartialEq, Eq)]
+pub enum ChannelSelection {
+    /// The channels are used in turn.
+    RoundRobin,
+    /// The channel with the fewest open transactions and unanswered requests is used, taking the channels in turn
+    /// when several are equally loaded.
+    LeastLoaded,
+}
+
+impl Default for ChannelSelection {
+    fn default() -> Self {
+        Self::RoundRobin
+    }
+}
+
+/// The usage of one channel of a `Connection`.
+#[derive(Clone, Debug, PartialEq, Eq)]
+pub struct ChannelMetrics {
+    /// The server the channel is connected to
+    pub server: Address,
+    /// The position of the channel in the pool of its server
+    pub index: usize,
+    /// The number of transactions currently open over the channel
+    pub open_transactions: u64,
+    /// The number of transactions opened over the channel since the connection was opened
+    pub total_transactions: u64,
+    /// The number of requests, other than transactions, that were sent over the channel and await a response
+    pub pending_requests: u64,
+    /// The number of requests, other than transactions, sent over the channel since the connection was opened
+    pub total_requests: u64,
+}
+
+/// The channels opened to one server, and what each of them is currently used by.
+#[derive(Debug)]
+pub(super) struct ChannelLoads {
+    server: Address,
+    loads: Vec<Arc<ChannelLoad>>,
+    selection: ChannelSelection,
+    next: AtomicUsize,
+}
+
+impl ChannelLoads {
+    pub(super) fn new(server: Address, channel_pool: ChannelPool) -> Self {
+        let loads = (0..channel_pool.size.max(1)).map(|_| Arc::default()).collect();
+        Self { server, loads, selection: channel_pool.selection, next: AtomicUsize::new(0) }
+    }
+
+    pub(super) fn size(&self) -> usize {
+        self.loads.len()
+    }
+
+    /// Picks the channel for a request, and counts the request against it until the returned lease is dropped.
+    pub(super) fn select(&self, is_transaction: bool) -> (usize, ChannelLease) {
+        let size = self.loads.len();
+        let start = self.next.fetch_add(1, Ordering::Relaxed) % size;
+        let index = match self.selection {
+            ChannelSelection::RoundRobin => start,
+            ChannelSelection::LeastLoaded => {
+                (0..size).map(|offset| (start + offset) % size).min_by_key(|&index| self.loads[index].load()).unwrap()
+            }
+        };
+        (index, ChannelLease::new(self.loads[index].clone(), is_transaction))
+    }
+
+    pub(super) fn metrics(&self) -> Vec<ChannelMetrics> {
+        self.loads.iter().enumerate().map(|(index, load)| load.metrics(&self.server, index)).collect()
+    }
+}
+
+#[derive(Debug, Default)]
+struct ChannelLoad {
+    open_transactions: AtomicU64,
+    total_transactions: AtomicU64,
+    pending_requests: AtomicU64,
+    total_requests: AtomicU64,
+}
+
+impl ChannelLoad {
+    fn load(&self) -> u64 {
+        self.open_transactions.load(Ordering::Relaxed) + self.pending_requests.load(Ordering::Relaxed)
+    }
+
+    fn metrics(&self, server: &Address, index: usize) -> ChannelMetrics {
+        ChannelMetrics {
+            server: server.clone(),
+            index,
+            open_transactions: self.open_transactions.load(Ordering::Relaxed),
+            total_transactions: self.total_transactions.load(Ordering::Relaxed),
+            pending_requests: self.pending_requests.load(Ordering::Relaxed),
+            total_requests: self.total_requests.load(Ordering::Relaxed),
+        }
+    }
+}
+
+/// Counts an open transaction, or a request awaiting its response, against the load of its channel until dropped.
+#[derive(Debug)]
+pub(super) struct ChannelLease {
+    load: Arc<ChannelLoad>,
+    is_transaction: bool,
+}
+
+impl ChannelLease {
+    fn new(load: Arc<ChannelLoad>, is_transaction: bool) -> Self {
+        if is_transaction {
+            load.open_transactions.fetch_add(1, Ordering::Relaxed);
+            load.total_transactions.fetch_add(1, Ordering::Relaxed);
+        } else {
+            load.pending_requests.fetch_add(1, Ordering::Relaxed);
+            load.total_requests.fetch_add(1, Ordering::Relaxed);
+        }
+        Self { load, is_transaction }
+    }
+}
+
+impl Drop for ChannelLease {
+    fn drop(&mut self) {
+        if self.is_transaction {
+            self.load.open_transactions.fetch_sub(1, Ordering::Relaxed);
+        } else {
+            self.load.pending_requests.fetch_sub(1, Ordering::Relaxed);
+        }
+    }
+}
@@ -37,8 +37,9 @@ use tokio::{
 };
 
 use super::{
-    network::transmitter::{RPCTransmitter, TransactionTransmitter},
-    runtime::BackgroundRuntime,
+    channel_pool::{ChannelMetrics, ChannelPool},
+    network::transmitter::{BufferLimits, RPCTransmitter, TransactionTransmitter},
+    runtime::{BackgroundRuntime, NetworkRuntime},
     TransactionStream,
 };
 use crate::{
@@ -76,10 +77,52 @@ impl Connection {
     /// Connection::new_core("127.0.0.1:1729")
     /// ```
     pub fn new_core(address: impl AsRef<str>) -> Result<Self> {
+        Self::new_core_with_runtime(address, NetworkRuntime::default())
+    }
+
+    /// Creates a new TypeDB Server connection, with its network I/O run by the specified runtime.
+    ///
+    /// # Arguments
+    ///
+    /// * `address` -- The address (host:port) on which the TypeDB Server is running
+    /// * `network_runtime` -- The runtime that runs the network I/O of the connection
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// Connection::new_core_with_runtime("127.0.0.1:1729", NetworkRuntime::MultiThread { worker_threads: 4 })
+    /// ```
+    pub fn new_core_with_runtime(address: impl AsRef<str>, network_runtime: NetworkRuntime) -> Result<Self> {
+        Self::new_core_with_channel_pool(address, network_runtime, ChannelPool::default())
+    }
+
+    /// Creates a new TypeDB Server connection, with its network I/O run by the specified runtime and spread over
+    /// the specified pool of channels.
+    ///
+    /// # Arguments
+    ///
+    /// * `address` -- The address (host:port) on which the TypeDB Server is running
+    /// * `network_runtime` -- The runtime that runs the network I/O of the connection
+    /// * `channel_pool` -- The channels opened to the server, and how requests are spread over them
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// Connection::new_core_with_channel_pool(
+    ///     "127.0.0.1:1729",
+    ///     NetworkRuntime::MultiThread { worker_threads: 4 },
+    ///     ChannelPool { size: 4, selection: ChannelSelection::LeastLoaded },
+    /// )
+    /// ```
+    pub fn new_core_with_channel_pool(
+        address: impl AsRef<str>,
+        network_runtime: NetworkRuntime,
+        channel_pool: ChannelPool,
+    ) -> Result<Self> {
         let id = address.as_ref().to_string();
         let address: Address = id.parse()?;
-        let background_runtime = Arc::new(BackgroundRuntime::new()?);
-        let server_connection = ServerConnection::new_core(background_runtime.clone(), address)?;
+        let background_runtime = Arc::new(BackgroundRuntime::new(network_runtime)?);
+        let server_connection = ServerConnection::new_core(background_runtime.clone(), address, channel_pool)?;
 
         let advertised_address = server_connection
             .servers_all()?
@@ -121,10 +164,64 @@ impl Connection {
     /// )
     /// ```
     pub fn new_cloud<T: AsRef<str> + Sync>(init_addresses: &[T], credential: Credential) -> Result<Self> {
-        let background_runtime = Arc::new(BackgroundRuntime::new()?);
+        Self::new_cloud_with_runtime(init_addresses, credential, NetworkRuntime::default())
+    }
+
+    /// Creates a new TypeDB Cloud connection, with its network I/O run by the specified runtime.
+    ///
+    /// # Arguments
+    ///
+    /// * `init_addresses` -- Addresses (host:port) on which TypeDB Cloud nodes are running
+    /// * `credential` -- User credential and TLS encryption setting
+    /// * `network_runtime` -- The runtime that runs the network I/O of the connection
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// Connection::new_cloud_with_runtime(
+    ///     &["localhost:11729", "localhost:21729", "localhost:31729"],
+    ///     credential,
+    ///     NetworkRuntime::MultiThread { worker_threads: 4 },
+    /// )
+    /// ```
+    pub fn new_cloud_with_runtime<T: AsRef<str> + Sync>(
+        init_addresses: &[T],
+        credential: Credential,
+        network_runtime: NetworkRuntime,
+    ) -> Result<Self> {
+        Self::new_cloud_with_channel_pool(init_addresses, credential, network_runtime, ChannelPool::default())
+    }
+
+    /// Creates a new TypeDB Cloud connection, with its network I/O run by the specified runtime and spread over
+    /// the specified pool of channels to each server.
+    ///
+    /// # Arguments
+    ///
+    /// * `init_addresses` -- Addresses (host:port) on which TypeDB Cloud nodes are running
+    /// * `credential` -- User credential and TLS encryption setting
+    /// * `network_runtime` -- The runtime that runs the network I/O of the connection
+    /// * `channel_pool` -- The channels opened to each server, and how requests are spread over them
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// Connection::new_cloud_with_channel_pool(
+    ///     &["localhost:11729", "localhost:21729", "localhost:31729"],
+    ///     credential,
+    ///     NetworkRuntime::MultiThread { worker_threads: 4 },
+    ///     ChannelPool { size: 4, selection: ChannelSelection::LeastLoaded },
+    /// )
+    /// ```
+    pub fn new_cloud_with_channel_pool<T: AsRef<str> + Sync>(
+        init_addresses: &[T],
+        credential: Credential,
+        network_runtime: NetworkRuntime,
+        channel_pool: ChannelPool,
+    ) -> Result<Self> {
+        let background_runtime = Arc::new(BackgroundRuntime::new(network_runtime)?);
         let servers = Self::fetch_server_list(background_runtime.clone(), init_addresses, credential.clone())?;
         let server_to_address = servers.into_iter().map(|address| (address.clone(), address)).collect();
-        Self::new_cloud_impl(server_to_address, background_runtime, credential)
+        Self::new_cloud_impl(server_to_address, background_runtime, credential, channel_pool)
     }
 
     /// Creates a new TypeDB Cloud connection.
@@ -152,7 +249,85 @@ impl Connection {
         T: AsRef<str> + Sync,
         U: AsRef<str> + Sync,
     {
-        let background_runtime = Arc::new(BackgroundRuntime::new()?);
+        Self::new_cloud_with_translation_and_runtime(address_translation, credential, NetworkRuntime::default())
+    }
+
+    /// Creates a new TypeDB Cloud connection using address translation, with its network I/O run by
+    /// the specified runtime.
+    ///
+    /// # Arguments
+    ///
+    /// * `address_translation` -- Translation map from addresses to be used by the driver for connection
+    ///    to addresses received from the TypeDB server(s)
+    /// * `credential` -- User credential and TLS encryption setting
+    /// * `network_runtime` -- The runtime that runs the network I/O of the connection
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// Connection::new_cloud_with_translation_and_runtime(
+    ///     [
+    ///         ("typedb-cloud.ext:11729", "localhost:11729"),
+    ///         ("typedb-cloud.ext:21729", "localhost:21729"),
+    ///         ("typedb-cloud.ext:31729", "localhost:31729"),
+    ///     ].into(),
+    ///     credential,
+    ///     NetworkRuntime::MultiThread { worker_threads: 4 },
+    /// )
+    /// ```
+    pub fn new_cloud_with_translation_and_runtime<T, U>(
+        address_translation: HashMap<T, U>,
+        credential: Credential,
+        network_runtime: NetworkRuntime,
+    ) -> Result<Self>
+    where
+        T: AsRef<str> + Sync,
+        U: AsRef<str> + Sync,
+    {
+        Self::new_cloud_with_translation_and_channel_pool(
+            address_translation,
+            credential,
+            network_runtime,
+            ChannelPool::default(),
+        )
+    }
+
+    /// Creates a new TypeDB Cloud connection using address translation, with its network I/O run by
+    /// the specified runtime and spread over the specified pool of channels to each server.
+    ///
+    /// # Arguments
+    ///
+    /// * `address_translation` -- Translation map from addresses to be used by the driver for connection
+    ///    to addresses received from the TypeDB server(s)
+    /// * `credential` -- User credential and TLS encryption setting
+    /// * `network_runtime` -- The runtime that runs the network I/O of the connection
+    /// * `channel_pool` -- The channels opened to each server, and how requests are spread over them
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// Connection::new_cloud_with_translation_and_channel_pool(
+    ///     [
+    ///         ("typedb-cloud.ext:11729", "localhost:11729"),
+    ///         ("typedb-cloud.ext:21729", "localhost:21729"),
+    ///         ("typedb-cloud.ext:31729", "localhost:31729"),
+    ///     ].into(),
+    ///     credential,
+    ///     NetworkRuntime::MultiThread { worker_threads: 4 },
+    ///     ChannelPool { size: 4, selection: ChannelSelection::LeastLoaded },
+    /// )
+    /// ```
+    pub fn new_cloud_with_translation_and_channel_pool<T, U>(
+        address_translation: HashMap<T, U>,
+        credential: Credential,
+        network_runtime: NetworkRuntime,
+        channel_pool: ChannelPool,
+    ) -> Result<Self>
+    where
+        T: AsRef<str> + Sync,
+        U: AsRef<str> + Sync,
+    {
+        let background_runtime = Arc::new(BackgroundRuntime::new(network_runtime)?);
 
         let fetched =
             Self::fetch_server_list(background_runtime.clone(), address_translation.keys(), credential.clone())?;
@@ -171,18 +346,19 @@ impl Connection {
 
         debug_assert_eq!(fetched, provided);
 
-        Self::new_cloud_impl(address_to_server, background_runtime, credential)
+        Self::new_cloud_impl(address_to_server, background_runtime, credential, channel_pool)
     }
 
     fn new_cloud_impl(
         address_to_server: HashMap<Address, Address>,
         background_runtime: Arc<BackgroundRuntime>,
         credential: Credential,
+        channel_pool: ChannelPool,
     ) -> Result<Connection> {
         let server_connections: HashMap<Address, ServerConnection> = address_to_server
             .into_iter()
             .map(|(public, private)| {
-                ServerConnection::new_cloud(background_runtime.clone(), public, credential.clone())
+                ServerConnection::new_cloud(background_runtime.clone(), public, credential.clone(), channel_pool)
                     .map(|server_connection| (private, server_connection))
             })
             .try_collect()?;
@@ -209,8 +385,13 @@ impl Connection {
     ) -> Result<HashSet<Address>> {
         let addresses: Vec<Address> = addresses.into_iter().map(|addr| addr.as_ref().parse()).try_collect()?;
         for address in &addresses {
-            let server_connection =
-                ServerConnection::new_cloud(background_runtime.clone(), address.clone(), credential.clone());
+            // only used to discover the servers, so a single channel is enough
+            let server_connection = ServerConnection::new_cloud(
+                background_runtime.clone(),
+                address.clone(),
+                credential.clone(),
+                ChannelPool::default(),
+            );
             match server_connection {
                 Ok(server_connection) => match server_connection.servers_all() {
                     Ok(servers) => return Ok(servers.into_iter().collect()),
@@ -263,6 +444,20 @@ impl Connection {
         self.background_runtime.force_close().and(result)
     }
 
+    /// Returns the usage of every channel this connection has opened, to each of its servers.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// connection.channel_metrics()
+    /// ```
+    pub fn channel_metrics(&self) -> Vec<ChannelMetrics> {
+        let mut metrics =
+            self.server_connections.values().flat_map(ServerConnection::channel_metrics).collect::<Vec<_>>();
+        metrics.sort_by_key(|metrics| (metrics.server.to_string(), metrics.index));
+        metrics
+    }
+
     pub(crate) fn server_count(&self) -> usize {
         self.server_connections.len()
     }
@@ -304,16 +499,30 @@ pub(crate) struct ServerConnection {
 }
 
 impl ServerConnection {
-    fn new_core(background_runtime: Arc<BackgroundRuntime>, address: Address) -> Result<Self> {
-        let request_transmitter = Arc::new(RPCTransmitter::start_core(address, &background_runtime)?);
+    fn new_core(
+        background_runtime: Arc<BackgroundRuntime>,
+        address: Address,
+        channel_pool: ChannelPool,
+    ) -> Result<Self> {
+        let request_transmitter = Arc::new(RPCTransmitter::start_core(address, channel_pool, &background_runtime)?);
         Ok(Self { background_runtime, open_sessions: Default::default(), request_transmitter })
     }
 
-    fn new_cloud(background_runtime: Arc<BackgroundRuntime>, address: Address, credential: Credential) -> Result<Self> {
-        let request_transmitter = Arc::new(RPCTransmitter::start_cloud(address, credential, &background_runtime)?);
+    fn new_cloud(
+        background_runtime: Arc<BackgroundRuntime>,
+        address: Address,
+        credential: Credential,
+        channel_pool: ChannelPool,
+    ) -> Result<Self> {
+        let request_transmitter =
+            Arc::new(RPCTransmitter::start_cloud(address, credential, channel_pool, &background_runtime)?);
         Ok(Self { background_runtime, open_sessions: Default::default(), request_transmitter })
     }
 
+    pub(crate) fn channel_metrics(&self) -> Vec<ChannelMetrics> {
+        self.request_transmitter.channel_metrics()
+    }
+
     pub(crate) fn validate(&self) -> Result {
         match self.request_blocking(Request::ConnectionOpen)? {
             Response::ConnectionOpen => Ok(()),
@@ -466,12 +675,15 @@ impl ServerConnection {
             }))
             .await?
         {
-            Response::TransactionOpen { request_sink, response_source } => {
+            Response::TransactionOpen { request_sink, response_source, channel_lease } => {
                 let transmitter = TransactionTransmitter::new(
                     &self.background_runtime,
                     request_sink,
                     response_source,
+                    channel_lease,
                     self.background_runtime.callback_handler_sink(),
+                    options.dispatch_policy.unwrap_or_default(),
+                    BufferLimits::from_options(&options),
                 );
                 let transmitter_shutdown_sink = transmitter.shutdown_sink().clone();
                 let transaction_stream = TransactionStream::new(transaction_type, options, transmitter);
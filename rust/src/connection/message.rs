@@ -24,6 +24,7 @@ use tonic::Streaming;
 use typedb_protocol::transaction;
 use typeql::pattern::{Conjunction, Statement};
 
+use super::channel_pool::ChannelLease;
 use crate::{
     answer::{readable_concept, ConceptMap, ConceptMapGroup, ValueGroup},
     common::{address::Address, info::DatabaseInfo, RequestID, SessionID, IID},
@@ -110,6 +111,7 @@ pub(super) enum Response {
     TransactionOpen {
         request_sink: UnboundedSender<transaction::Client>,
         response_source: Streaming<transaction::Server>,
+        channel_lease: ChannelLease,
     },
 
     UsersAll {
@@ -17,6 +17,7 @@
  * under the License.
  */
 
+mod channel_pool;
 mod connection;
 mod credential;
 mod message;
@@ -24,5 +25,10 @@ mod network;
 mod runtime;
 mod transaction_stream;
 
-pub use self::{connection::Connection, credential::Credential};
+pub use self::{
+    channel_pool::{ChannelMetrics, ChannelPool, ChannelSelection},
+    connection::Connection,
+    credential::Credential,
+    runtime::NetworkRuntime,
+};
 pub(crate) use self::{connection::ServerConnection, transaction_stream::TransactionStream};
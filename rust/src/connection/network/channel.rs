@@ -66,13 +66,20 @@ pub(super) fn open_callcred_channel(
     address: Address,
     credential: Credential,
 ) -> Result<(CallCredChannel, Arc<CallCredentials>)> {
+    let call_credentials = Arc::new(CallCredentials::new(credential));
+    Ok((open_callcred_channel_with(address, call_credentials.clone())?, call_credentials))
+}
+
+/// Opens another channel authenticated by the same call credentials, so that all channels share one token.
+pub(super) fn open_callcred_channel_with(
+    address: Address,
+    call_credentials: Arc<CallCredentials>,
+) -> Result<CallCredChannel> {
     let mut builder = Channel::builder(address.into_uri());
-    if credential.is_tls_enabled() {
-        builder = builder.tls_config(credential.tls_config().clone().unwrap())?;
+    if call_credentials.credential.is_tls_enabled() {
+        builder = builder.tls_config(call_credentials.credential.tls_config().clone().unwrap())?;
     }
-    let channel = builder.connect_lazy();
-    let call_credentials = Arc::new(CallCredentials::new(credential));
-    Ok((CallCredChannel::new(channel, CredentialInjector::new(call_credentials.clone())), call_credentials))
+    Ok(CallCredChannel::new(builder.connect_lazy(), CredentialInjector::new(call_credentials)))
 }
 
 #[derive(Debug)]
@@ -329,8 +329,14 @@ impl FromProto<session::close::Res> for Response {
 
 impl IntoProto<transaction::Req> for TransactionRequest {
     fn into_proto(self) -> transaction::Req {
-        let mut request_id = None;
+        self.into_proto_with_id(None)
+    }
+}
 
+impl TransactionRequest {
+    /// Converts the request under `request_id`, or under a newly generated ID if none is given. Stream requests
+    /// always keep the ID of the stream they continue.
+    pub(in crate::connection) fn into_proto_with_id(self, mut request_id: Option<RequestID>) -> transaction::Req {
         let req = match self {
             Self::Open { session_id, transaction_type, options, network_latency } => {
                 transaction::req::Req::OpenReq(transaction::open::Req {
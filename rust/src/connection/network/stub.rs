@@ -49,6 +49,12 @@ impl<Channel: GRPCChannel> RPCStub<Channel> {
         this
     }
 
+    /// Creates a stub for another channel to the same server, authenticated by the same call credentials.
+    /// Any token they hold is reused rather than renewed.
+    pub(super) fn with_channel(&self, channel: Channel) -> Self {
+        Self { grpc: GRPC::new(channel), call_credentials: self.call_credentials.clone() }
+    }
+
     async fn call_with_auto_renew_token<F, R>(&mut self, call: F) -> Result<R>
     where
         for<'a> F: Fn(&'a mut Self) -> BoxFuture<'a, Result<R>>,
@@ -17,14 +17,34 @@
  * under the License.
  */
 
+mod request_registry;
 mod response_sink;
 mod rpc;
+mod stream_buffer;
 mod transaction;
 
-use crossbeam::channel::{bounded as bounded_blocking, Receiver as SyncReceiver, Sender as SyncSender};
+use crossbeam::channel::{bounded as bounded_blocking, Receiver as SyncReceiver, SendError, Sender as SyncSender};
+use tokio::sync::oneshot::{channel as oneshot_async, Sender as AsyncOneshotSender};
 
-pub(in crate::connection) use self::{rpc::RPCTransmitter, transaction::TransactionTransmitter};
+use crate::common::Callback;
+
+pub(in crate::connection) use self::{
+    rpc::RPCTransmitter,
+    stream_buffer::BufferLimits,
+    transaction::TransactionTransmitter,
+};
+
+type CallbackHandlerSink = SyncSender<(Callback, AsyncOneshotSender<()>)>;
 
 fn oneshot_blocking<T>() -> (SyncSender<T>, SyncReceiver<T>) {
     bounded_blocking::<T>(1)
 }
+
+/// Runs `callback` on the callback handler thread, where it can neither stall nor deadlock the network runtime.
+fn run_on_callback_handler(callback_handler_sink: &CallbackHandlerSink, callback: Callback) {
+    let (response_sink, _) = oneshot_async();
+    if let Err(SendError((callback, _))) = callback_handler_sink.send((callback, response_sink)) {
+        // the connection has shut down, so there is no runtime left to stall
+        callback();
+    }
+}
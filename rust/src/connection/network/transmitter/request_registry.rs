@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::sync::{
+    atomic::{AtomicUsize, Ordering},
+    Mutex,
+};
+
+use crate::common::RequestID;
+
+const SHARDS: usize = 16;
+const ID_LEN: usize = 16;
+const SALT_OFFSET: usize = 9;
+
+/// The requests of a transaction that are awaiting responses, each with the value its responses are routed to.
+///
+/// The registry issues the IDs of the requests it holds, and each ID encodes where its value is stored: the index and
+/// generation of a slot, and the shard that owns the slot. Looking a request up only takes the lock of its shard and
+/// indexes into it directly, without hashing, and consecutive requests are spread over the shards so that routing the
+/// responses of earlier requests seldom waits for new ones to be registered. The remaining bytes of every ID are
+/// random per registry, so that IDs stay the same size as generated ones and an ID from another transaction is never
+/// mistaken for one of ours.
+pub(super) struct RequestRegistry<T> {
+    shards: Box<[Mutex<Shard<T>>]>,
+    next_shard: AtomicUsize,
+    salt: [u8; ID_LEN - SALT_OFFSET],
+}
+
+impl<T> RequestRegistry<T> {
+    pub(super) fn new() -> Self {
+        let mut salt = [0; ID_LEN - SALT_OFFSET];
+        salt.copy_from_slice(&RequestID::generate().as_bytes()[SALT_OFFSET..]);
+        Self { shards: (0..SHARDS).map(|_| Mutex::default()).collect(), next_shard: AtomicUsize::new(0), salt }
+    }
+
+    pub(super) fn register(&self, value: T) -> RequestID {
+        let shard = self.next_shard.fetch_add(1, Ordering::Relaxed) % SHARDS;
+        let (index, generation) = self.shards[shard].lock().unwrap().insert(value);
+        let mut id = Vec::with_capacity(ID_LEN);
+        id.extend_from_slice(&index.to_le_bytes());
+        id.extend_from_slice(&generation.to_le_bytes());
+        id.push(shard as u8);
+        id.extend_from_slice(&self.salt);
+        id.into()
+    }
+
+    /// Runs `f` on the value registered under `request_id` while its shard is locked, so `f` must not call back into
+    /// the registry.
+    pub(super) fn with<R>(&self, request_id: &RequestID, f: impl FnOnce(&T) -> R) -> Option<R> {
+        let (shard, index, generation) = self.decode(request_id)?;
+        let shard = self.shards[shard].lock().unwrap();
+        shard.get(index, generation).map(f)
+    }
+
+    pub(super) fn remove(&self, request_id: &RequestID) -> Option<T> {
+        let (shard, index, generation) = self.decode(request_id)?;
+        self.shards[shard].lock().unwrap().remove(index, generation)
+    }
+
+    pub(super) fn drain(&self) -> Vec<T> {
+        self.shards.iter().flat_map(|shard| shard.lock().unwrap().drain()).collect()
+    }
+
+    fn decode(&self, request_id: &RequestID) -> Option<(usize, u32, u32)> {
+        let bytes = request_id.as_bytes();
+        if bytes.len() != ID_LEN || bytes[SALT_OFFSET..] != self.salt {
+            return None;
+        }
+        let index = u32::from_le_bytes(bytes[0..4].try_into().unwrap());
+        let generation = u32::from_le_bytes(bytes[4..8].try_into().unwrap());
+        let shard = bytes[8] as usize;
+        (shard < SHARDS).then(|| (shard, index, generation))
+    }
+}
+
+struct Shard<T> {
+    slots: Vec<Slot<T>>,
+    free: Vec<u32>,
+}
+
+impl<T> Default for Shard<T> {
+    fn default() -> Self {
+        Self { slots: Vec::new(), free: Vec::new() }
+    }
+}
+
+impl<T> Shard<T> {
+    fn insert(&mut self, value: T) -> (u32, u32) {
+        match self.free.pop() {
+            Some(index) => {
+                let slot = &mut self.slots[index as usize];
+                slot.value = Some(value);
+                (index, slot.generation)
+            }
+            None => {
+                self.slots.push(Slot { generation: 0, value: Some(value) });
+                ((self.slots.len() - 1) as u32, 0)
+            }
+        }
+    }
+
+    fn get(&self, index: u32, generation: u32) -> Option<&T> {
+        self.slots.get(index as usize).filter(|slot| slot.generation == generation)?.value.as_ref()
+    }
+
+    fn remove(&mut self, index: u32, generation: u32) -> Option<T> {
+        let slot = self.slots.get_mut(index as usize).filter(|slot| slot.generation == generation)?;
+        let value = slot.value.take()?;
+        // a response that is still in flight for the old ID must not reach whichever request reuses the slot
+        slot.generation = slot.generation.wrapping_add(1);
+        self.free.push(index);
+        Some(value)
+    }
+
+    fn drain(&mut self) -> Vec<T> {
+        self.free.clear();
+        std::mem::take(&mut self.slots).into_iter().filter_map(|slot| slot.value).collect()
+    }
+}
+
+struct Slot<T> {
+    generation: u32,
+    value: Option<T>,
+}
+
+#[cfg(test)]
+mod test {
+    use std::{
+        collections::HashMap,
+        sync::{Arc, RwLock},
+        thread,
+        time::{Duration, Instant},
+    };
+
+    use crossbeam::channel::unbounded;
+
+    use super::RequestRegistry;
+    use crate::common::RequestID;
+
+    #[test]
+    fn test_register_and_remove() {
+        let registry = RequestRegistry::new();
+        let ids: Vec<RequestID> = (0..100).map(|i| registry.register(i)).collect();
+        for (i, id) in ids.iter().enumerate() {
+            assert_eq!(id.as_bytes().len(), 16);
+            assert_eq!(registry.with(id, |value| *value), Some(i));
+        }
+        for (i, id) in ids.iter().enumerate() {
+            assert_eq!(registry.remove(id), Some(i));
+            assert_eq!(registry.remove(id), None);
+            assert_eq!(registry.with(id, |value| *value), None);
+        }
+        assert!(registry.drain().is_empty());
+    }
+
+    #[test]
+    fn test_reused_slots_reject_stale_ids() {
+        let registry = RequestRegistry::new();
+        let stale: Vec<RequestID> = (0..32).map(|i| registry.register(i)).collect();
+        stale.iter().for_each(|id| assert!(registry.remove(id).is_some()));
+        let fresh: Vec<RequestID> = (32..64).map(|i| registry.register(i)).collect();
+        for id in &stale {
+            assert!(!fresh.contains(id));
+            assert_eq!(registry.with(id, |value| *value), None);
+            assert_eq!(registry.remove(id), None);
+        }
+        let mut remaining = registry.drain();
+        remaining.sort();
+        assert_eq!(remaining, (32..64).collect::<Vec<_>>());
+        fresh.iter().for_each(|id| assert_eq!(registry.with(id, |value| *value), None));
+    }
+
+    #[test]
+    fn test_foreign_ids_are_unknown() {
+        let registry = RequestRegistry::new();
+        let other = RequestRegistry::new();
+        let id = registry.register(());
+        assert!(other.with(&id, |_| ()).is_none());
+        assert!(registry.with(&RequestID::generate(), |_| ()).is_none());
+        assert!(registry.with(&RequestID::from(id.as_bytes()[..8].to_vec()), |_| ()).is_none());
+        let mut bad_shard = Vec::from(id.as_bytes());
+        bad_shard[8] = u8::MAX;
+        assert!(registry.with(&RequestID::from(bad_shard), |_| ()).is_none());
+        assert!(registry.remove(&id).is_some());
+    }
+
+    const BENCHMARK_REQUESTS: usize = 1_000_000;
+    const BENCHMARK_PIPELINE_DEPTH: usize = 4096;
+    const BENCHMARK_ROUNDS: usize = 5;
+
+    /// Compares the collect throughput of the registry with that of a hash map behind a read-write lock, the way
+    /// responses used to be routed: one thread registers pipelined requests while another routes a response to each
+    /// and retires it. Run with
+    /// `bazel test //rust:typedb_driver_unit_tests --test_arg=--ignored --test_arg=--nocapture`.
+    #[test]
+    #[ignore]
+    fn benchmark_collect_throughput() {
+        for round in 0..BENCHMARK_ROUNDS {
+            let registry = Arc::new(RequestRegistry::new());
+            let sharded = run_collect(
+                {
+                    let registry = registry.clone();
+                    move |value| registry.register(value)
+                },
+                move |id| {
+                    registry.with(&id, |value| *value).unwrap();
+                    registry.remove(&id).unwrap()
+                },
+            );
+            let map: Arc<RwLock<HashMap<RequestID, usize>>> = Default::default();
+            let locked = run_collect(
+                {
+                    let map = map.clone();
+                    move |value| {
+                        let id = RequestID::generate();
+                        map.write().unwrap().insert(id.clone(), value);
+                        id
+                    }
+                },
+                move |id| {
+                    map.read().unwrap().get(&id).copied().unwrap();
+                    map.write().unwrap().remove(&id).unwrap()
+                },
+            );
+            println!(
+                "round {round}: registry {:.0} responses/s, locked map {:.0} responses/s",
+                BENCHMARK_REQUESTS as f64 / sharded.as_secs_f64(),
+                BENCHMARK_REQUESTS as f64 / locked.as_secs_f64(),
+            );
+        }
+    }
+
+    fn run_collect(
+        register: impl Fn(usize) -> RequestID + Send + 'static,
+        collect: impl Fn(RequestID) -> usize + Send + 'static,
+    ) -> Duration {
+        let (response_sink, response_source) = unbounded();
+        let (credit_sink, credit_source) = unbounded();
+        (0..BENCHMARK_PIPELINE_DEPTH).for_each(|_| credit_sink.send(()).unwrap());
+        let start = Instant::now();
+        let dispatcher = thread::spawn(move || {
+            for value in 0..BENCHMARK_REQUESTS {
+                credit_source.recv().unwrap();
+                response_sink.send((register(value), value)).unwrap();
+            }
+        });
+        let listener = thread::spawn(move || {
+            for (id, value) in response_source {
+                assert_eq!(collect(id), value);
+                credit_sink.send(()).ok();
+            }
+        });
+        dispatcher.join().unwrap();
+        listener.join().unwrap();
+        start.elapsed()
+    }
+}
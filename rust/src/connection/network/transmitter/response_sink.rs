@@ -17,12 +17,22 @@
  * under the License.
  */
 
+use std::{
+    fmt,
+    sync::{Arc, Mutex},
+};
+
 use crossbeam::channel::Sender as SyncSender;
 use log::{debug, error};
 use tokio::sync::{mpsc::UnboundedSender, oneshot::Sender as AsyncOneshotSender};
 
+use super::{
+    run_on_callback_handler,
+    stream_buffer::{BufferProducer, StreamBuffer},
+    CallbackHandlerSink,
+};
 use crate::{
-    common::Result,
+    common::{Callback, ReadySource, Result, StreamDemand},
     error::{ConnectionError, InternalError},
     Error,
 };
@@ -30,16 +40,19 @@ use crate::{
 #[derive(Debug)]
 pub(super) enum ResponseSink<T> {
     AsyncOneShot(AsyncOneshotSender<Result<T>>),
-    BlockingOneShot(SyncSender<Result<T>>),
-    Streamed(UnboundedSender<Result<T>>),
+    // the latch is released once the response has been sent, as the sink is dropped
+    BlockingOneShot(SyncSender<Result<T>>, Option<Arc<ResponseLatch>>),
+    // the sender is declared first so that it is dropped, ending the stream, before the producer marks it finished
+    Streamed(UnboundedSender<Result<T>>, BufferProducer),
+    StreamedOnDemand(UnboundedSender<Result<T>>, StreamDemand, BufferProducer),
 }
 
 impl<T> ResponseSink<T> {
     pub(super) fn finish(self, response: Result<T>) {
         let result = match self {
             Self::AsyncOneShot(sink) => sink.send(response).map_err(|_| InternalError::SendError.into()),
-            Self::BlockingOneShot(sink) => sink.send(response).map_err(Error::from),
-            Self::Streamed(sink) => sink.send(response).map_err(Error::from),
+            Self::BlockingOneShot(sink, _) => sink.send(response).map_err(Error::from),
+            Self::Streamed(sink, _) | Self::StreamedOnDemand(sink, _, _) => sink.send(response).map_err(Error::from),
         };
         match result {
             Err(Error::Internal(err @ InternalError::SendError)) => debug!("{err}"),
@@ -50,7 +63,11 @@ impl<T> ResponseSink<T> {
 
     pub(super) fn send(&self, response: Result<T>) {
         let result = match self {
-            Self::Streamed(sink) => sink.send(response).map_err(Error::from),
+            Self::Streamed(sink, producer) | Self::StreamedOnDemand(sink, _, producer) => {
+                let result = sink.send(response).map_err(Error::from);
+                producer.on_sent();
+                result
+            }
             _ => unreachable!("attempted to stream over a one-shot callback"),
         };
         match result {
@@ -63,8 +80,59 @@ impl<T> ResponseSink<T> {
     pub(super) fn error(self, error: ConnectionError) {
         match self {
             Self::AsyncOneShot(sink) => sink.send(Err(error.into())).ok(),
-            Self::BlockingOneShot(sink) => sink.send(Err(error.into())).ok(),
-            Self::Streamed(sink) => sink.send(Err(error.into())).ok(),
+            Self::BlockingOneShot(sink, _) => sink.send(Err(error.into())).ok(),
+            Self::Streamed(sink, _) | Self::StreamedOnDemand(sink, _, _) => sink.send(Err(error.into())).ok(),
         };
     }
+
+    pub(super) fn demand(&self) -> Option<&StreamDemand> {
+        match self {
+            Self::StreamedOnDemand(_, demand, _) => Some(demand),
+            _ => None,
+        }
+    }
+
+    pub(super) fn buffer(&self) -> Option<&StreamBuffer> {
+        match self {
+            Self::Streamed(_, producer) | Self::StreamedOnDemand(_, _, producer) => Some(producer.buffer()),
+            _ => None,
+        }
+    }
+}
+
+/// Released once the response of a blocking request has been sent, after which resolving its promise no longer
+/// blocks. Callbacks waiting on it run on the callback handler thread.
+// only the promises of the blocking driver wait on a latch
+#[cfg_attr(not(feature = "sync"), allow(dead_code))]
+pub(super) struct ResponseLatch {
+    waiting: Mutex<Vec<Callback>>,
+    callback_handler_sink: CallbackHandlerSink,
+}
+
+#[cfg_attr(not(feature = "sync"), allow(dead_code))]
+impl ResponseLatch {
+    pub(super) fn new(callback_handler_sink: CallbackHandlerSink) -> Self {
+        Self { waiting: Mutex::new(Vec::new()), callback_handler_sink }
+    }
+}
+
+impl ReadySource for ResponseLatch {
+    fn on_ready(&self, _taken: u64, callback: Callback) {
+        // a latch that can still be reached has not been released yet
+        self.waiting.lock().unwrap().push(callback);
+    }
+}
+
+impl Drop for ResponseLatch {
+    fn drop(&mut self) {
+        for callback in std::mem::take(self.waiting.get_mut().unwrap()) {
+            run_on_callback_handler(&self.callback_handler_sink, callback);
+        }
+    }
+}
+
+impl fmt::Debug for ResponseLatch {
+    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+        f.debug_struct("ResponseLatch").field("waiting", &self.waiting.lock().unwrap().len()).finish()
+    }
 }
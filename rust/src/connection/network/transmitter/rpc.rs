@@ -17,6 +17,8 @@
  * under the License.
  */
 
+use std::sync::Arc;
+
 use tokio::{
     select,
     sync::{
@@ -29,49 +31,70 @@ use super::{oneshot_blocking, response_sink::ResponseSink};
 use crate::{
     common::{address::Address, Result},
     connection::{
+        channel_pool::{ChannelLease, ChannelLoads},
         message::{Request, Response},
         network::{
-            channel::{open_callcred_channel, open_plaintext_channel, GRPCChannel},
+            channel::{open_callcred_channel, open_callcred_channel_with, open_plaintext_channel, GRPCChannel},
             proto::{FromProto, IntoProto, TryFromProto, TryIntoProto},
             stub::RPCStub,
         },
         runtime::BackgroundRuntime,
     },
-    Credential, Error,
+    ChannelMetrics, ChannelPool, Credential, Error,
 };
 
 pub(in crate::connection) struct RPCTransmitter {
     request_sink: UnboundedSender<(Request, ResponseSink<Response>)>,
     shutdown_sink: UnboundedSender<()>,
+    channel_loads: Arc<ChannelLoads>,
 }
 
 impl RPCTransmitter {
-    pub(in crate::connection) fn start_core(address: Address, runtime: &BackgroundRuntime) -> Result<Self> {
+    pub(in crate::connection) fn start_core(
+        address: Address,
+        channel_pool: ChannelPool,
+        runtime: &BackgroundRuntime,
+    ) -> Result<Self> {
         let (request_sink, request_source) = unbounded_async();
         let (shutdown_sink, shutdown_source) = unbounded_async();
+        let channel_loads = Arc::new(ChannelLoads::new(address.clone(), channel_pool));
+        let loads = channel_loads.clone();
         runtime.run_blocking(async move {
-            let channel = open_plaintext_channel(address);
-            let rpc = RPCStub::new(channel, None).await;
-            tokio::spawn(Self::dispatcher_loop(rpc, request_source, shutdown_source));
+            let mut rpcs = vec![RPCStub::new(open_plaintext_channel(address.clone()), None).await];
+            for _ in 1..loads.size() {
+                rpcs.push(rpcs[0].with_channel(open_plaintext_channel(address.clone())));
+            }
+            tokio::spawn(Self::dispatcher_loop(rpcs, loads, request_source, shutdown_source));
             Ok::<(), Error>(())
         })?;
-        Ok(Self { request_sink, shutdown_sink })
+        Ok(Self { request_sink, shutdown_sink, channel_loads })
     }
 
     pub(in crate::connection) fn start_cloud(
         address: Address,
         credential: Credential,
+        channel_pool: ChannelPool,
         runtime: &BackgroundRuntime,
     ) -> Result<Self> {
         let (request_sink, request_source) = unbounded_async();
         let (shutdown_sink, shutdown_source) = unbounded_async();
+        let channel_loads = Arc::new(ChannelLoads::new(address.clone(), channel_pool));
+        let loads = channel_loads.clone();
         runtime.run_blocking(async move {
-            let (channel, call_credentials) = open_callcred_channel(address, credential)?;
-            let rpc = RPCStub::new(channel, Some(call_credentials)).await;
-            tokio::spawn(Self::dispatcher_loop(rpc, request_source, shutdown_source));
+            let (channel, call_credentials) = open_callcred_channel(address.clone(), credential)?;
+            let mut rpcs = vec![RPCStub::new(channel, Some(call_credentials.clone())).await];
+            for _ in 1..loads.size() {
+                // the channels share the call credentials, and so the token the first one was issued
+                rpcs.push(rpcs[0].with_channel(open_callcred_channel_with(address.clone(), call_credentials.clone())?));
+            }
+            tokio::spawn(Self::dispatcher_loop(rpcs, loads, request_source, shutdown_source));
             Ok::<(), Error>(())
         })?;
-        Ok(Self { request_sink, shutdown_sink })
+        Ok(Self { request_sink, shutdown_sink, channel_loads })
+    }
+
+    pub(in crate::connection) fn channel_metrics(&self) -> Vec<ChannelMetrics> {
+        self.channel_loads.metrics()
     }
 
     #[cfg(not(feature = "sync"))]
@@ -92,7 +115,7 @@ impl RPCTransmitter {
 
     pub(in crate::connection) fn request_blocking(&self, request: Request) -> Result<Response> {
         let (response_sink, response) = oneshot_blocking();
-        self.request_sink.send((request, ResponseSink::BlockingOneShot(response_sink)))?;
+        self.request_sink.send((request, ResponseSink::BlockingOneShot(response_sink, None)))?;
         response.recv()?
     }
 
@@ -101,7 +124,8 @@ impl RPCTransmitter {
     }
 
     async fn dispatcher_loop<Channel: GRPCChannel>(
-        rpc: RPCStub<Channel>,
+        rpcs: Vec<RPCStub<Channel>>,
+        channel_loads: Arc<ChannelLoads>,
         mut request_source: UnboundedReceiver<(Request, ResponseSink<Response>)>,
         mut shutdown_signal: UnboundedReceiver<()>,
     ) {
@@ -109,15 +133,22 @@ impl RPCTransmitter {
             request = request_source.recv() => request,
             _ = shutdown_signal.recv() => None,
         } {
-            let rpc = rpc.clone();
+            let (index, channel_lease) = channel_loads.select(matches!(request, Request::Transaction(_)));
+            let rpc = rpcs[index].clone();
             tokio::spawn(async move {
-                let response = Self::send_request(rpc, request).await;
+                let response = Self::send_request(rpc, request, channel_lease).await;
                 response_sink.finish(response);
             });
         }
     }
 
-    async fn send_request<Channel: GRPCChannel>(mut rpc: RPCStub<Channel>, request: Request) -> Result<Response> {
+    /// The lease counts the request against the load of its channel: until the response arrives, or, for a
+    /// transaction, for as long as the transaction stays open.
+    async fn send_request<Channel: GRPCChannel>(
+        mut rpc: RPCStub<Channel>,
+        request: Request,
+        channel_lease: ChannelLease,
+    ) -> Result<Response> {
         match request {
             Request::ConnectionOpen => rpc.connection_open(request.try_into_proto()?).await.map(Response::from_proto),
 
@@ -159,7 +190,7 @@ impl RPCTransmitter {
 
             Request::Transaction(transaction_request) => {
                 let (request_sink, response_source) = rpc.transaction(transaction_request.into_proto()).await?;
-                Ok(Response::TransactionOpen { request_sink, response_source })
+                Ok(Response::TransactionOpen { request_sink, response_source, channel_lease })
             }
 
             Request::UsersAll => rpc.users_all(request.try_into_proto()?).await.map(Response::from_proto),
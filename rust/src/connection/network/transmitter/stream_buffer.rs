@@ -0,0 +1,350 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::{
+    collections::VecDeque,
+    fmt,
+    sync::{
+        atomic::{AtomicU64, Ordering},
+        Arc, Mutex, Weak,
+    },
+    time::Instant,
+};
+
+use super::{run_on_callback_handler, CallbackHandlerSink};
+use crate::{
+    common::{Callback, ReadySource, Result, StreamCancel},
+    error::ConnectionError,
+    Options,
+};
+
+/// The answers, and their size on the wire, that the streams of a transaction have received but their consumers
+/// have not taken yet.
+#[derive(Clone, Debug, Default)]
+pub(in crate::connection) struct BufferGauge {
+    answers: Arc<AtomicU64>,
+    bytes: Arc<AtomicU64>,
+}
+
+impl BufferGauge {
+    pub(in crate::connection) fn answers(&self) -> u64 {
+        self.answers.load(Ordering::Relaxed)
+    }
+
+    pub(in crate::connection) fn bytes(&self) -> u64 {
+        self.bytes.load(Ordering::Relaxed)
+    }
+
+    fn add(&self, answers: u64, bytes: u64) {
+        self.answers.fetch_add(answers, Ordering::Relaxed);
+        self.bytes.fetch_add(bytes, Ordering::Relaxed);
+    }
+
+    fn sub(&self, answers: u64, bytes: u64) {
+        self.answers.fetch_sub(answers, Ordering::Relaxed);
+        self.bytes.fetch_sub(bytes, Ordering::Relaxed);
+    }
+}
+
+#[derive(Clone, Copy, Debug, Default)]
+pub(in crate::connection) struct BufferLimits {
+    max_answers: Option<u64>,
+    max_bytes: Option<u64>,
+}
+
+impl BufferLimits {
+    pub(in crate::connection) fn from_options(options: &Options) -> Self {
+        Self { max_answers: options.max_buffered_answers, max_bytes: options.max_buffered_bytes }
+    }
+}
+
+/// The responses of a single stream that have been received but not yet consumed.
+///
+/// Once either limit is reached, the server is not asked to continue the stream until the consumer has drained the
+/// buffer below the limits again. The server only pauses between batches, so a buffer may exceed its limits by up to
+/// one batch.
+///
+/// A stream is cancelled when its consumer is dropped or through its `StreamCancel`: whatever is buffered is released
+/// and the server is not asked to continue the stream any further.
+#[derive(Clone)]
+pub(super) struct StreamBuffer {
+    shared: Arc<BufferShared>,
+}
+
+struct BufferShared {
+    state: Mutex<BufferState>,
+    limits: BufferLimits,
+    gauge: BufferGauge,
+    deadline: Option<Instant>,
+    callback_handler_sink: CallbackHandlerSink,
+}
+
+#[derive(Default)]
+struct BufferState {
+    sizes: VecDeque<(u64, u64)>,
+    answers: u64,
+    bytes: u64,
+    continuation: Option<Callback>,
+    // the server has finished a batch and waits for the stream to be continued, so nothing more is in flight
+    is_parked: bool,
+    is_cancelled: bool,
+    on_cancel: Option<Callback>,
+    // nothing more will be sent to the consumer
+    is_finished: bool,
+    // the answers in the responses the consumer has taken
+    delivered: u64,
+    on_ready: Vec<Callback>,
+}
+
+impl StreamBuffer {
+    pub(super) fn new(
+        limits: BufferLimits,
+        gauge: BufferGauge,
+        cancel: Option<StreamCancel>,
+        callback_handler_sink: CallbackHandlerSink,
+    ) -> Self {
+        let deadline = cancel.as_ref().and_then(StreamCancel::deadline);
+        let shared = BufferShared { state: Default::default(), limits, gauge, deadline, callback_handler_sink };
+        let buffer = Self { shared: Arc::new(shared) };
+        if let Some(cancel) = cancel {
+            cancel.on_cancel(buffer.canceller());
+        }
+        buffer
+    }
+
+    /// Returns a callback which cancels the stream, without keeping the buffer alive until it is called.
+    pub(super) fn canceller(&self) -> Callback {
+        let buffer = Arc::downgrade(&self.shared);
+        Box::new(move || {
+            if let Some(shared) = buffer.upgrade() {
+                StreamBuffer { shared }.cancel();
+            }
+        })
+    }
+
+    pub(super) fn deadline(&self) -> Option<Instant> {
+        self.shared.deadline
+    }
+
+    pub(super) fn is_cancelled(&self) -> bool {
+        self.shared.state.lock().unwrap().is_cancelled
+    }
+
+    /// Registers the callback which releases the stream once it is cancelled while the server is waiting for it to be
+    /// continued. A stream cancelled while a batch is in flight is released when that batch ends instead.
+    pub(super) fn on_cancel(&self, callback: Callback) {
+        let mut state = self.shared.state.lock().unwrap();
+        if !state.is_cancelled {
+            state.on_cancel = Some(callback);
+        }
+    }
+
+    /// Must be called before the response is sent to the consumer, so that `BufferConsumer::on_consumed` always
+    /// finds its size. Returns false if the stream has been cancelled, and the response should be discarded.
+    pub(super) fn on_received(&self, answers: u64, bytes: u64) -> bool {
+        let mut state = self.shared.state.lock().unwrap();
+        if state.is_cancelled {
+            return false;
+        }
+        state.sizes.push_back((answers, bytes));
+        state.answers += answers;
+        state.bytes += bytes;
+        self.shared.gauge.add(answers, bytes);
+        true
+    }
+
+    /// Must be called when the server has finished a batch. Returns false if the stream has been cancelled, and
+    /// should be released rather than continued.
+    pub(super) fn on_batch_end(&self) -> bool {
+        let mut state = self.shared.state.lock().unwrap();
+        if state.is_cancelled {
+            return false;
+        }
+        state.is_parked = true;
+        true
+    }
+
+    pub(super) fn on_continue(&self, continuation: Callback) {
+        let continuation = {
+            let mut state = self.shared.state.lock().unwrap();
+            if state.is_cancelled {
+                None
+            } else if self.is_full(&state) {
+                state.continuation = Some(continuation);
+                None
+            } else {
+                state.is_parked = false;
+                Some(continuation)
+            }
+        };
+        if let Some(continuation) = continuation {
+            continuation();
+        }
+    }
+
+    pub(super) fn cancel(&self) {
+        let (on_cancel, waiting) = {
+            let mut state = self.shared.state.lock().unwrap();
+            if state.is_cancelled {
+                return;
+            }
+            state.is_cancelled = true;
+            self.shared.gauge.sub(state.answers, state.bytes);
+            state.answers = 0;
+            state.bytes = 0;
+            state.sizes.clear();
+            state.continuation = None;
+            let on_cancel = if state.is_parked { state.on_cancel.take() } else { None };
+            // the consumer now takes the cancellation error without waiting
+            (on_cancel, std::mem::take(&mut state.on_ready))
+        };
+        if let Some(on_cancel) = on_cancel {
+            on_cancel();
+        }
+        for callback in waiting {
+            run_on_callback_handler(&self.shared.callback_handler_sink, callback);
+        }
+    }
+
+    pub(super) fn consumer(&self) -> BufferConsumer {
+        BufferConsumer { buffer: self.clone() }
+    }
+
+    pub(super) fn producer(&self) -> BufferProducer {
+        BufferProducer { buffer: self.clone() }
+    }
+
+    /// Signals when the consumer can take the next response without blocking, for as long as the stream is alive.
+    #[cfg_attr(not(feature = "sync"), allow(dead_code))]
+    pub(super) fn ready_source(&self) -> Weak<dyn ReadySource> {
+        Arc::downgrade(&self.shared) as Weak<dyn ReadySource>
+    }
+
+    fn wake_consumer(&self, finished: bool) {
+        let waiting = {
+            let mut state = self.shared.state.lock().unwrap();
+            state.is_finished |= finished;
+            std::mem::take(&mut state.on_ready)
+        };
+        for callback in waiting {
+            run_on_callback_handler(&self.shared.callback_handler_sink, callback);
+        }
+    }
+
+    fn is_full(&self, state: &BufferState) -> bool {
+        self.shared.limits.max_answers.map_or(false, |max| state.answers >= max)
+            || self.shared.limits.max_bytes.map_or(false, |max| state.bytes >= max)
+    }
+}
+
+impl fmt::Debug for StreamBuffer {
+    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+        let state = self.shared.state.lock().unwrap();
+        f.debug_struct("StreamBuffer")
+            .field("answers", &state.answers)
+            .field("bytes", &state.bytes)
+            .field("limits", &self.shared.limits)
+            .field("is_parked", &state.is_parked)
+            .field("is_cancelled", &state.is_cancelled)
+            .finish()
+    }
+}
+
+impl ReadySource for BufferShared {
+    fn on_ready(&self, taken: u64, callback: Callback) {
+        {
+            let mut state = self.state.lock().unwrap();
+            // answers beyond those taken are held by the consumer, and every response received but not yet taken is
+            // waiting in the channel, or about to be sent to it
+            let is_ready =
+                state.delivered > taken || !state.sizes.is_empty() || state.is_finished || state.is_cancelled;
+            if !is_ready {
+                state.on_ready.push(callback);
+                return;
+            }
+        }
+        callback();
+    }
+}
+
+/// The producing end of a `StreamBuffer`, held by the response sink. Dropping it marks the stream as finished.
+#[derive(Debug)]
+pub(super) struct BufferProducer {
+    buffer: StreamBuffer,
+}
+
+impl BufferProducer {
+    pub(super) fn buffer(&self) -> &StreamBuffer {
+        &self.buffer
+    }
+
+    /// Must be called once a response has been sent to the consumer.
+    pub(super) fn on_sent(&self) {
+        self.buffer.wake_consumer(false);
+    }
+}
+
+impl Drop for BufferProducer {
+    fn drop(&mut self) {
+        self.buffer.wake_consumer(true);
+    }
+}
+
+/// The consuming end of a `StreamBuffer`. Dropping it cancels the stream.
+pub(super) struct BufferConsumer {
+    buffer: StreamBuffer,
+}
+
+impl BufferConsumer {
+    /// Once the stream has been cancelled, whatever the consumer has yet to take is replaced by the cancellation
+    /// error.
+    pub(super) fn on_consumed<T>(&self, response: Result<T>) -> Result<T> {
+        let continuation = {
+            let mut state = self.buffer.shared.state.lock().unwrap();
+            if state.is_cancelled {
+                return Err(ConnectionError::QueryCancelled.into());
+            }
+            if let Some((answers, bytes)) = state.sizes.pop_front() {
+                state.answers -= answers;
+                state.bytes -= bytes;
+                state.delivered += answers;
+                self.buffer.shared.gauge.sub(answers, bytes);
+            }
+            if self.buffer.is_full(&state) {
+                None
+            } else {
+                let continuation = state.continuation.take();
+                if continuation.is_some() {
+                    state.is_parked = false;
+                }
+                continuation
+            }
+        };
+        if let Some(continuation) = continuation {
+            continuation();
+        }
+        response
+    }
+}
+
+impl Drop for BufferConsumer {
+    fn drop(&mut self) {
+        self.buffer.cancel();
+    }
+}
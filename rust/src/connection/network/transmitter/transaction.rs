@@ -17,11 +17,9 @@
  * under the License.
  */
 
-use std::{
-    collections::HashMap,
-    sync::{Arc, RwLock},
-    time::Duration,
-};
+#[cfg(feature = "sync")]
+use std::sync::Weak;
+use std::sync::{Arc, RwLock};
 
 use crossbeam::{atomic::AtomicCell, channel::Sender};
 use futures::StreamExt;
@@ -39,6 +37,7 @@ use tokio::{
         mpsc::{error::SendError, unbounded_channel as unbounded_async, UnboundedReceiver, UnboundedSender},
         oneshot::{channel as oneshot_async, Sender as AsyncOneshotSender},
     },
+    task::block_in_place,
     time::{sleep_until, Instant},
 };
 use tonic::Streaming;
@@ -46,20 +45,32 @@ use typedb_protocol::transaction::{self, server::Server, stream::State};
 
 #[cfg(feature = "sync")]
 use super::oneshot_blocking as oneshot;
-use super::response_sink::ResponseSink;
+#[cfg(feature = "sync")]
+use super::response_sink::ResponseLatch;
+use super::{
+    request_registry::RequestRegistry,
+    response_sink::ResponseSink,
+    stream_buffer::{BufferGauge, BufferLimits, StreamBuffer},
+};
 use crate::{
     common::{
         box_promise,
         error::ConnectionError,
         stream::{NetworkStream, Stream},
-        Callback, Promise, RequestID, Result,
+        Callback, DispatchPolicy, Promise, RequestID, Result, StreamCancel, StreamDemand,
     },
     connection::{
-        message::{TransactionRequest, TransactionResponse},
-        network::proto::{IntoProto, TryFromProto},
+        message::{
+            ConceptResponse, LogicResponse, QueryResponse, RoleTypeResponse, ThingResponse, ThingTypeResponse,
+            TransactionRequest, TransactionResponse,
+        },
+        network::proto::TryFromProto,
+        channel_pool::ChannelLease,
         runtime::BackgroundRuntime,
     },
 };
+#[cfg(feature = "sync")]
+use crate::common::{ReadySource, ResponseSignal};
 
 pub(in crate::connection) struct TransactionTransmitter {
     request_sink: UnboundedSender<(TransactionRequest, Option<ResponseSink<TransactionResponse>>)>,
@@ -67,6 +78,9 @@ pub(in crate::connection) struct TransactionTransmitter {
     error: Arc<RwLock<Option<ConnectionError>>>,
     on_close_register_sink: UnboundedSender<Box<dyn FnOnce(ConnectionError) + Send + Sync>>,
     shutdown_sink: UnboundedSender<()>,
+    buffer_limits: BufferLimits,
+    buffer_gauge: BufferGauge,
+    callback_handler_sink: Sender<(Callback, AsyncOneshotSender<()>)>,
 }
 
 impl Drop for TransactionTransmitter {
@@ -80,26 +94,42 @@ impl TransactionTransmitter {
         background_runtime: &BackgroundRuntime,
         request_sink: UnboundedSender<transaction::Client>,
         response_source: Streaming<transaction::Server>,
+        channel_lease: ChannelLease,
         callback_handler_sink: Sender<(Callback, AsyncOneshotSender<()>)>,
+        dispatch_policy: DispatchPolicy,
+        buffer_limits: BufferLimits,
     ) -> Self {
         let (buffer_sink, buffer_source) = unbounded_async();
         let (on_close_register_sink, on_close_register_source) = unbounded_async();
         let (shutdown_sink, shutdown_source) = unbounded_async();
         let is_open = Arc::new(AtomicCell::new(true));
         let error = Arc::new(RwLock::new(None));
+        let offload_decoding = background_runtime.is_multi_threaded();
         background_runtime.spawn(Self::start_workers(
             buffer_sink.clone(),
             buffer_source,
             request_sink,
             response_source,
+            channel_lease,
             is_open.clone(),
             error.clone(),
             on_close_register_source,
-            callback_handler_sink,
+            callback_handler_sink.clone(),
             shutdown_sink.clone(),
             shutdown_source,
+            dispatch_policy,
+            offload_decoding,
         ));
-        Self { request_sink: buffer_sink, is_open, error, on_close_register_sink, shutdown_sink }
+        Self {
+            request_sink: buffer_sink,
+            is_open,
+            error,
+            on_close_register_sink,
+            shutdown_sink,
+            buffer_limits,
+            buffer_gauge: BufferGauge::default(),
+            callback_handler_sink,
+        }
     }
 
     pub(in crate::connection) fn is_open(&self) -> bool {
@@ -110,6 +140,14 @@ impl TransactionTransmitter {
         &self.shutdown_sink
     }
 
+    pub(in crate::connection) fn buffered_answers(&self) -> u64 {
+        self.buffer_gauge.answers()
+    }
+
+    pub(in crate::connection) fn buffered_bytes(&self) -> u64 {
+        self.buffer_gauge.bytes()
+    }
+
     pub(in crate::connection) fn force_close(&self) {
         if self.is_open.compare_exchange(true, false).is_ok() {
             *self.error.write().unwrap() = Some(ConnectionError::TransactionIsClosed);
@@ -148,7 +186,9 @@ impl TransactionTransmitter {
             return box_promise(|| Err(error.into()));
         }
         let (res_sink, recv) = oneshot();
-        let send_result = self.request_sink.send((req, Some(ResponseSink::BlockingOneShot(res_sink))));
+        let latch = Arc::new(ResponseLatch::new(self.callback_handler_sink.clone()));
+        ResponseSignal::record(Arc::downgrade(&latch) as Weak<dyn ReadySource>);
+        let send_result = self.request_sink.send((req, Some(ResponseSink::BlockingOneShot(res_sink, Some(latch)))));
         box_promise(move || {
             send_result.map_err(|_| ConnectionError::TransactionIsClosed.into()).and_then(|_| recv.recv()?)
         })
@@ -157,15 +197,51 @@ impl TransactionTransmitter {
     pub(in crate::connection) fn stream(
         &self,
         req: TransactionRequest,
+    ) -> Result<impl Stream<Item = Result<TransactionResponse>>> {
+        self.open_stream(req, None, None)
+    }
+
+    pub(in crate::connection) fn stream_on_demand(
+        &self,
+        req: TransactionRequest,
+        demand: StreamDemand,
+    ) -> Result<impl Stream<Item = Result<TransactionResponse>>> {
+        self.open_stream(req, Some(demand), None)
+    }
+
+    pub(in crate::connection) fn stream_cancellable(
+        &self,
+        req: TransactionRequest,
+        cancel: StreamCancel,
+    ) -> Result<impl Stream<Item = Result<TransactionResponse>>> {
+        self.open_stream(req, None, Some(cancel))
+    }
+
+    fn open_stream(
+        &self,
+        req: TransactionRequest,
+        demand: Option<StreamDemand>,
+        cancel: Option<StreamCancel>,
     ) -> Result<impl Stream<Item = Result<TransactionResponse>>> {
         if !self.is_open() {
             return Err(self.error().into());
         }
         let (res_part_sink, recv) = unbounded_async();
-        self.request_sink
-            .send((req, Some(ResponseSink::Streamed(res_part_sink))))
-            .map_err(|_| ConnectionError::TransactionIsClosed)?;
-        Ok(NetworkStream::new(recv).map_ok(Into::into))
+        let buffer = StreamBuffer::new(
+            self.buffer_limits,
+            self.buffer_gauge.clone(),
+            cancel,
+            self.callback_handler_sink.clone(),
+        );
+        #[cfg(feature = "sync")]
+        ResponseSignal::record(buffer.ready_source());
+        let consumer = buffer.consumer();
+        let sink = match demand {
+            Some(demand) => ResponseSink::StreamedOnDemand(res_part_sink, demand, buffer.producer()),
+            None => ResponseSink::Streamed(res_part_sink, buffer.producer()),
+        };
+        self.request_sink.send((req, Some(sink))).map_err(|_| ConnectionError::TransactionIsClosed)?;
+        Ok(NetworkStream::new(recv).map(move |response| consumer.on_consumed(response)).map_ok(Into::into))
     }
 
     fn error(&self) -> ConnectionError {
@@ -183,20 +259,24 @@ impl TransactionTransmitter {
         queue_source: UnboundedReceiver<(TransactionRequest, Option<ResponseSink<TransactionResponse>>)>,
         request_sink: UnboundedSender<transaction::Client>,
         response_source: Streaming<transaction::Server>,
+        channel_lease: ChannelLease,
         is_open: Arc<AtomicCell<bool>>,
         error: Arc<RwLock<Option<ConnectionError>>>,
         on_close_callback_source: UnboundedReceiver<Box<dyn FnOnce(ConnectionError) + Send + Sync>>,
         callback_handler_sink: Sender<(Callback, AsyncOneshotSender<()>)>,
         shutdown_sink: UnboundedSender<()>,
         shutdown_signal: UnboundedReceiver<()>,
+        dispatch_policy: DispatchPolicy,
+        offload_decoding: bool,
     ) {
         let collector = ResponseCollector {
             request_sink: queue_sink,
-            callbacks: Default::default(),
+            callbacks: Arc::new(RequestRegistry::new()),
             is_open,
             error,
             on_close: Default::default(),
             callback_handler_sink,
+            offload_decoding,
         };
         tokio::spawn(Self::dispatch_loop(
             queue_source,
@@ -204,35 +284,43 @@ impl TransactionTransmitter {
             collector.clone(),
             on_close_callback_source,
             shutdown_signal,
+            dispatch_policy,
         ));
-        tokio::spawn(Self::listen_loop(response_source, collector, shutdown_sink));
+        tokio::spawn(Self::listen_loop(response_source, channel_lease, collector, shutdown_sink));
     }
 
     async fn dispatch_loop(
         mut request_source: UnboundedReceiver<(TransactionRequest, Option<ResponseSink<TransactionResponse>>)>,
         request_sink: UnboundedSender<transaction::Client>,
-        mut collector: ResponseCollector,
+        collector: ResponseCollector,
         mut on_close_callback_source: UnboundedReceiver<Box<dyn FnOnce(ConnectionError) + Send + Sync>>,
         mut shutdown_signal: UnboundedReceiver<()>,
+        dispatch_policy: DispatchPolicy,
     ) {
-        const MAX_GRPC_MESSAGE_LEN: usize = 1_000_000;
-        const DISPATCH_INTERVAL: Duration = Duration::from_millis(3);
-
+        // a zero interval would make every dispatch deadline one that has already passed, and the loop would spin
+        let dispatch_policy = match dispatch_policy {
+            DispatchPolicy::Interval(interval) => DispatchPolicy::Interval(interval.max(DispatchPolicy::MIN_INTERVAL)),
+            policy => policy,
+        };
         let mut request_buffer = TransactionRequestBuffer::default();
-        let mut next_dispatch = Instant::now() + DISPATCH_INTERVAL;
+        let mut last_dispatch = Instant::now();
+        let mut next_dispatch = match dispatch_policy {
+            DispatchPolicy::Interval(interval) => Some(last_dispatch + interval),
+            DispatchPolicy::Immediate | DispatchPolicy::Adaptive { .. } => None,
+        };
         loop {
             select! { biased;
                 _ = shutdown_signal.recv() => {
-                    if !request_buffer.is_empty() {
-                        request_sink.send(request_buffer.take()).unwrap();
-                    }
+                    request_buffer.flush(&request_sink);
                     break;
                 }
-                _ = sleep_until(next_dispatch) => {
-                    if !request_buffer.is_empty() {
-                        request_sink.send(request_buffer.take()).unwrap();
-                    }
-                    next_dispatch = Instant::now() + DISPATCH_INTERVAL;
+                _ = sleep_until(next_dispatch.unwrap_or_else(Instant::now)), if next_dispatch.is_some() => {
+                    request_buffer.flush(&request_sink);
+                    last_dispatch = Instant::now();
+                    next_dispatch = match dispatch_policy {
+                        DispatchPolicy::Interval(interval) => Some(last_dispatch + interval),
+                        DispatchPolicy::Immediate | DispatchPolicy::Adaptive { .. } => None,
+                    };
                 }
                 callback = on_close_callback_source.recv() => {
                     if let Some(callback) = callback {
@@ -241,17 +329,31 @@ impl TransactionTransmitter {
                 }
                 recv = request_source.recv() => {
                     if let Some((request, callback)) = recv {
-                        let request = request.into_proto();
-                        if let Some(callback) = callback {
-                            collector.register(request.req_id.clone().into(), callback);
-                        }
-                        if request_buffer.len() + request.encoded_len() > MAX_GRPC_MESSAGE_LEN {
-                            request_sink.send(request_buffer.take()).unwrap();
-                        }
-                        request_buffer.push(request);
+                        request_buffer.push_registered(request, callback, &collector, &request_sink);
                     } else {
                         break;
                     }
+                    let flush_now = match dispatch_policy {
+                        DispatchPolicy::Immediate => true,
+                        // the link has been idle for long enough: send without waiting, otherwise coalesce with
+                        // whatever else arrives until the deadline
+                        DispatchPolicy::Adaptive { max_delay } if next_dispatch.is_none() => {
+                            let idle = last_dispatch.elapsed() >= max_delay;
+                            if !idle {
+                                next_dispatch = Some(last_dispatch + max_delay);
+                            }
+                            idle
+                        }
+                        DispatchPolicy::Adaptive { .. } | DispatchPolicy::Interval(_) => false,
+                    };
+                    if flush_now {
+                        // take whatever else is already queued, so that a burst goes out as one message
+                        while let Ok((request, callback)) = request_source.try_recv() {
+                            request_buffer.push_registered(request, callback, &collector, &request_sink);
+                        }
+                        request_buffer.flush(&request_sink);
+                        last_dispatch = Instant::now();
+                    }
                 }
             }
         }
@@ -259,6 +361,7 @@ impl TransactionTransmitter {
 
     async fn listen_loop(
         mut grpc_source: Streaming<transaction::Server>,
+        channel_lease: ChannelLease,
         collector: ResponseCollector,
         shutdown_sink: UnboundedSender<()>,
     ) {
@@ -273,6 +376,8 @@ impl TransactionTransmitter {
                 None => break collector.close(ConnectionError::TransactionIsClosed).await,
             }
         }
+        // the transaction's stream has ended, and no longer counts against the load of its channel
+        drop(channel_lease);
         shutdown_sink.send(()).ok();
     }
 }
@@ -301,21 +406,66 @@ impl TransactionRequestBuffer {
         self.len = 0;
         transaction::Client { reqs: std::mem::take(&mut self.reqs) }
     }
+
+    fn flush(&mut self, request_sink: &UnboundedSender<transaction::Client>) {
+        if !self.is_empty() {
+            request_sink.send(self.take()).unwrap();
+        }
+    }
+
+    fn push_registered(
+        &mut self,
+        request: TransactionRequest,
+        callback: Option<ResponseSink<TransactionResponse>>,
+        collector: &ResponseCollector,
+        request_sink: &UnboundedSender<transaction::Client>,
+    ) {
+        const MAX_GRPC_MESSAGE_LEN: usize = 1_000_000;
+
+        let request_id = match callback {
+            Some(callback) if callback.buffer().map_or(false, StreamBuffer::is_cancelled) => {
+                // cancelled before it was sent, so the server never needs to hear of it
+                return callback.error(ConnectionError::QueryCancelled);
+            }
+            Some(callback) => Some(collector.register(callback)),
+            None => None,
+        };
+        let request = request.into_proto_with_id(request_id);
+        if self.len() + request.encoded_len() > MAX_GRPC_MESSAGE_LEN {
+            self.flush(request_sink);
+        }
+        self.push(request);
+    }
 }
 
 #[derive(Clone)]
 struct ResponseCollector {
     request_sink: UnboundedSender<(TransactionRequest, Option<ResponseSink<TransactionResponse>>)>,
-    callbacks: Arc<RwLock<HashMap<RequestID, ResponseSink<TransactionResponse>>>>,
+    callbacks: Arc<RequestRegistry<ResponseSink<TransactionResponse>>>,
     is_open: Arc<AtomicCell<bool>>,
     error: Arc<RwLock<Option<ConnectionError>>>,
     on_close: Arc<RwLock<Vec<Box<dyn FnOnce(ConnectionError) + Send + Sync>>>>,
     callback_handler_sink: Sender<(Callback, AsyncOneshotSender<()>)>,
+    offload_decoding: bool,
 }
 
 impl ResponseCollector {
-    fn register(&mut self, request_id: RequestID, callback: ResponseSink<TransactionResponse>) {
-        self.callbacks.write().unwrap().insert(request_id, callback);
+    fn register(&self, callback: ResponseSink<TransactionResponse>) -> RequestID {
+        let buffer = callback.buffer().cloned();
+        let request_id = self.callbacks.register(callback);
+        if let Some(buffer) = buffer {
+            let collector = self.clone();
+            let cancelled_id = request_id.clone();
+            buffer.on_cancel(Box::new(move || collector.release_stream(&cancelled_id)));
+            if let Some(deadline) = buffer.deadline() {
+                let cancel = buffer.canceller();
+                tokio::spawn(async move {
+                    sleep_until(deadline.into()).await;
+                    cancel();
+                });
+            }
+        }
+        request_id
     }
 
     async fn collect(&self, message: transaction::Server) {
@@ -332,7 +482,7 @@ impl ResponseCollector {
             return;
         }
         let request_id = res.req_id.clone().into();
-        match self.callbacks.write().unwrap().remove(&request_id) {
+        match self.callbacks.remove(&request_id) {
             Some(sink) => sink.finish(TransactionResponse::try_from_proto(res)),
             _ => error!("{}", ConnectionError::UnknownRequestId { request_id }),
         }
@@ -345,32 +495,83 @@ impl ResponseCollector {
             Some(transaction::res_part::Res::StreamResPart(stream_res_part)) => {
                 match State::from_i32(stream_res_part.state).expect("enum out of range") {
                     State::Done => {
-                        self.callbacks.write().unwrap().remove(&request_id);
+                        self.callbacks.remove(&request_id);
                     }
                     State::Continue => {
-                        match self.request_sink.send((TransactionRequest::Stream { request_id }, None)) {
-                            Err(SendError((TransactionRequest::Stream { request_id }, None))) => {
-                                let callback = self.callbacks.write().unwrap().remove(&request_id).unwrap();
-                                callback.error(ConnectionError::TransactionIsClosed);
-                            }
-                            _ => (),
+                        let (demand, buffer) = self
+                            .callbacks
+                            .with(&request_id, |sink| (sink.demand().cloned(), sink.buffer().cloned()))
+                            .unwrap_or((None, None));
+                        if buffer.as_ref().map_or(false, |buffer| !buffer.on_batch_end()) {
+                            // the stream was cancelled while this batch was in flight, and nothing more will arrive
+                            return self.release_stream(&request_id);
+                        }
+                        let collector = self.clone();
+                        let mut continuation: Callback = Box::new(move || collector.continue_stream(request_id));
+                        if let Some(buffer) = buffer {
+                            // the consumer's demand is checked first, then that the buffer has room
+                            continuation = Box::new(move || buffer.on_continue(continuation));
+                        }
+                        match demand {
+                            Some(demand) => demand.on_continue(continuation),
+                            None => continuation(),
                         }
                     }
                 }
             }
-            Some(_) => match self.callbacks.read().unwrap().get(&request_id) {
-                Some(sink) => sink.send(TransactionResponse::try_from_proto(res_part)),
-                _ => error!("{}", ConnectionError::UnknownRequestId { request_id }),
-            },
+            Some(_) => {
+                let encoded_len = res_part.encoded_len();
+                let response = self.decode_res_part(res_part, encoded_len);
+                let answers = answer_count(&response);
+                let is_known = self.callbacks.with(&request_id, |sink| {
+                    if let Some(demand) = sink.demand() {
+                        demand.on_received(answers);
+                    }
+                    if sink.buffer().map_or(true, |buffer| buffer.on_received(answers, encoded_len as u64)) {
+                        sink.send(response)
+                    }
+                });
+                if is_known.is_none() {
+                    error!("{}", ConnectionError::UnknownRequestId { request_id });
+                }
+            }
             None => error!("{}", ConnectionError::MissingResponseField { field: "res_part.res" }),
         }
     }
 
+    fn decode_res_part(&self, res_part: transaction::ResPart, encoded_len: usize) -> Result<TransactionResponse> {
+        const OFFLOAD_DECODING_MIN_LEN: usize = 64 * 1024;
+
+        if self.offload_decoding && encoded_len >= OFFLOAD_DECODING_MIN_LEN {
+            // hand the other tasks of this worker, including the I/O of other transactions, over to the rest of
+            // the pool while the answers are converted; this task keeps its place, so parts stay in order
+            block_in_place(|| TransactionResponse::try_from_proto(res_part))
+        } else {
+            TransactionResponse::try_from_proto(res_part)
+        }
+    }
+
+    fn continue_stream(&self, request_id: RequestID) {
+        match self.request_sink.send((TransactionRequest::Stream { request_id }, None)) {
+            Err(SendError((TransactionRequest::Stream { request_id }, None))) => {
+                if let Some(callback) = self.callbacks.remove(&request_id) {
+                    callback.error(ConnectionError::TransactionIsClosed);
+                }
+            }
+            _ => (),
+        }
+    }
+
+    fn release_stream(&self, request_id: &RequestID) {
+        if let Some(sink) = self.callbacks.remove(request_id) {
+            sink.error(ConnectionError::QueryCancelled);
+        }
+    }
+
     async fn close(self, error: ConnectionError) {
         self.is_open.store(false);
         *self.error.write().unwrap() = Some(error.clone());
-        let mut listeners = std::mem::take(&mut *self.callbacks.write().unwrap());
-        for (_, listener) in listeners.drain() {
+        for listener in self.callbacks.drain() {
             listener.error(error.clone());
         }
         let callbacks = std::mem::take(&mut *self.on_close.write().unwrap());
@@ -382,3 +583,56 @@ impl ResponseCollector {
         }
     }
 }
+
+fn answer_count(response: &Result<TransactionResponse>) -> u64 {
+    let count = match response {
+        Ok(TransactionResponse::Query(
+            QueryResponse::Get { answers } | QueryResponse::Insert { answers } | QueryResponse::Update { answers },
+        )) => answers.len(),
+        Ok(TransactionResponse::Query(QueryResponse::GetGroup { answers })) => answers.len(),
+        Ok(TransactionResponse::Query(QueryResponse::GetGroupAggregate { answers })) => answers.len(),
+        Ok(TransactionResponse::Query(QueryResponse::Fetch { answers })) => answers.len(),
+        Ok(TransactionResponse::Query(QueryResponse::Explain { answers })) => answers.len(),
+        Ok(TransactionResponse::Concept(ConceptResponse::GetSchemaExceptions { exceptions })) => exceptions.len(),
+        Ok(TransactionResponse::ThingType(response)) => match response {
+            ThingTypeResponse::ThingTypeGetOwns { attribute_types }
+            | ThingTypeResponse::AttributeTypeGetSupertypes { attribute_types }
+            | ThingTypeResponse::AttributeTypeGetSubtypes { attribute_types } => attribute_types.len(),
+            ThingTypeResponse::ThingTypeGetPlays { role_types }
+            | ThingTypeResponse::RelationTypeGetRelates { role_types } => role_types.len(),
+            ThingTypeResponse::EntityTypeGetSupertypes { entity_types }
+            | ThingTypeResponse::EntityTypeGetSubtypes { entity_types } => entity_types.len(),
+            ThingTypeResponse::EntityTypeGetInstances { entities } => entities.len(),
+            ThingTypeResponse::RelationTypeGetSupertypes { relation_types }
+            | ThingTypeResponse::RelationTypeGetSubtypes { relation_types } => relation_types.len(),
+            ThingTypeResponse::RelationTypeGetInstances { relations } => relations.len(),
+            ThingTypeResponse::AttributeTypeGetInstances { attributes } => attributes.len(),
+            ThingTypeResponse::AttributeTypeGetOwners { thing_types } => thing_types.len(),
+            _ => 1,
+        },
+        Ok(TransactionResponse::RoleType(response)) => match response {
+            RoleTypeResponse::GetSupertypes { role_types } | RoleTypeResponse::GetSubtypes { role_types } => {
+                role_types.len()
+            }
+            RoleTypeResponse::GetRelationTypes { relation_types } => relation_types.len(),
+            RoleTypeResponse::GetPlayerTypes { thing_types } => thing_types.len(),
+            RoleTypeResponse::GetRelationInstances { relations } => relations.len(),
+            RoleTypeResponse::GetPlayerInstances { things } => things.len(),
+            _ => 1,
+        },
+        Ok(TransactionResponse::Thing(response)) => match response {
+            ThingResponse::ThingGetHas { attributes } => attributes.len(),
+            ThingResponse::ThingGetRelations { relations } => relations.len(),
+            ThingResponse::ThingGetPlaying { role_types } | ThingResponse::RelationGetRelating { role_types } => {
+                role_types.len()
+            }
+            ThingResponse::RelationGetPlayersByRoleType { things } => things.len(),
+            ThingResponse::RelationGetRolePlayers { role_players } => role_players.len(),
+            ThingResponse::AttributeGetOwners { owners } => owners.len(),
+            _ => 1,
+        },
+        Ok(TransactionResponse::Logic(LogicResponse::GetRules { rules })) => rules.len(),
+        _ => 1,
+    };
+    count as u64
+}
@@ -34,8 +34,27 @@ use tokio::{
 
 use crate::common::{Callback, Result};
 
+/// The kind of runtime that runs the network I/O of a `Connection`: sending and receiving requests,
+/// decoding responses, and keeping sessions alive.
+#[derive(Clone, Copy, Debug, PartialEq, Eq)]
+pub enum NetworkRuntime {
+    /// All network I/O of the connection runs on a single thread.
+    /// Cheapest for few concurrent transactions, but bounded by the throughput of one core.
+    CurrentThread,
+    /// Network I/O is spread over a pool of `worker_threads` threads, so that concurrent transactions are served
+    /// in parallel and large responses are decoded without stalling the I/O of other transactions.
+    MultiThread { worker_threads: usize },
+}
+
+impl Default for NetworkRuntime {
+    fn default() -> Self {
+        Self::CurrentThread
+    }
+}
+
 pub(super) struct BackgroundRuntime {
     async_runtime_handle: runtime::Handle,
+    is_multi_threaded: bool,
     is_open: AtomicCell<bool>,
     shutdown_sink: UnboundedSender<()>,
 
@@ -44,10 +63,18 @@ pub(super) struct BackgroundRuntime {
 }
 
 impl BackgroundRuntime {
-    pub(super) fn new() -> Result<Self> {
+    pub(super) fn new(network_runtime: NetworkRuntime) -> Result<Self> {
         let is_open = AtomicCell::new(true);
         let (shutdown_sink, mut shutdown_source) = unbounded_async();
-        let async_runtime = runtime::Builder::new_current_thread().enable_time().enable_io().build()?;
+        let async_runtime = match network_runtime {
+            NetworkRuntime::CurrentThread => runtime::Builder::new_current_thread().enable_time().enable_io().build()?,
+            NetworkRuntime::MultiThread { worker_threads } => runtime::Builder::new_multi_thread()
+                .worker_threads(worker_threads.max(1))
+                .thread_name("gRPC worker")
+                .enable_time()
+                .enable_io()
+                .build()?,
+        };
         let async_runtime_handle = async_runtime.handle().clone();
         thread::Builder::new().name("gRPC worker".to_owned()).spawn(move || {
             async_runtime.block_on(async move {
@@ -65,6 +92,7 @@ impl BackgroundRuntime {
 
         Ok(Self {
             async_runtime_handle,
+            is_multi_threaded: matches!(network_runtime, NetworkRuntime::MultiThread { .. }),
             is_open,
             shutdown_sink,
             callback_handler,
@@ -76,6 +104,10 @@ impl BackgroundRuntime {
         self.callback_handler_sink.clone().unwrap()
     }
 
+    pub(super) fn is_multi_threaded(&self) -> bool {
+        self.is_multi_threaded
+    }
+
     pub(super) fn is_open(&self) -> bool {
         self.is_open.load()
     }
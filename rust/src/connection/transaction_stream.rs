@@ -31,7 +31,7 @@ use crate::{
     answer::{readable_concept, ConceptMap, ConceptMapGroup, ValueGroup},
     common::{
         stream::{BoxStream, Stream},
-        Promise, Result, IID,
+        Promise, Result, StreamCancel, StreamDemand, IID,
     },
     concept::{
         Annotation, Attribute, AttributeType, Entity, EntityType, Relation, RelationType, RoleType, SchemaException,
@@ -77,6 +77,14 @@ impl TransactionStream {
         self.options
     }
 
+    pub(crate) fn buffered_answers(&self) -> u64 {
+        self.transaction_transmitter.buffered_answers()
+    }
+
+    pub(crate) fn buffered_bytes(&self) -> u64 {
+        self.transaction_transmitter.buffered_bytes()
+    }
+
     pub(crate) fn on_close(&self, callback: impl FnOnce(ConnectionError) + Send + Sync + 'static) {
         self.transaction_transmitter.on_close(callback)
     }
@@ -120,6 +128,38 @@ impl TransactionStream {
         }))
     }
 
+    pub(crate) fn get_on_demand(
+        &self,
+        query: String,
+        options: Options,
+        demand: StreamDemand,
+    ) -> Result<impl Stream<Item = Result<ConceptMap>>> {
+        let stream = self.query_stream_on_demand(QueryRequest::Get { query, options }, demand)?;
+        Ok(stream.flat_map(|result| match result {
+            Ok(QueryResponse::Get { answers }) => stream_iter(answers.into_iter().map(Ok)),
+            Ok(other) => {
+                stream_once(Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()))
+            }
+            Err(err) => stream_once(Err(err)),
+        }))
+    }
+
+    pub(crate) fn get_cancellable(
+        &self,
+        query: String,
+        options: Options,
+        cancel: StreamCancel,
+    ) -> Result<impl Stream<Item = Result<ConceptMap>>> {
+        let stream = self.query_stream_cancellable(QueryRequest::Get { query, options }, cancel)?;
+        Ok(stream.flat_map(|result| match result {
+            Ok(QueryResponse::Get { answers }) => stream_iter(answers.into_iter().map(Ok)),
+            Ok(other) => {
+                stream_once(Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()))
+            }
+            Err(err) => stream_once(Err(err)),
+        }))
+    }
+
     pub(crate) fn insert(&self, query: String, options: Options) -> Result<impl Stream<Item = Result<ConceptMap>>> {
         let stream = self.query_stream(QueryRequest::Insert { query, options })?;
         Ok(stream.flat_map(|result| match result {
@@ -1335,6 +1375,32 @@ impl TransactionStream {
         }))
     }
 
+    fn query_stream_on_demand(
+        &self,
+        req: QueryRequest,
+        demand: StreamDemand,
+    ) -> Result<impl Stream<Item = Result<QueryResponse>>> {
+        let stream = self.transaction_transmitter.stream_on_demand(TransactionRequest::Query(req), demand)?;
+        Ok(stream.map(|response| match response {
+            Ok(TransactionResponse::Query(res)) => Ok(res),
+            Ok(other) => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()),
+            Err(err) => Err(err),
+        }))
+    }
+
+    fn query_stream_cancellable(
+        &self,
+        req: QueryRequest,
+        cancel: StreamCancel,
+    ) -> Result<impl Stream<Item = Result<QueryResponse>>> {
+        let stream = self.transaction_transmitter.stream_cancellable(TransactionRequest::Query(req), cancel)?;
+        Ok(stream.map(|response| match response {
+            Ok(TransactionResponse::Query(res)) => Ok(res),
+            Ok(other) => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()),
+            Err(err) => Err(err),
+        }))
+    }
+
     fn concept_stream(&self, req: ConceptRequest) -> Result<impl Stream<Item = Result<ConceptResponse>>> {
         Ok(self.stream(TransactionRequest::Concept(req))?.map(|response| match response {
             Ok(TransactionResponse::Concept(res)) => Ok(res),
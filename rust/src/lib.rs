@@ -31,10 +31,10 @@ mod user;
 
 pub use self::{
     common::{
-        box_stream, error, info, BoxPromise, BoxStream, Error, Options, Promise, Result, SessionType, TransactionType,
-        IID,
+        box_stream, error, info, BoxPromise, BoxStream, DispatchPolicy, Error, Options, Promise, ResponseSignal, Result,
+        SessionType, StreamCancel, StreamDemand, TransactionType, IID,
     },
-    connection::{Connection, Credential},
+    connection::{ChannelMetrics, ChannelPool, ChannelSelection, Connection, Credential, NetworkRuntime},
     database::{Database, DatabaseManager, Session},
     transaction::Transaction,
     user::{User, UserManager},
@@ -84,6 +84,30 @@ impl Transaction<'_> {
         LogicManager::new(self.transaction_stream.as_ref())
     }
 
+    /// Returns the number of answers the driver has received for the streams of this transaction that have not been
+    /// consumed yet.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.buffered_answers()
+    /// ```
+    pub fn buffered_answers(&self) -> u64 {
+        self.transaction_stream.buffered_answers()
+    }
+
+    /// Returns the size on the wire, in bytes, of the answers the driver has received for the streams of this
+    /// transaction that have not been consumed yet.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.buffered_bytes()
+    /// ```
+    pub fn buffered_bytes(&self) -> u64 {
+        self.transaction_stream.buffered_bytes()
+    }
+
     /// Registers a callback function which will be executed when this transaction is closed.
     ///
     /// # Arguments
@@ -30,7 +30,7 @@ use crate::{
     concept::Value,
     connection::TransactionStream,
     logic::Explanation,
-    Options,
+    Options, StreamCancel, StreamDemand,
 };
 
 /// Provides methods for executing TypeQL queries in the transaction.
@@ -139,6 +139,56 @@ impl<'tx> QueryManager<'tx> {
         self.transaction_stream.get_ref().get(query.to_string(), options)
     }
 
+    /// Performs a TypeQL Match (Get) query in the transaction, continuing the server stream only as answers are
+    /// requested through the given `StreamDemand`.
+    ///
+    /// # Arguments
+    ///
+    /// * `query` -- The TypeQL Match (Get) query to be executed
+    /// * `options` -- Specify query options
+    /// * `demand` -- The demand through which the consumer requests further answers
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// let demand = StreamDemand::new();
+    /// let answers = transaction.query().get_on_demand(query, options, demand.clone())?;
+    /// demand.request(prefetch_size);
+    /// ```
+    pub fn get_on_demand(
+        &self,
+        query: &str,
+        options: Options,
+        demand: StreamDemand,
+    ) -> Result<impl Stream<Item = Result<ConceptMap>> + 'tx> {
+        self.transaction_stream.get_ref().get_on_demand(query.to_string(), options, demand)
+    }
+
+    /// Performs a TypeQL Match (Get) query in the transaction, which can be cancelled through the given
+    /// `StreamCancel`. Once cancelled, the server is no longer asked for further answers, the answers already
+    /// received are released, and the stream yields an error.
+    ///
+    /// # Arguments
+    ///
+    /// * `query` -- The TypeQL Match (Get) query to be executed
+    /// * `options` -- Specify query options
+    /// * `cancel` -- The handle through which the query is cancelled, explicitly or by its deadline
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// let cancel = StreamCancel::with_timeout(Duration::from_secs(10));
+    /// let answers = transaction.query().get_cancellable(query, options, cancel.clone())?;
+    /// ```
+    pub fn get_cancellable(
+        &self,
+        query: &str,
+        options: Options,
+        cancel: StreamCancel,
+    ) -> Result<impl Stream<Item = Result<ConceptMap>> + 'tx> {
+        self.transaction_stream.get_ref().get_cancellable(query.to_string(), options, cancel)
+    }
+
     /// Performs a TypeQL Insert query with default options.
     /// See [`QueryManager::insert_with_options`]
     pub fn insert(&self, query: &str) -> Result<impl Stream<Item = Result<ConceptMap>> + 'tx> {